@@ -0,0 +1,78 @@
+package com.team1.epilogue.auth;
+
+import com.team1.epilogue.auth.util.BloomFilter;
+import com.team1.epilogue.auth.util.TokenDigest;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 로그아웃 토큰 확인 비용 비교
+ * - filterLookup: 요청마다 토큰 다이제스트 계산 + 로컬 Bloom filter 조회 (대부분의 요청이 타는 경로)
+ * - redisLookup: 요청마다 Redis GET 으로 블랙리스트 조회 (필터 없이 확인할 때의 경로)
+ * redisLookup 은 -Dredis.host / -Dredis.port 로 지정한 Redis 가 떠 있어야 한다 (기본 localhost:6379).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenRevocationBenchmark {
+
+  private static final String BLACKLIST_PREFIX = "auth:blacklist:";
+
+  @Param({"100000"})
+  private int revokedTokens;
+
+  private BloomFilter bloomFilter;
+  private String activeToken;
+  private LettuceConnectionFactory connectionFactory;
+  private StringRedisTemplate redisTemplate;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    bloomFilter = BloomFilter.create(revokedTokens, 0.01);
+    for (int i = 0; i < revokedTokens; i++) {
+      bloomFilter.put(TokenDigest.sha256("revoked-" + i + "-" + UUID.randomUUID()));
+    }
+    // 실제 JWT 길이와 비슷한 크기의 로그아웃되지 않은 토큰
+    activeToken = "eyJhbGciOiJIUzUxMiJ9." + "a".repeat(120) + "." + "b".repeat(86);
+
+    connectionFactory = new LettuceConnectionFactory(
+        System.getProperty("redis.host", "localhost"),
+        Integer.getInteger("redis.port", 6379));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    connectionFactory.destroy();
+  }
+
+  @Benchmark
+  public boolean filterLookup() {
+    return bloomFilter.mightContain(TokenDigest.sha256(activeToken));
+  }
+
+  @Benchmark
+  public boolean redisLookup() {
+    return redisTemplate.opsForValue().get(BLACKLIST_PREFIX + TokenDigest.keyOf(activeToken)) != null;
+  }
+}
@@ -0,0 +1,124 @@
+package com.team1.epilogue.book;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import com.team1.epilogue.book.client.NaverBookXmlReader;
+import com.team1.epilogue.book.dto.xml.Item;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLStreamException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 네이버 책 상세 검색(book_adv) XML 응답에서 첫 번째 책을 꺼내는 비용 비교
+ * - jacksonBinding: 기존 방식. jackson-dataformat-xml 로 응답 전체(모든 item)를 객체로 만든 뒤 첫 item 사용
+ * - staxFirstItem: NaverBookXmlReader 로 첫 item 까지만 읽고 멈춤
+ * 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 함께 측정된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NaverBookXmlBenchmark {
+
+  // 제목 검색은 같은 제목의 여러 판본이 함께 내려온다. (display 최대 100)
+  @Param({"1", "10", "100"})
+  private int items;
+
+  private byte[] payload;
+  private ObjectReader jacksonReader;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    StringBuilder xml = new StringBuilder()
+        .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel>")
+        .append("<title>Naver Open API - book_adv ::'데미안'</title><link>https://search.naver.com</link>")
+        .append("<description>Naver Search Result</description>")
+        .append("<lastBuildDate>Mon, 03 Mar 2025 12:00:00 +0900</lastBuildDate>")
+        .append("<total>").append(items).append("</total><start>1</start><display>").append(items)
+        .append("</display>");
+    for (int i = 0; i < items; i++) {
+      xml.append("<item><title>데미안 (").append(i).append("판)</title>")
+          .append("<link>https://search.shopping.naver.com/book/catalog/").append(32441590 + i).append("</link>")
+          .append("<image>https://shopping-phinf.pstatic.net/main_3244159/").append(32441590 + i)
+          .append(".20230927071024.jpg</image>")
+          .append("<author>헤르만 헤세^전영애</author><price>12000</price><discount>10800</discount>")
+          .append("<publisher>민음사</publisher><pubdate>20000101</pubdate>")
+          .append("<isbn>").append(9788937460449L + i).append("</isbn><description><![CDATA[")
+          // 실제 응답의 책 소개는 수백 ~ 천 자 정도이다.
+          .append("새는 알에서 나오려고 투쟁한다. 알은 세계이다. 태어나려는 자는 하나의 세계를 깨뜨려야 한다. ".repeat(12))
+          .append("]]></description></item>");
+    }
+    xml.append("</channel></rss>");
+    payload = xml.toString().getBytes(StandardCharsets.UTF_8);
+    jacksonReader = new XmlMapper().readerFor(Rss.class);
+  }
+
+  @Benchmark
+  public Item jacksonBinding() throws IOException {
+    Rss rss = jacksonReader.readValue(payload);
+    ItemXml first = rss.channel.items.get(0);
+    return Item.builder()
+        .title(first.title)
+        .author(first.author)
+        .price(first.price)
+        .isbn(first.isbn)
+        .build();
+  }
+
+  @Benchmark
+  public Item staxFirstItem() throws XMLStreamException {
+    return NaverBookXmlReader.readFirstItem(new ByteArrayInputStream(payload)).orElseThrow();
+  }
+
+  // 기존 DOM 방식 재현용 바인딩 클래스
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Rss {
+
+    public Channel channel;
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Channel {
+
+    public String title;
+    public String link;
+    public String description;
+    @JacksonXmlElementWrapper(useWrapping = false)
+    @JacksonXmlProperty(localName = "item")
+    public List<ItemXml> items;
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class ItemXml {
+
+    public String title;
+    public String link;
+    public String author;
+    public int price;
+    public String publisher;
+    public String pubdate;
+    public String description;
+    public String image;
+    public String isbn;
+  }
+}
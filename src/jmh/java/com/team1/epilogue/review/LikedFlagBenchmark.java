@@ -0,0 +1,179 @@
+package com.team1.epilogue.review;
+
+import com.team1.epilogue.review.util.LikedIds;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 목록 한 페이지의 좋아요 여부(liked)를 채우는 비용 비교
+ * - reviewPageInQuery: 기존 리뷰 목록. 페이지마다 review_like IN 쿼리 1번
+ * - commentPageExists: 기존 댓글 목록. 댓글마다 exists 쿼리 1번 (페이지당 pageSize 번, comment_like 와 구조가 같은 review_like 로 재현)
+ * - pageFromCache: 변경. 회원별 좋아요 캐시(LikedIds)에서 확인, 페이지당 쿼리 0번
+ * 페이지당 쿼리 수는 보조 카운터 queries / pages 로 함께 출력된다.
+ * 기존 방식은 H2 인메모리 DB 에 같은 테이블과 쿼리를 만들어 재현한다. (네트워크 왕복과 JPA 오버헤드는 제외되므로 기존 방식에 유리한 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LikedFlagBenchmark {
+
+  private static final long MEMBER_ID = 1L;
+  private static final int TOTAL_REVIEWS = 100_000;
+
+  // 한 회원이 좋아요한 리뷰 수
+  @Param({"100", "5000"})
+  private int likesPerMember;
+
+  // 리뷰/댓글 목록 한 페이지 크기
+  @Param({"10"})
+  private int pageSize;
+
+  private Connection connection;
+  private PreparedStatement existsQuery;
+  private LikedIds cached;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:liked;DB_CLOSE_DELAY=-1");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE review_like (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+          + "review_id BIGINT NOT NULL, member_id BIGINT NOT NULL, "
+          + "CONSTRAINT uk_review_like_member_review UNIQUE (member_id, review_id))");
+    }
+
+    List<Long> liked = new ArrayList<>(likesPerMember);
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO review_like (review_id, member_id) VALUES (?, ?)")) {
+      Set<Long> seen = new HashSet<>();
+      while (liked.size() < likesPerMember) {
+        long reviewId = ThreadLocalRandom.current().nextLong(1, TOTAL_REVIEWS + 1);
+        if (seen.add(reviewId)) {
+          liked.add(reviewId);
+          insert.setLong(1, reviewId);
+          insert.setLong(2, MEMBER_ID);
+          insert.addBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+    existsQuery = connection.prepareStatement(
+        "SELECT 1 FROM review_like WHERE review_id = ? AND member_id = ? LIMIT 1");
+    cached = LikedIds.of(liked);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP ALL OBJECTS");
+    }
+    connection.close();
+  }
+
+  /**
+   * 페이지당 쿼리 수 (queries / pages)
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class QueryCounter {
+
+    public long queries;
+    public long pages;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      queries = 0;
+      pages = 0;
+    }
+  }
+
+  @Benchmark
+  public Set<Long> reviewPageInQuery(QueryCounter counter) throws SQLException {
+    long[] page = nextPage();
+    StringBuilder sql = new StringBuilder(
+        "SELECT review_id FROM review_like WHERE member_id = ? AND review_id IN (");
+    for (int i = 0; i < page.length; i++) {
+      sql.append(i == 0 ? "?" : ", ?");
+    }
+    sql.append(")");
+
+    Set<Long> liked = new HashSet<>();
+    try (PreparedStatement query = connection.prepareStatement(sql.toString())) {
+      query.setLong(1, MEMBER_ID);
+      for (int i = 0; i < page.length; i++) {
+        query.setLong(i + 2, page[i]);
+      }
+      try (ResultSet rs = query.executeQuery()) {
+        while (rs.next()) {
+          liked.add(rs.getLong(1));
+        }
+      }
+    }
+    counter.queries++;
+    counter.pages++;
+    return liked;
+  }
+
+  @Benchmark
+  public Set<Long> commentPageExists(QueryCounter counter) throws SQLException {
+    Set<Long> liked = new HashSet<>();
+    for (long id : nextPage()) {
+      existsQuery.setLong(1, id);
+      existsQuery.setLong(2, MEMBER_ID);
+      try (ResultSet rs = existsQuery.executeQuery()) {
+        if (rs.next()) {
+          liked.add(id);
+        }
+      }
+      counter.queries++;
+    }
+    counter.pages++;
+    return liked;
+  }
+
+  @Benchmark
+  public Set<Long> pageFromCache(QueryCounter counter) {
+    Set<Long> liked = new HashSet<>();
+    for (long id : nextPage()) {
+      if (cached.contains(id)) {
+        liked.add(id);
+      }
+    }
+    counter.pages++;
+    return liked;
+  }
+
+  private long[] nextPage() {
+    long[] page = new long[pageSize];
+    for (int i = 0; i < pageSize; i++) {
+      page[i] = ThreadLocalRandom.current().nextLong(1, TOTAL_REVIEWS + 1);
+    }
+    return page;
+  }
+}
@@ -0,0 +1,125 @@
+package com.team1.epilogue.trendingbook;
+
+import com.team1.epilogue.trendingbook.service.TrendingViewCounter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 인기 책 집계 방식 비교
+ * - ingest*: 상세 조회 1회를 기록하는 비용 (기존: book_detail_history INSERT / 변경: 분 구간 Count-Min Sketch 증가)
+ * - query*: 상위 10개 책을 구하는 비용 (기존: 하루치 테이블 GROUP BY + COUNT / 변경: 후보 heap top-K)
+ * 기존 방식은 H2 인메모리 DB 에 같은 테이블과 쿼리를 만들어 재현한다. (JPA 오버헤드는 제외되므로 기존 방식에 유리한 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrendingEngineBenchmark {
+
+  // 하루 동안 쌓인 조회 기록 수
+  @Param({"100000"})
+  private int dailyViews;
+
+  // 조회되는 서로 다른 책 수
+  @Param({"5000"})
+  private int distinctBooks;
+
+  private TrendingViewCounter counter;
+  private Connection connection;
+  private PreparedStatement insert;
+  private PreparedStatement topQuery;
+  private List<String> bookIds;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    bookIds = new ArrayList<>(distinctBooks);
+    for (int i = 0; i < distinctBooks; i++) {
+      bookIds.add(String.valueOf(9791100000000L + i));
+    }
+
+    // 점수 반영(Redis)은 1분마다 일어나므로 제외하고 로컬 구간만 측정한다.
+    counter = new TrendingViewCounter(null, 10, 1000, 0.001);
+
+    connection = DriverManager.getConnection("jdbc:h2:mem:trending;DB_CLOSE_DELAY=-1");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE book_detail_history ("
+          + "id BIGINT AUTO_INCREMENT PRIMARY KEY, book_id VARCHAR(255), "
+          + "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, updated_at TIMESTAMP)");
+    }
+    insert = connection.prepareStatement("INSERT INTO book_detail_history (book_id) VALUES (?)");
+    topQuery = connection.prepareStatement("SELECT book_id FROM book_detail_history "
+        + "GROUP BY book_id ORDER BY COUNT(book_id) DESC LIMIT 10");
+
+    for (int i = 0; i < dailyViews; i++) {
+      String bookId = nextBookId();
+      insert.setString(1, bookId);
+      insert.addBatch();
+      counter.record(bookId);
+    }
+    insert.executeBatch();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP ALL OBJECTS");
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public void ingestSketch() {
+    counter.record(nextBookId());
+  }
+
+  @Benchmark
+  public int ingestJdbc() throws SQLException {
+    insert.setString(1, nextBookId());
+    return insert.executeUpdate();
+  }
+
+  @Benchmark
+  public List<String> querySketch() {
+    return counter.localTop(10);
+  }
+
+  @Benchmark
+  public List<String> queryJdbc() throws SQLException {
+    List<String> top = new ArrayList<>(10);
+    try (ResultSet rs = topQuery.executeQuery()) {
+      while (rs.next()) {
+        top.add(rs.getString(1));
+      }
+    }
+    return top;
+  }
+
+  // 일부 책에 조회가 몰리는 분포 (제곱 분포로 앞쪽 책이 더 자주 선택됨)
+  private String nextBookId() {
+    double r = ThreadLocalRandom.current().nextDouble();
+    return bookIds.get((int) (r * r * distinctBooks));
+  }
+}
@@ -1,8 +1,5 @@
 package com.team1.epilogue.auth.security;
 
-import com.team1.epilogue.auth.entity.Member;
-import com.team1.epilogue.auth.exception.MemberNotFoundException;
-import com.team1.epilogue.auth.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,21 +15,24 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
-    private final MemberRepository memberRepository;
+    private final MemberPrincipalCache principalCache;
+    private final TokenRevocationRegistry revocationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String token = getJwtFromRequest(request);
-        if (token != null && tokenProvider.validateToken(token)) {
+        // 로그아웃된 토큰은 로컬 Bloom filter 에 걸린 경우에만 Redis 로 확인한다
+        if (token != null && tokenProvider.validateToken(token) && !revocationRegistry.isRevoked(token)) {
             String memberIdStr = tokenProvider.getMemberIdFromJWT(token);
-            Member member = memberRepository.findById(Long.parseLong(memberIdStr))
-                    .orElseThrow(() -> new MemberNotFoundException("Member Not Found"));
-            CustomMemberDetails userDetails = CustomMemberDetails.fromMember(member);
+            // 매 요청마다 DB 를 조회하지 않도록 캐시(로컬 → Redis → DB)에서 principal 을 가져온다
+            CustomMemberDetails userDetails = principalCache.get(Long.parseLong(memberIdStr));
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            // 컨트롤러가 토큰을 다시 파싱하지 않도록 해석된 회원 ID 를 요청에 저장
+            request.setAttribute(ResolvedIdentity.ATTRIBUTE, ResolvedIdentity.of(userDetails.getId()));
         }
         filterChain.doFilter(request, response);
     }
@@ -1,5 +1,9 @@
 package com.team1.epilogue.auth.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.team1.epilogue.auth.util.TokenDigest;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -7,8 +11,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.time.Duration;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
@@ -17,57 +22,61 @@ public class JwtTokenProvider {
     private final long JWT_EXPIRATION = 604800000L;
     private final SecretKey secretKey;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용한다 (JwtParser 는 thread-safe)
+    private final JwtParser jwtParser;
+
+    // 서명 검증이 끝난 클레임 캐시 - 키: 토큰 SHA-256 다이제스트, 만료: 토큰의 exp 시각
+    private final Cache<String, Claims> verifiedClaims;
+
+    // 검증에 실패한 토큰 캐시 - 같은 잘못된 토큰으로 반복 요청 시 예외 기반 파싱을 다시 하지 않는다
+    private final Cache<String, Boolean> rejectedTokens;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+                            @Value("${jwt.claims-cache.max-size:50000}") long claimsCacheSize) {
         byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
         if (secretBytes.length < 64) {
             throw new IllegalArgumentException("jwt.secret 값은 HS512 알고리즘을 위해 최소 64바이트 이상이어야 합니다.");
         }
         this.secretKey = Keys.hmacShaKeyFor(secretBytes);
-        log.info("생성된 JWT 시크릿 키 (Base64): {}", Base64.getEncoder().encodeToString(secretKey.getEncoded()));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .build();
     }
 
     public String generateToken(String memberId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + JWT_EXPIRATION);
-        log.debug("사용 중인 시크릿 키: {}", Base64.getEncoder().encodeToString(secretKey.getEncoded()));
-        String token = Jwts.builder()
+        return Jwts.builder()
                 .setSubject(memberId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
-        log.debug("생성된 토큰: {}", token);
-        return token;
     }
 
     public String getMemberIdFromJWT(String token) {
-        log.debug("사용 중인 시크릿 키: {}", Base64.getEncoder().encodeToString(secretKey.getEncoded()));
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        log.debug("파싱된 클레임: {}", claims);
-        return claims.getSubject();
+        return getVerifiedClaims(token).getSubject();
     }
 
     public Date extractExpiration(String token) {
-        log.debug("사용 중인 시크릿 키: {}", Base64.getEncoder().encodeToString(secretKey.getEncoded()));
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        log.debug("토큰 만료 시간: {}", claims.getExpiration());
-        return claims.getExpiration();
+        return getVerifiedClaims(token).getExpiration();
     }
 
     public boolean validateToken(String token) {
-        log.info("토큰 검증 시작: {}", token);
-        log.info("사용 중인 시크릿 키: {}", Base64.getEncoder().encodeToString(secretKey.getEncoded()));
+        String digest = TokenDigest.keyOf(token);
+        if (rejectedTokens.getIfPresent(digest) != null) {
+            return false;
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-            log.debug("토큰이 유효합니다.");
+            getVerifiedClaims(digest, token);
             return true;
         } catch (ExpiredJwtException ex) {
             log.error("만료된 JWT 토큰입니다: {}", ex.getMessage());
@@ -80,6 +89,53 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT 토큰의 클레임이 비어 있습니다: {}", ex.getMessage());
         }
+        rejectedTokens.put(digest, Boolean.TRUE);
         return false;
     }
+
+    /**
+     * 캐시에 검증된 클레임이 있으면 바로 반환하고, 없을 때만 서명 검증 후 캐시에 저장한다.
+     * 검증에 실패하면 JwtException 계열 예외를 그대로 던진다.
+     */
+    private Claims getVerifiedClaims(String token) {
+        return getVerifiedClaims(TokenDigest.keyOf(token), token);
+    }
+
+    private Claims getVerifiedClaims(String digest, String token) {
+        Claims claims = verifiedClaims.getIfPresent(digest);
+        if (claims != null) {
+            return claims;
+        }
+        claims = jwtParser.parseClaimsJws(token).getBody();
+        verifiedClaims.put(digest, claims);
+        return claims;
+    }
+
+    /**
+     * 캐시 항목이 토큰의 만료 시각(exp)에 맞춰 사라지도록 하는 Expiry
+     */
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0L;
+            }
+            long remaining = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime,
+                                      long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,223 @@
+package com.team1.epilogue.auth.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team1.epilogue.auth.entity.Member;
+import com.team1.epilogue.auth.exception.MemberNotFoundException;
+import com.team1.epilogue.auth.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * [클래스 레벨]
+ * JWT 인증 시 사용되는 CustomMemberDetails 캐시
+ * - 1차: 노드 로컬 near-cache (Caffeine, 짧은 TTL, 최대 크기 제한)
+ * - 2차: Redis (노드 간 공유, TTL)
+ * - 둘 다 없으면 DB 에서 조회 후 채워 넣는다
+ * 회원 정보가 변경되면 evict() 로 Redis 키를 삭제하고 pub/sub 으로 다른 노드의 로컬 캐시도 비운다.
+ */
+@Slf4j
+@Component
+public class MemberPrincipalCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "auth:principal:";
+    public static final String INVALIDATION_CHANNEL = "auth:principal:invalidate";
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, CustomMemberDetails> localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${auth.principal-cache.local-ttl-seconds:30}") long localTtlSeconds,
+                                @Value("${auth.principal-cache.redis-ttl-seconds:600}") long redisTtlSeconds,
+                                @Value("${auth.principal-cache.max-size:10000}") long maxSize) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.localHitCounter = counter(meterRegistry, "local_hit");
+        this.redisHitCounter = counter(meterRegistry, "redis_hit");
+        this.missCounter = counter(meterRegistry, "miss");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * [메서드 레벨]
+     * 회원 ID 로 인증 주체를 조회한다. 로컬 → Redis → DB 순서로 찾는다.
+     *
+     * @param memberId JWT subject 로 전달된 회원 ID
+     * @return 인증 객체에 담을 CustomMemberDetails
+     */
+    public CustomMemberDetails get(Long memberId) {
+        CustomMemberDetails details = localCache.getIfPresent(memberId);
+        if (details != null) {
+            localHitCounter.increment();
+            return details;
+        }
+
+        details = readFromRedis(memberId);
+        if (details != null) {
+            redisHitCounter.increment();
+        } else {
+            missCounter.increment();
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new MemberNotFoundException("Member Not Found"));
+            details = CachedPrincipal.from(CustomMemberDetails.fromMember(member)).toDetails();
+            writeToRedis(details);
+        }
+        localCache.put(memberId, details);
+        return details;
+    }
+
+    /**
+     * [메서드 레벨]
+     * 회원 정보가 변경되었을 때 캐시를 무효화한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화하여 커밋 전 값이 다시 캐시되는 것을 막는다.
+     *
+     * @param memberId 변경된 회원 ID
+     */
+    public void evict(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(memberId);
+                }
+            });
+        } else {
+            evictNow(memberId);
+        }
+    }
+
+    public long getLocalHitCount() {
+        return (long) localHitCounter.count();
+    }
+
+    public long getRedisHitCount() {
+        return (long) redisHitCounter.count();
+    }
+
+    public long getMissCount() {
+        return (long) missCounter.count();
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지를 받아 로컬 캐시에서 제거한다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 principal 캐시 무효화 메시지입니다: {}", body);
+        }
+    }
+
+    private void evictNow(Long memberId) {
+        localCache.invalidate(memberId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + memberId);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(memberId));
+        } catch (DataAccessException e) {
+            log.warn("principal 캐시 무효화 중 Redis 오류가 발생했습니다. memberId={}", memberId, e);
+        }
+    }
+
+    private CustomMemberDetails readFromRedis(Long memberId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+            if (json == null) {
+                return null;
+            }
+            return objectMapper.readValue(json, CachedPrincipal.class).toDetails();
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Redis 에서 principal 을 읽지 못했습니다. memberId={}", memberId, e);
+            return null;
+        }
+    }
+
+    private void writeToRedis(CustomMemberDetails details) {
+        try {
+            String json = objectMapper.writeValueAsString(CachedPrincipal.from(details));
+            redisTemplate.opsForValue().set(KEY_PREFIX + details.getId(), json, redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Redis 에 principal 을 저장하지 못했습니다. memberId={}", details.getId(), e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.principal.cache")
+                .description("JWT 인증 principal 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 에 저장되는 principal 스냅샷
+     * 비밀번호 해시는 인증 이후에 쓰이지 않으므로 저장하지 않는다.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedPrincipal {
+        private Long id;
+        private String username;
+        private String name;
+        private String profileImg;
+
+        static CachedPrincipal from(CustomMemberDetails details) {
+            return new CachedPrincipal(details.getId(), details.getUsername(), details.getName(),
+                    details.getProfileImg());
+        }
+
+        CustomMemberDetails toDetails() {
+            return new CustomMemberDetails(id, username, null,
+                    Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")), name, profileImg);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.team1.epilogue.auth.security;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * [클래스 레벨]
+ * 요청 단위로 한 번만 해석된 인증 정보
+ * - JwtAuthenticationFilter 가 토큰 검증 후 request attribute 로 저장
+ * - 컨트롤러는 Authorization 헤더를 서비스로 넘기는 대신 이 객체를 파라미터로 받아 사용
+ * - 비로그인 요청이면 memberId 가 null 인 anonymous 객체
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResolvedIdentity {
+
+    public static final String ATTRIBUTE = ResolvedIdentity.class.getName();
+
+    private static final ResolvedIdentity ANONYMOUS = new ResolvedIdentity(null);
+
+    private final Long memberId;
+
+    public static ResolvedIdentity of(Long memberId) {
+        return memberId == null ? ANONYMOUS : new ResolvedIdentity(memberId);
+    }
+
+    public static ResolvedIdentity anonymous() {
+        return ANONYMOUS;
+    }
+
+    public boolean isAuthenticated() {
+        return memberId != null;
+    }
+}
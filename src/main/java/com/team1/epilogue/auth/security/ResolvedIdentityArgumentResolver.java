@@ -0,0 +1,31 @@
+package com.team1.epilogue.auth.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * [클래스 레벨]
+ * 컨트롤러 메서드의 ResolvedIdentity 파라미터를 채워주는 ArgumentResolver
+ * - 필터에서 저장한 request attribute 를 그대로 꺼내므로 토큰을 다시 파싱하지 않는다
+ */
+public class ResolvedIdentityArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return ResolvedIdentity.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request != null && request.getAttribute(ResolvedIdentity.ATTRIBUTE) instanceof ResolvedIdentity identity) {
+            return identity;
+        }
+        return ResolvedIdentity.anonymous();
+    }
+}
@@ -0,0 +1,215 @@
+package com.team1.epilogue.auth.security;
+
+import com.team1.epilogue.auth.util.BloomFilter;
+import com.team1.epilogue.auth.util.RedisUtil;
+import com.team1.epilogue.auth.util.TokenDigest;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * [클래스 레벨]
+ * 로그아웃으로 무효화된 JWT 를 판별하는 레지스트리
+ * - Redis 블랙리스트(auth:blacklist:{토큰 다이제스트})가 원본 저장소
+ * - 노드마다 Bloom filter 를 두고, 필터가 "있을 수도 있다"고 답할 때만 Redis 를 조회
+ * - 필터는 토큰 만료 시각 기준 세대(generation)로 나뉘며 만료된 세대는 통째로 버려 메모리가 커지지 않는다
+ * - 다른 노드의 로그아웃은 pub/sub 메시지로, 놓친 메시지는 주기적인 SCAN 으로 반영
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry implements MessageListener {
+
+    public static final String BLACKLIST_PREFIX = "auth:blacklist:";
+    public static final String REVOCATION_CHANNEL = "auth:revoked";
+
+    private final RedisUtil redisUtil;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long generationMillis;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    // key: 만료 시각 / generationMillis, value: 해당 구간에 만료되는 토큰들의 필터
+    private final ConcurrentSkipListMap<Long, BloomFilter> generations = new ConcurrentSkipListMap<>();
+
+    public TokenRevocationRegistry(RedisUtil redisUtil,
+                                   StringRedisTemplate redisTemplate,
+                                   RedisMessageListenerContainer listenerContainer,
+                                   @Value("${auth.revocation.generation-hours:24}") long generationHours,
+                                   @Value("${auth.revocation.expected-insertions:100000}") int expectedInsertions,
+                                   @Value("${auth.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisUtil = redisUtil;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.generationMillis = Duration.ofHours(generationHours).toMillis();
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    /**
+     * [메서드 레벨]
+     * 토큰을 무효화한다. Redis 블랙리스트에 저장하고 다른 노드에 알린다.
+     *
+     * @param token      무효화할 JWT
+     * @param expiration 토큰 만료 시각
+     */
+    public void revoke(String token, Date expiration) {
+        long expiresAt = expiration.getTime();
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return; // 이미 만료된 토큰은 블랙리스트에 둘 필요가 없다
+        }
+        byte[] digest = TokenDigest.sha256(token);
+        String key = TokenDigest.toKey(digest);
+
+        redisUtil.setBlackList(BLACKLIST_PREFIX + key, String.valueOf(expiresAt), Duration.ofMillis(ttl));
+        add(digest, expiresAt);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, key + ":" + expiresAt);
+    }
+
+    /**
+     * [메서드 레벨]
+     * 무효화된 토큰인지 확인한다. 로컬 필터에 없으면 Redis 를 조회하지 않는다.
+     *
+     * @param token 검증된 JWT
+     * @return 로그아웃된 토큰이면 true
+     */
+    public boolean isRevoked(String token) {
+        byte[] digest = TokenDigest.sha256(token);
+        if (!mightBeRevoked(digest)) {
+            return false;
+        }
+        try {
+            return redisUtil.getValues(BLACKLIST_PREFIX + TokenDigest.toKey(digest)) != null;
+        } catch (DataAccessException e) {
+            // 필터에 걸린 토큰은 대부분 실제로 로그아웃된 토큰이므로 Redis 장애 시 거부한다
+            log.warn("블랙리스트 조회 중 Redis 오류가 발생해 토큰을 거부합니다.", e);
+            return true;
+        }
+    }
+
+    /**
+     * [메서드 레벨]
+     * 로컬 필터만 확인한다 (Redis 조회 없음).
+     */
+    public boolean mightBeRevoked(byte[] digest) {
+        long currentGeneration = System.currentTimeMillis() / generationMillis;
+        for (Map.Entry<Long, BloomFilter> entry : generations.tailMap(currentGeneration, true).entrySet()) {
+            if (entry.getValue().mightContain(digest)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 로컬 필터가 차지하는 메모리 (바이트)
+     */
+    public long filterSizeInBytes() {
+        return generations.values().stream().mapToLong(BloomFilter::sizeInBytes).sum();
+    }
+
+    /**
+     * 다른 노드에서 발행한 로그아웃 메시지("{다이제스트}:{만료시각}")를 로컬 필터에 반영한다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            add(TokenDigest.fromKey(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("잘못된 토큰 무효화 메시지입니다: {}", body);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 Redis 블랙리스트로 필터를 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reloadFromRedis();
+    }
+
+    /**
+     * pub/sub 메시지를 놓쳤을 경우를 대비해 주기적으로 Redis 블랙리스트를 다시 반영하고,
+     * 이미 만료된 세대의 필터를 제거한다.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.refresh-interval-ms:600000}",
+            initialDelayString = "${auth.revocation.refresh-interval-ms:600000}")
+    public void refresh() {
+        long currentGeneration = System.currentTimeMillis() / generationMillis;
+        generations.headMap(currentGeneration, false).clear();
+        reloadFromRedis();
+    }
+
+    private void add(byte[] digest, long expiresAt) {
+        long generation = expiresAt / generationMillis;
+        generations.computeIfAbsent(generation,
+                g -> BloomFilter.create(expectedInsertions, falsePositiveRate)).put(digest);
+    }
+
+    private void reloadFromRedis() {
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+        List<String> batch = new ArrayList<>();
+        int loaded = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == 500) {
+                    loaded += loadBatch(batch);
+                    batch.clear();
+                }
+            }
+            loaded += loadBatch(batch);
+            log.info("토큰 블랙리스트 {}건을 로컬 필터에 반영했습니다.", loaded);
+        } catch (DataAccessException e) {
+            log.warn("Redis 블랙리스트를 불러오지 못했습니다.", e);
+        }
+    }
+
+    private int loadBatch(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            if (value == null) {
+                continue; // SCAN 이후 만료된 키
+            }
+            try {
+                add(TokenDigest.fromKey(keys.get(i).substring(BLACKLIST_PREFIX.length())), Long.parseLong(value));
+                loaded++;
+            } catch (IllegalArgumentException e) {
+                log.warn("잘못된 블랙리스트 항목입니다: {}", keys.get(i));
+            }
+        }
+        return loaded;
+    }
+}
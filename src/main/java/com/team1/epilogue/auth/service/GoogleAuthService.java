@@ -3,6 +3,7 @@ package com.team1.epilogue.auth.service;
 import com.team1.epilogue.auth.dto.GoogleUserInfo;
 import com.team1.epilogue.auth.exception.GoogleUserInfoException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
@@ -28,6 +29,7 @@ public class GoogleAuthService {
      * [필드 레벨]
      * RestClient를 Bean으로 주입받아 재사용 (RestClientConfig에서 관리)
      */
+    @Qualifier("googleRestClient")
     private final RestClient restClient;
 
     /**
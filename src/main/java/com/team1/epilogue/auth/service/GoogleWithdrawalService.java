@@ -1,6 +1,7 @@
 package com.team1.epilogue.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
@@ -15,6 +16,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class GoogleWithdrawalService {
 
+    @Qualifier("googleRestClient")
     private final RestClient restClient;
 
     @Value("${google.clientId}")
@@ -1,11 +1,10 @@
 package com.team1.epilogue.auth.service;
 
 import com.team1.epilogue.auth.security.JwtTokenProvider;
-import com.team1.epilogue.auth.util.RedisUtil;
+import com.team1.epilogue.auth.security.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.util.Date;
 
 
@@ -19,8 +18,8 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class LogoutService {
 
-    // Redis를 활용한 블랙리스트 저장을 위한 유틸리티
-    private final RedisUtil redisUtil;
+    // Redis 블랙리스트 저장 및 노드별 Bloom filter 갱신을 담당하는 레지스트리
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     // JWT 토큰 관리 컴포넌트
     private final JwtTokenProvider jwtTokenProvider;
@@ -28,8 +27,8 @@ public class LogoutService {
     /**
      * [메서드 레벨]
      * JWT 토큰을 블랙리스트에 추가하여 무효화하는 메서드
-     * - 토큰의 만료 시간을 조회하여 해당 시간 동안 Redis에 저장
-     * - 이후 동일한 토큰으로 요청이 오면 인증되지 않도록 처리
+     * - 토큰의 만료 시간을 조회하여 해당 시간 동안 Redis에 저장 (토큰 원문 대신 다이제스트를 키로 사용)
+     * - 이후 동일한 토큰으로 요청이 오면 JwtAuthenticationFilter 에서 인증되지 않도록 처리
      *
      * @param token 로그아웃할 JWT 토큰
      */
@@ -37,13 +36,7 @@ public class LogoutService {
         // JWT 토큰의 만료 시간 추출
         Date expiration = jwtTokenProvider.extractExpiration(token);
 
-        // 현재 시간과 비교하여 남은 유효 기간 계산
-        long now = new Date().getTime();
-        long duration = expiration.getTime() - now;
-
-        // 만료되지 않은 토큰만 블랙리스트에 추가
-        if(duration > 0) {
-            redisUtil.setBlackList(token, "logout", Duration.ofMillis(duration));
-        }
+        // 만료되지 않은 토큰만 남은 유효 기간 동안 블랙리스트에 추가
+        tokenRevocationRegistry.revoke(token, expiration);
     }
 }
\ No newline at end of file
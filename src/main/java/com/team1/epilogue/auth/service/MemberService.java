@@ -8,6 +8,7 @@ import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.exception.*;
 import com.team1.epilogue.auth.repository.CustomMemberRepository;
 import com.team1.epilogue.auth.repository.MemberRepository;
+import com.team1.epilogue.auth.security.MemberPrincipalCache;
 import com.team1.epilogue.auth.service.S3Service;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final S3Service s3StorageService;
     private final CustomMemberRepository customMemberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     public MemberResponse registerMember(RegisterRequest request, MultipartFile profileImage) {
         validateRegisterRequest(request);
@@ -94,6 +96,7 @@ public class MemberService {
         }
 
         Member updatedMember = memberRepository.save(member);
+        memberPrincipalCache.evict(memberId); // 인증 캐시에 남아있는 이전 회원 정보 제거
         return MemberResponse.builder()
                 .id(String.valueOf(updatedMember.getId()))
                 .loginId(updatedMember.getLoginId())
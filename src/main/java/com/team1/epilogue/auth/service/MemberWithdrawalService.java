@@ -3,6 +3,7 @@ package com.team1.epilogue.auth.service;
 import com.team1.epilogue.auth.exception.MemberNotFoundException;
 import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.repository.MemberRepository;
+import com.team1.epilogue.auth.security.MemberPrincipalCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,13 @@ public class MemberWithdrawalService {
      */
     private final MemberRepository memberRepository;
 
+    /**
+     * [필드 레벨]
+     * memberPrincipalCache: JWT 인증 시 사용되는 회원 정보 캐시
+     * 탈퇴한 회원의 토큰이 캐시된 정보로 인증되지 않도록 무효화
+     */
+    private final MemberPrincipalCache memberPrincipalCache;
+
     /**
      * [메서드 레벨]
      * withdrawMember: 회원 탈퇴 처리 메서드
@@ -37,5 +45,6 @@ public class MemberWithdrawalService {
                 .orElseThrow(MemberNotFoundException::new); // 회원이 없으면 예외 발생
 
         memberRepository.delete(member); // 회원 삭제
+        memberPrincipalCache.evict(memberId); // 인증 캐시 무효화
     }
 }
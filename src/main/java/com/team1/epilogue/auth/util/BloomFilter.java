@@ -0,0 +1,96 @@
+package com.team1.epilogue.auth.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * [클래스 레벨]
+ * 다이제스트(SHA-256 등 16바이트 이상의 해시)를 원소로 받는 thread-safe Bloom filter
+ * - 원소가 이미 균일한 해시값이므로 앞 16바이트를 두 개의 long 으로 나눠 double hashing 으로 k 개의 비트 위치를 만든다
+ * - mightContain() 이 false 면 확실히 없는 원소, true 면 오탐 가능성이 있는 원소
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        int wordCount = (int) ((bitSize + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * 64;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * [메서드 레벨]
+     * 예상 원소 개수와 허용 오탐률로 비트 수와 해시 함수 개수를 계산해 생성
+     * @param expectedInsertions 예상 원소 개수
+     * @param falsePositiveRate 허용 오탐률 (0 ~ 1)
+     * @return 새 BloomFilter
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions 는 0보다 커야 합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate 는 0과 1 사이여야 합니다.");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(byte[] digest) {
+        long h1 = readLong(digest, 0);
+        long h2 = readLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitSize));
+        }
+    }
+
+    public boolean mightContain(byte[] digest) {
+        long h1 = readLong(digest, 0);
+        long h2 = readLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(Math.floorMod(h1 + i * h2, bitSize))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 메모리 사용량 (바이트)
+     */
+    public long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << (index & 63);
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (words.get((int) (index >>> 6)) & (1L << (index & 63))) != 0;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        if (bytes.length < offset + 8) {
+            throw new IllegalArgumentException("다이제스트는 최소 16바이트 이상이어야 합니다.");
+        }
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFFL);
+        }
+        return value;
+    }
+}
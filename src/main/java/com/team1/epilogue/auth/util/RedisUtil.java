@@ -29,8 +29,8 @@ public class RedisUtil {
     /**
      * [메서드 레벨]
      * JWT 블랙리스트에 토큰을 저장하여 무효화 처리
-     * @param token 블랙리스트에 추가할 JWT 토큰
-     * @param value 저장할 값 (예: "logout")
+     * @param token 블랙리스트 키 (토큰 원문 대신 TokenDigest 로 만든 다이제스트 키 사용)
+     * @param value 저장할 값 (예: 토큰 만료 시각)
      * @param duration 토큰이 블랙리스트에 유지될 시간 (토큰 만료 시간까지)
      */
     public void setBlackList(String token, String value, Duration duration) {
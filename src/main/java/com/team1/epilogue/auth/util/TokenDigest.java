@@ -0,0 +1,67 @@
+package com.team1.epilogue.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * [클래스 레벨]
+ * JWT 원문 대신 사용할 SHA-256 다이제스트를 만드는 유틸리티 클래스
+ * - 캐시 키, 블랙리스트 키 등에 토큰 원문을 그대로 남기지 않기 위해 사용
+ */
+public final class TokenDigest {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenDigest() {
+    }
+
+    /**
+     * [메서드 레벨]
+     * 토큰의 SHA-256 다이제스트 바이트를 반환
+     * @param token JWT 토큰
+     * @return 32바이트 다이제스트
+     */
+    public static byte[] sha256(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return digest.digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * [메서드 레벨]
+     * 다이제스트를 키로 쓸 수 있는 URL-safe Base64 문자열로 변환
+     * @param digest sha256() 결과
+     * @return Base64 문자열 (padding 없음)
+     */
+    public static String toKey(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    /**
+     * [메서드 레벨]
+     * toKey() 로 만든 문자열을 다시 다이제스트 바이트로 변환
+     * @param key Base64 다이제스트 문자열
+     * @return 다이제스트 바이트
+     */
+    public static byte[] fromKey(String key) {
+        return Base64.getUrlDecoder().decode(key);
+    }
+
+    /**
+     * [메서드 레벨]
+     * 토큰을 바로 다이제스트 키 문자열로 변환
+     * @param token JWT 토큰
+     * @return Base64 다이제스트 문자열
+     */
+    public static String keyOf(String token) {
+        return toKey(sha256(token));
+    }
+}
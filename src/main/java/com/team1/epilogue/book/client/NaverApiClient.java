@@ -1,20 +1,26 @@
 package com.team1.epilogue.book.client;
 
 import com.team1.epilogue.book.dto.BookDetailRequest;
-import com.team1.epilogue.book.dto.xml.BookDetailXMLResponse;
 import com.team1.epilogue.book.dto.BookInfoRequest;
 import com.team1.epilogue.book.dto.NaverBookSearchResponse;
+import com.team1.epilogue.book.dto.xml.Item;
+import java.util.Optional;
+import javax.xml.stream.XMLStreamException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class NaverApiClient {
 
+  @Qualifier("naverRestClient")
   private final RestClient restClient;
   @Value("${naver.cid}")
   private String cid; // 네이버 client ID
@@ -40,26 +46,38 @@ public class NaverApiClient {
         .retrieve()
         .body(NaverBookSearchResponse.class);
 
-    log.info(response.toString());
+    // 카탈로그 미리 가져오기(BookPrefetchJob)는 한 번에 100권씩 반복 호출하므로 응답 전체 대신 개수만 남긴다.
+    if (log.isDebugEnabled() && response != null) {
+      log.debug("네이버 책 검색 query={}, start={}, total={}, items={}", dto.getQuery(), dto.getStart(),
+          response.getTotal(), response.getItems() == null ? 0 : response.getItems().size());
+    }
 
     return response;
   }
 
   /**
    * 책 제목 / ISBN 번호로 상세정보 검색하는 메서드입니다.
+   * 응답(XML)은 첫 번째 책만 사용하므로 전체를 객체로 만들지 않고 첫 item 까지만 읽습니다.
    *
    * @param url 네이버 base url
    * @param dto 책 정보를 담은 DTO
-   * @return 네이버에서 온 응답값을 return
+   * @return 검색된 첫 번째 책 (검색 결과가 없으면 empty)
    */
-  public BookDetailXMLResponse getBookDetail(String url, BookDetailRequest dto) {
-    BookDetailXMLResponse response = restClient.get()
+  public Optional<Item> getBookDetail(String url, BookDetailRequest dto) {
+    return restClient.get()
         .uri(url + NAVER_BOOK_DETAIL_PATH + "?" + dto.getType() + "=" + dto.getQuery())
         .header("X-Naver-Client-Id", cid)
         .header("X-Naver-Client-Secret", apikey)
-        .retrieve()
-        .body(BookDetailXMLResponse.class);
-
-    return response;
+        .exchange((request, response) -> {
+          if (response.getStatusCode().isError()) {
+            throw new RestClientResponseException("네이버 책 상세정보 조회에 실패했습니다.",
+                response.getStatusCode(), response.getStatusText(), response.getHeaders(), null, null);
+          }
+          try {
+            return NaverBookXmlReader.readFirstItem(response.getBody());
+          } catch (XMLStreamException e) {
+            throw new RestClientException("네이버 책 상세정보 응답을 읽지 못했습니다.", e);
+          }
+        });
   }
 }
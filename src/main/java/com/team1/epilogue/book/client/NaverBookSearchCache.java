@@ -0,0 +1,175 @@
+package com.team1.epilogue.book.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team1.epilogue.book.dto.BookInfoRequest;
+import com.team1.epilogue.book.dto.NaverBookSearchResponse;
+import com.team1.epilogue.keyword.util.KeywordNormalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 네이버 책 검색 응답을 로컬(Caffeine) -> Redis -> 네이버 순서로 찾는 read-through 캐시입니다.
+ * - 캐시 키는 정규화한 검색어와 sort/display/start 로 만들어, 대소문자나 공백만 다른 검색은 같은 응답을 사용합니다.
+ * - 같은 키를 동시에 조회하면 먼저 들어온 요청 하나만 Redis/네이버를 호출하고, 나머지는 그 결과를 기다립니다.
+ * - 검색 결과는 더 오래 남는 사본(stale)도 저장해 두고, 네이버 호출이 실패하거나 회로가 열려 있으면 그 사본으로 응답합니다.
+ */
+@Slf4j
+@Component
+public class NaverBookSearchCache {
+
+  private static final String KEY_PREFIX = "naver:search:";
+  private static final String STALE_KEY_PREFIX = "naver:search:stale:";
+
+  private final NaverApiClient naverApiClient;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final Duration redisTtl;
+  private final Duration staleTtl;
+
+  private final Cache<String, NaverBookSearchResponse> localCache;
+  // 지금 조회 중인 키와 그 결과. 같은 키의 동시 요청은 이 future 를 함께 기다린다.
+  private final Map<String, CompletableFuture<NaverBookSearchResponse>> inFlight = new ConcurrentHashMap<>();
+
+  public NaverBookSearchCache(NaverApiClient naverApiClient, StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${naver.search-cache.local-ttl:PT1M}") Duration localTtl,
+      @Value("${naver.search-cache.local-max-size:2000}") long localMaxSize,
+      @Value("${naver.search-cache.redis-ttl:PT30M}") Duration redisTtl,
+      @Value("${naver.search-cache.stale-ttl:PT24H}") Duration staleTtl) {
+    this.naverApiClient = naverApiClient;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.redisTtl = redisTtl;
+    this.staleTtl = staleTtl;
+    this.localCache = Caffeine.newBuilder()
+        .expireAfterWrite(localTtl)
+        .maximumSize(localMaxSize)
+        .build();
+  }
+
+  /**
+   * 책 검색 결과를 캐시에서 찾고, 없으면 네이버에 한 번만 요청해 채웁니다.
+   *
+   * @param url 네이버 base url
+   * @param dto 책 검색 요청
+   * @return 네이버 책 검색 응답
+   */
+  public NaverBookSearchResponse getBookInfo(String url, BookInfoRequest dto) {
+    String key = cacheKey(dto);
+    if (key == null) {
+      return naverApiClient.getBookInfoFromNaver(url, dto);
+    }
+
+    NaverBookSearchResponse cached = localCache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    CompletableFuture<NaverBookSearchResponse> future = new CompletableFuture<>();
+    CompletableFuture<NaverBookSearchResponse> running = inFlight.putIfAbsent(key, future);
+    if (running != null) {
+      return await(running);
+    }
+
+    try {
+      NaverBookSearchResponse response = load(key, url, dto);
+      if (response != null) {
+        localCache.put(key, response);
+      }
+      future.complete(response);
+      return response;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  private NaverBookSearchResponse load(String key, String url, BookInfoRequest dto) {
+    String redisKey = KEY_PREFIX + key;
+    try {
+      String saved = redisTemplate.opsForValue().get(redisKey);
+      if (saved != null) {
+        return objectMapper.readValue(saved, NaverBookSearchResponse.class);
+      }
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("Redis 에서 책 검색 결과를 가져오지 못했습니다. key={}", redisKey, e);
+    }
+
+    NaverBookSearchResponse response;
+    try {
+      response = naverApiClient.getBookInfoFromNaver(url, dto);
+    } catch (RestClientException e) {
+      // 네이버 장애(5xx, timeout, 회로 열림) 중에는 조금 오래된 검색 결과라도 돌려준다.
+      NaverBookSearchResponse stale = loadStale(key);
+      if (stale == null) {
+        throw e;
+      }
+      log.warn("네이버 책 검색에 실패해 이전 검색 결과로 응답합니다. key={}", key, e);
+      return stale;
+    }
+    if (response == null) {
+      return null;
+    }
+    try {
+      String body = objectMapper.writeValueAsString(response);
+      redisTemplate.opsForValue().set(redisKey, body, redisTtl);
+      redisTemplate.opsForValue().set(STALE_KEY_PREFIX + key, body, staleTtl);
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("책 검색 결과를 Redis 에 저장하지 못했습니다. key={}", redisKey, e);
+    }
+    return response;
+  }
+
+  private NaverBookSearchResponse loadStale(String key) {
+    try {
+      String saved = redisTemplate.opsForValue().get(STALE_KEY_PREFIX + key);
+      return saved == null ? null : objectMapper.readValue(saved, NaverBookSearchResponse.class);
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("Redis 에서 이전 책 검색 결과를 가져오지 못했습니다. key={}", key, e);
+      return null;
+    }
+  }
+
+  private NaverBookSearchResponse await(CompletableFuture<NaverBookSearchResponse> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      // 먼저 조회한 요청이 실패하면 같은 예외를 그대로 던진다.
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 캐시 키: {정규화한 검색어}|{sort}|{display}|{start}
+   */
+  static String cacheKey(BookInfoRequest dto) {
+    // 정규화 과정에서 잘리는 긴 검색어는 다른 검색어와 키가 겹칠 수 있으므로 캐시하지 않는다.
+    if (dto.getQuery() == null || dto.getQuery().length() > KeywordNormalizer.MAX_LENGTH) {
+      return null;
+    }
+    String query = KeywordNormalizer.normalize(dto.getQuery());
+    if (query == null) {
+      return null;
+    }
+    String sort = dto.getSort() == null ? "" : dto.getSort().toLowerCase(Locale.ROOT);
+    return query + "|" + sort + "|" + dto.getDisplay() + "|" + dto.getStart();
+  }
+}
@@ -0,0 +1,105 @@
+package com.team1.epilogue.book.client;
+
+import com.team1.epilogue.book.dto.xml.Item;
+import java.io.InputStream;
+import java.util.Optional;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * 네이버 책 상세 검색(book_adv) XML 응답에서 첫 번째 책(item)만 읽는 StAX 파서
+ * 응답 전체를 객체 트리로 만들지 않고, 첫 item 을 다 읽으면 나머지 응답은 읽지 않고 멈춘다.
+ */
+public final class NaverBookXmlReader {
+
+  // 설정을 마친 XMLInputFactory 는 여러 스레드가 함께 써도 안전하므로 하나만 만들어 재사용한다.
+  private static final XMLInputFactory FACTORY = createFactory();
+
+  private NaverBookXmlReader() {
+  }
+
+  /**
+   * 응답의 첫 번째 item 을 반환합니다. item 이 없으면(검색 결과 없음) empty 를 반환합니다.
+   * 스트림은 닫지 않습니다.
+   */
+  public static Optional<Item> readFirstItem(InputStream in) throws XMLStreamException {
+    XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+    try {
+      while (reader.hasNext()) {
+        if (reader.next() == XMLStreamConstants.START_ELEMENT && "item".equals(reader.getLocalName())) {
+          return Optional.of(readItem(reader));
+        }
+      }
+      return Optional.empty();
+    } finally {
+      reader.close();
+    }
+  }
+
+  private static Item readItem(XMLStreamReader reader) throws XMLStreamException {
+    Item.ItemBuilder item = Item.builder();
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT && "item".equals(reader.getLocalName())) {
+        break;
+      }
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+      String name = reader.getLocalName();
+      String text = reader.getElementText().trim(); // 종료 태그까지 읽는다
+      switch (name) {
+        case "title":
+          item.title(text);
+          break;
+        case "link":
+          item.link(text);
+          break;
+        case "author":
+          item.author(text);
+          break;
+        case "price":
+          item.price(parsePrice(text));
+          break;
+        case "publisher":
+          item.publisher(text);
+          break;
+        case "pubdate":
+          item.pubDate(text);
+          break;
+        case "description":
+          item.description(text);
+          break;
+        case "image":
+          item.image(text);
+          break;
+        case "isbn":
+          item.isbn(text);
+          break;
+        default: // discount 등 사용하지 않는 항목
+          break;
+      }
+    }
+    return item.build();
+  }
+
+  // 절판 등으로 가격이 비어 있는 책이 있다.
+  private static int parsePrice(String text) {
+    try {
+      return text.isEmpty() ? 0 : Integer.parseInt(text);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static XMLInputFactory createFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    // 외부 엔티티/DTD 를 처리하지 않는다. (XXE 방지)
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
+  }
+}
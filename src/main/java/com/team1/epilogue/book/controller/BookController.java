@@ -1,12 +1,17 @@
 package com.team1.epilogue.book.controller;
 
+import com.team1.epilogue.auth.security.ResolvedIdentity;
+import com.team1.epilogue.book.dto.AutocompleteSuggestion;
 import com.team1.epilogue.book.dto.BookDetailResponse;
+import com.team1.epilogue.book.dto.BookFacetResponse;
 import com.team1.epilogue.book.dto.BookInfoRequest;
 import com.team1.epilogue.book.dto.BookMainPageDto;
 import com.team1.epilogue.book.dto.BookSearchFilter;
 import com.team1.epilogue.book.dto.NaverBookSearchResponse;
+import com.team1.epilogue.book.repository.BookFacetIndex;
+import com.team1.epilogue.book.service.BookAutocompleteIndex;
 import com.team1.epilogue.book.service.BookService;
-import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +23,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class BookController {
 
   private final BookService bookService;
+  private final BookAutocompleteIndex bookAutocompleteIndex;
+  private final BookFacetIndex bookFacetIndex;
 
   /**
    * 책 제목으로 검색하는 메서드입니다.
@@ -47,8 +54,8 @@ public class BookController {
   @GetMapping("/api/books/detail")
   public ResponseEntity<BookDetailResponse> getBookDetail(@RequestParam String query,
       @RequestParam String type,
-      HttpServletRequest request) {
-    BookDetailResponse bookDetail = bookService.getBookDetail(query, type, request.getHeader("Authorization"));
+      ResolvedIdentity identity) {
+    BookDetailResponse bookDetail = bookService.getBookDetail(query, type, identity.getMemberId());
     return ResponseEntity.ok(bookDetail);
   }
 
@@ -74,4 +81,55 @@ public class BookController {
     BookMainPageDto bookMainPage = bookService.getBookMainPage(filter);
     return ResponseEntity.ok(bookMainPage);
   }
+
+  /**
+   * 책 메인 페이지 목록을 커서 방식으로 return 하는 메서드입니다.
+   * 첫 요청은 cursor 없이, 다음 요청부터는 이전 응답의 nextCursor 를 보냅니다.
+   */
+  @GetMapping("/api/books/main-page/cursor")
+  public ResponseEntity<BookMainPageDto> getBookMainPageByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "") String sort,
+      @RequestParam(defaultValue = "") String chosung,
+      @RequestParam(defaultValue = "0") int rating,
+      @RequestParam(defaultValue = "") String startDate,
+      @RequestParam(defaultValue = "") String endDate) {
+    BookSearchFilter filter = BookSearchFilter.builder()
+        .sort(sort)
+        .chosung(chosung)
+        .rating(rating)
+        .startDate(startDate)
+        .endDate(endDate)
+        .build();
+    return ResponseEntity.ok(bookService.getBookMainPageByCursor(filter, cursor));
+  }
+
+  /**
+   * 메인 페이지 필터 옵션별 책 개수를 return 하는 메서드입니다.
+   * 각 항목(초성 / 별점 / 출간월)의 개수는 나머지 항목에서 선택한 필터를 적용해 셉니다.
+   */
+  @GetMapping("/api/books/facets")
+  public ResponseEntity<BookFacetResponse> getBookFacets(
+      @RequestParam(defaultValue = "") String chosung,
+      @RequestParam(defaultValue = "0") int rating,
+      @RequestParam(defaultValue = "") String startDate,
+      @RequestParam(defaultValue = "") String endDate) {
+    BookSearchFilter filter = BookSearchFilter.builder()
+        .chosung(chosung)
+        .rating(rating)
+        .startDate(startDate)
+        .endDate(endDate)
+        .build();
+    return ResponseEntity.ok(bookFacetIndex.facets(filter));
+  }
+
+  /**
+   * 검색창 자동완성 후보(책 제목, 작가, 인기 검색어)를 return 하는 메서드입니다.
+   * 초성으로만 입력해도 ("ㅎㄹㅍㅌ") 후보를 찾습니다.
+   */
+  @GetMapping("/api/books/autocomplete")
+  public ResponseEntity<List<AutocompleteSuggestion>> autocomplete(@RequestParam String query,
+      @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.ok(bookAutocompleteIndex.suggest(query, Math.min(size, 10)));
+  }
 }
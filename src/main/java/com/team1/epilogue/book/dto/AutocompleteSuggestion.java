@@ -0,0 +1,18 @@
+package com.team1.epilogue.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색어 자동완성 결과 한 건
+ * type 은 TITLE(책 제목), AUTHOR(작가), KEYWORD(인기 검색어) 중 하나이며, 책 제목일 때만 bookId 가 채워진다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AutocompleteSuggestion {
+  private String text;
+  private String type;
+  private String bookId;
+}
@@ -0,0 +1,50 @@
+package com.team1.epilogue.book.dto;
+
+import com.team1.epilogue.book.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메인 페이지 커서 페이징에서 마지막으로 내려준 책의 위치 (정렬 값, 책 ID)
+ * 클라이언트에는 "정렬 값|책 ID" 를 Base64(URL-safe) 로 인코딩한 문자열로 전달한다.
+ * 정렬 값이 없는 경우(출간일 null 등)는 빈 문자열로 표현한다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookCursor {
+
+  private static final String SEPARATOR = "|";
+
+  private final String sortValue;
+  private final String id;
+
+  public String encode() {
+    String raw = (sortValue == null ? "" : sortValue) + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param cursor 클라이언트가 보낸 커서 문자열 (첫 페이지는 null 또는 빈 문자열)
+   * @return 커서, 첫 페이지면 null
+   * @throws InvalidCursorException 잘못된 커서인 경우
+   */
+  public static BookCursor decode(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return null;
+    }
+    String raw;
+    try {
+      raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException("잘못된 커서입니다.");
+    }
+    int index = raw.lastIndexOf(SEPARATOR);
+    if (index < 0 || index == raw.length() - 1) {
+      throw new InvalidCursorException("잘못된 커서입니다.");
+    }
+    String sortValue = raw.substring(0, index);
+    return new BookCursor(sortValue.isEmpty() ? null : sortValue, raw.substring(index + 1));
+  }
+}
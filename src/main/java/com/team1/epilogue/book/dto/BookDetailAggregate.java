@@ -0,0 +1,26 @@
+package com.team1.epilogue.book.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 책 상세 페이지에서 회원과 관계없이 공통으로 보여주는 정보 (책 정보, 같은 작가의 책, 평균 별점)
+ * ISBN 별로 캐시해 두고, 회원별 정보만 요청마다 조회한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class BookDetailAggregate {
+  private final String isbn;
+  private final String title;
+  private final String image;
+  private final String author;
+  private final int price;
+  private final String publisher;
+  private final String description;
+  private final String pubDate;
+  private final double avgRating;
+  private final List<SameAuthorBookTitleIsbn> sameAuthor;
+}
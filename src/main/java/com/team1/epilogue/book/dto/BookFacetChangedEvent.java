@@ -0,0 +1,13 @@
+package com.team1.epilogue.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 책이 저장되거나 평균 별점이 바뀌어 메인 페이지 필터 개수가 달라질 때 발행하는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class BookFacetChangedEvent {
+  private BookFacetRow row;
+}
@@ -0,0 +1,18 @@
+package com.team1.epilogue.book.dto;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 메인 페이지 필터 옵션별 책 개수
+ * 각 항목의 개수는 다른 항목에서 선택한 필터를 적용한 결과이다. (예: 별점 4점을 선택했을 때 초성별 개수)
+ */
+@Getter
+@Builder
+public class BookFacetResponse {
+  private long totalCount;
+  private Map<String, Long> chosung;
+  private Map<Integer, Long> rating;
+  private Map<String, Long> month;
+}
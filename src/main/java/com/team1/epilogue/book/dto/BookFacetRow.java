@@ -0,0 +1,24 @@
+package com.team1.epilogue.book.dto;
+
+import com.team1.epilogue.book.entity.Book;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메인 페이지 필터 개수 집계에 필요한 책 정보 (초성, 평균 별점, 출간일)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookFacetRow {
+  private String bookId;
+  private String chosung;
+  private double avgRating;
+  private LocalDate pubDate;
+
+  public static BookFacetRow from(Book book) {
+    return new BookFacetRow(book.getId(), book.getChosung(), book.getAvgRating(), book.getPubDate());
+  }
+}
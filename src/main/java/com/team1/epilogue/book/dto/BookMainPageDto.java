@@ -12,5 +12,7 @@ public class BookMainPageDto {
   private int page;
   private int totalPages;
   private List<BookMainPageDetail> books;
+  private String nextCursor; // 커서 페이징에서 다음 페이지를 요청할 때 보낼 값 (마지막 페이지면 null)
+  private long totalCount;
 
 }
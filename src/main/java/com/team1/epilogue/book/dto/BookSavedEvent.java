@@ -0,0 +1,15 @@
+package com.team1.epilogue.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 새 책이 DB 에 저장되었을 때 발행하는 이벤트 (자동완성 색인 등 책 목록 기반 기능 갱신용)
+ */
+@Getter
+@AllArgsConstructor
+public class BookSavedEvent {
+  private String bookId;
+  private String title;
+  private String author;
+}
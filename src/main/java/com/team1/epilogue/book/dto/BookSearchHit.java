@@ -0,0 +1,14 @@
+package com.team1.epilogue.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 책 검색 색인의 검색 결과 (책 ISBN, 관련도 점수)
+ */
+@Getter
+@AllArgsConstructor
+public class BookSearchHit {
+  private String isbn;
+  private double score;
+}
@@ -0,0 +1,16 @@
+package com.team1.epilogue.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 책 ID, 제목, 작가, 조회수만 담는 조회용 DTO (description 등 큰 컬럼 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class BookTitleAuthor {
+  private String id;
+  private String title;
+  private String author;
+  private int view;
+}
@@ -1,22 +1,30 @@
 package com.team1.epilogue.book.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDate;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor
+@NoArgsConstructor
 public class NaverBookResponseDto {
   private String title;
   private String author;
   private int price;
   private String isbn;
+  private String publisher;
   private String description;
   @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
   private LocalDate pubDate;
   private String image;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Double score; // 검색 색인에서 찾은 경우의 관련도 점수 (네이버 응답은 null)
 
 }
@@ -1,40 +1,33 @@
 package com.team1.epilogue.book.dto.xml;
 
-import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+/**
+ * 네이버 책 상세 검색(book_adv) XML 응답의 item (NaverBookXmlReader 가 만든다)
+ */
 @Getter
 @Setter
 @Builder
 public class Item {
 
-  @JacksonXmlProperty(localName = "title")
   private String title;
 
-  @JacksonXmlProperty(localName = "link")
   private String link;
 
-  @JacksonXmlProperty(localName = "author")
   private String author;
 
-  @JacksonXmlProperty(localName = "price")
   private int price;
 
-  @JacksonXmlProperty(localName = "publisher")
   private String publisher;
 
-  @JacksonXmlProperty(localName = "pubdate")
-  private String pubDate;
+  private String pubDate; // <pubdate>
 
-  @JacksonXmlProperty(localName = "description")
   private String description;
 
-  @JacksonXmlProperty(localName = "image")
   private String image;
 
-  @JacksonXmlProperty(localName = "isbn")
   private String isbn;
 
 }
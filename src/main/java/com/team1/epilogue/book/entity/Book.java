@@ -9,6 +9,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+    // 메인 페이지 커서 페이징 (정렬 값, ID) 탐색용
+    @Index(name = "idx_book_rating_id", columnList = "avg_rating, id"),
+    @Index(name = "idx_book_view_id", columnList = "view, id"),
+    @Index(name = "idx_book_pub_date_id", columnList = "pub_date, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
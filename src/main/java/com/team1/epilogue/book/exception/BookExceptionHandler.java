@@ -0,0 +1,13 @@
+package com.team1.epilogue.book.exception;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class BookExceptionHandler {
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<String> invalidCursorExceptionHandler(InvalidCursorException ex) {
+    return ResponseEntity.badRequest().body(ex.getMessage());
+  }
+}
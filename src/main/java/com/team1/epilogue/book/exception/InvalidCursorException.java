@@ -0,0 +1,8 @@
+package com.team1.epilogue.book.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+  public InvalidCursorException(String message) {
+    super(message);
+  }
+}
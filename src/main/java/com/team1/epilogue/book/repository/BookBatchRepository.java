@@ -0,0 +1,55 @@
+package com.team1.epilogue.book.repository;
+
+import com.team1.epilogue.book.entity.Book;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여러 권의 책을 JDBC batch INSERT 로 한 번에 저장하는 Repository
+ * JPA save() 는 ID 를 직접 넣는 엔티티마다 SELECT 후 INSERT 를 하므로, 대량 저장에는 이 클래스를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookBatchRepository {
+
+  // 그 사이 다른 요청이 저장한 책은 건너뛴다.
+  private static final String INSERT_SQL = "INSERT IGNORE INTO book "
+      + "(id, title, author, price, description, avg_rating, cover_url, publisher, pub_date, chosung, view, "
+      + "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 책을 저장하고, 실제로 저장된 책만 반환합니다. (이미 있던 책 제외)
+   */
+  public List<Book> insertIgnore(List<Book> books) {
+    if (books.isEmpty()) {
+      return List.of();
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> batchArgs = new ArrayList<>(books.size());
+    for (Book book : books) {
+      batchArgs.add(new Object[]{
+          book.getId(), book.getTitle(), book.getAuthor(), book.getPrice(), book.getDescription(),
+          book.getAvgRating(), book.getCoverUrl(), book.getPublisher(),
+          book.getPubDate() == null ? null : Date.valueOf(book.getPubDate()), book.getChosung(), now, now});
+    }
+
+    int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    List<Book> inserted = new ArrayList<>();
+    for (int i = 0; i < counts.length; i++) {
+      // 드라이버가 batch 를 묶어 보내면 건별 결과 대신 SUCCESS_NO_INFO 가 온다.
+      if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+        inserted.add(books.get(i));
+      }
+    }
+    return inserted;
+  }
+}
@@ -0,0 +1,279 @@
+package com.team1.epilogue.book.repository;
+
+import static com.team1.epilogue.book.entity.QBook.book;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.team1.epilogue.book.dto.BookFacetChangedEvent;
+import com.team1.epilogue.book.dto.BookFacetResponse;
+import com.team1.epilogue.book.dto.BookFacetRow;
+import com.team1.epilogue.book.dto.BookSearchFilter;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 메인 페이지 필터(초성, 별점 구간, 출간월) 조합별 책 개수를 메모리에 유지하는 facet 색인입니다.
+ * - (초성, 별점 구간, 출간월) 조합마다 책 수를 들고 있어, 어떤 필터 조합의 개수도 COUNT 쿼리 없이 계산합니다.
+ * - 책이 저장되거나 평균 별점이 바뀌면 BookFacetChangedEvent 로 해당 책의 조합만 옮기고, pub/sub 으로 다른 서버에도 반영합니다.
+ * - 놓친 변경이 쌓이지 않도록 주기적으로 DB 에서 다시 만듭니다. 다시 만드는 동안 들어온 변경은 모아 두었다가 새 색인에 다시 적용합니다.
+ */
+@Slf4j
+@Component
+public class BookFacetIndex implements MessageListener {
+
+  public static final String CHANGED_CHANNEL = "book:facet:changed";
+  private static final int MAX_RATING_BUCKET = 5;
+
+  // BookRepository 는 이 클래스를 쓰므로(CustomBookRepositoryImpl) 순환 의존을 피해 QueryDSL 로 직접 읽는다.
+  private final JPAQueryFactory jpaQueryFactory;
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+
+  private final Object rebuildLock = new Object();
+  private volatile State state = new State();
+  // 다시 만드는 중에 들어온 변경 (DB 를 읽은 뒤 교체하기 전의 변경이 빠지지 않도록 새 색인에 다시 적용한다)
+  private List<BookFacetRow> changedDuringRebuild;
+
+  public BookFacetIndex(JPAQueryFactory jpaQueryFactory, StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer, ObjectMapper objectMapper) {
+    this.jpaQueryFactory = jpaQueryFactory;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.objectMapper = objectMapper;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+  }
+
+  /**
+   * 애플리케이션 시작 시, 그리고 주기적으로 DB 의 전체 책으로 색인을 다시 만듭니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${book.facet.rebuild-interval-ms:600000}",
+      initialDelayString = "${book.facet.rebuild-interval-ms:600000}")
+  public void rebuild() {
+    synchronized (rebuildLock) {
+      synchronized (this) {
+        changedDuringRebuild = new ArrayList<>();
+      }
+      List<BookFacetRow> rows;
+      try {
+        rows = jpaQueryFactory
+            .select(Projections.constructor(BookFacetRow.class, book.id, book.chosung, book.avgRating, book.pubDate))
+            .from(book)
+            .fetch();
+      } catch (RuntimeException e) {
+        synchronized (this) {
+          changedDuringRebuild = null;
+        }
+        throw e;
+      }
+      State rebuilt = new State();
+      rows.forEach(rebuilt::apply);
+      synchronized (this) {
+        // 같은 책은 마지막 조합만 남으므로 DB 에서 이미 읽은 변경을 다시 적용해도 개수는 그대로다.
+        changedDuringRebuild.forEach(rebuilt::apply);
+        changedDuringRebuild = null;
+        state = rebuilt;
+      }
+      log.info("메인 페이지 facet 색인을 만들었습니다. 책 {}권, 조합 {}개", rows.size(), rebuilt.cells.size());
+    }
+  }
+
+  /**
+   * 이 서버에서 책이 저장되거나 별점이 바뀌면 색인에 반영하고 다른 서버에도 알립니다. (커밋 이후)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookFacetChanged(BookFacetChangedEvent event) {
+    apply(event.getRow());
+    try {
+      redisTemplate.convertAndSend(CHANGED_CHANNEL, objectMapper.writeValueAsString(event.getRow()));
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("facet 변경 메시지를 발행하지 못했습니다. bookId={}", event.getRow().getBookId(), e);
+    }
+  }
+
+  /**
+   * 다른 서버에서 바뀐 책을 색인에 반영합니다.
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      apply(objectMapper.readValue(body, BookFacetRow.class));
+    } catch (JsonProcessingException e) {
+      log.warn("잘못된 facet 변경 메시지입니다: {}", body);
+    }
+  }
+
+  /**
+   * 필터 조건에 맞는 책 수를 반환합니다.
+   */
+  public long count(BookSearchFilter filter) {
+    FacetKey selected = FacetKey.of(filter);
+    long count = 0;
+    for (Map.Entry<FacetKey, AtomicLong> cell : state.cells.entrySet()) {
+      if (cell.getKey().matches(selected, true, true, true)) {
+        count += cell.getValue().get();
+      }
+    }
+    return count;
+  }
+
+  /**
+   * 필터 옵션별 책 수를 반환합니다. 각 항목은 나머지 항목의 선택을 적용해 센다.
+   */
+  public BookFacetResponse facets(BookSearchFilter filter) {
+    FacetKey selected = FacetKey.of(filter);
+    long total = 0;
+    Map<String, Long> chosung = new TreeMap<>();
+    Map<Integer, Long> rating = new TreeMap<>();
+    Map<String, Long> month = new TreeMap<>();
+
+    for (Map.Entry<FacetKey, AtomicLong> cell : state.cells.entrySet()) {
+      FacetKey key = cell.getKey();
+      long value = cell.getValue().get();
+      if (value == 0) {
+        continue;
+      }
+      if (key.matches(selected, true, true, true)) {
+        total += value;
+      }
+      if (key.chosung != null && key.matches(selected, false, true, true)) {
+        chosung.merge(key.chosung, value, Long::sum);
+      }
+      if (key.matches(selected, true, false, true)) {
+        rating.merge(key.ratingBucket, value, Long::sum);
+      }
+      if (key.month != null && key.matches(selected, true, true, false)) {
+        month.merge(key.month, value, Long::sum);
+      }
+    }
+    return BookFacetResponse.builder()
+        .totalCount(total)
+        .chosung(chosung)
+        .rating(rating)
+        .month(month)
+        .build();
+  }
+
+  private synchronized void apply(BookFacetRow row) {
+    state.apply(row);
+    if (changedDuringRebuild != null) {
+      changedDuringRebuild.add(row);
+    }
+  }
+
+  /**
+   * 색인 내용. 책별 현재 조합과 조합별 책 수
+   */
+  private static class State {
+
+    private final Map<String, FacetKey> keyByBook = new HashMap<>();
+    private final Map<FacetKey, AtomicLong> cells = new ConcurrentHashMap<>();
+
+    private void apply(BookFacetRow row) {
+      if (row.getBookId() == null) {
+        return;
+      }
+      FacetKey key = FacetKey.of(row);
+      FacetKey previous = keyByBook.put(row.getBookId(), key);
+      if (key.equals(previous)) {
+        return;
+      }
+      if (previous != null) {
+        cells.get(previous).decrementAndGet();
+      }
+      cells.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+  }
+
+  /**
+   * (초성, 별점 구간, 출간월) 조합. 필터로 쓰일 때 null / 0 은 "선택하지 않음" 이다.
+   */
+  private static final class FacetKey {
+
+    private final String chosung;
+    private final int ratingBucket;
+    private final String month; // yyyy-MM
+
+    private FacetKey(String chosung, int ratingBucket, String month) {
+      this.chosung = chosung;
+      this.ratingBucket = ratingBucket;
+      this.month = month;
+    }
+
+    private static FacetKey of(BookFacetRow row) {
+      // 별점 필터 r 은 r 이상 r + 1 미만이므로 소수점 아래를 버린 값이 구간이 된다.
+      int bucket = (int) Math.min(MAX_RATING_BUCKET, Math.max(0, Math.floor(row.getAvgRating())));
+      LocalDate pubDate = row.getPubDate();
+      String month = pubDate == null ? null : String.format("%04d-%02d", pubDate.getYear(), pubDate.getMonthValue());
+      return new FacetKey(emptyToNull(row.getChosung()), bucket, month);
+    }
+
+    private static FacetKey of(BookSearchFilter filter) {
+      boolean hasMonth = notEmpty(filter.getStartDate()) && notEmpty(filter.getEndDate());
+      return new FacetKey(emptyToNull(filter.getChosung()),
+          filter.getRating() == null ? 0 : filter.getRating(),
+          hasMonth ? filter.getStartDate() : null);
+    }
+
+    private boolean matches(FacetKey selected, boolean byChosung, boolean byRating, boolean byMonth) {
+      return (!byChosung || selected.chosung == null || selected.chosung.equals(chosung))
+          && (!byRating || selected.ratingBucket == 0 || selected.ratingBucket == ratingBucket)
+          && (!byMonth || selected.month == null || selected.month.equals(month));
+    }
+
+    private static String emptyToNull(String value) {
+      return notEmpty(value) ? value : null;
+    }
+
+    private static boolean notEmpty(String value) {
+      return value != null && !value.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof FacetKey other)) {
+        return false;
+      }
+      return ratingBucket == other.ratingBucket
+          && Objects.equals(chosung, other.chosung)
+          && Objects.equals(month, other.month);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(chosung, ratingBucket, month);
+    }
+  }
+}
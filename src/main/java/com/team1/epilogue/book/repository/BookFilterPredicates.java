@@ -0,0 +1,52 @@
+package com.team1.epilogue.book.repository;
+
+import static com.team1.epilogue.book.entity.QBook.book;
+
+import com.querydsl.core.BooleanBuilder;
+import com.team1.epilogue.book.dto.BookSearchFilter;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 메인 페이지 필터(초성, 별점, 출간월)를 QueryDSL 조건으로 만드는 클래스
+ * 목록 조회와 개수 조회가 같은 조건을 쓰도록 한 곳에서 만든다.
+ */
+final class BookFilterPredicates {
+
+  private BookFilterPredicates() {
+  }
+
+  static BooleanBuilder of(BookSearchFilter filter) {
+    BooleanBuilder booleanBuilder = new BooleanBuilder();
+
+    // 초성 필터
+    if (hasText(filter.getChosung())) {
+      booleanBuilder.and(book.chosung.eq(filter.getChosung()));
+    }
+    // 별점 필터
+    if (filter.getRating() != null && filter.getRating() != 0) {
+      int rating = filter.getRating();
+      booleanBuilder.and(book.avgRating.goe((double) rating)) // avgRating >= rating
+          .and(book.avgRating.lt((double) rating + 1)); // avgRating < rating + 1 (3.9 까지)
+    }
+    // 출간일 필터
+    if (hasText(filter.getStartDate()) && hasText(filter.getEndDate())) {
+      // "yyyy-MM" 형식을 LocalDate로 변환
+      DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+      // 시작 날짜: 해당 월의 첫 번째 날짜
+      LocalDate startDate = LocalDate.parse(filter.getStartDate() + "-01", formatter);
+
+      // 종료 날짜: 해당 월의 마지막 날짜
+      LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+
+      booleanBuilder.and(book.pubDate.goe(startDate)) // pubDate >= startDate
+          .and(book.pubDate.loe(endDate)); // pubDate <= endDate
+    }
+    return booleanBuilder;
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isEmpty();
+  }
+}
@@ -1,13 +1,14 @@
 package com.team1.epilogue.book.repository;
 
+import com.team1.epilogue.book.dto.BookTitleAuthor;
 import com.team1.epilogue.book.entity.Book;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import io.lettuce.core.dynamic.annotation.Param;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -16,14 +17,18 @@ public interface BookRepository extends JpaRepository<Book,String>{
 
   Optional<Book> findByTitle(String title);
 
-  List<Book> findAllByAuthor(String author);
+  // 자동완성 색인용 전체 책 제목/작가 목록
+  @Query("SELECT new com.team1.epilogue.book.dto.BookTitleAuthor(b.id, b.title, b.author, b.view) FROM Book b")
+  List<BookTitleAuthor> findAllTitleAuthor();
 
-  // 최신순 10개만 가져오기
-  List<Book> findTop10ByOrderByCreatedAtDesc();
+  // 작가 색인용 전체 책 제목/작가 목록 (최근에 저장된 책부터)
+  @Query("SELECT new com.team1.epilogue.book.dto.BookTitleAuthor(b.id, b.title, b.author, b.view) FROM Book b "
+      + "ORDER BY b.createdAt DESC, b.id DESC")
+  List<BookTitleAuthor> findAllTitleAuthorNewestFirst();
 
-  @Modifying
-  @Query("UPDATE Book b SET b.view = b.view + 1 WHERE b.id = :bookId")
-  void increaseView(String bookId);
+  // 이미 저장된 책 ID 만 조회 (설명 등 큰 컬럼 제외)
+  @Query("SELECT b.id FROM Book b WHERE b.id IN :ids")
+  List<String> findExistingIds(@Param("ids") Collection<String> ids);
 
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("SELECT b FROM Book b WHERE b.id = :bookId")
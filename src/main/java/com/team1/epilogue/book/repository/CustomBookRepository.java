@@ -1,7 +1,9 @@
 package com.team1.epilogue.book.repository;
 
+import com.team1.epilogue.book.dto.BookCursor;
 import com.team1.epilogue.book.dto.BookSearchFilter;
 import com.team1.epilogue.book.entity.Book;
+import java.util.List;
 import org.springframework.data.domain.Page;
 
 /**
@@ -11,4 +13,9 @@ public interface CustomBookRepository {
 
   Page<Book> findBooksWithFilter(BookSearchFilter filter);
 
+  // 커서(정렬 값, ID) 다음의 책을 limit 개까지 가져온다. cursor 가 null 이면 첫 페이지
+  List<Book> findBooksAfter(BookSearchFilter filter, BookCursor cursor, int limit);
+
+  long countBooksWithFilter(BookSearchFilter filter);
+
 }
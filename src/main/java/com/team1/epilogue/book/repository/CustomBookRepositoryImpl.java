@@ -2,12 +2,15 @@ package com.team1.epilogue.book.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.team1.epilogue.book.dto.BookCursor;
 import com.team1.epilogue.book.dto.BookSearchFilter;
 import com.team1.epilogue.book.entity.Book;
 import com.team1.epilogue.book.entity.QBook;
+import com.team1.epilogue.book.exception.InvalidCursorException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -24,44 +27,17 @@ import static com.team1.epilogue.book.entity.QBook.book; // Q Entity 를 static
 public class CustomBookRepositoryImpl implements CustomBookRepository {
 
   private final JPAQueryFactory jpaQueryFactory;
+  private final BookFacetIndex bookFacetIndex;
 
   @Override
   public Page<Book> findBooksWithFilter(BookSearchFilter filter) {
     // PageRequest 생성
     Pageable pageable = PageRequest.of(filter.getPage() - 1, 9);
 
-    BooleanBuilder booleanBuilder = new BooleanBuilder();
+    BooleanBuilder booleanBuilder = BookFilterPredicates.of(filter);
 
-    // 초성 필터
-    if (!filter.getChosung() .equals("")) {
-      booleanBuilder.and(book.chosung.eq(filter.getChosung()));
-    }
-    // 별점 필터
-    if (filter.getRating() != 0) {
-      int rating = filter.getRating();
-      booleanBuilder.and(book.avgRating.goe((double) rating)) // avgRating >= rating
-          .and(book.avgRating.lt((double) rating + 1)); // avgRating < rating + 1 (3.9 까지)
-    }
-    // 출간일 필터
-    if (!filter.getStartDate().equals("") && !filter.getEndDate().equals("")) {
-      // "yyyy-MM" 형식을 LocalDate로 변환
-      DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-      // 시작 날짜: 해당 월의 첫 번째 날짜
-      LocalDate startDate = LocalDate.parse(filter.getStartDate() + "-01", formatter);
-
-      // 종료 날짜: 해당 월의 마지막 날짜
-      LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-
-      booleanBuilder.and(book.pubDate.goe(startDate)) // pubDate >= startDate
-          .and(book.pubDate.loe(endDate)); // pubDate <= endDate
-    }
-
-    // 총 갯수 구하기 (전체 데이터를 기준으로 count 쿼리 실행)
-    long totalCount = jpaQueryFactory
-        .selectFrom(book)
-        .where(booleanBuilder)
-        .fetchCount(); // 전체 개수를 구하는 메서드
+    // 총 갯수 구하기 (facet 색인의 필터 조합별 개수 사용)
+    long totalCount = bookFacetIndex.count(filter);
 
     // 쿼리 날리기!
     List<Book> books = jpaQueryFactory
@@ -75,23 +51,92 @@ public class CustomBookRepositoryImpl implements CustomBookRepository {
     return new PageImpl<>(books, pageable,totalCount); // Page 객체로 return
   }
 
+  @Override
+  public List<Book> findBooksAfter(BookSearchFilter filter, BookCursor cursor, int limit) {
+    BooleanBuilder booleanBuilder = BookFilterPredicates.of(filter);
+    if (cursor != null) {
+      try {
+        booleanBuilder.and(seek(sortOf(filter), cursor)); // 마지막으로 내려준 책 다음부터
+      } catch (NumberFormatException | DateTimeParseException e) { // 정렬 값이 정렬 기준과 맞지 않는 커서
+        throw new InvalidCursorException("잘못된 커서입니다.");
+      }
+    }
+
+    return jpaQueryFactory
+        .selectFrom(book)
+        .where(booleanBuilder)
+        .orderBy(getSortOrder(filter, book))
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public long countBooksWithFilter(BookSearchFilter filter) {
+    return bookFacetIndex.count(filter);
+  }
+
   /**
    * 정렬 기준 설정하는 메서드
+   * 정렬 값이 같은 책의 순서가 페이지마다 바뀌지 않도록 마지막에 ID 순서를 붙인다.
    */
   private OrderSpecifier<?>[] getSortOrder(BookSearchFilter filter, QBook book) {
     List<OrderSpecifier<?>> orders = new ArrayList<>();
 
-    switch (filter.getSort()) {
+    switch (sortOf(filter)) {
       case "rating": // 별점 내림차순
         orders.add(book.avgRating.desc());
         break;
       case "view": // 조회수 내림차순
         orders.add(book.view.desc());
         break;
-      case "date": // 날짜 내림차순 = 최신순
-        orders.add(book.pubDate.desc());
+      case "date": // 날짜 내림차순 = 최신순 (출간일이 없는 책은 마지막)
+        orders.add(book.pubDate.desc().nullsLast());
         break;
     }
+    orders.add(book.id.desc());
     return orders.toArray(new OrderSpecifier[0]); // 배열로 변환하여 반환
   }
+
+  /**
+   * (정렬 값, ID) 가 커서보다 뒤에 있는 책만 가져오는 조건 (정렬 순서가 모두 내림차순이므로 "작은" 쪽)
+   */
+  private BooleanExpression seek(String sort, BookCursor cursor) {
+    String value = cursor.getSortValue();
+    String id = cursor.getId();
+    switch (sort) {
+      case "rating": {
+        requireValue(value);
+        double rating = Double.parseDouble(value);
+        return book.avgRating.lt(rating)
+            .or(book.avgRating.eq(rating).and(book.id.lt(id)));
+      }
+      case "view": {
+        requireValue(value);
+        int view = Integer.parseInt(value);
+        return book.view.lt(view)
+            .or(book.view.eq(view).and(book.id.lt(id)));
+      }
+      case "date": {
+        if (value == null) { // 출간일이 없는 책 구간
+          return book.pubDate.isNull().and(book.id.lt(id));
+        }
+        LocalDate pubDate = LocalDate.parse(value);
+        return book.pubDate.lt(pubDate)
+            .or(book.pubDate.eq(pubDate).and(book.id.lt(id)))
+            .or(book.pubDate.isNull());
+      }
+      default:
+        return book.id.lt(id);
+    }
+  }
+
+  private static void requireValue(String value) {
+    if (value == null) {
+      throw new InvalidCursorException("잘못된 커서입니다.");
+    }
+  }
+
+  private static String sortOf(BookSearchFilter filter) {
+    return filter.getSort() == null ? "" : filter.getSort();
+  }
 }
@@ -0,0 +1,172 @@
+package com.team1.epilogue.book.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import com.team1.epilogue.book.dto.BookTitleAuthor;
+import com.team1.epilogue.book.dto.SameAuthorBookTitleIsbn;
+import com.team1.epilogue.book.repository.BookRepository;
+import com.team1.epilogue.book.util.AuthorNames;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 작가 -> 책(ISBN, 제목) 메모리 색인입니다. 책 상세 페이지의 "같은 작가의 책" 목록에 사용합니다.
+ * - "작가1^작가2" 같은 공저 문자열은 작가 한 명씩 나눠 색인하므로 공저한 책도 찾습니다.
+ * - 엔티티(@Lob 설명 포함)를 읽지 않고 제목과 ISBN 만 들고 있으며, 조회는 limit 개에서 멈춥니다.
+ * - 작가별로 최근에 저장된 책부터 limit + 1 권(현재 책이 빠질 자리)만 들고 있으므로, 책이 많은 작가도 추가 비용이 일정합니다.
+ * - 애플리케이션 시작 시 전체 책으로 만들고, 새로 저장되는 책은 BookSavedEvent 와 pub/sub 으로 모든 서버에 추가합니다.
+ */
+@Slf4j
+@Component
+public class BookAuthorIndex implements MessageListener {
+
+  public static final String BOOK_SAVED_CHANNEL = "book:author-index:saved";
+
+  private final BookRepository bookRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+  private final int limit;
+  // 작가별로 들고 있는 책 수 (결과에서 현재 책이 빠져도 limit 권을 채울 수 있도록 한 권 더)
+  private final int capacity;
+
+  // 작가별 책 목록 (최근에 저장된 책부터, 최대 capacity 권). 목록은 바꾸지 않고 새 목록으로 교체한다. (읽기 쪽은 잠금 없이 순회)
+  private final Map<String, List<SameAuthorBookTitleIsbn>> booksByAuthor = new ConcurrentHashMap<>();
+
+  public BookAuthorIndex(BookRepository bookRepository, StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer, ObjectMapper objectMapper,
+      @Value("${book.same-author-limit:20}") int limit) {
+    this.bookRepository = bookRepository;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.objectMapper = objectMapper;
+    this.limit = limit;
+    this.capacity = limit + 1;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(BOOK_SAVED_CHANNEL));
+  }
+
+  /**
+   * 애플리케이션 시작 시 DB 의 전체 책으로 색인을 만듭니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void build() {
+    List<BookTitleAuthor> books = bookRepository.findAllTitleAuthorNewestFirst();
+    // 작가별로 모은 뒤 한 번에 넣는다. 최근에 저장된 책부터 읽으므로 작가별 앞쪽 capacity 권만 남긴다.
+    Map<String, List<SameAuthorBookTitleIsbn>> grouped = new HashMap<>();
+    for (BookTitleAuthor book : books) {
+      SameAuthorBookTitleIsbn entry = SameAuthorBookTitleIsbn.builder()
+          .isbn(book.getId()).title(book.getTitle()).build();
+      for (String key : AuthorNames.keys(book.getAuthor())) {
+        List<SameAuthorBookTitleIsbn> list = grouped.computeIfAbsent(key, k -> new ArrayList<>());
+        if (list.size() < capacity) {
+          list.add(entry);
+        }
+      }
+    }
+    grouped.forEach((key, list) -> booksByAuthor.put(key, List.copyOf(list)));
+    log.info("작가 색인을 만들었습니다. 책 {}권, 작가 {}명", books.size(), booksByAuthor.size());
+  }
+
+  /**
+   * 이 서버에서 새로 저장된 책을 색인에 추가하고, 다른 서버에도 알립니다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookSaved(BookSavedEvent event) {
+    add(event.getBookId(), event.getTitle(), event.getAuthor());
+    try {
+      String body = objectMapper.createObjectNode()
+          .put("bookId", event.getBookId())
+          .put("title", event.getTitle())
+          .put("author", event.getAuthor())
+          .toString();
+      redisTemplate.convertAndSend(BOOK_SAVED_CHANNEL, body);
+    } catch (DataAccessException e) {
+      log.warn("작가 색인 갱신 메시지를 발행하지 못했습니다. bookId={}", event.getBookId(), e);
+    }
+  }
+
+  /**
+   * 다른 서버에서 저장된 책을 색인에 추가합니다.
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      JsonNode node = objectMapper.readTree(body);
+      add(node.path("bookId").asText(null), node.path("title").asText(null), node.path("author").asText(null));
+    } catch (JsonProcessingException e) {
+      log.warn("잘못된 작가 색인 갱신 메시지입니다: {}", body);
+    }
+  }
+
+  /**
+   * 같은 작가(공저자 포함)의 다른 책을 최대 limit 권까지 반환합니다.
+   * 작가 문자열의 작가 순서대로, 작가별로는 최근에 저장된 책부터 채웁니다.
+   *
+   * @param author      현재 책의 작가 문자열
+   * @param excludeIsbn 현재 책의 ISBN (결과에서 제외)
+   */
+  public List<SameAuthorBookTitleIsbn> findSameAuthorBooks(String author, String excludeIsbn) {
+    List<SameAuthorBookTitleIsbn> result = new ArrayList<>();
+    Set<String> seen = new HashSet<>();
+    seen.add(excludeIsbn);
+    for (String key : AuthorNames.keys(author)) {
+      for (SameAuthorBookTitleIsbn book : booksByAuthor.getOrDefault(key, List.of())) {
+        if (result.size() >= limit) {
+          return result;
+        }
+        if (seen.add(book.getIsbn())) {
+          result.add(book);
+        }
+      }
+    }
+    return result;
+  }
+
+  // 새 책을 작가별 목록 맨 앞에 넣고, capacity 를 넘으면 가장 오래된 책을 뺀다.
+  void add(String bookId, String title, String author) {
+    if (bookId == null) {
+      return;
+    }
+    SameAuthorBookTitleIsbn book = SameAuthorBookTitleIsbn.builder().isbn(bookId).title(title).build();
+    for (String key : AuthorNames.keys(author)) {
+      booksByAuthor.compute(key, (k, books) -> {
+        if (books == null) {
+          return List.of(book);
+        }
+        if (books.stream().anyMatch(saved -> saved.getIsbn().equals(bookId))) {
+          return books;
+        }
+        List<SameAuthorBookTitleIsbn> updated = new ArrayList<>(capacity);
+        updated.add(book);
+        updated.addAll(books.subList(0, Math.min(books.size(), capacity - 1)));
+        return List.copyOf(updated);
+      });
+    }
+  }
+}
@@ -0,0 +1,275 @@
+package com.team1.epilogue.book.service;
+
+import com.team1.epilogue.book.dto.AutocompleteSuggestion;
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import com.team1.epilogue.book.dto.BookTitleAuthor;
+import com.team1.epilogue.book.repository.BookRepository;
+import com.team1.epilogue.book.util.HangulUtils;
+import com.team1.epilogue.keyword.service.KeyWordService;
+import com.team1.epilogue.keyword.util.KeywordNormalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 책 제목/작가/인기 검색어 자동완성을 위한 메모리 prefix 색인입니다.
+ * - 일반 입력용 trie 와 초성 입력용 trie("해리 포터" -> "ㅎㄹㅍㅌ")를 두고, 입력이 초성으로만 되어 있으면 초성 trie 를 탐색합니다.
+ * - 각 노드에 조회수가 높은 후보 최대 10개를 미리 담아 두어, 조회는 입력 길이만큼 노드를 따라가는 것으로 끝납니다. (DB/네이버 접근 없음)
+ * - 애플리케이션 시작 시 전체 책으로 만들고, 이후 새로 저장되는 책은 BookSavedEvent 로 추가합니다.
+ * - 인기 검색어는 10개 정도이므로 trie 에 넣지 않고 주기적으로 받아와 그대로 비교합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookAutocompleteIndex {
+
+  private static final String TYPE_TITLE = "TITLE";
+  private static final String TYPE_AUTHOR = "AUTHOR";
+  private static final String TYPE_KEYWORD = "KEYWORD";
+  // 색인하는 키의 최대 길이. 그보다 긴 입력은 앞부분만으로 찾는다.
+  private static final int MAX_KEY_LENGTH = 30;
+  private static final int SUGGESTIONS_PER_NODE = 10;
+
+  private final BookRepository bookRepository;
+  private final KeyWordService keyWordService;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Node textRoot = new Node();
+  private final Node chosungRoot = new Node();
+  // 같은 작가/제목이 여러 번 색인되지 않도록 (type + 표시 문자열) 로 관리
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  private volatile List<Entry> keywordEntries = List.of();
+
+  /**
+   * 애플리케이션 시작 시 DB 의 전체 책으로 색인을 만듭니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void build() {
+    List<BookTitleAuthor> books = bookRepository.findAllTitleAuthor();
+    for (BookTitleAuthor book : books) {
+      add(book.getId(), book.getTitle(), book.getAuthor(), book.getView());
+    }
+    refreshKeywords();
+    log.info("자동완성 색인을 만들었습니다. 책 {}권, 항목 {}개", books.size(), entries.size());
+  }
+
+  /**
+   * 새로 저장된 책을 색인에 추가합니다. 저장 트랜잭션이 커밋된 뒤에 반영합니다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookSaved(BookSavedEvent event) {
+    add(event.getBookId(), event.getTitle(), event.getAuthor(), 0);
+  }
+
+  /**
+   * 인기 검색어 목록을 다시 받아옵니다.
+   */
+  @Scheduled(fixedDelayString = "${book.autocomplete.keyword-refresh-ms:60000}",
+      initialDelayString = "${book.autocomplete.keyword-refresh-ms:60000}")
+  public void refreshKeywords() {
+    try {
+      List<Entry> keywords = new ArrayList<>();
+      for (String keyword : keyWordService.getPopularKeywords()) {
+        String normalized = KeywordNormalizer.normalize(keyword);
+        if (normalized != null) {
+          keywords.add(new Entry(keyword, TYPE_KEYWORD, null, Long.MAX_VALUE, normalized,
+              HangulUtils.toChosung(normalized)));
+        }
+      }
+      keywordEntries = List.copyOf(keywords);
+    } catch (DataAccessException e) {
+      log.warn("자동완성용 인기 검색어를 가져오지 못했습니다.", e);
+    }
+  }
+
+  /**
+   * 입력으로 시작하는 책 제목, 작가, 인기 검색어를 최대 size 개까지 반환합니다.
+   * 초성으로만 된 입력("ㅎㄹㅍㅌ")은 초성으로 비교합니다.
+   */
+  public List<AutocompleteSuggestion> suggest(String query, int size) {
+    String normalized = KeywordNormalizer.normalize(query);
+    if (normalized == null || size <= 0) {
+      return List.of();
+    }
+    boolean chosungOnly = HangulUtils.isChosungOnly(normalized);
+    String key = chosungOnly ? HangulUtils.toChosung(normalized) : normalized;
+
+    // 표시 문자열 기준으로 중복 제거하며 순서 유지
+    Map<String, AutocompleteSuggestion> result = new LinkedHashMap<>();
+    for (Entry keyword : keywordEntries) {
+      String target = chosungOnly ? keyword.chosungKey : keyword.textKey;
+      if (result.size() < size && target.startsWith(key)) {
+        result.putIfAbsent(TYPE_KEYWORD + keyword.text, keyword.toSuggestion());
+      }
+    }
+
+    lock.readLock().lock();
+    try {
+      Node node = find(chosungOnly ? chosungRoot : textRoot, key);
+      if (node != null) {
+        for (int i = 0; i < node.topSize && result.size() < size; i++) {
+          Entry entry = node.top[i];
+          result.putIfAbsent(entry.type + entry.text, entry.toSuggestion());
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return new ArrayList<>(result.values());
+  }
+
+  /**
+   * 책 한 권의 제목과 작가를 색인에 추가합니다.
+   * 작가는 네이버 응답 형식("작가1^작가2")에 맞춰 나눠서 넣습니다.
+   */
+  public void add(String bookId, String title, String author, long weight) {
+    lock.writeLock().lock();
+    try {
+      if (title != null) {
+        addEntry(title, TYPE_TITLE, bookId, weight);
+      }
+      if (author != null) {
+        for (String name : author.split("[\\^,]")) {
+          if (!name.isBlank()) {
+            addEntry(name.strip(), TYPE_AUTHOR, null, weight);
+          }
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void addEntry(String text, String type, String bookId, long weight) {
+    String normalized = KeywordNormalizer.normalize(text);
+    if (normalized == null || entries.containsKey(type + text)) {
+      return;
+    }
+    Entry entry = new Entry(text, type, bookId, weight, normalized, HangulUtils.toChosung(normalized));
+    entries.put(type + text, entry);
+
+    // 제목 중간 단어로 시작하는 입력("포터")도 찾을 수 있도록 단어 시작 위치마다 색인한다.
+    for (int start = 0; start < normalized.length(); start++) {
+      if (start == 0 || normalized.charAt(start - 1) == ' ') {
+        String suffix = normalized.substring(start);
+        insert(textRoot, suffix, entry);
+        insert(chosungRoot, HangulUtils.toChosung(suffix), entry);
+      }
+    }
+  }
+
+  private void insert(Node root, String key, Entry entry) {
+    Node node = root;
+    int length = Math.min(key.length(), MAX_KEY_LENGTH);
+    for (int i = 0; i < length; i++) {
+      node = node.childOrCreate(key.charAt(i));
+      node.offer(entry);
+    }
+  }
+
+  private Node find(Node root, String key) {
+    Node node = root;
+    int length = Math.min(key.length(), MAX_KEY_LENGTH);
+    for (int i = 0; i < length && node != null; i++) {
+      node = node.child(key.charAt(i));
+    }
+    return node;
+  }
+
+  /**
+   * trie 노드. 자식은 정렬된 배열로 두어 HashMap 보다 메모리를 적게 쓴다.
+   */
+  private static class Node {
+
+    private char[] keys = new char[0];
+    private Node[] children = new Node[0];
+    // 이 노드를 prefix 로 갖는 항목 중 가중치가 높은 순서대로 최대 SUGGESTIONS_PER_NODE 개
+    private Entry[] top = new Entry[0];
+    private int topSize;
+
+    private Node child(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      return index >= 0 ? children[index] : null;
+    }
+
+    private Node childOrCreate(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      if (index >= 0) {
+        return children[index];
+      }
+      int insertAt = -index - 1;
+      char[] newKeys = new char[keys.length + 1];
+      Node[] newChildren = new Node[children.length + 1];
+      System.arraycopy(keys, 0, newKeys, 0, insertAt);
+      System.arraycopy(children, 0, newChildren, 0, insertAt);
+      newKeys[insertAt] = c;
+      newChildren[insertAt] = new Node();
+      System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+      System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+      keys = newKeys;
+      children = newChildren;
+      return newChildren[insertAt];
+    }
+
+    private void offer(Entry entry) {
+      for (int i = 0; i < topSize; i++) {
+        if (top[i] == entry) {
+          return;
+        }
+      }
+      if (topSize == SUGGESTIONS_PER_NODE && top[topSize - 1].weight >= entry.weight) {
+        return;
+      }
+      if (topSize < SUGGESTIONS_PER_NODE) {
+        if (top.length == topSize) {
+          top = Arrays.copyOf(top, Math.min(SUGGESTIONS_PER_NODE, Math.max(1, topSize * 2)));
+        }
+        topSize++;
+      }
+      // 가중치 내림차순 위치에 삽입 (가득 찬 경우 마지막 항목이 밀려난다)
+      int i = topSize - 1;
+      while (i > 0 && top[i - 1].weight < entry.weight) {
+        top[i] = top[i - 1];
+        i--;
+      }
+      top[i] = entry;
+    }
+  }
+
+  private static class Entry {
+
+    private final String text;
+    private final String type;
+    private final String bookId;
+    private final long weight;
+    private final String textKey;
+    private final String chosungKey;
+
+    private Entry(String text, String type, String bookId, long weight, String textKey, String chosungKey) {
+      this.text = text;
+      this.type = type;
+      this.bookId = bookId;
+      this.weight = weight;
+      this.textKey = textKey;
+      this.chosungKey = chosungKey;
+    }
+
+    private AutocompleteSuggestion toSuggestion() {
+      return AutocompleteSuggestion.builder().text(text).type(type).bookId(bookId).build();
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.team1.epilogue.book.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team1.epilogue.book.dto.BookDetailAggregate;
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import com.team1.epilogue.book.util.AuthorNames;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 책 상세 페이지의 공통 정보(BookDetailAggregate)를 ISBN 별로 들고 있는 로컬 캐시입니다.
+ * - 제목으로 조회한 경우를 위해 제목 -> ISBN 매핑도 함께 캐시합니다.
+ * - 별점이 바뀌면 evict() 로, 새 책이 저장되면 같은 작가의 정보를 지우고, pub/sub 으로 다른 서버의 캐시도 지웁니다.
+ */
+@Slf4j
+@Component
+public class BookDetailCache implements MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "book:detail:invalidate";
+  // 무효화 메시지 본문: ISBN 또는 "author:{작가}"
+  private static final String AUTHOR_PREFIX = "author:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final Cache<String, BookDetailAggregate> details;
+  private final Cache<String, String> isbnByTitle;
+  // 무효화할 때마다 증가. 캐시 밖에서 로딩한 결과를 넣기 전에 그 사이 무효화가 있었는지 확인하는 데 쓴다.
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public BookDetailCache(StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${book.detail-cache.ttl:PT10M}") Duration ttl,
+      @Value("${book.detail-cache.max-size:10000}") long maxSize) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.details = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .build();
+    this.isbnByTitle = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  /**
+   * 검색 조건에 해당하는 책의 공통 정보를 캐시에서 찾고, 없으면 loader 로 만들어 캐시합니다.
+   *
+   * @param query  책 제목 or ISBN
+   * @param type   검색 타입 (d_isbn / 그 외는 제목)
+   * @param loader 캐시에 없을 때 공통 정보를 만드는 함수
+   */
+  public BookDetailAggregate get(String query, String type, Supplier<BookDetailAggregate> loader) {
+    boolean byIsbn = "d_isbn".equals(type);
+    String isbn = byIsbn ? query : isbnByTitle.getIfPresent(query);
+    if (isbn != null) {
+      // 캐시 안에서 만들어야 로딩 중에 들어온 무효화가 로딩이 끝나기를 기다렸다가 지운다.
+      return details.get(isbn, key -> loader.get());
+    }
+
+    // 처음 보는 제목은 ISBN 을 미리 알 수 없으므로, 로딩 중에 무효화가 있었다면 결과를 캐시하지 않는다.
+    long generation = invalidations.get();
+    BookDetailAggregate loaded = loader.get();
+    isbnByTitle.put(query, loaded.getIsbn());
+    details.asMap().compute(loaded.getIsbn(),
+        (key, cached) -> invalidations.get() == generation ? loaded : cached);
+    return loaded;
+  }
+
+  /**
+   * 책의 공통 정보가 바뀌었을 때 캐시를 무효화합니다.
+   * 트랜잭션 안에서 호출되면 커밋 이후에 무효화하여 커밋 전 값이 다시 캐시되는 것을 막습니다.
+   *
+   * @param isbn 변경된 책의 ISBN
+   */
+  public void evict(String isbn) {
+    if (isbn == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictNow(isbn);
+        }
+      });
+    } else {
+      evictNow(isbn);
+    }
+  }
+
+  /**
+   * 새 책이 저장되면 같은 작가의 다른 책 목록이 바뀌므로, 같은 작가(공저자 포함)의 공통 정보를 지웁니다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookSaved(BookSavedEvent event) {
+    if (event.getAuthor() == null) {
+      return;
+    }
+    evictAuthor(event.getAuthor());
+    publish(AUTHOR_PREFIX + event.getAuthor());
+  }
+
+  /**
+   * 다른 서버에서 발행한 무효화 메시지를 받아 로컬 캐시에서 제거합니다.
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (body.startsWith(AUTHOR_PREFIX)) {
+      evictAuthor(body.substring(AUTHOR_PREFIX.length()));
+    } else {
+      invalidations.incrementAndGet();
+      details.invalidate(body);
+    }
+  }
+
+  private void evictNow(String isbn) {
+    invalidations.incrementAndGet();
+    details.invalidate(isbn);
+    publish(isbn);
+  }
+
+  private void evictAuthor(String author) {
+    invalidations.incrementAndGet();
+    details.asMap().values().removeIf(detail -> AuthorNames.overlaps(author, detail.getAuthor()));
+  }
+
+  private void publish(String body) {
+    try {
+      redisTemplate.convertAndSend(INVALIDATION_CHANNEL, body);
+    } catch (DataAccessException e) {
+      log.warn("책 상세 캐시 무효화 메시지를 발행하지 못했습니다. message={}", body, e);
+    }
+  }
+}
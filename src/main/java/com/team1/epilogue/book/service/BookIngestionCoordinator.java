@@ -0,0 +1,148 @@
+package com.team1.epilogue.book.service;
+
+import com.team1.epilogue.book.entity.Book;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 에 없는 책을 네이버에서 가져와 저장하는 작업을 같은 책(검색 조건)마다 한 번만 실행되도록 조율합니다.
+ * - 같은 서버 안의 동시 요청은 먼저 들어온 요청의 결과(future)를 함께 기다립니다.
+ * - 여러 서버 사이에서는 Redis 락(SET NX)을 잡은 서버만 네이버를 호출하고,
+ *   락을 얻지 못한 서버는 DB 에 책이 저장될 때까지 잠시 기다린 뒤 저장된 책을 사용합니다.
+ */
+@Slf4j
+@Component
+public class BookIngestionCoordinator {
+
+  private static final String LOCK_PREFIX = "book:ingest:lock:";
+  private static final long POLL_INTERVAL_MILLIS = 100;
+  // 락을 잡은 경우에만 지운다. (락이 만료된 뒤 다른 서버가 잡은 락을 지우지 않도록)
+  private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+      Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration lockTtl;
+  private final Duration waitTimeout;
+
+  private final Map<String, CompletableFuture<Book>> inFlight = new ConcurrentHashMap<>();
+
+  public BookIngestionCoordinator(StringRedisTemplate redisTemplate,
+      @Value("${book.ingest.lock-ttl:PT10S}") Duration lockTtl,
+      @Value("${book.ingest.wait-timeout:PT3S}") Duration waitTimeout) {
+    this.redisTemplate = redisTemplate;
+    this.lockTtl = lockTtl;
+    this.waitTimeout = waitTimeout;
+  }
+
+  /**
+   * key 에 해당하는 책을 한 번만 가져와 저장합니다.
+   *
+   * @param key    책을 구분하는 키 (예: "d_isbn:978..." / "title:데미안")
+   * @param lookup DB 에 이미 저장된 책을 찾는 함수 (다른 서버가 저장했는지 확인할 때 사용)
+   * @param loader 네이버에서 책을 가져와 저장하는 함수
+   * @return 저장된 책
+   */
+  public Book ingest(String key, Supplier<Optional<Book>> lookup, Supplier<Book> loader) {
+    CompletableFuture<Book> future = new CompletableFuture<>();
+    CompletableFuture<Book> running = inFlight.putIfAbsent(key, future);
+    if (running != null) {
+      return await(running);
+    }
+
+    try {
+      Book book = ingestOnce(key, lookup, loader);
+      future.complete(book);
+      return book;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  private Book ingestOnce(String key, Supplier<Optional<Book>> lookup, Supplier<Book> loader) {
+    String lockKey = LOCK_PREFIX + key;
+    String token = UUID.randomUUID().toString();
+    boolean locked = tryLock(lockKey, token);
+
+    if (!locked) {
+      // 다른 서버가 같은 책을 가져오는 중이다. 저장될 때까지 기다리고, 시간 안에 저장되지 않으면 직접 가져온다.
+      Optional<Book> saved = waitForOtherInstance(lookup);
+      if (saved.isPresent()) {
+        return saved.get();
+      }
+      log.debug("다른 서버의 책 저장을 기다리지 못해 직접 가져옵니다. key={}", key);
+    }
+
+    try {
+      // 락을 얻기 전에 다른 서버가 이미 저장을 끝냈을 수 있다.
+      return lookup.get().orElseGet(loader);
+    } finally {
+      if (locked) {
+        unlock(lockKey, token);
+      }
+    }
+  }
+
+  private boolean tryLock(String lockKey, String token) {
+    try {
+      return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl));
+    } catch (DataAccessException e) {
+      // Redis 장애 시에도 책 조회는 되어야 하므로 서버 안에서의 중복 제거만 적용한다.
+      log.warn("책 저장 락을 잡지 못했습니다. key={}", lockKey, e);
+      return true;
+    }
+  }
+
+  private void unlock(String lockKey, String token) {
+    try {
+      redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+    } catch (DataAccessException e) {
+      log.warn("책 저장 락을 해제하지 못했습니다. 만료 시간 후 해제됩니다. key={}", lockKey, e);
+    }
+  }
+
+  private Optional<Book> waitForOtherInstance(Supplier<Optional<Book>> lookup) {
+    long deadline = System.nanoTime() + waitTimeout.toNanos();
+    while (System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(POLL_INTERVAL_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      Optional<Book> saved = lookup.get();
+      if (saved.isPresent()) {
+        return saved;
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Book await(CompletableFuture<Book> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package com.team1.epilogue.book.service;
+
+import com.team1.epilogue.book.client.NaverApiClient;
+import com.team1.epilogue.book.dto.BookDetailResponse;
+import com.team1.epilogue.book.dto.BookFacetChangedEvent;
+import com.team1.epilogue.book.dto.BookFacetRow;
+import com.team1.epilogue.book.dto.BookInfoRequest;
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import com.team1.epilogue.book.dto.NaverBookResponseDto;
+import com.team1.epilogue.book.dto.NaverBookSearchResponse;
+import com.team1.epilogue.book.entity.Book;
+import com.team1.epilogue.book.repository.BookBatchRepository;
+import com.team1.epilogue.book.repository.BookRepository;
+import com.team1.epilogue.keyword.service.KeyWordService;
+import com.team1.epilogue.trendingbook.dto.TrendingBookDto;
+import com.team1.epilogue.trendingbook.service.TrendingBookService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 사용자가 상세 페이지를 열기 전에 찾을 만한 책을 네이버에서 미리 가져와 저장하는 배치 작업입니다.
+ * - 인기 검색어와 인기 책의 작가를 검색어(seed)로 네이버 책 검색을 호출하고, 없는 책만 batch INSERT 로 저장합니다.
+ * - 네이버 호출 사이에 book.prefetch.request-interval 만큼 간격을 두어 API 호출 한도를 넘지 않도록 합니다.
+ * - seed 목록과 진행 위치를 Redis 에 저장해 두어, 중간에 멈추면(재시작, 네이버 오류) 다음 실행이 이어서 진행합니다.
+ * - 여러 서버 중 Redis 락을 잡은 한 서버만 실행합니다.
+ * - 스케줄러 스레드는 실행을 전용 스레드(bookPrefetchExecutor)에 넘기고 바로 돌아갑니다. (다른 @Scheduled 작업이 밀리지 않도록)
+ */
+@Slf4j
+@Component
+public class BookPrefetchJob {
+
+  static final String CHECKPOINT_KEY = "book:prefetch:checkpoint";
+  private static final String LOCK_KEY = "book:prefetch:lock";
+  private static final String SEEDS_FIELD = "seeds";
+  private static final String SEED_FIELD = "seed";
+  private static final String PAGE_FIELD = "page";
+  private static final int DISPLAY = 100; // 네이버 책 검색 한 번에 가져올 수 있는 최대 개수
+  private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+      Long.class);
+
+  private final NaverApiClient naverApiClient;
+  private final KeyWordService keyWordService;
+  private final TrendingBookService trendingBookService;
+  private final BookRepository bookRepository;
+  private final BookBatchRepository bookBatchRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Executor prefetchExecutor;
+  private final String naverUrl;
+  private final int pagesPerSeed;
+  private final Duration requestInterval;
+  private final Duration lockTtl;
+
+  private long nextRequestAt;
+
+  public BookPrefetchJob(NaverApiClient naverApiClient, KeyWordService keyWordService,
+      TrendingBookService trendingBookService, BookRepository bookRepository,
+      BookBatchRepository bookBatchRepository, StringRedisTemplate redisTemplate,
+      ApplicationEventPublisher eventPublisher,
+      @Qualifier("bookPrefetchExecutor") Executor prefetchExecutor,
+      @Value("${naver.base.url}") String naverUrl,
+      @Value("${book.prefetch.pages-per-seed:3}") int pagesPerSeed,
+      @Value("${book.prefetch.request-interval:PT0.2S}") Duration requestInterval,
+      @Value("${book.prefetch.lock-ttl:PT1H}") Duration lockTtl) {
+    this.naverApiClient = naverApiClient;
+    this.keyWordService = keyWordService;
+    this.trendingBookService = trendingBookService;
+    this.bookRepository = bookRepository;
+    this.bookBatchRepository = bookBatchRepository;
+    this.redisTemplate = redisTemplate;
+    this.eventPublisher = eventPublisher;
+    this.prefetchExecutor = prefetchExecutor;
+    this.naverUrl = naverUrl;
+    this.pagesPerSeed = pagesPerSeed;
+    this.requestInterval = requestInterval;
+    this.lockTtl = lockTtl;
+  }
+
+  /**
+   * 하루 한 번 새 seed 목록으로 미리 가져오기를 시작합니다. (이전 실행이 끝나지 않았으면 이어서 진행)
+   */
+  @Scheduled(cron = "${book.prefetch.cron:0 30 4 * * *}")
+  public void run() {
+    submit(true);
+  }
+
+  /**
+   * 중간에 멈춘 실행이 있으면 이어서 진행합니다.
+   */
+  @Scheduled(fixedDelayString = "${book.prefetch.resume-check-ms:600000}",
+      initialDelayString = "${book.prefetch.resume-check-ms:600000}")
+  public void resume() {
+    submit(false);
+  }
+
+  private void submit(boolean startNew) {
+    try {
+      prefetchExecutor.execute(() -> runLocked(startNew));
+    } catch (RejectedExecutionException e) {
+      log.debug("책 미리 가져오기가 이미 실행 중이라 이번 요청은 건너뜁니다.");
+    }
+  }
+
+  private void runLocked(boolean startNew) {
+    String token = UUID.randomUUID().toString();
+    try {
+      if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTtl))) {
+        return; // 다른 서버가 실행 중
+      }
+    } catch (DataAccessException e) {
+      // 진행 위치도 Redis 에 저장하므로 Redis 가 없으면 실행하지 않는다.
+      log.warn("책 미리 가져오기 락을 잡지 못해 이번 실행을 건너뜁니다.", e);
+      return;
+    }
+
+    try {
+      prefetch(startNew);
+    } finally {
+      unlock(token);
+    }
+  }
+
+  private void unlock(String token) {
+    try {
+      redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+    } catch (DataAccessException e) {
+      log.warn("책 미리 가져오기 락을 해제하지 못했습니다. 만료 시간 후 해제됩니다.", e);
+    }
+  }
+
+  void prefetch(boolean startNew) {
+    Map<Object, Object> checkpoint = redisTemplate.opsForHash().entries(CHECKPOINT_KEY);
+    if (checkpoint.isEmpty() && !startNew) {
+      return;
+    }
+
+    List<String> seeds;
+    int seedIndex = 0;
+    int page = 0;
+    if (checkpoint.isEmpty()) {
+      seeds = collectSeeds();
+      if (seeds.isEmpty()) {
+        return;
+      }
+      Map<String, String> initial = new LinkedHashMap<>();
+      initial.put(SEEDS_FIELD, String.join("\n", seeds));
+      initial.put(SEED_FIELD, "0");
+      initial.put(PAGE_FIELD, "0");
+      redisTemplate.opsForHash().putAll(CHECKPOINT_KEY, initial);
+    } else {
+      seeds = List.of(checkpoint.get(SEEDS_FIELD).toString().split("\n"));
+      seedIndex = Integer.parseInt(checkpoint.get(SEED_FIELD).toString());
+      page = Integer.parseInt(checkpoint.get(PAGE_FIELD).toString());
+      log.info("책 미리 가져오기를 이어서 진행합니다. seed {}/{}, page {}", seedIndex, seeds.size(), page);
+    }
+
+    int saved = 0;
+    for (; seedIndex < seeds.size(); seedIndex++, page = 0) {
+      String seed = seeds.get(seedIndex);
+      for (; page < pagesPerSeed; page++) {
+        NaverBookSearchResponse response;
+        try {
+          throttle();
+          response = naverApiClient.getBookInfoFromNaver(naverUrl, BookInfoRequest.builder()
+              .query(seed).sort("sim").display(DISPLAY).start(page * DISPLAY + 1).build());
+        } catch (RestClientException e) {
+          // 진행 위치는 저장되어 있으므로 다음 실행에서 이 페이지부터 다시 시도한다.
+          log.warn("책 미리 가져오기를 중단합니다. seed={}, page={}", seed, page, e);
+          return;
+        }
+        List<NaverBookResponseDto> items = response == null || response.getItems() == null
+            ? List.of() : response.getItems();
+        saved += save(items);
+        if (items.size() < DISPLAY) {
+          break; // 마지막 페이지
+        }
+        saveCheckpoint(seedIndex, page + 1);
+      }
+      saveCheckpoint(seedIndex + 1, 0);
+    }
+    redisTemplate.delete(CHECKPOINT_KEY);
+    log.info("책 미리 가져오기를 마쳤습니다. seed {}개, 새로 저장한 책 {}권", seeds.size(), saved);
+  }
+
+  /**
+   * 인기 검색어와 인기 책 작가를 중복 없이 모읍니다.
+   */
+  private List<String> collectSeeds() {
+    Set<String> seeds = new LinkedHashSet<>(keyWordService.getPopularKeywords());
+    for (TrendingBookDto book : trendingBookService.getTrendingBookList()) {
+      if (book.getAuthor() != null && !book.getAuthor().isBlank()) {
+        seeds.add(book.getAuthor().split("\\^")[0].trim()); // 공저는 첫 번째 작가로 검색
+      }
+    }
+    seeds.removeIf(seed -> seed.isBlank() || seed.contains("\n"));
+    return new ArrayList<>(seeds);
+  }
+
+  /**
+   * 아직 없는 책만 batch INSERT 로 저장하고, 저장된 책을 색인/캐시에 알립니다.
+   */
+  private int save(List<NaverBookResponseDto> items) {
+    Map<String, Book> books = new LinkedHashMap<>();
+    for (NaverBookResponseDto item : items) {
+      if (item.getIsbn() == null || item.getIsbn().isBlank()) {
+        continue;
+      }
+      books.putIfAbsent(item.getIsbn(), BookService.toBook(BookDetailResponse.builder()
+          .isbn(item.getIsbn())
+          .title(item.getTitle())
+          .author(item.getAuthor())
+          .price(item.getPrice())
+          .publisher(item.getPublisher())
+          .description(item.getDescription())
+          .pubDate(Objects.toString(item.getPubDate(), null))
+          .image(item.getImage())
+          .build()));
+    }
+    if (books.isEmpty()) {
+      return 0;
+    }
+
+    Set<String> existing = new HashSet<>(bookRepository.findExistingIds(books.keySet()));
+    List<Book> newBooks = books.values().stream()
+        .filter(book -> !existing.contains(book.getId()))
+        .toList();
+    List<Book> inserted = bookBatchRepository.insertIgnore(newBooks);
+    for (Book book : inserted) {
+      eventPublisher.publishEvent(new BookSavedEvent(book.getId(), book.getTitle(), book.getAuthor()));
+      eventPublisher.publishEvent(new BookFacetChangedEvent(BookFacetRow.from(book)));
+    }
+    return inserted.size();
+  }
+
+  private void saveCheckpoint(int seedIndex, int page) {
+    Map<String, String> position = new LinkedHashMap<>();
+    position.put(SEED_FIELD, String.valueOf(seedIndex));
+    position.put(PAGE_FIELD, String.valueOf(page));
+    redisTemplate.opsForHash().putAll(CHECKPOINT_KEY, position);
+  }
+
+  // 네이버 호출 사이에 최소 requestInterval 만큼 간격을 둔다.
+  private void throttle() {
+    long waitMillis = nextRequestAt - System.currentTimeMillis();
+    if (waitMillis > 0) {
+      try {
+        Thread.sleep(waitMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RestClientException("책 미리 가져오기가 중단되었습니다.", e);
+      }
+    }
+    nextRequestAt = System.currentTimeMillis() + requestInterval.toMillis();
+  }
+}
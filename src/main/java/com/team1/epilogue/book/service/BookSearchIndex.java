@@ -0,0 +1,410 @@
+package com.team1.epilogue.book.service;
+
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import com.team1.epilogue.book.dto.BookSearchHit;
+import com.team1.epilogue.book.entity.Book;
+import com.team1.epilogue.book.repository.BookRepository;
+import com.team1.epilogue.book.util.BookTokenizer;
+import com.team1.epilogue.book.util.HangulUtils;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * DB 에 저장된 책을 대상으로 하는 전문 검색용 메모리 역색인입니다. 책 검색(/api/books)이 네이버보다 먼저 조회합니다.
+ * - 제목, 작가, 출판사, 설명을 글자 bigram 으로 나눠 색인하고, 제목은 초성 bigram 도 색인해 초성 검색("ㄷㅁㅇ")을 지원합니다.
+ * - 검색어의 모든 토큰을 가진 책만 찾고, 필드별 가중치를 준 BM25 점수로 관련도를 매깁니다.
+ * - 애플리케이션 시작 시 전체 책으로 만들고, 새로 저장되는 책은 BookSavedEvent 와 pub/sub 으로 모든 서버에 추가합니다.
+ *   색인을 만드는 동안 추가된 책은 모아 두었다가 새 색인에도 넣습니다.
+ */
+@Slf4j
+@Component
+public class BookSearchIndex implements MessageListener {
+
+  public static final String BOOK_SAVED_CHANNEL = "book:search-index:saved";
+
+  private static final int BUILD_PAGE_SIZE = 1000;
+  // 같은 토큰이라도 제목에 있으면 설명에 있는 것보다 관련도가 높다.
+  private static final float TITLE_WEIGHT = 3f;
+  private static final float AUTHOR_WEIGHT = 2f;
+  private static final float PUBLISHER_WEIGHT = 1f;
+  private static final float DESCRIPTION_WEIGHT = 1f;
+  // BM25 파라미터
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final int NO_PUB_DATE = Integer.MIN_VALUE;
+
+  private final BookRepository bookRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Object buildLock = new Object();
+  private Segment segment = new Segment();
+  // 색인을 만드는 중에 추가된 책 (DB 를 읽은 뒤 교체하기 전에 추가된 책이 빠지지 않도록 새 색인에도 넣는다)
+  private List<Book> addedDuringBuild;
+
+  public BookSearchIndex(BookRepository bookRepository, StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer) {
+    this.bookRepository = bookRepository;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(BOOK_SAVED_CHANNEL));
+  }
+
+  /**
+   * 애플리케이션 시작 시 DB 의 전체 책으로 색인을 만듭니다. (설명 컬럼이 크므로 나눠서 읽는다)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void build() {
+    synchronized (buildLock) {
+      setAddedDuringBuild(new ArrayList<>());
+      Segment built = new Segment();
+      try {
+        Page<Book> page;
+        int pageNumber = 0;
+        do {
+          // 정렬 없이 나눠 읽으면 페이지 사이에서 책이 빠지거나 겹칠 수 있다.
+          page = bookRepository.findAll(PageRequest.of(pageNumber++, BUILD_PAGE_SIZE, Sort.by("id")));
+          page.forEach(built::add);
+        } while (page.hasNext());
+      } catch (RuntimeException e) {
+        setAddedDuringBuild(null);
+        throw e;
+      }
+
+      lock.writeLock().lock();
+      try {
+        // 이미 읽은 책은 Segment.add() 가 무시한다.
+        addedDuringBuild.forEach(built::add);
+        addedDuringBuild = null;
+        segment = built;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      log.info("책 검색 색인을 만들었습니다. 책 {}권, 토큰 {}개", built.docs.size(), built.postings.size());
+    }
+  }
+
+  /**
+   * 이 서버에서 새로 저장된 책을 색인에 추가하고, 다른 서버에도 알립니다. (커밋 이후)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookSaved(BookSavedEvent event) {
+    addById(event.getBookId());
+    try {
+      redisTemplate.convertAndSend(BOOK_SAVED_CHANNEL, event.getBookId());
+    } catch (DataAccessException e) {
+      log.warn("책 검색 색인 갱신 메시지를 발행하지 못했습니다. bookId={}", event.getBookId(), e);
+    }
+  }
+
+  /**
+   * 다른 서버에서 저장된 책을 색인에 추가합니다.
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    addById(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 검색어에 맞는 책을 정렬 기준에 맞춰 모두 반환합니다.
+   *
+   * @param query 검색어 (초성으로만 된 검색어는 제목의 초성과 비교)
+   * @param sort  sim(관련도순, 기본) / date(출간일순)
+   */
+  public List<BookSearchHit> search(String query, String sort) {
+    Set<String> tokens = new LinkedHashSet<>(BookTokenizer.bigrams(query));
+    if (tokens.isEmpty()) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      return segment.search(tokens, "date".equals(sort));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 네이버를 호출하지 않고 색인만으로 답해도 되는 검색 결과를 반환합니다. 없으면 빈 목록을 반환합니다.
+   * - ISBN 이 검색어와 같은 책
+   * - 초성으로만 된 검색어에 맞는 책 (네이버는 초성 검색을 지원하지 않는다)
+   * 제목이 같은 책이 저장되어 있어도 다른 판본이나 검색어가 들어간 다른 책이 DB 에 없을 수 있으므로 포함하지 않습니다. (searchTitle 참고)
+   *
+   * @param query 검색어
+   * @param sort  sim(관련도순, 기본) / date(출간일순)
+   */
+  public List<BookSearchHit> searchStrong(String query, String sort) {
+    if (query == null || query.isBlank()) {
+      return List.of();
+    }
+    lock.readLock().lock();
+    try {
+      if (segment.docIdByIsbn.containsKey(query.trim())) {
+        // ISBN 으로 찾은 책은 한 권뿐이므로 관련도 점수는 쓰지 않는다.
+        return List.of(new BookSearchHit(query.trim(), 0));
+      }
+      if (!HangulUtils.isChosungOnly(query)) {
+        return List.of();
+      }
+      Set<String> tokens = new LinkedHashSet<>(BookTokenizer.bigrams(query));
+      return tokens.isEmpty() ? List.of() : segment.search(tokens, "date".equals(sort));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 띄어쓰기와 문장부호를 빼면 제목이 검색어와 같은 책을 반환합니다. (네이버 검색 결과의 앞에 둘 책)
+   *
+   * @param query 검색어
+   * @param sort  sim(관련도순, 기본) / date(출간일순)
+   */
+  public List<BookSearchHit> searchTitle(String query, String sort) {
+    if (query == null || query.isBlank() || HangulUtils.isChosungOnly(query)) {
+      return List.of();
+    }
+    Set<String> tokens = new LinkedHashSet<>(BookTokenizer.bigrams(query));
+    if (tokens.isEmpty()) {
+      return List.of();
+    }
+    lock.readLock().lock();
+    try {
+      return segment.searchTitle(BookTokenizer.compact(query), tokens, "date".equals(sort));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 책 한 권을 색인에 추가합니다. 이미 색인된 책은 무시합니다.
+   */
+  public void add(Book book) {
+    lock.writeLock().lock();
+    try {
+      segment.add(book);
+      if (addedDuringBuild != null) {
+        addedDuringBuild.add(book);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void setAddedDuringBuild(List<Book> books) {
+    lock.writeLock().lock();
+    try {
+      addedDuringBuild = books;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void addById(String bookId) {
+    if (bookId == null) {
+      return;
+    }
+    bookRepository.findById(bookId).ifPresent(this::add);
+  }
+
+  /**
+   * 색인 내용. 책 번호(docId)는 추가된 순서대로 붙이므로 posting 목록은 항상 docId 오름차순이다.
+   */
+  private static class Segment {
+
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<String, Integer> docIdByIsbn = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    // 띄어쓰기와 문장부호를 뺀 제목 -> docId (제목이 검색어와 같은 책 찾기)
+    private final Map<String, List<Integer>> docIdsByTitle = new HashMap<>();
+    private double totalLength;
+
+    private void add(Book book) {
+      if (book.getId() == null || docIdByIsbn.containsKey(book.getId())) {
+        return;
+      }
+      Map<String, Float> termFrequencies = new HashMap<>();
+      float length = 0;
+      length += count(BookTokenizer.bigrams(book.getTitle()), TITLE_WEIGHT, termFrequencies);
+      count(BookTokenizer.chosungBigrams(book.getTitle()), TITLE_WEIGHT, termFrequencies);
+      length += count(BookTokenizer.bigrams(book.getAuthor()), AUTHOR_WEIGHT, termFrequencies);
+      length += count(BookTokenizer.bigrams(book.getPublisher()), PUBLISHER_WEIGHT, termFrequencies);
+      length += count(BookTokenizer.bigrams(book.getDescription()), DESCRIPTION_WEIGHT, termFrequencies);
+
+      int docId = docs.size();
+      docs.add(new Doc(book.getId(),
+          book.getPubDate() == null ? NO_PUB_DATE : (int) book.getPubDate().toEpochDay(), length));
+      docIdByIsbn.put(book.getId(), docId);
+      docIdsByTitle.computeIfAbsent(BookTokenizer.compact(book.getTitle()), k -> new ArrayList<>(1)).add(docId);
+      totalLength += length;
+      termFrequencies.forEach((token, tf) -> postings.computeIfAbsent(token, k -> new Postings()).add(docId, tf));
+    }
+
+    private static float count(List<String> tokens, float weight, Map<String, Float> termFrequencies) {
+      for (String token : tokens) {
+        termFrequencies.merge(token, weight, Float::sum);
+      }
+      return tokens.size() * weight;
+    }
+
+    private List<BookSearchHit> search(Set<String> tokens, boolean byDate) {
+      List<Postings> lists = new ArrayList<>(tokens.size());
+      for (String token : tokens) {
+        Postings list = postings.get(token);
+        if (list == null) {
+          return List.of(); // 모든 토큰을 가진 책만 찾으므로 없는 토큰이 있으면 결과가 없다.
+        }
+        lists.add(list);
+      }
+      // 가장 짧은 목록을 기준으로 나머지 목록에 있는지 확인한다.
+      lists.sort(Comparator.comparingInt(list -> list.size));
+
+      double avgLength = avgLength();
+      double[] idf = new double[lists.size()];
+      for (int i = 0; i < lists.size(); i++) {
+        idf[i] = idf(lists.get(i).size);
+      }
+
+      List<Scored> matched = new ArrayList<>();
+      Postings shortest = lists.get(0);
+      for (int p = 0; p < shortest.size; p++) {
+        int docId = shortest.docIds[p];
+        Doc doc = docs.get(docId);
+        double norm = K1 * (1 - B + B * doc.length / avgLength);
+        double score = 0;
+        boolean all = true;
+        for (int i = 0; i < lists.size() && all; i++) {
+          Postings list = lists.get(i);
+          int index = i == 0 ? p : Arrays.binarySearch(list.docIds, 0, list.size, docId);
+          if (index < 0) {
+            all = false;
+          } else {
+            float tf = list.frequencies[index];
+            score += idf[i] * tf * (K1 + 1) / (tf + norm);
+          }
+        }
+        if (all) {
+          matched.add(new Scored(doc, score));
+        }
+      }
+
+      return sorted(matched, byDate);
+    }
+
+    /**
+     * 제목이 title 과 같은 책을 찾습니다. 띄어쓰기가 달라 검색어의 토큰이 제목에 없을 수 있으므로, 점수는 있는 토큰으로만 매긴다.
+     */
+    private List<BookSearchHit> searchTitle(String title, Set<String> tokens, boolean byDate) {
+      List<Integer> docIds = docIdsByTitle.getOrDefault(title, List.of());
+      if (docIds.isEmpty()) {
+        return List.of();
+      }
+      double avgLength = avgLength();
+      List<Scored> matched = new ArrayList<>(docIds.size());
+      for (int docId : docIds) {
+        Doc doc = docs.get(docId);
+        double norm = K1 * (1 - B + B * doc.length / avgLength);
+        double score = 0;
+        for (String token : tokens) {
+          Postings list = postings.get(token);
+          int index = list == null ? -1 : Arrays.binarySearch(list.docIds, 0, list.size, docId);
+          if (index >= 0) {
+            float tf = list.frequencies[index];
+            score += idf(list.size) * tf * (K1 + 1) / (tf + norm);
+          }
+        }
+        matched.add(new Scored(doc, score));
+      }
+      return sorted(matched, byDate);
+    }
+
+    private double avgLength() {
+      return docs.isEmpty() ? 1 : Math.max(1, totalLength / docs.size());
+    }
+
+    private double idf(int df) {
+      return Math.log(1 + (docs.size() - df + 0.5) / (df + 0.5));
+    }
+
+    private static List<BookSearchHit> sorted(List<Scored> matched, boolean byDate) {
+      Comparator<Scored> byScore = Comparator.comparingDouble((Scored s) -> s.score).reversed();
+      matched.sort(byDate
+          ? Comparator.comparingInt((Scored s) -> s.doc.pubEpochDay).reversed().thenComparing(byScore)
+          : byScore.thenComparing(s -> s.doc.isbn));
+      return matched.stream().map(s -> new BookSearchHit(s.doc.isbn, s.score)).toList();
+    }
+  }
+
+  /**
+   * 토큰 하나의 posting 목록 (docId 오름차순, 가중치를 곱한 출현 횟수)
+   */
+  private static class Postings {
+
+    private int[] docIds = new int[4];
+    private float[] frequencies = new float[4];
+    private int size;
+
+    private void add(int docId, float frequency) {
+      if (size == docIds.length) {
+        docIds = Arrays.copyOf(docIds, size * 2);
+        frequencies = Arrays.copyOf(frequencies, size * 2);
+      }
+      docIds[size] = docId;
+      frequencies[size] = frequency;
+      size++;
+    }
+  }
+
+  private static class Doc {
+
+    private final String isbn;
+    private final int pubEpochDay;
+    private final float length;
+
+    private Doc(String isbn, int pubEpochDay, float length) {
+      this.isbn = isbn;
+      this.pubEpochDay = pubEpochDay;
+      this.length = length;
+    }
+  }
+
+  private static class Scored {
+
+    private final Doc doc;
+    private final double score;
+
+    private Scored(Doc doc, double score) {
+      this.doc = doc;
+      this.score = score;
+    }
+  }
+}
@@ -1,36 +1,53 @@
 package com.team1.epilogue.book.service;
 
-import com.team1.epilogue.auth.security.JwtTokenProvider;
 import com.team1.epilogue.book.client.NaverApiClient;
+import com.team1.epilogue.book.client.NaverBookSearchCache;
+import com.team1.epilogue.book.dto.BookCursor;
+import com.team1.epilogue.book.dto.BookDetailAggregate;
 import com.team1.epilogue.book.dto.BookDetailRequest;
 import com.team1.epilogue.book.dto.BookDetailResponse;
+import com.team1.epilogue.book.dto.BookFacetChangedEvent;
+import com.team1.epilogue.book.dto.BookFacetRow;
 import com.team1.epilogue.book.dto.BookMainPageDetail;
 import com.team1.epilogue.book.dto.BookMainPageDto;
+import com.team1.epilogue.book.dto.BookSavedEvent;
 import com.team1.epilogue.book.dto.BookSearchFilter;
+import com.team1.epilogue.book.dto.BookSearchHit;
 import com.team1.epilogue.book.dto.SameAuthorBookTitleIsbn;
-import com.team1.epilogue.book.dto.xml.BookDetailXMLResponse;
 import com.team1.epilogue.book.dto.BookInfoRequest;
+import com.team1.epilogue.book.dto.NaverBookResponseDto;
 import com.team1.epilogue.book.dto.NaverBookSearchResponse;
 import com.team1.epilogue.book.dto.xml.Item;
 import com.team1.epilogue.book.entity.Book;
 import com.team1.epilogue.book.repository.BookRepository;
 import com.team1.epilogue.book.repository.CustomBookRepository;
+import com.team1.epilogue.book.util.HangulUtils;
 import com.team1.epilogue.collection.repository.CollectionRepository;
 import com.team1.epilogue.keyword.service.KeyWordService;
 import com.team1.epilogue.rating.entity.Rating;
 import com.team1.epilogue.rating.repository.RatingRepository;
+import com.team1.epilogue.review.exception.BookNotFoundException;
 import com.team1.epilogue.trendingbook.service.TrendingBookService;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
@@ -38,123 +55,249 @@ import org.springframework.transaction.annotation.Transactional;
 public class BookService {
 
   private final NaverApiClient naverApiClient;
+  private final NaverBookSearchCache naverBookSearchCache;
   private final BookRepository bookRepository;
   private final KeyWordService keyWordService;
   private final TrendingBookService trendingBookService;
   private final CustomBookRepository customBookRepository;
   private final RatingRepository ratingRepository;
-  private final JwtTokenProvider jwtTokenProvider;
   private final CollectionRepository collectionRepository;
+  private final BookViewCounter bookViewCounter;
+  private final BookIngestionCoordinator bookIngestionCoordinator;
+  private final BookDetailCache bookDetailCache;
+  private final BookAuthorIndex bookAuthorIndex;
+  private final BookSearchIndex bookSearchIndex;
+  @Qualifier("bookDetailExecutor")
+  private final Executor bookDetailExecutor;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private static final int MAIN_PAGE_SIZE = 9; // 메인 페이지 한 번에 보여주는 책 수
 
   @Value("${naver.base.url}")
   String naverUrl;
 
   /**
    * 책 제목으로 검색하는 메서드입니다.
+   * ISBN, 초성 검색은 검색 색인에서 모든 페이지를 답하고, 그 외의 검색은 네이버를 호출합니다.
+   * 네이버 검색 결과에는 제목이 검색어와 같은 저장된 책을 첫 페이지 맨 앞에 두고, 다른 페이지에서는 빼서 두 번 나오지 않게 합니다.
+   * total 은 답한 쪽(색인 / 네이버)의 값이므로 페이지가 바뀌어도 같습니다.
    *
    * @param dto 책 정보를 담은 DTO
-   * @return 네이버에서 온 응답값을 return
+   * @return 검색 색인 또는 네이버에서 온 응답값을 return
    */
   public NaverBookSearchResponse searchBookInfo(BookInfoRequest dto) {
     // 인기 검색어 기능을 위한 검색어 저장
     keyWordService.saveKeyWord(dto.getQuery());
-    NaverBookSearchResponse response = naverApiClient.getBookInfoFromNaver(naverUrl, dto);
-    return response;
+
+    int offset = Math.max(dto.getStart(), 1) - 1; // start 는 1부터 시작
+    int display = Math.max(dto.getDisplay(), 1);
+    // 네이버가 답할 수 없거나(초성) 한 권으로 정해지는(ISBN) 검색만 색인에서 답한다.
+    List<BookSearchHit> hits = bookSearchIndex.searchStrong(dto.getQuery(), dto.getSort());
+    if (!hits.isEmpty()) {
+      return NaverBookSearchResponse.builder()
+          .total(hits.size())
+          .items(toSearchItems(hits.subList(Math.min(offset, hits.size()), Math.min(offset + display, hits.size()))))
+          .build();
+    }
+    // 같은 검색은 캐시된 응답을 사용하고, 동시에 들어온 같은 검색은 네이버를 한 번만 호출한다.
+    NaverBookSearchResponse response = naverBookSearchCache.getBookInfo(naverUrl, dto);
+    List<BookSearchHit> titleHits = bookSearchIndex.searchTitle(dto.getQuery(), dto.getSort());
+    if (response == null || titleHits.isEmpty()) {
+      return response;
+    }
+    return withTitleHits(response, titleHits.subList(0, Math.min(display, titleHits.size())), offset == 0);
+  }
+
+  // 네이버 응답은 캐시된 객체이므로 고치지 않고 새 응답을 만든다.
+  private NaverBookSearchResponse withTitleHits(NaverBookSearchResponse response, List<BookSearchHit> titleHits,
+      boolean firstPage) {
+    Set<String> titleIsbns = titleHits.stream().map(BookSearchHit::getIsbn).collect(Collectors.toSet());
+    List<NaverBookResponseDto> items = new ArrayList<>();
+    if (firstPage) {
+      items.addAll(toSearchItems(titleHits));
+    }
+    if (response.getItems() != null) {
+      response.getItems().stream()
+          .filter(item -> !titleIsbns.contains(item.getIsbn()))
+          .forEach(items::add);
+    }
+    return NaverBookSearchResponse.builder()
+        .total(Math.max(response.getTotal(), titleHits.size()))
+        .items(items)
+        .build();
+  }
+
+  // 검색 색인 결과의 책을 DB 에서 읽어 네이버 응답과 같은 형식으로 만든다.
+  private List<NaverBookResponseDto> toSearchItems(List<BookSearchHit> hits) {
+    if (hits.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Map<String, Book> books = new HashMap<>();
+    bookRepository.findAllById(hits.stream().map(BookSearchHit::getIsbn).toList())
+        .forEach(book -> books.put(book.getId(), book));
+
+    List<NaverBookResponseDto> items = new ArrayList<>();
+    for (BookSearchHit hit : hits) {
+      Book book = books.get(hit.getIsbn());
+      if (book == null) {
+        continue;
+      }
+      items.add(NaverBookResponseDto.builder()
+          .title(book.getTitle())
+          .author(book.getAuthor())
+          .price(book.getPrice() == null ? 0 : book.getPrice())
+          .isbn(book.getId())
+          .description(book.getDescription())
+          .pubDate(book.getPubDate())
+          .image(book.getCoverUrl())
+          .score(hit.getScore())
+          .build());
+    }
+    return items;
   }
 
   /**
    * 책 제목 or ISBN 번호로 상세검색하는 메서드입니다.
+   * 회원과 관계없는 정보(책 정보, 같은 작가의 책, 평균 별점)는 캐시에서 가져오고,
+   * 회원별 정보(컬렉션 여부, 내 별점)는 동시에 조회합니다.
+   * 네이버 호출 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 조회합니다.
    *
+   * @param memberId 로그인한 사용자의 ID (비로그인 시 null)
    * @return 네이버에서 온 응답값을 return
    */
-  @Transactional
-  public BookDetailResponse getBookDetail(String query, String type, String jwt) {
-    Optional<Book> bookOpt; // repository 에서 가져올 Optional 객체
-    Book book; // Optional 내부의 책 데이터
+  public BookDetailResponse getBookDetail(String query, String type, Long memberId) {
     boolean existCollection = false;
     Double myRating = null;
 
-    if ("d_isbn".equals(type)) { // dto 의 Type 에 따라 다른 쿼리문 호출
-      bookOpt = bookRepository.findById(query); // 책 ISBN 으로 DB 조회
-    } else {
-      bookOpt = bookRepository.findByTitle(query); // 책 제목으로 DB 조회
-    }
-
-    // Optional 내부에 Book 데이터가 존재하지 않는다면 Naver API 호출 -> DB 에 저장
-    book = bookOpt.orElseGet(
-        () -> {
-          BookDetailXMLResponse response = naverApiClient.getBookDetail(naverUrl,
-              BookDetailRequest.builder()
-                  .query(query).type(type).build());
-
-          Item item = response.getItems().get(0);
-
-          // DTO 로 반환 형식에 맞춰 return
-          BookDetailResponse build = BookDetailResponse.builder()
-              .title(item.getTitle())
-              .image(item.getImage())
-              .author(item.getAuthor())
-              .price(item.getPrice())
-              .publisher(item.getPublisher())
-              .description(item.getDescription())
-              .pubDate(item.getPubDate())
-              .isbn(item.getIsbn())
-              .avgRating(ratingRepository.findAverageRatingByBookId(item.getIsbn()))
-              .build();
-
-          return insertBookInfo(build);
-        }
-    );
-    List<SameAuthorBookTitleIsbn> dtoList = new ArrayList<>();
-    List<Book> sameAuthorBooks = bookRepository.findAllByAuthor(book.getAuthor());
-    sameAuthorBooks.stream().forEach( // DB 에서 가져온 책들의 정보를 DTO List 로 변환
-        data -> {
-          if (data.getId() != book.getId()) { // 같은 작가의 현재 가져온 책을 제외한 다른 책들을 가져온다.
-            dtoList.add(
-                SameAuthorBookTitleIsbn.builder().title(data.getTitle()).isbn(data.getId())
-                    .build());
-          }
-        }
-    );
+    BookDetailAggregate detail = bookDetailCache.get(query, type, () -> loadBookDetail(query, type));
 
-    // 인기 책 목록 기능을 위해 DB 에 조회기록 저장
-    trendingBookService.insertTrendingBookHistory(book.getId());
+    // 인기 책 목록 기능을 위해 조회기록 집계
+    trendingBookService.recordView(detail.getIsbn());
 
-    bookRepository.increaseView(book.getId());// 조회수 ++
+    bookViewCounter.increase(detail.getIsbn());// 조회수 ++ (주기적으로 모아서 DB 반영)
 
-    Double avgRating = ratingRepository.findAverageRatingByBookId(book.getId());
+    // 현재 유저가 해당 책을 좋아요 했는지, 별점을 남겼는지 동시에 조회
+    if (memberId != null) {
+      CompletableFuture<Boolean> collectionFuture = CompletableFuture.supplyAsync(
+          () -> collectionRepository.existsByMember_IdAndBook_Id(memberId, detail.getIsbn()),
+          bookDetailExecutor);
+      CompletableFuture<Double> ratingFuture = CompletableFuture.supplyAsync(
+          () -> ratingRepository.findByMemberIdAndBookId(memberId, detail.getIsbn())
+              .map(Rating::getScore)
+              .orElse(null),
+          bookDetailExecutor);
 
-    // 현재 유저가 해당 책을 좋아요 했는지 체크하는 부분
-    if (jwt != null && jwt.startsWith("Bearer ")) {
-      String token = jwt.substring(7);
-      String memberIdFromJWT = jwtTokenProvider.getMemberIdFromJWT(token);
-      Long memberId = Long.parseLong(memberIdFromJWT);
-      existCollection = collectionRepository.existsByMember_IdAndBook_Id(
-          memberId,
-          book.getId());
-
-      myRating = ratingRepository.findByMemberIdAndBookId(memberId, book.getId())
-          .map(Rating::getScore)
-          .orElse(null);
+      existCollection = join(collectionFuture);
+      myRating = join(ratingFuture);
     }
 
     // DTO 로 반환 형식에 맞춰 return
     BookDetailResponse build = BookDetailResponse.builder()
+        .title(detail.getTitle())
+        .image(detail.getImage())
+        .author(detail.getAuthor())
+        .price(detail.getPrice())
+        .publisher(detail.getPublisher())
+        .description(detail.getDescription())
+        .existCollection(existCollection)
+        .pubDate(detail.getPubDate())
+        .isbn(detail.getIsbn())
+        .avgRating(detail.getAvgRating())
+        .sameAuthor(detail.getSameAuthor())
+        .myRating(myRating != null ? myRating : 0.0)
+        .build();
+
+    return build;
+  }
+
+  // 상세 페이지의 공통 정보를 DB 에서 만든다. (DB 에 없으면 네이버에서 가져와 저장)
+  private BookDetailAggregate loadBookDetail(String query, String type) {
+    Book book = findOrIngestBook(query, type);
+
+    // 같은 작가(공저자 포함)의 다른 책 제목/ISBN 을 작가 색인에서 가져온다.
+    List<SameAuthorBookTitleIsbn> dtoList = bookAuthorIndex.findSameAuthorBooks(book.getAuthor(), book.getId());
+
+    Double avgRating = ratingRepository.findAverageRatingByBookId(book.getId());
+
+    return BookDetailAggregate.builder()
+        .isbn(book.getId())
         .title(book.getTitle())
         .image(book.getCoverUrl())
         .author(book.getAuthor())
         .price(book.getPrice())
         .publisher(book.getPublisher())
         .description(book.getDescription())
-        .existCollection(existCollection)
         .pubDate(Objects.toString(book.getPubDate(), ""))
-        .isbn(book.getId())
         .avgRating(avgRating != null ? avgRating : 0.0)
-        .sameAuthor(dtoList)
-        .myRating(myRating != null ? myRating : 0.0)
+        .sameAuthor(List.copyOf(dtoList))
         .build();
+  }
 
-    return build;
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 책 제목 or ISBN 번호로 DB 에서 책을 찾고, 없으면 네이버에서 가져와 저장합니다.
+   * 같은 책을 동시에 조회해도 (여러 서버 포함) 네이버 호출과 저장은 한 번만 일어납니다.
+   *
+   * @param query 책 제목 or ISBN
+   * @param type  검색 타입 (d_isbn / 그 외는 제목)
+   * @return DB 에 저장된 책
+   */
+  public Book findOrIngestBook(String query, String type) {
+    return findBook(query, type).orElseGet(
+        () -> bookIngestionCoordinator.ingest(type + ":" + query,
+            () -> findBook(query, type),
+            () -> fetchAndInsertBook(query, type)));
+  }
+
+  private Optional<Book> findBook(String query, String type) {
+    if ("d_isbn".equals(type)) { // Type 에 따라 다른 쿼리문 호출
+      return bookRepository.findById(query); // 책 ISBN 으로 DB 조회
+    }
+    return bookRepository.findByTitle(query); // 책 제목으로 DB 조회
+  }
+
+  // 네이버에서 책 상세정보를 가져와 DB 에 저장한다.
+  private Book fetchAndInsertBook(String query, String type) {
+    Item item = naverApiClient.getBookDetail(naverUrl,
+            BookDetailRequest.builder()
+                .query(query).type(type).build())
+        .orElseThrow(() -> new BookNotFoundException("책을 찾을 수 없습니다."));
+
+    // 제목으로 검색한 경우 같은 책이 이미 ISBN 으로 저장되어 있을 수 있다.
+    Optional<Book> existing = bookRepository.findById(item.getIsbn());
+    if (existing.isPresent()) {
+      return existing.get();
+    }
+
+    // DTO 로 반환 형식에 맞춰 return
+    BookDetailResponse build = BookDetailResponse.builder()
+        .title(item.getTitle())
+        .image(item.getImage())
+        .author(item.getAuthor())
+        .price(item.getPrice())
+        .publisher(item.getPublisher())
+        .description(item.getDescription())
+        .pubDate(item.getPubDate())
+        .isbn(item.getIsbn())
+        .avgRating(ratingRepository.findAverageRatingByBookId(item.getIsbn()))
+        .build();
+
+    try {
+      return insertBookInfo(build);
+    } catch (DataIntegrityViolationException e) {
+      // 다른 요청이 먼저 저장했다면 저장된 책을 사용한다.
+      return bookRepository.findById(item.getIsbn()).orElseThrow(() -> e);
+    }
   }
 
   /**
@@ -164,8 +307,20 @@ public class BookService {
    * @return 저장된 Book return
    */
   public Book insertBookInfo(BookDetailResponse dto) {
+    Book saved = bookRepository.save(toBook(dto));
+    // 자동완성/작가 색인, 상세 캐시 갱신 (커밋 이후 반영)
+    eventPublisher.publishEvent(new BookSavedEvent(saved.getId(), saved.getTitle(), saved.getAuthor()));
+    // 메인 페이지 필터별 개수 갱신
+    eventPublisher.publishEvent(new BookFacetChangedEvent(BookFacetRow.from(saved)));
+    return saved;
+  }
 
-    Book book = Book.builder()
+  /**
+   * 네이버에서 받은 책 정보를 저장할 Book 으로 변환합니다. (출간일 변환, 초성 설정)
+   * 상세 조회 시 저장과 카탈로그 미리 가져오기(BookPrefetchJob)가 같은 규칙을 사용합니다.
+   */
+  static Book toBook(BookDetailResponse dto) {
+    return Book.builder()
         .id(dto.getIsbn())
         .title(dto.getTitle())
         .author(dto.getAuthor())
@@ -177,14 +332,13 @@ public class BookService {
         .pubDate(Optional.ofNullable(dto.getPubDate())
             .map(LocalDate::parse)
             .orElse(null)) // null이면 그대로 null 할당
-        .chosung(getChosung(dto.getTitle())) // 이 책이 어떤 초성으로 시작하는지 설정
+        .chosung(HangulUtils.firstChosung(dto.getTitle())) // 이 책이 어떤 초성으로 시작하는지 설정
         .build();
-
-    return bookRepository.save(book);
   }
 
   /**
    * QueryDSL 을 이용한 CustomRepository 에서 Book 데이터들을 가져옵니다.
+   * 기존 페이지 번호 API 호환용이며, 새 화면은 getBookMainPageByCursor() 를 사용합니다.
    */
   public BookMainPageDto getBookMainPage(BookSearchFilter filter) {
     Page<Book> books = customBookRepository.findBooksWithFilter(filter);
@@ -204,33 +358,54 @@ public class BookService {
     return BookMainPageDto.builder()
         .page(filter.getPage())
         .totalPages(books.getTotalPages())
+        .totalCount(books.getTotalElements())
         .books(list)
         .build();
   }
-
-  // 책 제목 첫글자에서 초성 따는 메서드
-  private String getChosung(String title) {
-    if (title == null || title.isEmpty()) {
-      return "";
+  /**
+   * 메인 페이지 목록을 커서 방식으로 가져옵니다.
+   * OFFSET 없이 (정렬 값, ID) 로 마지막 책 다음부터 조회하므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회합니다.
+   *
+   * @param filter 정렬 / 필터 조건
+   * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+   */
+  public BookMainPageDto getBookMainPageByCursor(BookSearchFilter filter, String cursor) {
+    // 다음 페이지가 있는지 알기 위해 한 개 더 가져온다.
+    List<Book> books = customBookRepository.findBooksAfter(filter, BookCursor.decode(cursor),
+        MAIN_PAGE_SIZE + 1);
+    boolean hasNext = books.size() > MAIN_PAGE_SIZE;
+    if (hasNext) {
+      books = books.subList(0, MAIN_PAGE_SIZE);
     }
 
-    char firstChar = title.charAt(0);
-
-    if (firstChar >= '가' && firstChar <= '힣') {
-      // 한글 초성 추출
-      int unicode = firstChar - 0xAC00;
-      int chosungIndex = unicode / (21 * 28);
-      final char[] CHOSUNG_LIST = {
-          'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ',
-          'ㅎ'
-      };
-      return String.valueOf(CHOSUNG_LIST[chosungIndex]);
-    } else if ((firstChar >= 'A' && firstChar <= 'Z') || (firstChar >= 'a' && firstChar <= 'z')) {
-      // 영문자는 대문자로 변환
-      return String.valueOf(Character.toUpperCase(firstChar));
-    } else {
-      // 그 외 문자(숫자, 특수문자 등)는 그대로 반환
-      return String.valueOf(firstChar);
+    List<BookMainPageDetail> list = new ArrayList<>();
+    books.forEach(data -> list.add(BookMainPageDetail.builder()
+        .bookId(data.getId())
+        .bookTitle(data.getTitle())
+        .thumbnail(data.getCoverUrl())
+        .build()));
+
+    long totalCount = customBookRepository.countBooksWithFilter(filter);
+    return BookMainPageDto.builder()
+        .totalPages((int) ((totalCount + MAIN_PAGE_SIZE - 1) / MAIN_PAGE_SIZE))
+        .totalCount(totalCount)
+        .books(list)
+        .nextCursor(hasNext ? cursorOf(books.get(books.size() - 1), filter.getSort()).encode() : null)
+        .build();
+  }
+
+  // 정렬 기준에 맞는 (정렬 값, ID) 커서를 만든다.
+  private BookCursor cursorOf(Book book, String sort) {
+    switch (sort == null ? "" : sort) {
+      case "rating":
+        return new BookCursor(String.valueOf(book.getAvgRating()), book.getId());
+      case "view":
+        return new BookCursor(String.valueOf(book.getView()), book.getId());
+      case "date":
+        return new BookCursor(Objects.toString(book.getPubDate(), null), book.getId());
+      default:
+        return new BookCursor(null, book.getId());
     }
   }
+
 }
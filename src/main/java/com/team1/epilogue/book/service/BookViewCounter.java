@@ -0,0 +1,83 @@
+package com.team1.epilogue.book.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 책 조회수를 메모리에 모았다가 주기적으로 한 번에 DB 에 반영하는 카운터입니다.
+ * 상세 조회마다 book 테이블에 UPDATE 를 날리면 인기 책의 row 에 락 경합이 생기기 때문에,
+ * 조회 시에는 책 ID 별 카운터만 증가시키고 book.view-flush-interval-ms 마다 batch UPDATE 로 flush 합니다.
+ * 서버가 비정상 종료될 경우 최대 flush 주기만큼의 조회수가 유실될 수 있으며, 정상 종료 시에는 남은 값을 모두 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookViewCounter {
+
+  private static final String FLUSH_SQL = "UPDATE book SET view = view + ? WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // key: 책 ID(ISBN), value: 아직 DB 에 반영되지 않은 조회수
+  // flush 때 remove 로 꺼내므로 조회가 멈춘 책의 항목은 남지 않는다.
+  private final Map<String, Long> pendingViews = new ConcurrentHashMap<>();
+
+  /**
+   * 조회수를 1 증가시킵니다. DB 에는 다음 flush 때 반영됩니다.
+   */
+  public void increase(String bookId) {
+    pendingViews.merge(bookId, 1L, Long::sum);
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 조회수를 반환합니다.
+   */
+  public long getPendingViews(String bookId) {
+    return bookId == null ? 0 : pendingViews.getOrDefault(bookId, 0L);
+  }
+
+  /**
+   * 모인 조회수를 batch UPDATE 로 DB 에 반영합니다.
+   * 꺼낸 이후 들어온 증가분은 다음 flush 에 반영되고, DB 반영에 실패하면 다시 카운터에 더해 둡니다.
+   */
+  @Scheduled(fixedDelayString = "${book.view-flush-interval-ms:5000}")
+  public synchronized void flush() {
+    List<Object[]> batchArgs = new ArrayList<>();
+    for (String bookId : pendingViews.keySet()) {
+      Long delta = pendingViews.remove(bookId);
+      if (delta != null && delta > 0) {
+        batchArgs.add(new Object[]{delta, bookId});
+      }
+    }
+
+    if (batchArgs.isEmpty()) {
+      return;
+    }
+
+    try {
+      jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+    } catch (DataAccessException e) {
+      log.warn("조회수 {}건 DB 반영에 실패해 다음 flush 때 다시 시도합니다.", batchArgs.size(), e);
+      for (Object[] args : batchArgs) {
+        pendingViews.merge((String) args[1], (Long) args[0], Long::sum);
+      }
+    }
+  }
+
+  /**
+   * 애플리케이션 종료 시 남아있는 조회수를 모두 반영합니다.
+   */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
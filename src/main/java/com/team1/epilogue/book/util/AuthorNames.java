@@ -0,0 +1,47 @@
+package com.team1.epilogue.book.util;
+
+import com.team1.epilogue.keyword.util.KeywordNormalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 작가 문자열 관련 유틸리티 클래스
+ * 네이버 응답의 작가는 "작가1^작가2" 처럼 여러 명이 한 문자열로 오므로 한 명씩 나눠서 비교한다.
+ */
+public final class AuthorNames {
+
+  private static final Pattern SEPARATORS = Pattern.compile("[\\^,]");
+
+  private AuthorNames() {
+  }
+
+  /**
+   * 작가 문자열을 작가 한 명씩 나눈 뒤 비교용으로 정규화합니다. (공백 정리, 소문자, 중복 제거)
+   *
+   * @param author 작가 문자열 (예: "J.K. 롤링^강동혁")
+   * @return 정규화된 작가 이름 목록, 작가가 없으면 빈 목록
+   */
+  public static List<String> keys(String author) {
+    if (author == null) {
+      return List.of();
+    }
+    Set<String> keys = new LinkedHashSet<>();
+    for (String name : SEPARATORS.split(author)) {
+      String key = KeywordNormalizer.normalize(name);
+      if (key != null) {
+        keys.add(key);
+      }
+    }
+    return List.copyOf(keys);
+  }
+
+  /**
+   * 두 작가 문자열에 겹치는 작가가 있는지 확인합니다.
+   */
+  public static boolean overlaps(String author, String other) {
+    List<String> otherKeys = keys(other);
+    return keys(author).stream().anyMatch(otherKeys::contains);
+  }
+}
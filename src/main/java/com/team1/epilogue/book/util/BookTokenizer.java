@@ -0,0 +1,76 @@
+package com.team1.epilogue.book.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 책 검색 색인용 토큰 분리 클래스
+ * 한글은 형태소 분석 없이도 부분 일치가 되도록 단어를 두 글자씩 겹쳐 자른다. ("데미안" -> "데미", "미안")
+ * 초성 검색을 위해 단어의 초성 문자열도 같은 방식으로 자른다. ("데미안" -> "ㄷㅁ", "ㅁㅇ")
+ */
+public final class BookTokenizer {
+
+  private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private BookTokenizer() {
+  }
+
+  /**
+   * 글자 bigram 토큰을 반환합니다. 한 글자 단어는 그대로 토큰이 됩니다.
+   */
+  public static List<String> bigrams(String text) {
+    List<String> tokens = new ArrayList<>();
+    for (String word : words(text)) {
+      addBigrams(word, tokens);
+    }
+    return tokens;
+  }
+
+  /**
+   * 단어별 초성 문자열의 bigram 토큰을 반환합니다. (한글이 없는 단어는 제외)
+   */
+  public static List<String> chosungBigrams(String text) {
+    List<String> tokens = new ArrayList<>();
+    for (String word : words(text)) {
+      String chosung = HangulUtils.toChosung(word);
+      if (!chosung.equals(word)) {
+        addBigrams(chosung, tokens);
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * 띄어쓰기와 문장부호를 뺀 소문자 문자열을 반환합니다. ("데미안 (양장)" -> "데미안양장")
+   */
+  public static String compact(String text) {
+    return String.join("", words(text));
+  }
+
+  private static List<String> words(String text) {
+    if (text == null || text.isBlank()) {
+      return List.of();
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    List<String> words = new ArrayList<>();
+    for (String word : WORD_SEPARATOR.split(normalized)) {
+      if (!word.isEmpty()) {
+        words.add(word);
+      }
+    }
+    return words;
+  }
+
+  private static void addBigrams(String word, List<String> tokens) {
+    if (word.length() == 1) {
+      tokens.add(word);
+      return;
+    }
+    for (int i = 0; i + 1 < word.length(); i++) {
+      tokens.add(word.substring(i, i + 2));
+    }
+  }
+}
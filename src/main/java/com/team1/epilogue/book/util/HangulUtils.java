@@ -0,0 +1,93 @@
+package com.team1.epilogue.book.util;
+
+/**
+ * 한글 초성 관련 유틸리티 클래스
+ * 책 제목의 시작 초성(메인 페이지 초성 필터)과 자동완성용 초성 문자열 변환에 사용한다.
+ */
+public final class HangulUtils {
+
+  private static final char[] CHOSUNG_LIST = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ',
+      'ㅎ'
+  };
+
+  private HangulUtils() {
+  }
+
+  // 완성형 한글 음절인지 확인
+  public static boolean isSyllable(char c) {
+    return c >= '가' && c <= '힣';
+  }
+
+  // 호환용 자모 중 자음(ㄱ ~ ㅎ)인지 확인
+  public static boolean isChosung(char c) {
+    return c >= 'ㄱ' && c <= 'ㅎ';
+  }
+
+  /**
+   * 한글 음절의 초성을 반환합니다. 한글 음절이 아니면 그대로 반환합니다.
+   */
+  public static char chosungOf(char c) {
+    if (!isSyllable(c)) {
+      return c;
+    }
+    int unicode = c - 0xAC00;
+    return CHOSUNG_LIST[unicode / (21 * 28)];
+  }
+
+  /**
+   * 책 제목 첫글자에서 초성을 뽑습니다.
+   * 한글은 초성, 영문자는 대문자, 그 외 문자(숫자, 특수문자 등)는 그대로 반환합니다.
+   */
+  public static String firstChosung(String title) {
+    if (title == null || title.isEmpty()) {
+      return "";
+    }
+
+    char firstChar = title.charAt(0);
+
+    if (isSyllable(firstChar)) {
+      // 한글 초성 추출
+      return String.valueOf(chosungOf(firstChar));
+    } else if ((firstChar >= 'A' && firstChar <= 'Z') || (firstChar >= 'a' && firstChar <= 'z')) {
+      // 영문자는 대문자로 변환
+      return String.valueOf(Character.toUpperCase(firstChar));
+    } else {
+      return String.valueOf(firstChar);
+    }
+  }
+
+  /**
+   * 문자열 전체를 초성 문자열로 변환합니다. (예: "해리 포터" -> "ㅎㄹㅍㅌ")
+   * 공백은 제거하고, 한글 음절이 아닌 문자는 소문자로 남깁니다.
+   */
+  public static String toChosung(String text) {
+    StringBuilder sb = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      sb.append(isSyllable(c) ? chosungOf(c) : Character.toLowerCase(c));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 공백을 제외한 모든 문자가 초성인지 확인합니다. (예: "ㅎㄹ ㅍㅌ")
+   */
+  public static boolean isChosungOnly(String text) {
+    boolean hasChosung = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (!isChosung(c)) {
+        return false;
+      }
+      hasChosung = true;
+    }
+    return hasChosung;
+  }
+}
@@ -2,10 +2,7 @@ package com.team1.epilogue.chat.service;
 
 import com.team1.epilogue.auth.exception.MemberNotFoundException;
 import com.team1.epilogue.auth.repository.MemberRepository;
-import com.team1.epilogue.book.dto.BookDetailRequest;
-import com.team1.epilogue.book.dto.BookDetailResponse;
 import com.team1.epilogue.book.entity.Book;
-import com.team1.epilogue.book.repository.BookRepository;
 import com.team1.epilogue.book.service.BookService;
 import com.team1.epilogue.chat.dto.ChatRoomDto;
 import com.team1.epilogue.chat.entity.ChatRoom;
@@ -25,7 +22,6 @@ public class ChatRoomService {
   private final ChatRoomRepository chatRoomRepository;
   private final MemberRepository memberRepository;
   private final BookService bookService;
-  private final BookRepository bookRepository;
 
   /**
    * 채팅방을 생성 채팅방 생성시 책 이름과 동일함
@@ -35,18 +31,8 @@ public class ChatRoomService {
     memberRepository.findById(memberId)
         .orElseThrow(() -> new MemberNotFoundException());
 
-    Book book = bookRepository.findByTitle(title)
-        .orElseGet(() -> {
-          BookDetailRequest request = BookDetailRequest.builder()
-              .type("title")
-              .query(title)
-              .build();
-
-          BookDetailResponse bookDetailResponse = bookService.getBookDetail(request.getQuery(),
-              request.getType(), null);
-
-          return bookService.insertBookInfo(bookDetailResponse);
-        });
+    // DB 에 없는 책이면 네이버에서 가져와 저장한다. (같은 책의 동시 요청은 한 번만 저장)
+    Book book = bookService.findOrIngestBook(title, "title");
 
     String chatRoomTitle = book.getTitle();
 
@@ -12,9 +12,12 @@ import com.team1.epilogue.collection.entity.CollectionEntity;
 import com.team1.epilogue.collection.exception.AlreadyAddedCollectionException;
 import com.team1.epilogue.collection.repository.CollectionRepository;
 import com.team1.epilogue.review.exception.BookNotFoundException;
+import com.team1.epilogue.trendingbook.domain.BookActivityType;
+import com.team1.epilogue.trendingbook.dto.BookActivityEvent;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,7 @@ public class CollectionService {
   private final CollectionRepository collectionRepository;
   private final BookRepository bookRepository;
   private final MemberRepository memberRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 내가 컬렉션에 담은 책들 조회하는 메서드
@@ -91,5 +95,8 @@ public class CollectionService {
         .book(book)
         .member(member)
         .build());
+
+    // 인기 책 점수에 컬렉션 추가 반영
+    eventPublisher.publishEvent(new BookActivityEvent(bookId, BookActivityType.COLLECTION));
   }
 }
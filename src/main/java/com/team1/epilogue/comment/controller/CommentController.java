@@ -1,12 +1,12 @@
 package com.team1.epilogue.comment.controller;
 
 import com.team1.epilogue.auth.security.CustomMemberDetails;
+import com.team1.epilogue.auth.security.ResolvedIdentity;
 import com.team1.epilogue.comment.dto.CommentPostRequest;
 import com.team1.epilogue.comment.dto.CommentResponse;
 import com.team1.epilogue.comment.dto.CommentUpdateRequest;
 import com.team1.epilogue.comment.dto.MessageResponse;
 import com.team1.epilogue.comment.service.CommentService;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -115,10 +115,10 @@ public class CommentController {
       @RequestParam Long reviewId,
       @RequestParam int page,
       @RequestParam String sort,
-      HttpServletRequest request) {
+      ResolvedIdentity identity) {
 
-    String authorization = request.getHeader("Authorization");
-    CommentResponse commentList = commentService.getCommentList(reviewId, page, sort, authorization);
+    CommentResponse commentList = commentService.getCommentList(reviewId, page, sort,
+        identity.getMemberId());
     return ResponseEntity.ok(commentList);
   }
 }
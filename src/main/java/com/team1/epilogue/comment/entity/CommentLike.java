@@ -11,8 +11,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(uniqueConstraints = {
+        // 같은 회원이 같은 댓글에 동시에 좋아요를 눌러도 한 건만 저장되도록 DB 에서 막는다.
+        @UniqueConstraint(name = CommentLike.UNIQUE_MEMBER_COMMENT, columnNames = {"member_id", "comment_id"})
+})
 public class CommentLike extends BaseEntity {
 
+    public static final String UNIQUE_MEMBER_COMMENT = "uk_comment_like_member_comment";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -1,11 +1,28 @@
 package com.team1.epilogue.comment.repository;
 
 import com.team1.epilogue.comment.entity.CommentLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     boolean existsByCommentIdAndMemberId(Long commentId, Long memberId);
     Optional<CommentLike> findByCommentIdAndMemberId(Long commentId, Long memberId);
+
+    // 좋아요 취소 (삭제된 행 수가 0 이면 좋아요한 적이 없거나 동시에 이미 취소된 것)
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.member.id = :memberId")
+    int deleteByCommentIdAndMemberId(Long commentId, Long memberId);
+
+    // 로그인한 사용자가 좋아요한 댓글 ID들을 한 번의 쿼리로 조회
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.member.id = :memberId AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIdsByMemberId(Long memberId, List<Long> commentIds);
+
+    // 회원이 좋아요한 댓글 ID 전체 조회 (좋아요 캐시를 채울 때, unique 제약 인덱스만으로 읽는다)
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.member.id = :memberId")
+    List<Long> findCommentIdsByMemberId(Long memberId, Pageable pageable);
 }
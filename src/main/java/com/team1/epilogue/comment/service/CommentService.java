@@ -5,7 +5,6 @@ import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.exception.MemberNotFoundException;
 import com.team1.epilogue.auth.repository.MemberRepository;
 import com.team1.epilogue.auth.security.CustomMemberDetails;
-import com.team1.epilogue.auth.security.JwtTokenProvider;
 import com.team1.epilogue.comment.dto.CommentDetail;
 import com.team1.epilogue.comment.dto.CommentPostRequest;
 import com.team1.epilogue.comment.dto.CommentResponse;
@@ -16,14 +15,21 @@ import com.team1.epilogue.comment.exception.CommentNotFoundException;
 import com.team1.epilogue.comment.exception.UnauthorizedMemberException;
 import com.team1.epilogue.comment.repository.CommentLikeRepository;
 import com.team1.epilogue.comment.repository.CommentRepository;
+import com.team1.epilogue.common.util.UniqueViolations;
+import com.team1.epilogue.review.dto.ReviewFeedEvent;
 import com.team1.epilogue.review.entity.Review;
 import com.team1.epilogue.review.exception.AlreadyLikedException;
 import com.team1.epilogue.review.exception.LikeNotFoundException;
 import com.team1.epilogue.review.exception.ReviewNotFoundException;
 import com.team1.epilogue.review.repository.ReviewRepository;
+import com.team1.epilogue.review.service.LikeCountBuffer;
+import com.team1.epilogue.review.service.MemberLikeCache;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -37,8 +43,10 @@ public class CommentService {
   private final ReviewRepository reviewRepository;
   private final CommentLikeRepository commentLikeRepository;
   private final AlarmService alarmService;
-  private final JwtTokenProvider jwtTokenProvider;
   private final MemberRepository memberRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final LikeCountBuffer likeCountBuffer;
+  private final MemberLikeCache memberLikeCache;
   /**
    * 댓글 작성하는 메서드
    */
@@ -54,6 +62,7 @@ public class CommentService {
 
     // 댓글 갯수 +1
     reviewRepository.increaseCommentsCount(review.getId());
+    eventPublisher.publishEvent(ReviewFeedEvent.counters(review.getId(), 0, 1));
 
     // 댓글을 저장한다.
     Comment comment = commentRepository.save(Comment.builder()
@@ -110,6 +119,7 @@ public class CommentService {
 
     // 댓글 갯수 감소
     reviewRepository.decreaseCommentsCount(comment.getReview().getId());
+    eventPublisher.publishEvent(ReviewFeedEvent.counters(comment.getReview().getId(), 0, -1));
 
     commentRepository.delete(comment);
   }
@@ -121,26 +131,31 @@ public class CommentService {
     Comment comment = commentRepository.findById(commentId)
             .orElseThrow(() -> new CommentNotFoundException("댓글을 찾을 수 없습니다"));
 
-    if (commentLikeRepository.existsByCommentIdAndMemberId(commentId, member.getId())) {
+    // 좋아요 여부는 unique 제약으로 판단하고, 좋아요 수는 comment row 를 잠그지 않도록 모아서 반영한다.
+    try {
+      commentLikeRepository.saveAndFlush(new CommentLike(comment, member));
+    } catch (DataIntegrityViolationException e) {
+      // 삭제된 댓글 / 회원의 FK 위반 등은 "이미 좋아요" 가 아니므로 그대로 던진다.
+      if (!UniqueViolations.isViolationOf(e, CommentLike.UNIQUE_MEMBER_COMMENT)) {
+        throw e;
+      }
       throw new AlreadyLikedException("이미 좋아요를 눌렀습니다.");
     }
 
-    CommentLike commentLike = new CommentLike(comment, member);
-    commentLikeRepository.save(commentLike);
-
-    commentRepository.increaseLikeCount(commentId);
+    likeCountBuffer.addCommentLikes(commentId, 1);
+    memberLikeCache.commentLikeChanged(member.getId());
   }
 
   @Transactional
   public void unlikeComment(CustomMemberDetails details, Long commentId) {
     Member member = memberRepository.findById(details.getId()).orElseThrow(
             () -> new MemberNotFoundException("ID가 " + details.getId() + "인 회원을 찾을 수 없습니다."));
-    CommentLike commentLike = commentLikeRepository.findByCommentIdAndMemberId(commentId, member.getId())
-            .orElseThrow(() -> new LikeNotFoundException("취소할 좋아요가 없습니다."));
-
-    commentLikeRepository.delete(commentLike);
+    if (commentLikeRepository.deleteByCommentIdAndMemberId(commentId, member.getId()) == 0) {
+      throw new LikeNotFoundException("취소할 좋아요가 없습니다.");
+    }
 
-    commentRepository.decreaseLikeCount(commentId);
+    likeCountBuffer.addCommentLikes(commentId, -1);
+    memberLikeCache.commentLikeChanged(member.getId());
   }
 
   /**
@@ -148,8 +163,9 @@ public class CommentService {
    * @param reviewId 조회하려는 Review 의 ID
    * @param page 페이지 번호
    * @param sort 기본적으로는 최신순 / "like" 로 들어온다면 좋아요 많은순
+   * @param memberId 로그인한 사용자의 ID (비로그인 시 null)
    */
-  public CommentResponse getCommentList(Long reviewId,int page,String sort,String jwt) {
+  public CommentResponse getCommentList(Long reviewId,int page,String sort,Long memberId) {
 
     Page<Comment> comments;
     Review review = reviewRepository.findById(reviewId).orElseThrow(
@@ -166,16 +182,13 @@ public class CommentService {
 
     List<CommentDetail> dtoList = new ArrayList<>();
 
+    // 댓글 좋아요 존재여부는 회원별 좋아요 캐시에서 한 번에 확인한다. (댓글마다 쿼리하지 않도록)
+    Set<Long> likedCommentIds = memberLikeCache.likedCommentIds(memberId,
+        comments.getContent().stream().map(Comment::getId).toList());
+
     comments.getContent().stream().forEach(
         data -> {
-          // 댓글 좋아요 존재여부를 위한 boolean 변수 선언
-          boolean existLike = false;
-
-          if (jwt != null && jwt.startsWith("Bearer ")) {
-            String memberIdFromJWT = jwtTokenProvider.getMemberIdFromJWT(jwt.substring(7));
-            existLike = commentLikeRepository.existsByCommentIdAndMemberId(data.getId(),
-                Long.parseLong(memberIdFromJWT));
-          }
+          boolean existLike = likedCommentIds.contains(data.getId());
 
           dtoList.add(
               CommentDetail.builder()
@@ -185,7 +198,8 @@ public class CommentService {
                   .memberNickname(data.getMember().getNickname())
                   .memberProfile(data.getMember().getProfileUrl())
                   .commentPostDateTime(data.getCreatedAt())
-                  .commentLike(data.getLikeCount())
+                  .commentLike(Math.max(0,
+                      data.getLikeCount() + likeCountBuffer.getPendingCommentLikes(data.getId())))
                   .commentColor(data.getColor())
                   .existLike(existLike)
                   .build()
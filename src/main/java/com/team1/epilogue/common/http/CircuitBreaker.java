@@ -0,0 +1,117 @@
+package com.team1.epilogue.common.http;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 N 건의 호출 결과로 실패율을 계산하는 회로 차단기
+ * - CLOSED: 정상 호출. 최근 windowSize 건 중 실패율이 threshold 이상이면 OPEN 으로 바꾼다.
+ * - OPEN: openDuration 동안 호출하지 않고 바로 실패시킨다.
+ * - HALF_OPEN: OPEN 이 끝나면 시험 호출 한 건만 보내고, 성공하면 CLOSED, 실패하면 다시 OPEN 으로 바꾼다.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final int windowSize;
+  private final double failureRateThreshold;
+  private final long openNanos;
+  private final LongSupplier clock;
+
+  // 최근 호출 결과 (true = 실패) 를 원형으로 기록한다.
+  private final boolean[] outcomes;
+  private int next;
+  private int recorded;
+  private int failures;
+
+  private State state = State.CLOSED;
+  private long openedAt;
+  private boolean trialInFlight;
+
+  public CircuitBreaker(int windowSize, double failureRateThreshold, Duration openDuration) {
+    this(windowSize, failureRateThreshold, openDuration, System::nanoTime);
+  }
+
+  CircuitBreaker(int windowSize, double failureRateThreshold, Duration openDuration, LongSupplier clock) {
+    this.windowSize = windowSize;
+    this.failureRateThreshold = failureRateThreshold;
+    this.openNanos = openDuration.toNanos();
+    this.clock = clock;
+    this.outcomes = new boolean[windowSize];
+  }
+
+  /**
+   * 호출해도 되는지 확인합니다. true 를 받은 호출은 끝난 뒤 onSuccess / onFailure 를 호출해야 합니다.
+   */
+  public synchronized boolean tryAcquire() {
+    if (state == State.OPEN) {
+      if (clock.getAsLong() - openedAt < openNanos) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      trialInFlight = false;
+    }
+    if (state == State.HALF_OPEN) {
+      if (trialInFlight) {
+        return false;
+      }
+      trialInFlight = true;
+    }
+    return true;
+  }
+
+  public synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      close();
+      return;
+    }
+    record(false);
+  }
+
+  public synchronized void onFailure() {
+    if (state == State.OPEN) {
+      // 회로가 열리기 전에 보낸 호출의 실패. 다시 열면 열린 시간이 계속 뒤로 밀린다.
+      return;
+    }
+    if (state == State.HALF_OPEN) {
+      open();
+      return;
+    }
+    record(true);
+    if (recorded >= windowSize && (double) failures / recorded >= failureRateThreshold) {
+      open();
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  private void record(boolean failure) {
+    if (recorded == windowSize && outcomes[next]) {
+      failures--; // 가장 오래된 결과를 밀어낸다.
+    }
+    outcomes[next] = failure;
+    if (failure) {
+      failures++;
+    }
+    next = (next + 1) % windowSize;
+    recorded = Math.min(recorded + 1, windowSize);
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAt = clock.getAsLong();
+    trialInFlight = false;
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    trialInFlight = false;
+    next = 0;
+    recorded = 0;
+    failures = 0;
+  }
+}
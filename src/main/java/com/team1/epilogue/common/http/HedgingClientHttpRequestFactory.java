@@ -0,0 +1,155 @@
+package com.team1.epilogue.common.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * GET 요청을 hedging 하는 ClientHttpRequestFactory
+ * 요청이 hedgeDelay 안에 끝나지 않으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용한다. (늦은 응답은 닫는다)
+ * 같은 요청을 두 번 보내도 결과가 같은 조회(GET)에만 적용하고, 그 외 메서드는 그대로 보낸다.
+ */
+public class HedgingClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+  private final ClientHttpRequestFactory delegate;
+  private final Executor executor;
+  private final Duration hedgeDelay;
+
+  public HedgingClientHttpRequestFactory(ClientHttpRequestFactory delegate, Executor executor,
+      Duration hedgeDelay) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.hedgeDelay = hedgeDelay;
+  }
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+    if (!HttpMethod.GET.equals(httpMethod)) {
+      return delegate.createRequest(uri, httpMethod);
+    }
+    return new HedgedRequest(uri, httpMethod);
+  }
+
+  private class HedgedRequest extends AbstractClientHttpRequest {
+
+    private final URI uri;
+    private final HttpMethod method;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(0);
+
+    private HedgedRequest(URI uri, HttpMethod method) {
+      this.uri = uri;
+      this.method = method;
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+      return method;
+    }
+
+    @Override
+    public URI getURI() {
+      return uri;
+    }
+
+    @Override
+    protected OutputStream getBodyInternal(HttpHeaders headers) {
+      return body;
+    }
+
+    @Override
+    protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+      CompletableFuture<ClientHttpResponse> primary = send(headers);
+      try {
+        return primary.get(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        // 늦어지고 있으므로 한 번 더 보낸다.
+      } catch (ExecutionException e) {
+        throw unwrap(e);
+      } catch (InterruptedException e) {
+        return interrupted(primary);
+      }
+
+      CompletableFuture<ClientHttpResponse> first = firstSuccessful(primary, send(headers));
+      try {
+        return first.get();
+      } catch (ExecutionException e) {
+        throw unwrap(e);
+      } catch (InterruptedException e) {
+        return interrupted(first);
+      }
+    }
+
+    private CompletableFuture<ClientHttpResponse> send(HttpHeaders headers) {
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          ClientHttpRequest request = delegate.createRequest(uri, method);
+          request.getHeaders().putAll(headers);
+          if (body.size() > 0) {
+            body.writeTo(request.getBody());
+          }
+          return request.execute();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }, executor);
+    }
+  }
+
+  // 두 요청 중 먼저 성공한 응답으로 완료된다. 둘 다 실패하면 마지막 오류로 실패한다.
+  private static CompletableFuture<ClientHttpResponse> firstSuccessful(
+      CompletableFuture<ClientHttpResponse> primary, CompletableFuture<ClientHttpResponse> hedge) {
+    CompletableFuture<ClientHttpResponse> result = new CompletableFuture<>();
+    AtomicInteger failed = new AtomicInteger();
+    BiConsumer<ClientHttpResponse, Throwable> handler = (response, error) -> {
+      if (error == null) {
+        if (!result.complete(response)) {
+          response.close(); // 늦게 도착한 응답
+        }
+      } else if (failed.incrementAndGet() == 2) {
+        result.completeExceptionally(error);
+      }
+    };
+    primary.whenComplete(handler);
+    hedge.whenComplete(handler);
+    return result;
+  }
+
+  private static ClientHttpResponse interrupted(CompletableFuture<ClientHttpResponse> pending)
+      throws InterruptedIOException {
+    Thread.currentThread().interrupt();
+    pending.thenAccept(ClientHttpResponse::close);
+    throw new InterruptedIOException("외부 API 응답을 기다리는 중 중단되었습니다.");
+  }
+
+  private static IOException unwrap(ExecutionException e) {
+    Throwable cause = e.getCause();
+    while (cause instanceof UncheckedIOException || cause instanceof CompletionException) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof IOException io) {
+      return io;
+    }
+    if (cause instanceof RuntimeException runtime) {
+      throw runtime;
+    }
+    return new IOException(cause);
+  }
+}
@@ -0,0 +1,23 @@
+package com.team1.epilogue.common.http;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 외부 API(업스트림) 하나에 적용할 연결/격리/장애 차단 설정
+ */
+@Getter
+@Builder
+public class UpstreamPolicy {
+  private String name; // 메트릭 태그로 쓰는 업스트림 이름 (naver, kakao-pay ...)
+  private Duration connectTimeout;
+  private Duration readTimeout;
+  private int maxConnections; // 커넥션 풀 크기 (hedging 하면 maxConcurrentCalls 의 두 배 이상으로 늘린다)
+  private int maxConcurrentCalls; // 동시에 보낼 수 있는 요청 수 (bulkhead)
+  private Duration bulkheadWait; // bulkhead 가 가득 찼을 때 기다리는 시간
+  private int slidingWindowSize; // 실패율을 계산할 최근 요청 수
+  private double failureRateThreshold; // 이 비율 이상 실패하면 회로를 연다 (0 ~ 1)
+  private Duration openDuration; // 회로를 열어 두는 시간
+  private Duration hedgeDelay; // GET 요청이 이 시간 안에 끝나지 않으면 한 번 더 보낸다 (null 이면 사용하지 않음)
+}
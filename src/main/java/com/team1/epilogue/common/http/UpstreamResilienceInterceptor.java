@@ -0,0 +1,100 @@
+package com.team1.epilogue.common.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 외부 API 호출마다 bulkhead, 회로 차단기, 응답 시간 측정을 적용하는 interceptor
+ * - bulkhead: 업스트림별로 동시에 보낼 수 있는 요청 수를 제한해, 느린 업스트림 하나가 요청 스레드를 모두 잡지 못하게 한다.
+ * - 회로 차단기: 연결 오류와 5xx 가 계속되면 한동안 호출하지 않고 UpstreamUnavailableException 으로 바로 실패시킨다.
+ * - 응답 시간은 http.client.upstream 타이머(히스토그램)로 업스트림/결과별로, 호출하지 않은 요청은 .rejected 카운터로 기록한다.
+ */
+public class UpstreamResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+  static final String TIMER_NAME = "http.client.upstream";
+
+  private final UpstreamPolicy policy;
+  private final Semaphore bulkhead;
+  private final CircuitBreaker circuitBreaker;
+  private final MeterRegistry meterRegistry;
+
+  public UpstreamResilienceInterceptor(UpstreamPolicy policy, MeterRegistry meterRegistry) {
+    this.policy = policy;
+    this.bulkhead = new Semaphore(policy.getMaxConcurrentCalls());
+    this.circuitBreaker = new CircuitBreaker(policy.getSlidingWindowSize(),
+        policy.getFailureRateThreshold(), policy.getOpenDuration());
+    this.meterRegistry = meterRegistry;
+    Gauge.builder(TIMER_NAME + ".circuit", circuitBreaker, breaker -> breaker.getState().ordinal())
+        .description("0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN")
+        .tag("upstream", policy.getName())
+        .register(meterRegistry);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+      throws IOException {
+    if (!acquireBulkhead()) {
+      reject("bulkhead");
+      throw new UpstreamUnavailableException(policy.getName() + " 동시 요청 수가 가득 찼습니다.");
+    }
+    if (!circuitBreaker.tryAcquire()) {
+      bulkhead.release();
+      reject("circuit_open");
+      throw new UpstreamUnavailableException(policy.getName() + " 회로가 열려 있어 호출하지 않았습니다.");
+    }
+
+    long start = System.nanoTime();
+    try {
+      ClientHttpResponse response = execution.execute(request, body);
+      int status = response.getStatusCode().value();
+      if (status >= 500) {
+        circuitBreaker.onFailure();
+        record("SERVER_ERROR", start);
+      } else {
+        circuitBreaker.onSuccess(); // 4xx 는 요청 문제이므로 업스트림 장애로 보지 않는다.
+        record(status >= 400 ? "CLIENT_ERROR" : "SUCCESS", start);
+      }
+      return response;
+    } catch (IOException | RuntimeException e) {
+      circuitBreaker.onFailure();
+      record("IO_ERROR", start);
+      throw e;
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  private boolean acquireBulkhead() {
+    try {
+      return bulkhead.tryAcquire(policy.getBulkheadWait().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void record(String outcome, long start) {
+    Timer.builder(TIMER_NAME)
+        .tag("upstream", policy.getName())
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  private void reject(String reason) {
+    meterRegistry.counter(TIMER_NAME + ".rejected", "upstream", policy.getName(), "reason", reason).increment();
+  }
+}
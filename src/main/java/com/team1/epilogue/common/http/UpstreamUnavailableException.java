@@ -0,0 +1,13 @@
+package com.team1.epilogue.common.http;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 회로가 열려 있거나 bulkhead 가 가득 차서 외부 API 를 호출하지 않았을 때 발생하는 예외
+ */
+public class UpstreamUnavailableException extends RestClientException {
+
+  public UpstreamUnavailableException(String message) {
+    super(message);
+  }
+}
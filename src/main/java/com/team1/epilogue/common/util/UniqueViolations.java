@@ -0,0 +1,40 @@
+package com.team1.epilogue.common.util;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * DataIntegrityViolationException 이 특정 unique 제약 위반으로 난 것인지 판별합니다.
+ * FK / NOT NULL 위반도 같은 예외로 오기 때문에, "이미 존재함" 으로 바꿔 응답하기 전에 이 메서드로 확인해야 합니다.
+ */
+public final class UniqueViolations {
+
+  // MariaDB / MySQL 의 Duplicate entry 오류 코드 (SQLState 는 FK 위반과 같은 23000 이라 구분에 쓸 수 없다)
+  private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+  // 표준 SQLState (H2, PostgreSQL)
+  private static final String UNIQUE_VIOLATION_STATE = "23505";
+
+  private UniqueViolations() {
+  }
+
+  /**
+   * e 가 constraintName 이름의 unique 제약 위반이면 true 를 반환합니다.
+   * Hibernate 가 제약 이름을 꺼내 주면 이름으로, 아니면 드라이버의 오류 코드 / SQLState 로 판단합니다.
+   */
+  public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation
+          && violation.getConstraintName() != null) {
+        return violation.getConstraintName().toLowerCase(Locale.ROOT)
+            .contains(constraintName.toLowerCase(Locale.ROOT));
+      }
+      if (cause instanceof SQLException sqlException) {
+        return sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY
+            || UNIQUE_VIOLATION_STATE.equals(sqlException.getSQLState());
+      }
+    }
+    return false;
+  }
+}
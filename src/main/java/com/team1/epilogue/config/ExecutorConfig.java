@@ -0,0 +1,63 @@
+package com.team1.epilogue.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+  /**
+   * 책 상세 조회 시 회원별 정보(컬렉션 여부, 내 별점)를 동시에 조회하기 위한 스레드 풀
+   * 풀이 가득 차면 요청 스레드에서 직접 실행해 조회가 밀리지 않도록 한다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor bookDetailExecutor(
+      @Value("${book.detail-executor.core-size:8}") int coreSize,
+      @Value("${book.detail-executor.max-size:32}") int maxSize,
+      @Value("${book.detail-executor.queue-capacity:200}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(coreSize);
+    executor.setMaxPoolSize(maxSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("book-detail-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    return executor;
+  }
+
+  /**
+   * 외부 API GET 요청 hedging 용 스레드 풀
+   * 요청마다 응답을 기다리는 스레드를 쓰므로, 풀이 가득 차면 요청 스레드에서 직접 보낸다. (hedging 없이 한 번만 보내는 것과 같다)
+   */
+  @Bean
+  public ThreadPoolTaskExecutor upstreamHedgeExecutor(
+      @Value("${http.upstream.hedge-executor.core-size:8}") int coreSize,
+      @Value("${http.upstream.hedge-executor.max-size:64}") int maxSize,
+      @Value("${http.upstream.hedge-executor.queue-capacity:0}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(coreSize);
+    executor.setMaxPoolSize(maxSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("upstream-hedge-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
+
+  /**
+   * 책 미리 가져오기 전용 스레드
+   * 네이버 호출 사이에 쉬면서 오래 실행되므로, 다른 @Scheduled 작업(좋아요 수 / 조회수 flush 등)이 쓰는 스케줄러 스레드를 잡고 있지 않도록 따로 실행한다.
+   * 한 번에 하나만 실행하고, 실행 중에 들어온 요청은 버린다. (다음 확인 때 이어서 진행)
+   */
+  @Bean
+  public ThreadPoolTaskExecutor bookPrefetchExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("book-prefetch-");
+    return executor;
+  }
+}
@@ -0,0 +1,106 @@
+package com.team1.epilogue.config;
+
+import com.team1.epilogue.comment.entity.CommentLike;
+import com.team1.epilogue.review.entity.ReviewLike;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * review_like / comment_like 에 unique 제약을 붙이기 전에 이미 쌓인 중복 좋아요를 정리합니다.
+ * 제약은 Hibernate DDL(update) 로만 추가되는데, 중복 row 가 남아 있으면 제약 추가가 실패하고 (Hibernate 는 이 실패를 로그만 남기고 넘어간다)
+ * 좋아요 중복 방지가 동작하지 않으므로, EntityManagerFactory 생성(= DDL 실행) 전에 회원/대상별로 가장 먼저 생긴 row 만 남기고 지웁니다.
+ * 제약이 이미 있거나 테이블이 아직 없으면 아무것도 하지 않으므로, 정리는 제약이 추가되는 첫 배포에서 한 번만 일어납니다.
+ * 수동으로 정리할 때도 아래 DELETE / UPDATE 문을 그대로 실행하면 됩니다.
+ */
+@Configuration
+public class LikeDuplicateCleanupConfig {
+
+  @Bean
+  public LikeDuplicateCleaner likeDuplicateCleaner(DataSource dataSource) {
+    return new LikeDuplicateCleaner(dataSource);
+  }
+
+  // DDL 이 정리보다 먼저 실행되지 않도록 EntityManagerFactory 가 cleaner 에 의존하게 한다.
+  @Bean
+  public static EntityManagerFactoryDependsOnPostProcessor likeDuplicateCleanerDependency() {
+    return new EntityManagerFactoryDependsOnPostProcessor("likeDuplicateCleaner");
+  }
+
+  @Slf4j
+  @RequiredArgsConstructor
+  public static class LikeDuplicateCleaner implements InitializingBean {
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+      JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+      clean(jdbcTemplate, "review_like", "review_id", "review", ReviewLike.UNIQUE_MEMBER_REVIEW);
+      clean(jdbcTemplate, "comment_like", "comment_id", "comment", CommentLike.UNIQUE_MEMBER_COMMENT);
+    }
+
+    private void clean(JdbcTemplate jdbcTemplate, String likeTable, String targetColumn,
+        String targetTable, String constraintName) throws SQLException {
+      Set<String> uniqueIndexes = uniqueIndexNames(likeTable);
+      // 테이블이 없으면(PK 인덱스도 없다) 새로 만들어질 때 제약이 함께 생기고, 제약이 있으면 중복이 있을 수 없다.
+      String constraint = constraintName.toLowerCase(Locale.ROOT);
+      if (uniqueIndexes.isEmpty() || uniqueIndexes.stream().anyMatch(name -> name.contains(constraint))) {
+        return;
+      }
+
+      List<Long> targetIds = jdbcTemplate.queryForList(
+          "SELECT DISTINCT " + targetColumn + " FROM " + likeTable
+              + " GROUP BY member_id, " + targetColumn + " HAVING COUNT(*) > 1", Long.class);
+      if (targetIds.isEmpty()) {
+        return;
+      }
+
+      // MariaDB 는 DELETE 대상 테이블을 서브쿼리에서 바로 읽을 수 없어 한 번 더 감싼다.
+      int deleted = jdbcTemplate.update(
+          "DELETE FROM " + likeTable + " WHERE id NOT IN ("
+              + "SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM " + likeTable
+              + " GROUP BY member_id, " + targetColumn + ") kept)");
+
+      // 중복 row 만큼 더해졌던 좋아요 수를 실제 row 수로 되돌린다.
+      jdbcTemplate.batchUpdate(
+          "UPDATE " + targetTable + " SET like_count = (SELECT COUNT(*) FROM " + likeTable
+              + " WHERE " + targetColumn + " = ?) WHERE id = ?",
+          targetIds.stream().map(id -> new Object[]{id, id}).toList());
+
+      log.warn("{} 중복 좋아요 {}건 삭제, {} {}건 좋아요 수 재계산", likeTable, deleted, targetTable, targetIds.size());
+    }
+
+    // H2 는 테이블 / 인덱스 이름을 대문자로 저장하고 인덱스 이름에 접미사를 붙이므로, 소문자로 모아 포함 여부로 비교한다.
+    private Set<String> uniqueIndexNames(String table) throws SQLException {
+      Set<String> names = new HashSet<>();
+      try (Connection connection = dataSource.getConnection()) {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : List.of(table, table.toUpperCase(Locale.ROOT))) {
+          try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, name, true, false)) {
+            while (indexes.next()) {
+              String indexName = indexes.getString("INDEX_NAME");
+              if (indexName != null) {
+                names.add(indexName.toLowerCase(Locale.ROOT));
+              }
+            }
+          }
+        }
+      }
+      return names;
+    }
+  }
+}
@@ -1,13 +1,74 @@
 package com.team1.epilogue.config;
 
+import com.team1.epilogue.common.http.UpstreamPolicy;
+import com.team1.epilogue.common.http.UpstreamRestClientFactory;
+import java.time.Duration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.web.client.RestClient;
 
+/**
+ * 외부 API(업스트림)별 RestClient 설정
+ * 업스트림마다 커넥션 풀, timeout, bulkhead, 회로 차단기를 따로 두고,
+ * http.upstream.{이름}.* 속성으로 값을 바꿀 수 있다. (예: http.upstream.naver.read-timeout=PT3S)
+ */
 @Configuration
 public class RestClientConfig {
+
+  private final UpstreamRestClientFactory upstreamRestClientFactory;
+  private final Environment environment;
+
+  public RestClientConfig(UpstreamRestClientFactory upstreamRestClientFactory, Environment environment) {
+    this.upstreamRestClientFactory = upstreamRestClientFactory;
+    this.environment = environment;
+  }
+
+  /**
+   * 네이버 책 검색/상세 API. 조회만 하므로 느린 요청은 hedging 한다.
+   */
   @Bean
-  public RestClient restClient() {
-    return RestClient.builder().build();
+  public RestClient naverRestClient() {
+    return upstreamRestClientFactory.create(policy("naver", Duration.ofSeconds(3), Duration.ofMillis(300)));
+  }
+
+  /**
+   * 카카오 로그인/회원 탈퇴 API
+   */
+  @Bean
+  public RestClient kakaoRestClient() {
+    return upstreamRestClientFactory.create(policy("kakao", Duration.ofSeconds(3), null));
+  }
+
+  /**
+   * 구글 로그인/회원 탈퇴 API
+   */
+  @Bean
+  public RestClient googleRestClient() {
+    return upstreamRestClientFactory.create(policy("google", Duration.ofSeconds(3), null));
+  }
+
+  /**
+   * 카카오페이 결제 API. 결제 요청은 중복으로 보내면 안 되므로 hedging 하지 않는다.
+   */
+  @Bean
+  public RestClient kakaoPayRestClient() {
+    return upstreamRestClientFactory.create(policy("kakao-pay", Duration.ofSeconds(10), null));
+  }
+
+  private UpstreamPolicy policy(String name, Duration readTimeout, Duration hedgeDelay) {
+    String prefix = "http.upstream." + name + ".";
+    return UpstreamPolicy.builder()
+        .name(name)
+        .connectTimeout(environment.getProperty(prefix + "connect-timeout", Duration.class, Duration.ofSeconds(1)))
+        .readTimeout(environment.getProperty(prefix + "read-timeout", Duration.class, readTimeout))
+        .maxConnections(environment.getProperty(prefix + "max-connections", Integer.class, 50))
+        .maxConcurrentCalls(environment.getProperty(prefix + "max-concurrent-calls", Integer.class, 50))
+        .bulkheadWait(environment.getProperty(prefix + "bulkhead-wait", Duration.class, Duration.ofMillis(100)))
+        .slidingWindowSize(environment.getProperty(prefix + "sliding-window-size", Integer.class, 50))
+        .failureRateThreshold(environment.getProperty(prefix + "failure-rate-threshold", Double.class, 0.5))
+        .openDuration(environment.getProperty(prefix + "open-duration", Duration.class, Duration.ofSeconds(30)))
+        .hedgeDelay(environment.getProperty(prefix + "hedge-delay", Duration.class, hedgeDelay))
+        .build();
   }
 }
@@ -2,9 +2,10 @@ package com.team1.epilogue.config;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
-import com.team1.epilogue.auth.repository.MemberRepository;
 import com.team1.epilogue.auth.security.JwtTokenProvider;
 import com.team1.epilogue.auth.security.CustomUserDetailsService;
+import com.team1.epilogue.auth.security.MemberPrincipalCache;
+import com.team1.epilogue.auth.security.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import com.team1.epilogue.auth.security.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
@@ -34,7 +35,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
   private final JwtTokenProvider jwtTokenProvider;
-  private final MemberRepository memberRepository;
+  private final MemberPrincipalCache memberPrincipalCache;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
 
   /** cors 설정 bean */
   @Bean
@@ -134,7 +136,7 @@ public class SecurityConfig {
                     .anyRequest().authenticated()
 
             )
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, memberRepository), UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, memberPrincipalCache, tokenRevocationRegistry), UsernamePasswordAuthenticationFilter.class)
             .oauth2Login(withDefaults()).exceptionHandling( ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(
             HttpStatus.UNAUTHORIZED)))
             .httpBasic(httpBasic -> httpBasic.disable());
@@ -0,0 +1,19 @@
+package com.team1.epilogue.config;
+
+import com.team1.epilogue.auth.security.ResolvedIdentityArgumentResolver;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+  /**
+   * 컨트롤러에서 ResolvedIdentity 를 파라미터로 받을 수 있도록 등록
+   */
+  @Override
+  public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+    resolvers.add(new ResolvedIdentityArgumentResolver());
+  }
+}
@@ -0,0 +1,16 @@
+package com.team1.epilogue.follow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 타임라인 한 페이지에 보여줄 리뷰 ID 목록 (최신순)과 전체 리뷰 수
+ */
+@Getter
+@AllArgsConstructor
+public class TimelinePage {
+    private List<Long> reviewIds;
+    private long total;
+}
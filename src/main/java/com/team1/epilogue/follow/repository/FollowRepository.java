@@ -35,4 +35,14 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     int countAllByFollowed(Member member);
     int countAllByFollower(Member member);
+
+    // 타임라인 fan-out: 작성자를 팔로우하는 회원 ID 목록
+    @Query("select f.follower.id from Follow f where f.followed.id = :followedId")
+    List<Long> findFollowerIds(@Param("followedId") Long followedId);
+
+    // 타임라인 생성/조회: 회원이 팔로우한 회원 ID 목록
+    @Query("select f.followed.id from Follow f where f.follower.id = :followerId")
+    List<Long> findFollowedIds(@Param("followerId") Long followerId);
+
+    long countByFollowedId(Long followedId);
 }
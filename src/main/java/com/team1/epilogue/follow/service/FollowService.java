@@ -5,6 +5,7 @@ import com.team1.epilogue.follow.dto.MemberDto;
 import com.team1.epilogue.follow.dto.PaginationDto;
 import com.team1.epilogue.follow.dto.ReviewDto;
 import com.team1.epilogue.follow.dto.ReviewListResponse;
+import com.team1.epilogue.follow.dto.TimelinePage;
 import com.team1.epilogue.follow.entity.Follow;
 import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.review.entity.Review;
@@ -18,6 +19,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +31,7 @@ public class FollowService {
     private final MemberRepository memberRepository;
     private final FollowRepository followRepository;
     private final ReviewRepository reviewRepository;
+    private final ReviewTimeline reviewTimeline;
 
     /**
      * 회원이 다른 회원을 팔로우
@@ -50,6 +55,7 @@ public class FollowService {
                 .followed(followed)
                 .build();
         followRepository.save(follow);
+        reviewTimeline.invalidate(follower.getId());
         return new FollowActionResponse("Follow creation successful", follower.getLoginId(), followed.getLoginId());
     }
 
@@ -68,6 +74,7 @@ public class FollowService {
         Follow follow = followRepository.findByFollowerAndFollowed(follower, followed)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Follow relationship does not exist"));
         followRepository.delete(follow);
+        reviewTimeline.invalidate(follower.getId());
     }
 
     /**
@@ -119,6 +126,14 @@ public class FollowService {
         Member currentMember = memberRepository.findByLoginId(currentLoginId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid authentication"));
 
+        // 최신순은 타임라인에서 페이지 범위의 리뷰 ID 만 읽는다. (오래된순, 타임라인보다 깊은 페이지는 DB 에서 조회)
+        if (!sort.equalsIgnoreCase("asc")) {
+            TimelinePage timelinePage = reviewTimeline.page(currentMember.getId(), (page - 1) * limit, limit);
+            if (timelinePage != null) {
+                return toReviewListResponse(currentMember.getId(), timelinePage, page, limit);
+            }
+        }
+
         List<Follow> followings = followRepository.findByFollower(currentMember);
         List<Member> followedMembers = followings.stream()
                 .map(Follow::getFollowed)
@@ -140,6 +155,28 @@ public class FollowService {
         return new ReviewListResponse(reviewDtos, pagination);
     }
 
+    /**
+     * 타임라인의 리뷰 ID 순서대로 리뷰를 조회해 응답으로 변환 (그 사이 삭제된 리뷰는 제외하고 타임라인에서도 뺀다)
+     */
+    private ReviewListResponse toReviewListResponse(Long memberId, TimelinePage timelinePage, int page, int limit) {
+        List<Long> reviewIds = timelinePage.getReviewIds();
+        Map<Long, Review> reviews = reviewIds.isEmpty() ? Map.of()
+                : reviewRepository.findAllByIdInWithMemberAndBook(reviewIds).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        List<ReviewDto> reviewDtos = reviewIds.stream()
+                .map(reviews::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToReviewDto)
+                .collect(Collectors.toList());
+        if (reviewDtos.size() < reviewIds.size()) {
+            reviewTimeline.removeDeleted(memberId, reviewIds.stream()
+                    .filter(id -> !reviews.containsKey(id))
+                    .collect(Collectors.toList()));
+        }
+
+        PaginationDto pagination = new PaginationDto(page, limit, timelinePage.getTotal());
+        return new ReviewListResponse(reviewDtos, pagination);
+    }
 
     /**
      * Member 엔터티를 MemberDto로 변환
@@ -0,0 +1,376 @@
+package com.team1.epilogue.follow.service;
+
+import com.team1.epilogue.follow.dto.TimelinePage;
+import com.team1.epilogue.follow.repository.FollowRepository;
+import com.team1.epilogue.review.dto.ReviewFeedEvent;
+import com.team1.epilogue.review.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * [클래스 레벨]
+ * 팔로우한 회원들의 리뷰 타임라인 (fan-out on write)
+ * - 리뷰가 작성되면 작성자의 팔로워마다 Redis 리스트(timeline:{회원 ID})의 앞에 리뷰 ID 를 넣고, 최근 maxLength 개만 남긴다.
+ * - 팔로워가 fanoutThreshold 명보다 많은 작성자는 넣지 않고 timeline:celebrities 에 기록해 두었다가, 읽을 때 DB 에서 가져와 합친다.
+ * - 리스트 옆의 해시(timeline:{회원 ID}:meta)에 만들 때 확인한 "팔로우한 팔로워가 많은 작성자" 목록과 나머지 작성자의 전체 리뷰 수를 두고,
+ *   리뷰가 작성/삭제될 때 리스트와 함께 고친다. (팔로워가 많은 작성자의 리뷰 수는 작성자별로 따로 센다)
+ * - 타임라인이 없는 회원(처음 조회, 만료, 팔로우 변경)은 읽을 때 DB 에서 한 번 만든다.
+ *   임시 키에 만든 뒤 스크립트로 리스트와 해시를 함께 바꿔 넣으므로 동시에 여러 요청이 만들어도 하나만 남고,
+ *   DB 를 읽은 뒤 바꿔 넣기 전에 작성된 리뷰(fan-out 이 넣지 못한 리뷰)는 바꿔 넣은 뒤 다시 확인해 넣는다.
+ * 조회는 리스트에서 페이지 범위만 읽으므로 팔로우한 회원 수와 관계없이 페이지 크기만큼의 비용이 든다.
+ * (팔로우 목록과 리뷰 수는 타임라인을 만들 때만 DB 에서 읽는다)
+ */
+@Slf4j
+@Component
+public class ReviewTimeline {
+
+    private static final String KEY_PREFIX = "timeline:";
+    static final String CELEBRITIES_KEY = "timeline:celebrities";
+    private static final String CELEBRITY_COUNT_PREFIX = "timeline:celebrity-reviews:";
+    private static final String CELEBRITIES_FIELD = "celebrities";
+    private static final String TOTAL_FIELD = "total";
+    // 리스트 끝에 두어 "전체 기록을 담고 있음"을 표시한다. (리뷰 ID 는 1부터 시작하므로 겹치지 않는다)
+    private static final String COMPLETE_MARKER = "0";
+    // 타임라인을 만들다 실패해도 임시 키가 남지 않도록 짧게 둔다.
+    private static final Duration BUILD_KEY_TTL = Duration.ofMinutes(1);
+    // 작성자별 리뷰 수는 처음 읽을 때와 작성/삭제가 겹쳐 어긋날 수 있으므로 주기적으로 DB 에서 다시 센다.
+    private static final Duration CELEBRITY_COUNT_TTL = Duration.ofHours(1);
+
+    // 리스트와 해시가 모두 있으면(다른 요청이 먼저 만들었으면) 임시 키를 지우고, 아니면 둘을 함께 바꿔 넣는다.
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 and redis.call('exists', KEYS[2]) == 1 then "
+                    + "redis.call('del', KEYS[3], KEYS[4]) return 0 end "
+                    + "redis.call('rename', KEYS[3], KEYS[1]) redis.call('rename', KEYS[4], KEYS[2]) "
+                    + "redis.call('expire', KEYS[1], ARGV[1]) redis.call('expire', KEYS[2], ARGV[1]) return 1",
+            Long.class);
+    // 만들어 둔 타임라인에만, 아직 없는 리뷰만 넣고 전체 리뷰 수를 더한다. (fan-out 과 다시 확인해 넣기가 겹쳐도 한 번만 센다)
+    private static final String PUSH_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 0 or redis.call('exists', KEYS[2]) == 0 then return 0 end "
+                    + "if redis.call('lpos', KEYS[1], ARGV[1]) then return 0 end "
+                    + "redis.call('lpush', KEYS[1], ARGV[1]) redis.call('ltrim', KEYS[1], 0, tonumber(ARGV[2])) "
+                    + "redis.call('hincrby', KEYS[2], '" + TOTAL_FIELD + "', 1) return 1";
+    private static final RedisScript<Long> PUSH_REDIS_SCRIPT = new DefaultRedisScript<>(PUSH_SCRIPT, Long.class);
+    // 삭제된 리뷰를 빼고 전체 리뷰 수를 줄인다. (잘려 나간 오래된 리뷰도 전체 수에는 들어 있다)
+    private static final String REMOVE_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 0 or redis.call('exists', KEYS[2]) == 0 then return 0 end "
+                    + "redis.call('lrem', KEYS[1], 0, ARGV[1]) "
+                    + "redis.call('hincrby', KEYS[2], '" + TOTAL_FIELD + "', -1) return 1";
+    // 세어 둔 작성자의 리뷰 수만 바꾼다. (없으면 다음 조회 때 DB 에서 센다)
+    private static final RedisScript<Long> INCR_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('incrby', KEYS[1], ARGV[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FollowRepository followRepository;
+    private final ReviewRepository reviewRepository;
+    private final int maxLength;
+    private final long fanoutThreshold;
+    private final Duration ttl;
+
+    public ReviewTimeline(StringRedisTemplate redisTemplate, FollowRepository followRepository,
+                          ReviewRepository reviewRepository,
+                          @Value("${timeline.max-length:500}") int maxLength,
+                          @Value("${timeline.fanout-threshold:1000}") long fanoutThreshold,
+                          @Value("${timeline.ttl:P7D}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.followRepository = followRepository;
+        this.reviewRepository = reviewRepository;
+        this.maxLength = maxLength;
+        this.fanoutThreshold = fanoutThreshold;
+        this.ttl = ttl;
+    }
+
+    /**
+     * [메서드 레벨]
+     * 새 리뷰를 작성자의 팔로워 타임라인에 넣고, 삭제된 리뷰는 뺍니다. (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewFeedEvent(ReviewFeedEvent event) {
+        if (event.getType() == null || event.getReviewId() == null) {
+            return;
+        }
+        switch (event.getType()) {
+            case CREATED:
+                if (event.getReview() != null && event.getReview().getMemberId() != null) {
+                    fanOut(event.getReview().getMemberId(), event.getReviewId());
+                }
+                break;
+            case DELETED:
+                if (event.getAuthorId() != null) {
+                    remove(event.getAuthorId(), event.getReviewId());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    void fanOut(Long authorId, Long reviewId) {
+        try {
+            if (followRepository.countByFollowedId(authorId) > fanoutThreshold) {
+                Long added = redisTemplate.opsForSet().add(CELEBRITIES_KEY, String.valueOf(authorId));
+                if (added != null && added > 0) {
+                    // 새로 등록된 작성자의 리뷰는 이제 팔로워 타임라인에 들어가지 않으므로, 읽을 때 합치도록 팔로워 타임라인을 다시 만든다. (한 번만)
+                    invalidateAll(followRepository.findFollowerIds(authorId));
+                } else {
+                    redisTemplate.execute(INCR_IF_EXISTS_SCRIPT, List.of(celebrityCountKey(authorId)), "1");
+                }
+                return;
+            }
+            evalForFollowers(authorId, PUSH_SCRIPT, String.valueOf(reviewId), String.valueOf(maxLength - 1));
+        } catch (DataAccessException e) {
+            // 타임라인 만료 후 다시 만들 때 DB 에서 채워진다.
+            log.warn("리뷰를 팔로워 타임라인에 넣지 못했습니다. authorId={}, reviewId={}", authorId, reviewId, e);
+        }
+    }
+
+    void remove(Long authorId, Long reviewId) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(CELEBRITIES_KEY, String.valueOf(authorId)))) {
+                redisTemplate.execute(INCR_IF_EXISTS_SCRIPT, List.of(celebrityCountKey(authorId)), "-1");
+                return;
+            }
+            evalForFollowers(authorId, REMOVE_SCRIPT, String.valueOf(reviewId));
+        } catch (DataAccessException e) {
+            // 조회하다 발견하면 removeDeleted 로 빠진다.
+            log.warn("삭제된 리뷰를 팔로워 타임라인에서 빼지 못했습니다. authorId={}, reviewId={}", authorId, reviewId, e);
+        }
+    }
+
+    /**
+     * [메서드 레벨]
+     * 타임라인의 offset 번째부터 limit 개의 리뷰 ID 를 최신순으로 반환합니다.
+     * 잘린 타임라인 범위를 넘거나 Redis 를 쓸 수 없으면 null 을 반환합니다. (DB 에서 직접 조회)
+     *
+     * @param memberId 조회하는 회원 ID
+     */
+    public TimelinePage page(Long memberId, int offset, int limit) {
+        String key = key(memberId);
+        String metaKey = metaKey(memberId);
+        int end = offset + limit;
+        try {
+            List<Object> meta = readMeta(metaKey);
+            if (meta.get(1) == null || !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                build(memberId);
+                meta = readMeta(metaKey);
+                if (meta.get(1) == null) {
+                    return null;
+                }
+            }
+            redisTemplate.expire(key, ttl);
+            redisTemplate.expire(metaKey, ttl);
+
+            List<String> values = redisTemplate.opsForList().range(key, 0, end - 1);
+            boolean complete = COMPLETE_MARKER.equals(redisTemplate.opsForList().index(key, -1));
+            List<Long> pushed = values == null ? List.of() : values.stream()
+                    .filter(value -> !COMPLETE_MARKER.equals(value))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList());
+            if (!complete && pushed.size() < end) {
+                return null;
+            }
+
+            List<Long> celebrities = parseIds((String) meta.get(0));
+            List<Long> pulled = celebrities.isEmpty()
+                    ? List.of() : reviewRepository.findIdsByMemberIdIn(celebrities, PageRequest.of(0, end));
+            long total = Math.max(0, Long.parseLong((String) meta.get(1))) + celebrityReviewCount(celebrities);
+
+            List<Long> merged = merge(pushed, pulled);
+            List<Long> reviewIds = offset >= merged.size()
+                    ? List.of() : merged.subList(offset, Math.min(end, merged.size()));
+            return new TimelinePage(new ArrayList<>(reviewIds), total);
+        } catch (DataAccessException e) {
+            log.warn("타임라인을 읽지 못해 DB 에서 조회합니다. memberId={}", memberId, e);
+            return null;
+        }
+    }
+
+    /**
+     * [메서드 레벨]
+     * 삭제된 리뷰를 타임라인에서 뺍니다. (조회하다 발견한 리뷰만 지운다)
+     * 전체 리뷰 수는 삭제될 때 이미 줄였으므로 그대로 둔다.
+     */
+    public void removeDeleted(Long memberId, List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+        String key = key(memberId);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Long reviewId : reviewIds) {
+                    conn.lRem(key, 0, String.valueOf(reviewId));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("삭제된 리뷰를 타임라인에서 빼지 못했습니다. memberId={}", memberId, e);
+        }
+    }
+
+    /**
+     * [메서드 레벨]
+     * 팔로우/언팔로우로 타임라인에 들어갈 리뷰가 바뀌면 지워 두고, 다음 조회 때 다시 만듭니다.
+     */
+    public void invalidate(Long memberId) {
+        try {
+            redisTemplate.delete(List.of(key(memberId), metaKey(memberId)));
+        } catch (DataAccessException e) {
+            log.warn("타임라인을 지우지 못했습니다. memberId={}", memberId, e);
+        }
+    }
+
+    // 팔로우한 회원(팔로워가 많은 작성자 제외)의 최근 리뷰와 전체 리뷰 수로 타임라인을 만든다.
+    private void build(Long memberId) {
+        List<Long> followedIds = followRepository.findFollowedIds(memberId);
+        Set<String> celebrityIds = redisTemplate.opsForSet().members(CELEBRITIES_KEY);
+        List<Long> celebrities = new ArrayList<>();
+        List<Long> others = new ArrayList<>();
+        for (Long followedId : followedIds) {
+            boolean celebrity = celebrityIds != null && celebrityIds.contains(String.valueOf(followedId));
+            (celebrity ? celebrities : others).add(followedId);
+        }
+
+        List<Long> reviewIds = others.isEmpty()
+                ? List.of() : reviewRepository.findIdsByMemberIdIn(others, PageRequest.of(0, maxLength));
+        long newest = reviewIds.isEmpty() ? 0 : reviewIds.get(0);
+        // 읽은 가장 새 리뷰까지만 센다. 그 뒤에 작성된 리뷰는 타임라인에 넣을 때 하나씩 더한다.
+        long total = reviewIds.isEmpty() ? 0 : reviewRepository.countByMemberIdInAndIdLessThanEqual(others, newest);
+
+        List<String> values = reviewIds.stream().map(String::valueOf).collect(Collectors.toList());
+        if (reviewIds.size() < maxLength) {
+            values.add(COMPLETE_MARKER);
+        }
+        String key = key(memberId);
+        String metaKey = metaKey(memberId);
+        String buildId = ":build:" + UUID.randomUUID();
+        redisTemplate.opsForList().rightPushAll(key + buildId, values);
+        redisTemplate.opsForHash().putAll(metaKey + buildId, Map.of(
+                CELEBRITIES_FIELD, celebrities.stream().map(String::valueOf).collect(Collectors.joining(",")),
+                TOTAL_FIELD, String.valueOf(total)));
+        redisTemplate.expire(key + buildId, BUILD_KEY_TTL);
+        redisTemplate.expire(metaKey + buildId, BUILD_KEY_TTL);
+        Long swapped = redisTemplate.execute(SWAP_SCRIPT, List.of(key, metaKey, key + buildId, metaKey + buildId),
+                String.valueOf(ttl.getSeconds()));
+        if (swapped == null || swapped == 0) {
+            // 다른 요청이 먼저 만들었다.
+            return;
+        }
+
+        // DB 를 읽은 뒤 바꿔 넣기 전에 작성된 리뷰는 fan-out 때 리스트가 없어 빠졌으므로 다시 확인해 오래된 것부터 넣는다.
+        // (바꿔 넣은 뒤 fan-out 이 이미 넣은 리뷰는 스크립트가 건너뛴다)
+        List<Long> missed = others.isEmpty() ? List.of()
+                : reviewRepository.findIdsByMemberIdInAndIdGreaterThan(others, newest, PageRequest.of(0, maxLength));
+        for (int i = missed.size() - 1; i >= 0; i--) {
+            redisTemplate.execute(PUSH_REDIS_SCRIPT, List.of(key, metaKey),
+                    String.valueOf(missed.get(i)), String.valueOf(maxLength - 1));
+        }
+    }
+
+    private List<Object> readMeta(String metaKey) {
+        List<Object> meta = redisTemplate.opsForHash().multiGet(metaKey, List.of(CELEBRITIES_FIELD, TOTAL_FIELD));
+        return meta == null || meta.size() < 2 ? Arrays.asList(null, null) : meta;
+    }
+
+    // 팔로워가 많은 작성자들의 리뷰 수 (세어 둔 값이 없으면 DB 에서 세어 둔다)
+    private long celebrityReviewCount(List<Long> celebrities) {
+        if (celebrities.isEmpty()) {
+            return 0;
+        }
+        List<String> keys = celebrities.stream().map(ReviewTimeline::celebrityCountKey).collect(Collectors.toList());
+        List<String> counts = redisTemplate.opsForValue().multiGet(keys);
+        long total = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String count = counts == null ? null : counts.get(i);
+            if (count == null) {
+                long counted = reviewRepository.countByMemberId(celebrities.get(i));
+                redisTemplate.opsForValue().setIfAbsent(keys.get(i), String.valueOf(counted), CELEBRITY_COUNT_TTL);
+                total += counted;
+            } else {
+                total += Math.max(0, Long.parseLong(count));
+            }
+        }
+        return total;
+    }
+
+    private void evalForFollowers(Long authorId, String script, String... args) {
+        List<Long> followerIds = followRepository.findFollowerIds(authorId);
+        if (followerIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long followerId : followerIds) {
+                // 아직 만들지 않은 타임라인은 읽을 때 DB 에서 만들므로 있는 타임라인만 고친다.
+                String[] keysAndArgs = new String[2 + args.length];
+                keysAndArgs[0] = key(followerId);
+                keysAndArgs[1] = metaKey(followerId);
+                System.arraycopy(args, 0, keysAndArgs, 2, args.length);
+                conn.eval(script, ReturnType.INTEGER, 2, keysAndArgs);
+            }
+            return null;
+        });
+    }
+
+    private void invalidateAll(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            keys.add(key(memberId));
+            keys.add(metaKey(memberId));
+        }
+        redisTemplate.delete(keys);
+    }
+
+    private static List<Long> parseIds(String joined) {
+        if (joined == null || joined.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(joined.split(",")).map(Long::valueOf).collect(Collectors.toList());
+    }
+
+    // 두 최신순 목록을 중복 없이 ID 내림차순으로 합친다.
+    // (나중에 팔로워가 많아진 작성자의 리뷰는 양쪽에 있을 수 있고, 다시 확인해 넣은 리뷰는 fan-out 한 리뷰보다 앞에 있을 수 있다)
+    private static List<Long> merge(List<Long> pushed, List<Long> pulled) {
+        Set<Long> merged = new LinkedHashSet<>(pushed);
+        merged.addAll(pulled);
+        List<Long> sorted = new ArrayList<>(merged);
+        sorted.sort(Comparator.reverseOrder());
+        return sorted;
+    }
+
+    private static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private static String metaKey(Long memberId) {
+        return KEY_PREFIX + memberId + ":meta";
+    }
+
+    private static String celebrityCountKey(Long authorId) {
+        return CELEBRITY_COUNT_PREFIX + authorId;
+    }
+}
@@ -1,69 +1,145 @@
 package com.team1.epilogue.keyword.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team1.epilogue.keyword.util.KeywordNormalizer;
+import com.team1.epilogue.keyword.util.SpaceSaving;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class KeyWordService {
 
   private final StringRedisTemplate stringRedisTemplate;
   public static final long TTL_SECONDS =  86400; // 24 시간
-  private static final String SEARCH_KEY_PREFIX = "search:keyword:";
+  // 기존 문자열 키(search:keyword:{검색어})와 겹치지 않도록 다른 prefix 를 사용
+  private static final String SEARCH_KEY_PREFIX = "search:keywords:";
+  private static final String TOP_KEY = SEARCH_KEY_PREFIX + "top";
+  private static final int WINDOW_HOURS = 24;
+  private static final int POPULAR_SIZE = 10;
+
+  // 인기 검색어 결과를 몇 초 동안 로컬에 들고 있는다. (요청마다 Redis 를 조회하지 않도록)
+  private final Cache<String, List<String>> popularCache;
+  // 이 서버에서 검색된 검색어 중 자주 검색된 후보만 추적한다. 주기적으로 Redis 에 합친다.
+  private final SpaceSaving heavyHitters;
+  // 시간 구간 ZSET 에 남겨둘 최대 검색어 수
+  private final int maxKeywordsPerHour;
+
+  public KeyWordService(StringRedisTemplate stringRedisTemplate,
+      @Value("${keyword.popular-cache-seconds:5}") long popularCacheSeconds,
+      @Value("${keyword.tracked-candidates:2000}") int trackedCandidates,
+      @Value("${keyword.max-keywords-per-hour:5000}") int maxKeywordsPerHour) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.heavyHitters = new SpaceSaving(trackedCandidates);
+    this.maxKeywordsPerHour = maxKeywordsPerHour;
+    this.popularCache = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(popularCacheSeconds))
+        .maximumSize(1)
+        .build();
+  }
 
   /**
-   * 검색된 Keyword 를 Redis 에 저장합니다
+   * 검색된 Keyword 를 집계합니다
+   * 정규화한 검색어를 로컬 heavy-hitter 집계에만 기록하고, Redis 에는 flushKeyWords() 에서 모아서 반영합니다.
    * @param keyWord 검색어
    */
   public void saveKeyWord(String keyWord) {
-    // Redis 키: search:keyword:{검색어}:{시간}
-    String redisKey = "search:keyword:" + keyWord;
+    String normalized = KeywordNormalizer.normalize(keyWord);
+    if (normalized == null) {
+      return;
+    }
+    heavyHitters.offer(normalized);
+  }
+
+  /**
+   * 로컬에서 집계한 검색어 횟수를 현재 시간 구간 ZSET 에 합칩니다.
+   * ZINCRBY, EXPIRE, 하위 검색어 정리(ZREMRANGEBYRANK)를 한 번의 파이프라인으로 보냅니다.
+   */
+  @Scheduled(fixedDelayString = "${keyword.flush-interval-ms:10000}")
+  public void flushKeyWords() {
+    Map<String, Long> counts = heavyHitters.drain();
+    if (counts.isEmpty()) {
+      return;
+    }
+    // Redis 키: search:keywords:hour:{시간}
+    String redisKey = hourKey(currentHour());
+    // 현재 시간 구간이 끝난 뒤에도 24시간 동안은 집계에 포함되어야 한다.
+    long ttlSeconds = TTL_SECONDS + 3600;
+
+    try {
+      stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        StringRedisConnection conn = (StringRedisConnection) connection;
+        counts.forEach((keyword, count) -> conn.zIncrBy(redisKey, count, keyword));
+        // 한 번씩만 검색된 검색어가 Redis 메모리를 차지하지 않도록 상위 검색어만 남긴다.
+        conn.zRemRange(redisKey, 0, -(maxKeywordsPerHour + 1L));
+        // 만료 시간 설정
+        conn.expire(redisKey, ttlSeconds);
+        return null;
+      });
+    } catch (DataAccessException e) {
+      log.warn("검색어 {}건을 Redis 에 반영하지 못했습니다.", counts.size(), e);
+    }
+  }
 
-    // 위 Key 에 해당하는 Value 를 +1 한다.
-    stringRedisTemplate.opsForValue().increment(redisKey, 1);
-    // 만료 시간 설정
-    stringRedisTemplate.expire(redisKey, TTL_SECONDS, TimeUnit.SECONDS);
+  /**
+   * 애플리케이션 종료 시 남은 검색어 집계를 반영합니다.
+   */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flushKeyWords();
   }
 
   /**
-   * 가장 많이 검색된 키워드를 10개까지 List 로 return 합니다
+   * 최근 24시간 동안 가장 많이 검색된 키워드를 10개까지 List 로 return 합니다
    * @return 10개의 인기 검색어
    */
   public List<String> getPopularKeywords() {
-    // redis 에서 검색어들을 가져온다
-    Set<String> keys = stringRedisTemplate.keys(SEARCH_KEY_PREFIX + "*");
+    return popularCache.get(TOP_KEY, key -> loadPopularKeywords());
+  }
 
-    if (keys == null || keys.isEmpty()) {
-      return Collections.emptyList();
+  /**
+   * 최근 24개의 시간 구간 ZSET 을 합친 뒤 상위 10개를 가져옵니다. (ZUNIONSTORE + ZREVRANGE 를 한 번의 왕복으로 처리)
+   */
+  @SuppressWarnings("unchecked")
+  private List<String> loadPopularKeywords() {
+    long currentHour = currentHour();
+    String[] hourKeys = new String[WINDOW_HOURS];
+    for (int i = 0; i < WINDOW_HOURS; i++) {
+      hourKeys[i] = hourKey(currentHour - i);
     }
 
-    Map<String, Integer> keywordCounts = new HashMap<>();
+    List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection conn = (StringRedisConnection) connection;
+      conn.zUnionStore(TOP_KEY, hourKeys);
+      conn.zRevRange(TOP_KEY, 0, POPULAR_SIZE - 1);
+      return null;
+    });
 
-    for (String key : keys) {
-      // keyWord 만 가져온다
-      String keyword = key.replace(SEARCH_KEY_PREFIX, "");
-      log.info(keyword);
-      // redis 내부 value 를 가져온다
-      String countStr = stringRedisTemplate.opsForValue().get(key);
-      int count = (countStr != null) ? Integer.parseInt(countStr) : 0;
-      keywordCounts.put(keyword, count);
+    if (results.size() < 2 || results.get(1) == null) {
+      return Collections.emptyList();
     }
+    return List.copyOf(new ArrayList<>((Collection<String>) results.get(1)));
+  }
+
+  private static long currentHour() {
+    return System.currentTimeMillis() / 3_600_000;
+  }
 
-    // 10개의 검색어만 value 의 숫자가 높은 순서대로 return
-    return keywordCounts.entrySet().stream()
-        .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
-        .limit(10)
-        .map(Map.Entry::getKey)
-        .collect(Collectors.toList());
+  private static String hourKey(long hour) {
+    return SEARCH_KEY_PREFIX + "hour:" + hour;
   }
 }
@@ -0,0 +1,37 @@
+package com.team1.epilogue.keyword.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어를 집계용 형태로 정규화하는 유틸리티 클래스
+ * 앞뒤 공백 제거, 연속 공백을 한 칸으로, 한글 NFC 정규화, 대소문자 통일을 적용해
+ * 띄어쓰기/대소문자/자모 분리 입력만 다른 검색어가 하나로 집계되도록 한다.
+ */
+public final class KeywordNormalizer {
+
+  // 지나치게 긴 입력은 인기 검색어로 의미가 없으므로 잘라낸다.
+  public static final int MAX_LENGTH = 50;
+  private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+  private KeywordNormalizer() {
+  }
+
+  /**
+   * @param keyword 사용자가 입력한 검색어
+   * @return 정규화된 검색어, 집계할 수 없는 입력(null, 공백)이면 null
+   */
+  public static String normalize(String keyword) {
+    if (keyword == null) {
+      return null;
+    }
+    String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+    normalized = WHITESPACES.matcher(normalized.strip()).replaceAll(" ");
+    if (normalized.isEmpty()) {
+      return null;
+    }
+    normalized = normalized.toLowerCase(Locale.ROOT);
+    return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) : normalized;
+  }
+}
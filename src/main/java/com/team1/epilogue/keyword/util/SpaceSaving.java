@@ -0,0 +1,104 @@
+package com.team1.epilogue.keyword.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 고정된 개수(capacity)의 후보만 추적하는 Space-Saving heavy-hitter 집계기
+ * - 후보가 가득 찬 상태에서 새 항목이 들어오면 횟수가 가장 적은 후보를 내보내고 그 횟수 + 1 로 새 항목을 추적한다.
+ * - 각 항목의 횟수는 최대 error 만큼 과대 추정되며, count - error 는 실제 횟수의 하한이다.
+ * - 입력 종류가 아무리 많아도 메모리는 capacity 에 비례한다.
+ */
+public class SpaceSaving {
+
+  private final int capacity;
+  private final Map<String, Counter> counters = new HashMap<>();
+  // 횟수별 항목 목록. 가장 작은 횟수의 항목을 빠르게 찾기 위해 사용
+  private final TreeMap<Long, LinkedHashSet<String>> buckets = new TreeMap<>();
+
+  public SpaceSaving(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity 는 0보다 커야 합니다.");
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * 항목의 등장을 1회 기록합니다.
+   */
+  public synchronized void offer(String item) {
+    Counter counter = counters.get(item);
+    if (counter != null) {
+      move(item, counter.count, counter.count + 1);
+      counter.count++;
+      return;
+    }
+
+    if (counters.size() < capacity) {
+      counters.put(item, new Counter(1, 0));
+      bucket(1).add(item);
+      return;
+    }
+
+    // 횟수가 가장 적은 후보를 내보내고 그 자리를 새 항목이 이어받는다.
+    Map.Entry<Long, LinkedHashSet<String>> min = buckets.firstEntry();
+    Iterator<String> iterator = min.getValue().iterator();
+    String evicted = iterator.next();
+    iterator.remove();
+    if (min.getValue().isEmpty()) {
+      buckets.remove(min.getKey());
+    }
+    counters.remove(evicted);
+
+    long minCount = min.getKey();
+    counters.put(item, new Counter(minCount + 1, minCount));
+    bucket(minCount + 1).add(item);
+  }
+
+  /**
+   * 지금까지 집계한 항목별 확실한 횟수(count - error)를 반환하고 집계를 비웁니다.
+   */
+  public synchronized Map<String, Long> drain() {
+    Map<String, Long> result = new HashMap<>();
+    counters.forEach((item, counter) -> {
+      long guaranteed = counter.count - counter.error;
+      if (guaranteed > 0) {
+        result.put(item, guaranteed);
+      }
+    });
+    counters.clear();
+    buckets.clear();
+    return result;
+  }
+
+  public synchronized int size() {
+    return counters.size();
+  }
+
+  private void move(String item, long from, long to) {
+    LinkedHashSet<String> source = buckets.get(from);
+    source.remove(item);
+    if (source.isEmpty()) {
+      buckets.remove(from);
+    }
+    bucket(to).add(item);
+  }
+
+  private LinkedHashSet<String> bucket(long count) {
+    return buckets.computeIfAbsent(count, c -> new LinkedHashSet<>());
+  }
+
+  private static class Counter {
+
+    private long count;
+    private final long error;
+
+    private Counter(long count, long error) {
+      this.count = count;
+      this.error = error;
+    }
+  }
+}
@@ -4,15 +4,21 @@ import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.exception.MemberNotFoundException;
 import com.team1.epilogue.auth.repository.MemberRepository;
 import com.team1.epilogue.auth.security.CustomMemberDetails;
+import com.team1.epilogue.book.dto.BookFacetChangedEvent;
+import com.team1.epilogue.book.dto.BookFacetRow;
 import com.team1.epilogue.book.entity.Book;
 import com.team1.epilogue.book.repository.BookRepository;
+import com.team1.epilogue.book.service.BookDetailCache;
 import com.team1.epilogue.rating.dto.RatingRequestDto;
 import com.team1.epilogue.rating.dto.RatingResponseDto;
 import com.team1.epilogue.rating.entity.Rating;
 import com.team1.epilogue.rating.exception.RatingNotFoundException;
 import com.team1.epilogue.rating.repository.RatingRepository;
 import com.team1.epilogue.review.exception.BookNotFoundException;
+import com.team1.epilogue.trendingbook.domain.BookActivityType;
+import com.team1.epilogue.trendingbook.dto.BookActivityEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +29,8 @@ public class RatingService {
   private final RatingRepository ratingRepository;
   private final BookRepository bookRepository;
   private final MemberRepository memberRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final BookDetailCache bookDetailCache;
 
   @Transactional
   public RatingResponseDto createRating(
@@ -42,6 +50,9 @@ public class RatingService {
 
     updateBookRating(bookId);
 
+    // 인기 책 점수에 별점 등록 반영
+    eventPublisher.publishEvent(new BookActivityEvent(bookId, BookActivityType.RATING));
+
     return RatingResponseDto.from(savedRating);
   }
 
@@ -77,6 +88,11 @@ public class RatingService {
 
     book.updateAvgRating(avgRating != null ? avgRating : 0.0);
     bookRepository.save(book);
+
+    // 책 상세 페이지 캐시의 평균 별점 갱신 (커밋 이후)
+    bookDetailCache.evict(bookId);
+    // 메인 페이지 별점 필터별 개수 갱신 (커밋 이후)
+    eventPublisher.publishEvent(new BookFacetChangedEvent(BookFacetRow.from(book)));
   }
 
   // === 헬퍼 메서드 ===
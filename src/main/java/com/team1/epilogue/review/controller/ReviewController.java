@@ -1,10 +1,11 @@
 package com.team1.epilogue.review.controller;
 
 import com.team1.epilogue.auth.security.CustomMemberDetails;
+import com.team1.epilogue.auth.security.ResolvedIdentity;
+import com.team1.epilogue.review.dto.ReviewCursorResponse;
 import com.team1.epilogue.review.dto.ReviewRequestDto;
 import com.team1.epilogue.review.dto.ReviewResponseDto;
 import com.team1.epilogue.review.service.ReviewService;
-import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -67,14 +68,37 @@ public class ReviewController {
       @RequestParam("page") int page,
       @RequestParam("size") int size,
       @RequestParam(value = "sortType", defaultValue = "likes") String sortType,
-      HttpServletRequest request
+      ResolvedIdentity identity
   ) {
-    String token = request.getHeader("Authorization");
-    Page<ReviewResponseDto> reviews = reviewService.getReviews(bookId, page, size, sortType, token);
+    Page<ReviewResponseDto> reviews = reviewService.getReviews(bookId, page, size, sortType,
+        identity.getMemberId());
 
     return ResponseEntity.ok(reviews);
   }
 
+  /**
+   * 특정 책의 리뷰를 커서 방식으로 조회합니다.
+   * 첫 요청은 cursor 없이, 다음 요청부터는 이전 응답의 nextCursor 를 보냅니다.
+   *
+   * @param bookId    조회할 책의 ID
+   * @param cursor    이전 응답의 nextCursor
+   * @param size      한 번에 조회할 리뷰 개수 (최대 50)
+   * @param sortType  정렬 기준 ("likes"=좋아요순, "latest"=최신순, 기본값: "likes")
+   * @param withCount 전체 리뷰 수도 함께 받을지 여부 (기본값: false)
+   */
+  @GetMapping("/books/{bookId}/reviews/cursor")
+  public ResponseEntity<ReviewCursorResponse> getReviewsByCursor(
+      @PathVariable String bookId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(value = "sortType", defaultValue = "likes") String sortType,
+      @RequestParam(defaultValue = "false") boolean withCount,
+      ResolvedIdentity identity
+  ) {
+    return ResponseEntity.ok(reviewService.getReviewsByCursor(bookId, cursor, size, sortType,
+        withCount, identity.getMemberId()));
+  }
+
   /**
    * 특정 리뷰의 상세 정보를 조회합니다
    *
@@ -84,10 +108,9 @@ public class ReviewController {
   @GetMapping("/reviews/{reviewId}")
   public ResponseEntity<ReviewResponseDto> getReviewDetail(
       @PathVariable Long reviewId,
-      HttpServletRequest request
+      ResolvedIdentity identity
   ) {
-    String token = request.getHeader("Authorization");
-    ReviewResponseDto dto = reviewService.getReviewDetail(reviewId, token);
+    ReviewResponseDto dto = reviewService.getReviewDetail(reviewId, identity.getMemberId());
 
     return ResponseEntity.ok(dto);
   }
@@ -96,14 +119,28 @@ public class ReviewController {
   public ResponseEntity<Page<ReviewResponseDto>> getLatestReviews(
       @RequestParam("page") int page,
       @RequestParam("size") int size,
-      HttpServletRequest request
+      ResolvedIdentity identity
   ) {
-    String token = request.getHeader("Authorization");
-    Page<ReviewResponseDto> reviews = reviewService.getLatestReviews(page, size, token);
+    Page<ReviewResponseDto> reviews = reviewService.getLatestReviews(page, size,
+        identity.getMemberId());
 
     return ResponseEntity.ok(reviews);
   }
 
+  /**
+   * 전체 최신 리뷰를 커서 방식으로 조회합니다.
+   * 첫 요청은 cursor 없이, 다음 요청부터는 이전 응답의 nextCursor 를 보냅니다.
+   */
+  @GetMapping("/reviews/latest/cursor")
+  public ResponseEntity<ReviewCursorResponse> getLatestReviewsByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      ResolvedIdentity identity
+  ) {
+    return ResponseEntity.ok(reviewService.getLatestReviewsByCursor(cursor, size,
+        identity.getMemberId()));
+  }
+
   /**
    * 특정 리뷰를 수정합니다
    *
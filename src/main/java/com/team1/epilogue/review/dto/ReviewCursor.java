@@ -0,0 +1,57 @@
+package com.team1.epilogue.review.dto;
+
+import com.team1.epilogue.book.exception.InvalidCursorException;
+import com.team1.epilogue.review.entity.Review;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 커서 페이징에서 마지막으로 내려준 리뷰의 위치 (좋아요 수, 작성 시간, 리뷰 ID)
+ * 클라이언트에는 "좋아요 수|작성 시간|리뷰 ID" 를 Base64(URL-safe) 로 인코딩한 문자열로 전달한다.
+ * 좋아요순이 아닌 경우 좋아요 수는 빈 문자열로 표현한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewCursor {
+
+  private static final String SEPARATOR = "|";
+
+  private final Integer likeCount;
+  private final LocalDateTime createdAt;
+  private final Long id;
+
+  public static ReviewCursor of(Review review, boolean byLikes) {
+    return new ReviewCursor(byLikes ? review.getLikeCount() : null, review.getCreatedAt(), review.getId());
+  }
+
+  public String encode() {
+    String raw = (likeCount == null ? "" : likeCount) + SEPARATOR + createdAt + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param cursor 클라이언트가 보낸 커서 문자열 (첫 페이지는 null 또는 빈 문자열)
+   * @return 커서, 첫 페이지면 null
+   * @throws InvalidCursorException 잘못된 커서인 경우
+   */
+  public static ReviewCursor decode(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + SEPARATOR, -1);
+      if (parts.length != 3) {
+        throw new InvalidCursorException("잘못된 커서입니다.");
+      }
+      return new ReviewCursor(parts[0].isEmpty() ? null : Integer.valueOf(parts[0]),
+          LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidCursorException("잘못된 커서입니다.");
+    }
+  }
+}
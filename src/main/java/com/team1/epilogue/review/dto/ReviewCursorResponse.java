@@ -0,0 +1,20 @@
+package com.team1.epilogue.review.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 리뷰 커서 페이징 응답
+ */
+@Getter
+@Builder
+public class ReviewCursorResponse {
+
+  private List<ReviewResponseDto> reviews;
+  private String nextCursor; // 다음 페이지를 요청할 때 보낼 값 (마지막 페이지면 null)
+  private boolean hasNext;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Long totalCount; // withCount=true 로 요청한 경우에만 채운다.
+}
@@ -0,0 +1,46 @@
+package com.team1.epilogue.review.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리뷰가 작성/수정/삭제되거나 좋아요, 댓글 수가 바뀌었을 때 발행하는 이벤트 (최신 리뷰 피드 갱신용)
+ * 다른 서버에도 그대로 JSON 으로 보내므로 Jackson 이 읽을 수 있도록 기본 생성자를 둔다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewFeedEvent {
+
+  public enum Type {
+    CREATED, // review 에 전체 내용
+    UPDATED, // review 에 전체 내용
+    DELETED,
+    COUNTERS // 좋아요/댓글 수 변화량
+  }
+
+  private Type type;
+  private Long reviewId;
+  private ReviewResponseDto review;
+  private Long authorId; // DELETED 일 때 작성자 ID (팔로우 타임라인 갱신용)
+  private int likeDelta;
+  private int commentDelta;
+
+  public static ReviewFeedEvent created(ReviewResponseDto review) {
+    return new ReviewFeedEvent(Type.CREATED, review.getId(), review, null, 0, 0);
+  }
+
+  public static ReviewFeedEvent updated(ReviewResponseDto review) {
+    return new ReviewFeedEvent(Type.UPDATED, review.getId(), review, null, 0, 0);
+  }
+
+  public static ReviewFeedEvent deleted(Long reviewId, Long authorId) {
+    return new ReviewFeedEvent(Type.DELETED, reviewId, null, authorId, 0, 0);
+  }
+
+  public static ReviewFeedEvent counters(Long reviewId, int likeDelta, int commentDelta) {
+    return new ReviewFeedEvent(Type.COUNTERS, reviewId, null, null, likeDelta, commentDelta);
+  }
+}
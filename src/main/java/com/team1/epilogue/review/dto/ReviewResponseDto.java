@@ -6,12 +6,14 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 클라이언트에게 전달할 리뷰 상세 정보를 담는 DTO입니다
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
 @AllArgsConstructor
 public class ReviewResponseDto {
 
@@ -52,6 +54,21 @@ public class ReviewResponseDto {
         .build();
   }
 
+  /**
+   * Review 엔티티를 DTO로 변환하면서, 아직 DB 에 반영되지 않은 좋아요 수 변화량을 더합니다
+   *
+   * @param review       변환할 Review 엔티티
+   * @param pendingLikes 아직 DB 에 반영되지 않은 좋아요 수 변화량
+   * @return 변환된 ReviewResponseDto 객체
+   */
+  public static ReviewResponseDto from(Review review, int pendingLikes) {
+    ReviewResponseDto dto = from(review);
+    if (pendingLikes != 0) {
+      dto.likeCount = Math.max(0, dto.likeCount + pendingLikes);
+    }
+    return dto;
+  }
+
   public void setLiked(boolean liked) {
     this.liked = liked;
   }
@@ -12,8 +12,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -27,6 +29,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+    // 리뷰 커서 페이징 (정렬 값, ID) 탐색용. ID 만 먼저 찾을 때 인덱스만 읽는다.
+    @Index(name = "idx_review_book_created_id", columnList = "book_id, created_at, id"),
+    @Index(name = "idx_review_book_like_created_id", columnList = "book_id, like_count, created_at, id"),
+    @Index(name = "idx_review_created_id", columnList = "created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Review extends BaseEntity {
 
@@ -9,6 +9,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,8 +19,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(uniqueConstraints = {
+    // 같은 회원이 같은 리뷰에 동시에 좋아요를 눌러도 한 건만 저장되도록 DB 에서 막는다.
+    // (member_id 를 앞에 두어 "이 회원이 좋아요한 리뷰" 조회에도 쓴다)
+    @UniqueConstraint(name = ReviewLike.UNIQUE_MEMBER_REVIEW, columnNames = {"member_id", "review_id"})
+})
 public class ReviewLike extends BaseEntity {
 
+  public static final String UNIQUE_MEMBER_REVIEW = "uk_review_like_member_review";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
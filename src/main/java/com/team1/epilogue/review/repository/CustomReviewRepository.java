@@ -0,0 +1,18 @@
+package com.team1.epilogue.review.repository;
+
+import com.team1.epilogue.review.dto.ReviewCursor;
+import com.team1.epilogue.review.entity.Review;
+import java.util.List;
+
+/**
+ * Query DSL 을 사용하는 리뷰 커서 페이징용 Repository
+ */
+public interface CustomReviewRepository {
+
+  // 특정 책의 리뷰 중 커서 다음의 리뷰를 limit 개까지 가져온다. (좋아요순 또는 최신순, cursor 가 null 이면 첫 페이지)
+  List<Review> findBookReviewsAfter(String bookId, boolean byLikes, ReviewCursor cursor, int limit);
+
+  // 전체 리뷰 중 커서 다음의 최신 리뷰를 limit 개까지 가져온다.
+  List<Review> findLatestReviewsAfter(ReviewCursor cursor, int limit);
+
+}
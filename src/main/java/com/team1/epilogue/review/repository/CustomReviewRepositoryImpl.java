@@ -0,0 +1,105 @@
+package com.team1.epilogue.review.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.team1.epilogue.book.exception.InvalidCursorException;
+import com.team1.epilogue.review.dto.ReviewCursor;
+import com.team1.epilogue.review.entity.Review;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import static com.team1.epilogue.review.entity.QReview.review;
+
+/**
+ * 리뷰 커서 페이징
+ * 1. (정렬 값, ID) 로 다음 페이지의 리뷰 ID 만 먼저 찾는다. Review 의 복합 인덱스만 읽고 끝나므로 페이지가 깊어져도 비용이 같다.
+ * 2. 찾은 ID 의 리뷰만 작성자, 책과 함께 fetch join 으로 가져온다.
+ * JOIN FETCH 와 Page 를 함께 쓰지 않으므로 COUNT 쿼리도 나가지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomReviewRepositoryImpl implements CustomReviewRepository {
+
+  private final JPAQueryFactory jpaQueryFactory;
+
+  @Override
+  public List<Review> findBookReviewsAfter(String bookId, boolean byLikes, ReviewCursor cursor, int limit) {
+    BooleanBuilder where = new BooleanBuilder(review.book.id.eq(bookId));
+    if (cursor != null) {
+      where.and(byLikes ? seekByLikes(cursor) : seekByLatest(cursor));
+    }
+    List<Long> ids = jpaQueryFactory
+        .select(review.id)
+        .from(review)
+        .where(where)
+        .orderBy(byLikes ? byLikesOrder() : byLatestOrder())
+        .limit(limit)
+        .fetch();
+    return fetchWithMemberAndBook(ids);
+  }
+
+  @Override
+  public List<Review> findLatestReviewsAfter(ReviewCursor cursor, int limit) {
+    List<Long> ids = jpaQueryFactory
+        .select(review.id)
+        .from(review)
+        .where(cursor == null ? null : seekByLatest(cursor))
+        .orderBy(byLatestOrder())
+        .limit(limit)
+        .fetch();
+    return fetchWithMemberAndBook(ids);
+  }
+
+  // ID 목록 순서대로 리뷰를 작성자, 책과 함께 가져온다.
+  private List<Review> fetchWithMemberAndBook(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Integer> order = new HashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      order.put(ids.get(i), i);
+    }
+    List<Review> reviews = new ArrayList<>(jpaQueryFactory
+        .selectFrom(review)
+        .join(review.member).fetchJoin()
+        .join(review.book).fetchJoin()
+        .where(review.id.in(ids))
+        .fetch());
+    reviews.sort(Comparator.comparingInt(r -> order.get(r.getId())));
+    return reviews;
+  }
+
+  private static OrderSpecifier<?>[] byLikesOrder() {
+    return new OrderSpecifier<?>[]{review.likeCount.desc(), review.createdAt.desc(), review.id.desc()};
+  }
+
+  private static OrderSpecifier<?>[] byLatestOrder() {
+    return new OrderSpecifier<?>[]{review.createdAt.desc(), review.id.desc()};
+  }
+
+  /**
+   * (좋아요 수, 작성 시간, ID) 가 커서보다 뒤에 있는 리뷰 (정렬 순서가 모두 내림차순이므로 "작은" 쪽)
+   */
+  private static BooleanExpression seekByLikes(ReviewCursor cursor) {
+    if (cursor.getLikeCount() == null) { // 최신순 커서로 좋아요순을 요청한 경우
+      throw new InvalidCursorException("잘못된 커서입니다.");
+    }
+    return review.likeCount.lt(cursor.getLikeCount())
+        .or(review.likeCount.eq(cursor.getLikeCount()).and(seekByLatest(cursor)));
+  }
+
+  /**
+   * (작성 시간, ID) 가 커서보다 뒤에 있는 리뷰
+   */
+  private static BooleanExpression seekByLatest(ReviewCursor cursor) {
+    return review.createdAt.lt(cursor.getCreatedAt())
+        .or(review.createdAt.eq(cursor.getCreatedAt()).and(review.id.lt(cursor.getId())));
+  }
+}
@@ -3,7 +3,9 @@ package com.team1.epilogue.review.repository;
 import com.team1.epilogue.review.entity.ReviewLike;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
@@ -12,7 +14,16 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
 
   Boolean existsByReviewIdAndMemberId(Long reviewId, Long memberId);
 
+  // 좋아요 취소 (삭제된 행 수가 0 이면 좋아요한 적이 없거나 동시에 이미 취소된 것)
+  @Modifying
+  @Query("DELETE FROM ReviewLike rl WHERE rl.review.id = :reviewId AND rl.member.id = :memberId")
+  int deleteByReviewIdAndMemberId(Long reviewId, Long memberId);
+
   // 로그인한 사용자가 좋아요한 리뷰 ID들을 한 번의 쿼리로 조회 (N+1 문제 방지)
   @Query("SELECT rl.review.id FROM ReviewLike rl WHERE rl.member.id = :memberId AND rl.review.id IN :reviewIds")
   List<Long> findLikedReviewIdsByMemberId(Long memberId, List<Long> reviewIds);
+
+  // 회원이 좋아요한 리뷰 ID 전체 조회 (좋아요 캐시를 채울 때, unique 제약 인덱스만으로 읽는다)
+  @Query("SELECT rl.review.id FROM ReviewLike rl WHERE rl.member.id = :memberId")
+  List<Long> findReviewIdsByMemberId(Long memberId, Pageable pageable);
 }
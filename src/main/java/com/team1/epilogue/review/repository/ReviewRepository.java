@@ -4,6 +4,7 @@ import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.review.entity.Review;
 import io.lettuce.core.dynamic.annotation.Param;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -15,7 +16,9 @@ import org.springframework.data.jpa.repository.Query;
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
   // 특정 책의 리뷰 전체 조회 (Member, Book 함께 조회, 페이징 적용)
-  @Query("SELECT r FROM Review r JOIN FETCH r.member JOIN FETCH r.book WHERE r.book.id = :bookId")
+  // 개수는 JOIN 없이 (book_id) 인덱스로 센다.
+  @Query(value = "SELECT r FROM Review r JOIN FETCH r.member JOIN FETCH r.book WHERE r.book.id = :bookId",
+      countQuery = "SELECT COUNT(r) FROM Review r WHERE r.book.id = :bookId")
   Page<Review> findByBookIdWithMember(@Param("bookId") String bookId, Pageable pageable);
 
   // 특정 리뷰 상세 조회 (Member, Book 함께 조회)
@@ -23,19 +26,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
   Optional<Review> findByIdWithBookAndMember(@Param("reviewId") Long reviewId);
 
   // 최신 리뷰 목록 조회 (Member, Book 함께 조회, 최신순 정렬, 페이징 적용)
-  @Query("SELECT r FROM Review r JOIN FETCH r.book JOIN FETCH r.member ORDER BY r.createdAt DESC")
+  @Query(value = "SELECT r FROM Review r JOIN FETCH r.book JOIN FETCH r.member ORDER BY r.createdAt DESC",
+      countQuery = "SELECT COUNT(r) FROM Review r")
   Page<Review> findAllReviewsSortedByLatest(Pageable pageable);
 
-  // 리뷰 좋아요 증가 (좋아요 개수를 직접 업데이트)
-  @Modifying
-  @Query("UPDATE Review r SET r.likeCount = r.likeCount + 1 WHERE r.id = :reviewId")
-  int increaseLikeCount(@Param("reviewId") Long reviewId);
-
-  // 리뷰 좋아요 감소 (최소 0 유지, 직접 업데이트)
-  @Modifying
-  @Query("UPDATE Review r SET r.likeCount = r.likeCount - 1 WHERE r.id = :reviewId AND r.likeCount > 0")
-  int decreaseLikeCount(@Param("reviewId") Long reviewId);
-
   @Query("SELECT r FROM Review r JOIN FETCH r.book JOIN FETCH r.member "
       + "WHERE r.createdAt BETWEEN :startDate AND :endDate AND r.member.loginId = :memberId")
   List<Review> findByDateAndMember(
@@ -73,4 +67,24 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
   int countAllByMember(Member member);
 
+  long countByBookId(String bookId);
+
+  // 팔로우 타임라인: 작성자들의 리뷰 ID 를 최신순(ID 내림차순)으로
+  @Query("SELECT r.id FROM Review r WHERE r.member.id IN :memberIds ORDER BY r.id DESC")
+  List<Long> findIdsByMemberIdIn(@Param("memberIds") Collection<Long> memberIds, Pageable pageable);
+
+  // 팔로우 타임라인: 타임라인을 만든 뒤, 만들 때 읽은 리뷰보다 새 리뷰 ID
+  @Query("SELECT r.id FROM Review r WHERE r.member.id IN :memberIds AND r.id > :afterId ORDER BY r.id DESC")
+  List<Long> findIdsByMemberIdInAndIdGreaterThan(@Param("memberIds") Collection<Long> memberIds,
+      @Param("afterId") Long afterId, Pageable pageable);
+
+  // 팔로우 타임라인: 타임라인을 만들 때 읽은 가장 새 리뷰까지의 리뷰 수 (이후 리뷰는 타임라인에 넣을 때 센다)
+  long countByMemberIdInAndIdLessThanEqual(Collection<Long> memberIds, Long maxId);
+
+  // 팔로우 타임라인: 팔로워가 많은 작성자의 리뷰 수
+  long countByMemberId(Long memberId);
+
+  @Query("SELECT r FROM Review r JOIN FETCH r.member JOIN FETCH r.book WHERE r.id IN :ids")
+  List<Review> findAllByIdInWithMemberAndBook(@Param("ids") Collection<Long> ids);
+
 }
@@ -0,0 +1,391 @@
+package com.team1.epilogue.review.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.epilogue.review.dto.ReviewCursor;
+import com.team1.epilogue.review.dto.ReviewFeedEvent;
+import com.team1.epilogue.review.dto.ReviewResponseDto;
+import com.team1.epilogue.review.entity.Review;
+import com.team1.epilogue.review.repository.CustomReviewRepository;
+import com.team1.epilogue.review.repository.ReviewRepository;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 전체 최신 리뷰 목록(/api/reviews/latest)의 앞부분을 메모리에 들고 있는 ring buffer 입니다.
+ * - 최신 capacity 개 리뷰의 응답 DTO 를 (작성 시간, ID) 내림차순으로 들고 있고, 범위 안의 페이지는 DB 없이 응답합니다.
+ * - 리뷰 작성/수정/삭제, 좋아요/댓글 수 변화는 ReviewFeedEvent 로 반영하고 pub/sub 으로 다른 서버에도 보냅니다.
+ * - 놓친 변경이 쌓이지 않도록 주기적으로 DB 에서 다시 채웁니다. 다시 채우는 동안 들어온 작성/수정/삭제는 모아 두었다가 새 버퍼에 다시 적용합니다.
+ */
+@Slf4j
+@Component
+public class LatestReviewFeed implements MessageListener {
+
+  public static final String CHANGED_CHANNEL = "review:latest-feed:changed";
+
+  private static final Comparator<ReviewResponseDto> LATEST_FIRST = Comparator
+      .comparing(ReviewResponseDto::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+      .thenComparing(ReviewResponseDto::getId, Comparator.reverseOrder());
+
+  private final ReviewRepository reviewRepository;
+  private final CustomReviewRepository customReviewRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+  private final LikeCountBuffer likeCountBuffer;
+  private final int capacity;
+  // pub/sub 은 보낸 서버에도 다시 전달되므로, 자기가 보낸 메시지는 무시한다. (변화량을 두 번 더하지 않도록)
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Object reloadLock = new Object();
+  private Ring ring;
+  private boolean loaded;
+  // 다시 채우는 중에 들어온 변경 (DB 를 읽은 뒤 교체하기 전의 변경이 빠지지 않도록 새 버퍼에 다시 적용한다)
+  private List<ReviewFeedEvent> appliedDuringReload;
+
+  public LatestReviewFeed(ReviewRepository reviewRepository, CustomReviewRepository customReviewRepository,
+      StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+      ObjectMapper objectMapper, LikeCountBuffer likeCountBuffer,
+      @Value("${review.latest-feed.capacity:2000}") int capacity) {
+    this.reviewRepository = reviewRepository;
+    this.customReviewRepository = customReviewRepository;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.objectMapper = objectMapper;
+    this.likeCountBuffer = likeCountBuffer;
+    this.capacity = capacity;
+    this.ring = new Ring(capacity);
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+  }
+
+  /**
+   * 애플리케이션 시작 시, 그리고 주기적으로 DB 의 최신 리뷰로 다시 채웁니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${review.latest-feed.reload-interval-ms:600000}",
+      initialDelayString = "${review.latest-feed.reload-interval-ms:600000}")
+  public void reload() {
+    synchronized (reloadLock) {
+      setAppliedDuringReload(new ArrayList<>());
+      long total;
+      List<Review> reviews;
+      try {
+        total = reviewRepository.count();
+        reviews = customReviewRepository.findLatestReviewsAfter(null, capacity);
+      } catch (RuntimeException e) {
+        setAppliedDuringReload(null);
+        throw e;
+      }
+      Ring reloaded = new Ring(capacity);
+      for (int i = reviews.size() - 1; i >= 0; i--) {
+        // 아직 DB 에 반영되지 않은 좋아요 수는 이미 이벤트로 더해 두었으므로, 다시 채울 때도 더해야 줄어들지 않는다.
+        Review review = reviews.get(i);
+        reloaded.add(ReviewResponseDto.from(review, likeCountBuffer.getPendingReviewLikes(review.getId())));
+      }
+      // DB 의 리뷰가 capacity 보다 적으면 전체 리뷰를 들고 있으므로 어떤 페이지든 메모리로 응답할 수 있다.
+      reloaded.complete = reviews.size() < capacity;
+      reloaded.total = total;
+
+      lock.writeLock().lock();
+      try {
+        appliedDuringReload.forEach(event -> replay(reloaded, event));
+        appliedDuringReload = null;
+        ring = reloaded;
+        loaded = true;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      log.info("최신 리뷰 피드를 채웠습니다. 리뷰 {}개 (전체 {}개)", reviews.size(), total);
+    }
+  }
+
+  /**
+   * 이 서버에서 바뀐 리뷰를 반영하고 다른 서버에도 알립니다. (커밋 이후)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onReviewFeedEvent(ReviewFeedEvent event) {
+    apply(event);
+    try {
+      String body = objectMapper.createObjectNode()
+          .put("node", nodeId)
+          .set("event", objectMapper.valueToTree(event))
+          .toString();
+      redisTemplate.convertAndSend(CHANGED_CHANNEL, body);
+    } catch (DataAccessException | IllegalArgumentException e) {
+      log.warn("최신 리뷰 피드 변경 메시지를 발행하지 못했습니다. reviewId={}", event.getReviewId(), e);
+    }
+  }
+
+  /**
+   * 다른 서버에서 바뀐 리뷰를 반영합니다.
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      JsonNode node = objectMapper.readTree(body);
+      if (nodeId.equals(node.path("node").asText())) {
+        return;
+      }
+      apply(objectMapper.treeToValue(node.get("event"), ReviewFeedEvent.class));
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+      log.warn("잘못된 최신 리뷰 피드 변경 메시지입니다: {}", body);
+    }
+  }
+
+  /**
+   * 최신 리뷰 page 번째 페이지를 반환합니다. 메모리에 없는 범위면 null 을 반환합니다. (DB 에서 조회)
+   * liked 는 채우지 않으므로 호출하는 쪽에서 회원별로 채워야 합니다.
+   *
+   * @param page 페이지 번호 (1부터 시작)
+   */
+  public List<ReviewResponseDto> page(int page, int size) {
+    long from = (long) (page - 1) * size;
+    lock.readLock().lock();
+    try {
+      if (!loaded || from < 0 || size <= 0 || (from + size > ring.size && !ring.complete)) {
+        return null;
+      }
+      return ring.copy((int) Math.min(from, ring.size), (int) Math.min(from + size, ring.size));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 커서 다음의 최신 리뷰를 limit 개까지 반환합니다. 메모리에 없는 범위면 null 을 반환합니다.
+   *
+   * @param cursor 마지막으로 내려준 리뷰 위치 (첫 페이지는 null)
+   */
+  public List<ReviewResponseDto> after(ReviewCursor cursor, int limit) {
+    lock.readLock().lock();
+    try {
+      if (!loaded) {
+        return null;
+      }
+      int from = cursor == null ? 0 : ring.indexAfter(cursor);
+      if (from + limit > ring.size && !ring.complete) {
+        return null;
+      }
+      return ring.copy(from, Math.min(from + limit, ring.size));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 전체 리뷰 수 (DB 에서 채운 값에 이후의 작성/삭제를 더한 값)
+   */
+  public long totalCount() {
+    lock.readLock().lock();
+    try {
+      return ring.total;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  void apply(ReviewFeedEvent event) {
+    if (event == null || event.getType() == null || event.getReviewId() == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      switch (event.getType()) {
+        case CREATED:
+          ring.add(event.getReview());
+          break;
+        case UPDATED:
+          ring.replace(event.getReview());
+          break;
+        case DELETED:
+          ring.remove(event.getReviewId());
+          break;
+        case COUNTERS:
+          ring.addCounters(event.getReviewId(), event.getLikeDelta(), event.getCommentDelta());
+          break;
+      }
+      if (appliedDuringReload != null) {
+        appliedDuringReload.add(event);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // DB 에서 읽은 결과에 이미 들어 있을 수 있는 변경이므로, 두 번 적용해도 결과가 같은 것만 다시 적용한다.
+  private static void replay(Ring reloaded, ReviewFeedEvent event) {
+    switch (event.getType()) {
+      case CREATED:
+        reloaded.add(event.getReview()); // 이미 있는 리뷰는 무시한다.
+        break;
+      case UPDATED:
+        reloaded.replace(event.getReview());
+        break;
+      case DELETED:
+        // DB 에서 읽을 때 이미 빠진 리뷰는 전체 수에서도 이미 빠져 있다.
+        if (reloaded.byId.containsKey(event.getReviewId())) {
+          reloaded.remove(event.getReviewId());
+        }
+        break;
+      case COUNTERS:
+        // 좋아요/댓글 수는 DB 에서 읽은 값에 이미 들어 있는지 알 수 없어 다시 더하지 않는다. (다음 reload 때 맞춰진다)
+        break;
+    }
+  }
+
+  private void setAppliedDuringReload(List<ReviewFeedEvent> events) {
+    lock.writeLock().lock();
+    try {
+      appliedDuringReload = events;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 최신순으로 정렬된 원형 배열. 0 번(head)이 가장 최신 리뷰이고, 가득 찬 상태에서 새 리뷰가 오면 가장 오래된 리뷰를 밀어낸다.
+   * 새 리뷰는 거의 항상 맨 앞에 들어가므로 삽입은 O(1) 이고, 순서가 늦게 도착한 리뷰만 제자리까지 옮긴다.
+   */
+  private static class Ring {
+
+    private final ReviewResponseDto[] slots;
+    private final Map<Long, ReviewResponseDto> byId = new HashMap<>();
+    private int head;
+    private int size;
+    private boolean complete = true; // 메모리에 있는 리뷰가 전체 리뷰인지 여부
+    private long total;
+
+    private Ring(int capacity) {
+      this.slots = new ReviewResponseDto[capacity];
+    }
+
+    private ReviewResponseDto get(int index) {
+      return slots[(head + index) % slots.length];
+    }
+
+    private void set(int index, ReviewResponseDto review) {
+      slots[(head + index) % slots.length] = review;
+    }
+
+    private void add(ReviewResponseDto review) {
+      if (review == null || byId.containsKey(review.getId())) {
+        return;
+      }
+      total++;
+      if (slots.length == 0) {
+        complete = false;
+        return;
+      }
+      // 가장 오래된 리뷰보다도 오래된 리뷰는 이 범위 밖이다.
+      if (size == slots.length && LATEST_FIRST.compare(review, get(size - 1)) > 0) {
+        complete = false;
+        return;
+      }
+      if (size == slots.length) {
+        byId.remove(get(size - 1).getId());
+        complete = false;
+        size--;
+      }
+      head = (head - 1 + slots.length) % slots.length;
+      size++;
+      int index = 0;
+      while (index + 1 < size && LATEST_FIRST.compare(review, get(index + 1)) > 0) {
+        set(index, get(index + 1));
+        index++;
+      }
+      set(index, review);
+      byId.put(review.getId(), review);
+    }
+
+    // 수정된 리뷰는 자리는 그대로 두고 내용만 바꾼다. (범위 밖의 리뷰는 무시)
+    private void replace(ReviewResponseDto review) {
+      if (review == null || !byId.containsKey(review.getId())) {
+        return;
+      }
+      set(indexOf(review.getId()), review);
+      byId.put(review.getId(), review);
+    }
+
+    private void remove(Long reviewId) {
+      total = Math.max(0, total - 1);
+      if (byId.remove(reviewId) == null) {
+        return;
+      }
+      for (int i = indexOf(reviewId); i < size - 1; i++) {
+        set(i, get(i + 1));
+      }
+      set(size - 1, null);
+      size--;
+    }
+
+    private void addCounters(Long reviewId, int likeDelta, int commentDelta) {
+      ReviewResponseDto review = byId.get(reviewId);
+      if (review == null) {
+        return;
+      }
+      ReviewResponseDto updated = review.toBuilder()
+          .likeCount(Math.max(0, review.getLikeCount() + likeDelta))
+          .commentsCount(Math.max(0, review.getCommentsCount() + commentDelta))
+          .build();
+      set(indexOf(reviewId), updated);
+      byId.put(reviewId, updated);
+    }
+
+    private int indexOf(Long reviewId) {
+      for (int i = 0; i < size; i++) {
+        if (reviewId.equals(get(i).getId())) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    // (작성 시간, ID) 가 커서보다 뒤에 있는 첫 리뷰의 위치
+    private int indexAfter(ReviewCursor cursor) {
+      ReviewResponseDto position = ReviewResponseDto.builder()
+          .id(cursor.getId()).createdAt(cursor.getCreatedAt()).build();
+      int index = 0;
+      while (index < size && LATEST_FIRST.compare(get(index), position) <= 0) {
+        index++;
+      }
+      return index;
+    }
+
+    // liked 는 회원마다 다르므로 복사본을 내려준다.
+    private List<ReviewResponseDto> copy(int from, int to) {
+      List<ReviewResponseDto> result = new ArrayList<>(Math.max(0, to - from));
+      for (int i = from; i < to; i++) {
+        result.add(get(i).toBuilder().build());
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.team1.epilogue.review.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 리뷰/댓글 좋아요 수의 변화량을 메모리에 모았다가 주기적으로 한 번에 DB 에 반영하는 카운터입니다.
+ * 좋아요마다 review / comment row 에 UPDATE 를 날리면 인기 리뷰의 row 락에서 요청이 줄을 서기 때문에,
+ * 좋아요 여부는 review_like / comment_like 의 unique 제약으로만 보장하고, 개수는 like.flush-interval-ms 마다 batch UPDATE 로 flush 합니다.
+ * 아직 반영되지 않은 변화량은 조회 시 DB 값에 더해 응답합니다. (이 서버에서 들어온 변화량만 더하므로 다른 서버의 좋아요는 flush 이후 보인다)
+ * 서버가 비정상 종료될 경우 최대 flush 주기만큼의 변화량이 유실될 수 있으며, 정상 종료 시에는 남은 값을 모두 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountBuffer {
+
+  // 동시에 취소가 몰려도 음수가 되지 않도록 0 에서 멈춘다.
+  private static final String REVIEW_FLUSH_SQL =
+      "UPDATE review SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+  private static final String COMMENT_FLUSH_SQL =
+      "UPDATE comment SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // key: 리뷰/댓글 ID, value: 아직 DB 에 반영되지 않은 좋아요 수 변화량
+  // flush 때 remove 로 꺼내므로 좋아요가 멈춘 리뷰/댓글의 항목은 남지 않는다.
+  private final Map<Long, Integer> pendingReviewLikes = new ConcurrentHashMap<>();
+  private final Map<Long, Integer> pendingCommentLikes = new ConcurrentHashMap<>();
+
+  /**
+   * 리뷰 좋아요 수를 delta 만큼 바꿉니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+   */
+  public void addReviewLikes(Long reviewId, int delta) {
+    afterCommit(() -> pendingReviewLikes.merge(reviewId, delta, Integer::sum));
+  }
+
+  /**
+   * 댓글 좋아요 수를 delta 만큼 바꿉니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+   */
+  public void addCommentLikes(Long commentId, int delta) {
+    afterCommit(() -> pendingCommentLikes.merge(commentId, delta, Integer::sum));
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 리뷰 좋아요 수 변화량을 반환합니다.
+   */
+  public int getPendingReviewLikes(Long reviewId) {
+    return reviewId == null ? 0 : pendingReviewLikes.getOrDefault(reviewId, 0);
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 댓글 좋아요 수 변화량을 반환합니다.
+   */
+  public int getPendingCommentLikes(Long commentId) {
+    return commentId == null ? 0 : pendingCommentLikes.getOrDefault(commentId, 0);
+  }
+
+  /**
+   * 모인 변화량을 batch UPDATE 로 DB 에 반영합니다.
+   * 꺼낸 이후 들어온 변화량은 다음 flush 에 반영되고, DB 반영에 실패하면 다시 카운터에 더해 둡니다.
+   */
+  @Scheduled(fixedDelayString = "${like.flush-interval-ms:1000}")
+  public synchronized void flush() {
+    flush(pendingReviewLikes, REVIEW_FLUSH_SQL, "리뷰");
+    flush(pendingCommentLikes, COMMENT_FLUSH_SQL, "댓글");
+  }
+
+  /**
+   * 애플리케이션 종료 시 남아있는 변화량을 모두 반영합니다.
+   */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private void flush(Map<Long, Integer> pending, String sql, String target) {
+    List<Object[]> batchArgs = new ArrayList<>();
+    for (Long id : pending.keySet()) {
+      Integer delta = pending.remove(id);
+      if (delta != null && delta != 0) {
+        batchArgs.add(new Object[]{delta, id});
+      }
+    }
+
+    if (batchArgs.isEmpty()) {
+      return;
+    }
+
+    try {
+      jdbcTemplate.batchUpdate(sql, batchArgs);
+    } catch (DataAccessException e) {
+      log.warn("{} 좋아요 수 {}건 DB 반영에 실패해 다음 flush 때 다시 시도합니다.", target, batchArgs.size(), e);
+      for (Object[] args : batchArgs) {
+        pending.merge((Long) args[1], (Integer) args[0], Integer::sum);
+      }
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.team1.epilogue.review.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team1.epilogue.comment.repository.CommentLikeRepository;
+import com.team1.epilogue.review.repository.ReviewLikeRepository;
+import com.team1.epilogue.review.util.LikedIds;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별로 좋아요한 리뷰/댓글 ID 를 메모리에 들고 있는 캐시입니다. 목록의 좋아요 여부(liked)를 쿼리 없이 채웁니다.
+ * - 회원이 처음 조회할 때 좋아요한 ID 전체를 한 번 읽어 정렬된 long 배열(LikedIds)로 들고 있고, 오래 안 쓴 회원부터 비웁니다.
+ * - 좋아요/취소는 커밋 이후 이 서버의 해당 회원 캐시를 비우고, pub/sub 으로 다른 서버의 캐시도 비웁니다. (다음 조회 때 다시 읽는다)
+ * - 좋아요한 ID 가 like.member-cache.max-ids-per-member 보다 많은 회원은 캐시하지 않고 페이지마다 DB 에서 확인합니다.
+ */
+@Slf4j
+@Component
+public class MemberLikeCache implements MessageListener {
+
+  public static final String CHANGED_CHANNEL = "like:member-cache:changed";
+  private static final String REVIEW = "review";
+  private static final String COMMENT = "comment";
+  // 좋아요한 ID 가 너무 많아 캐시하지 않는 회원 표시 (같은 회원을 매번 다시 읽지 않도록 이 값을 넣어 둔다)
+  private static final LikedIds TOO_MANY = LikedIds.of(List.of());
+
+  private final ReviewLikeRepository reviewLikeRepository;
+  private final CommentLikeRepository commentLikeRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final int maxIdsPerMember;
+  private final Cache<Long, LikedIds> reviewLikes;
+  private final Cache<Long, LikedIds> commentLikes;
+  // pub/sub 은 보낸 서버에도 다시 전달되므로, 자기가 보낸 메시지는 무시한다. (이미 커밋 직후에 비웠다)
+  private final String nodeId = UUID.randomUUID().toString();
+
+  public MemberLikeCache(ReviewLikeRepository reviewLikeRepository,
+      CommentLikeRepository commentLikeRepository, StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${like.member-cache.max-ids:2000000}") long maxIds,
+      @Value("${like.member-cache.max-ids-per-member:5000}") int maxIdsPerMember,
+      @Value("${like.member-cache.expire-after-access:PT30M}") Duration expireAfterAccess) {
+    this.reviewLikeRepository = reviewLikeRepository;
+    this.commentLikeRepository = commentLikeRepository;
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.maxIdsPerMember = maxIdsPerMember;
+    this.reviewLikes = newCache(maxIds / 2, expireAfterAccess);
+    this.commentLikes = newCache(maxIds / 2, expireAfterAccess);
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+  }
+
+  /**
+   * reviewIds 중 회원이 좋아요한 리뷰 ID 를 반환합니다.
+   *
+   * @param memberId 로그인한 사용자의 ID (비로그인 시 null)
+   */
+  public Set<Long> likedReviewIds(Long memberId, List<Long> reviewIds) {
+    if (memberId == null || reviewIds.isEmpty()) {
+      return Set.of();
+    }
+    LikedIds liked = reviewLikes.get(memberId, id -> load(
+        reviewLikeRepository.findReviewIdsByMemberId(id, PageRequest.of(0, maxIdsPerMember + 1))));
+    if (liked == TOO_MANY) {
+      return new HashSet<>(reviewLikeRepository.findLikedReviewIdsByMemberId(memberId, reviewIds));
+    }
+    return filter(liked, reviewIds);
+  }
+
+  /**
+   * commentIds 중 회원이 좋아요한 댓글 ID 를 반환합니다.
+   *
+   * @param memberId 로그인한 사용자의 ID (비로그인 시 null)
+   */
+  public Set<Long> likedCommentIds(Long memberId, List<Long> commentIds) {
+    if (memberId == null || commentIds.isEmpty()) {
+      return Set.of();
+    }
+    LikedIds liked = commentLikes.get(memberId, id -> load(
+        commentLikeRepository.findCommentIdsByMemberId(id, PageRequest.of(0, maxIdsPerMember + 1))));
+    if (liked == TOO_MANY) {
+      return new HashSet<>(commentLikeRepository.findLikedCommentIdsByMemberId(memberId, commentIds));
+    }
+    return filter(liked, commentIds);
+  }
+
+  /**
+   * 리뷰 좋아요/취소한 회원의 캐시를 비웁니다. 트랜잭션 안에서 호출되면 커밋 이후에 비웁니다.
+   */
+  public void reviewLikeChanged(Long memberId) {
+    afterCommit(() -> changed(REVIEW, reviewLikes, memberId));
+  }
+
+  /**
+   * 댓글 좋아요/취소한 회원의 캐시를 비웁니다. 트랜잭션 안에서 호출되면 커밋 이후에 비웁니다.
+   */
+  public void commentLikeChanged(Long memberId) {
+    afterCommit(() -> changed(COMMENT, commentLikes, memberId));
+  }
+
+  /**
+   * 다른 서버에서 좋아요가 바뀐 회원의 캐시를 비웁니다. (다음 조회 때 다시 읽는다)
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    String[] parts = body.split("\\|");
+    if (parts.length != 3) {
+      log.warn("잘못된 좋아요 캐시 메시지입니다: {}", body);
+      return;
+    }
+    if (nodeId.equals(parts[0])) {
+      return;
+    }
+    try {
+      Long memberId = Long.valueOf(parts[2]);
+      (REVIEW.equals(parts[1]) ? reviewLikes : commentLikes).invalidate(memberId);
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 좋아요 캐시 메시지입니다: {}", body);
+    }
+  }
+
+  private void changed(String target, Cache<Long, LikedIds> cache, Long memberId) {
+    // 있던 항목을 고쳐 쓰면, 커밋 전에 DB 를 읽기 시작한 로딩이 끝나면서 변경 전 ID 집합을 넣을 수 있다.
+    // invalidate 는 진행 중인 로딩이 끝날 때까지 기다렸다가 지우므로, 커밋 이후에는 변경 전 값이 남지 않는다.
+    cache.invalidate(memberId);
+    try {
+      redisTemplate.convertAndSend(CHANGED_CHANNEL, nodeId + "|" + target + "|" + memberId);
+    } catch (DataAccessException e) {
+      // 다른 서버의 캐시는 expire-after-access 이후 다시 읽힌다.
+      log.warn("좋아요 캐시 변경 메시지를 발행하지 못했습니다. memberId={}", memberId, e);
+    }
+  }
+
+  private LikedIds load(List<Long> ids) {
+    return ids.size() > maxIdsPerMember ? TOO_MANY : LikedIds.of(ids);
+  }
+
+  private static Set<Long> filter(LikedIds liked, Collection<Long> ids) {
+    Set<Long> result = new HashSet<>();
+    for (Long id : ids) {
+      if (id != null && liked.contains(id)) {
+        result.add(id);
+      }
+    }
+    return result;
+  }
+
+  // 회원 수가 아니라 들고 있는 ID 수로 크기를 제한한다. (좋아요를 많이 한 회원이 더 많은 자리를 차지)
+  private static Cache<Long, LikedIds> newCache(long maxIds, Duration expireAfterAccess) {
+    return Caffeine.newBuilder()
+        .maximumWeight(maxIds)
+        .weigher((Long memberId, LikedIds ids) -> 1 + ids.size())
+        .expireAfterAccess(expireAfterAccess)
+        .build();
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+}
@@ -4,12 +4,15 @@ import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.exception.MemberNotFoundException;
 import com.team1.epilogue.auth.repository.MemberRepository;
 import com.team1.epilogue.auth.security.CustomMemberDetails;
-import com.team1.epilogue.auth.security.JwtTokenProvider;
 import com.team1.epilogue.auth.service.S3Service;
 import com.team1.epilogue.book.entity.Book;
 import com.team1.epilogue.book.repository.BookRepository;
+import com.team1.epilogue.common.util.UniqueViolations;
 import com.team1.epilogue.follow.entity.Follow;
 import com.team1.epilogue.follow.repository.FollowRepository;
+import com.team1.epilogue.review.dto.ReviewCursor;
+import com.team1.epilogue.review.dto.ReviewCursorResponse;
+import com.team1.epilogue.review.dto.ReviewFeedEvent;
 import com.team1.epilogue.review.dto.ReviewRequestDto;
 import com.team1.epilogue.review.dto.ReviewResponseDto;
 import com.team1.epilogue.review.entity.Review;
@@ -19,15 +22,22 @@ import com.team1.epilogue.review.exception.BookNotFoundException;
 import com.team1.epilogue.review.exception.LikeNotFoundException;
 import com.team1.epilogue.review.exception.ReviewNotFoundException;
 import com.team1.epilogue.review.exception.UnauthorizedReviewAccessException;
+import com.team1.epilogue.review.repository.CustomReviewRepository;
 import com.team1.epilogue.review.repository.ReviewLikeRepository;
 import com.team1.epilogue.review.repository.ReviewRepository;
+import com.team1.epilogue.trendingbook.domain.BookActivityType;
+import com.team1.epilogue.trendingbook.dto.BookActivityEvent;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -40,13 +50,18 @@ import org.springframework.web.multipart.MultipartFile;
 public class ReviewService {
 
   private final ReviewRepository reviewRepository;
+  private final CustomReviewRepository customReviewRepository;
   private final BookRepository bookRepository;
   private final ReviewLikeRepository reviewLikeRepository;
   private final MemberRepository memberRepository;
   private final FollowRepository followRepository;
   private final S3Service s3Service;
-  private final JwtTokenProvider jwtTokenProvider;
+  private final ApplicationEventPublisher eventPublisher;
+  private final LatestReviewFeed latestReviewFeed;
+  private final LikeCountBuffer likeCountBuffer;
+  private final MemberLikeCache memberLikeCache;
 
+  private static final int MAX_CURSOR_PAGE_SIZE = 50;
 
   @Transactional
   public ReviewResponseDto createReview(
@@ -68,7 +83,12 @@ public class ReviewService {
     Review review = reviewRequestDto.toEntity(book, member, imageUrls);
     reviewRepository.save(review);
 
-    return ReviewResponseDto.from(review);
+    // 인기 책 점수에 리뷰 작성 반영
+    eventPublisher.publishEvent(new BookActivityEvent(bookId, BookActivityType.REVIEW));
+
+    ReviewResponseDto dto = ReviewResponseDto.from(review);
+    eventPublisher.publishEvent(ReviewFeedEvent.created(dto));
+    return dto;
   }
 
   public Page<ReviewResponseDto> getReviews(
@@ -76,55 +96,115 @@ public class ReviewService {
       int page,
       int size,
       String sortType,
-      String token
+      Long memberId
   ) {
     Pageable pageable = createPageable(page, size, sortType);
     Page<Review> reviews = reviewRepository.findByBookIdWithMember(bookId, pageable);
 
-    Map<Long, Boolean> likedMap = getLikedMapFromToken(token, reviews.getContent());
+    Map<Long, Boolean> likedMap = getLikedMap(memberId, reviews.getContent());
 
     return reviews.map(review -> {
-      ReviewResponseDto dto = ReviewResponseDto.from(review);
+      ReviewResponseDto dto = toResponse(review);
       dto.setLiked(likedMap.getOrDefault(review.getId(), false));
       return dto;
     });
   }
 
-  public ReviewResponseDto getReviewDetail(Long reviewId, String token) {
+  public ReviewResponseDto getReviewDetail(Long reviewId, Long memberId) {
     Review review = reviewRepository.findByIdWithBookAndMember(reviewId)
         .orElseThrow(() -> new ReviewNotFoundException("리뷰를 찾을 수 없습니다."));
 
-    ReviewResponseDto dto = ReviewResponseDto.from(review);
+    ReviewResponseDto dto = toResponse(review);
 
-    if (token != null && token.startsWith("Bearer ")) {
-      try {
-        String pureToken = token.substring(7);
-        Long memberId = Long.parseLong(jwtTokenProvider.getMemberIdFromJWT(pureToken));
-        boolean liked = reviewLikeRepository.existsByReviewIdAndMemberId(review.getId(), memberId);
-        dto.setLiked(liked);
-      } catch (Exception e) {
-        dto.setLiked(false);
-      }
-    } else {
-      dto.setLiked(false);
-    }
+    dto.setLiked(memberLikeCache.likedReviewIds(memberId, List.of(review.getId())).contains(review.getId()));
 
     return dto;
   }
 
-  public Page<ReviewResponseDto> getLatestReviews(int page, int size, String token) {
+  /**
+   * 최신 리뷰 목록을 조회합니다.
+   * 앞쪽 페이지는 메모리의 최신 리뷰 피드에서 바로 가져오고, 피드 범위를 넘는 페이지만 DB 에서 조회합니다.
+   */
+  public Page<ReviewResponseDto> getLatestReviews(int page, int size, Long memberId) {
     Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    List<ReviewResponseDto> cached = latestReviewFeed.page(page, size);
+    if (cached != null) {
+      overlayLiked(memberId, cached);
+      return new PageImpl<>(cached, pageable, latestReviewFeed.totalCount());
+    }
+
     Page<Review> reviews = reviewRepository.findAllReviewsSortedByLatest(pageable);
 
-    Map<Long, Boolean> likedMap = getLikedMapFromToken(token, reviews.getContent());
+    Map<Long, Boolean> likedMap = getLikedMap(memberId, reviews.getContent());
 
     return reviews.map(review -> {
-      ReviewResponseDto dto = ReviewResponseDto.from(review);
+      ReviewResponseDto dto = toResponse(review);
       dto.setLiked(likedMap.getOrDefault(review.getId(), false));
       return dto;
     });
   }
 
+  /**
+   * 특정 책의 리뷰 목록을 커서 방식으로 가져옵니다.
+   * OFFSET 없이 마지막 리뷰 다음부터 조회하고, 다음 페이지 여부는 한 개 더 가져와서 판단하므로 COUNT 쿼리가 없습니다.
+   * 좋아요순은 조회 중에 좋아요 수가 바뀐 리뷰가 빠지거나 두 번 보일 수 있습니다.
+   *
+   * @param cursor    이전 응답의 nextCursor (첫 페이지는 null)
+   * @param sortType  정렬 기준 ("likes"=좋아요순, "latest"=최신순)
+   * @param withCount true 면 전체 리뷰 수도 함께 반환 (COUNT 쿼리 1회)
+   */
+  public ReviewCursorResponse getReviewsByCursor(
+      String bookId,
+      String cursor,
+      int size,
+      String sortType,
+      boolean withCount,
+      Long memberId
+  ) {
+    boolean byLikes = "likes".equals(sortType);
+    int limit = cursorPageSize(size);
+    List<Review> reviews = customReviewRepository.findBookReviewsAfter(bookId, byLikes,
+        ReviewCursor.decode(cursor), limit + 1);
+
+    ReviewCursorResponse response = toCursorResponse(reviews, limit, byLikes, memberId);
+    if (!withCount) {
+      return response;
+    }
+    return ReviewCursorResponse.builder()
+        .reviews(response.getReviews())
+        .nextCursor(response.getNextCursor())
+        .hasNext(response.isHasNext())
+        .totalCount(reviewRepository.countByBookId(bookId))
+        .build();
+  }
+
+  /**
+   * 전체 최신 리뷰 목록을 커서 방식으로 가져옵니다. (COUNT 쿼리 없음)
+   *
+   * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+   */
+  public ReviewCursorResponse getLatestReviewsByCursor(String cursor, int size, Long memberId) {
+    int limit = cursorPageSize(size);
+    ReviewCursor decoded = ReviewCursor.decode(cursor);
+    List<ReviewResponseDto> cached = latestReviewFeed.after(decoded, limit + 1);
+    if (cached != null) {
+      boolean hasNext = cached.size() > limit;
+      if (hasNext) {
+        cached = cached.subList(0, limit);
+      }
+      overlayLiked(memberId, cached);
+      ReviewResponseDto last = cached.isEmpty() ? null : cached.get(cached.size() - 1);
+      return ReviewCursorResponse.builder()
+          .reviews(cached)
+          .nextCursor(hasNext ? new ReviewCursor(null, last.getCreatedAt(), last.getId()).encode() : null)
+          .hasNext(hasNext)
+          .build();
+    }
+
+    List<Review> reviews = customReviewRepository.findLatestReviewsAfter(decoded, limit + 1);
+    return toCursorResponse(reviews, limit, false, memberId);
+  }
+
   @Transactional
   public ReviewResponseDto updateReview(
       Long reviewId,
@@ -169,7 +249,9 @@ public class ReviewService {
     // 항상 업데이트 (이미지 변경 여부와 상관없이)
     review.updateImageUrls(updatedImageUrls);
 
-    return ReviewResponseDto.from(review);
+    ReviewResponseDto dto = toResponse(review);
+    eventPublisher.publishEvent(ReviewFeedEvent.updated(dto));
+    return dto;
   }
 
   public void deleteReview(Long reviewId, CustomMemberDetails memberDetails) {
@@ -182,6 +264,7 @@ public class ReviewService {
     }
 
     reviewRepository.delete(review);
+    eventPublisher.publishEvent(ReviewFeedEvent.deleted(reviewId, member.getId()));
   }
 
   @Transactional
@@ -190,25 +273,32 @@ public class ReviewService {
     Review review = reviewRepository.findById(reviewId)
         .orElseThrow(() -> new ReviewNotFoundException("리뷰를 찾을 수 없습니다."));
 
-    if (reviewLikeRepository.existsByReviewIdAndMemberId(reviewId, member.getId())) {
+    // 좋아요 여부는 unique 제약으로 판단하고, 좋아요 수는 review row 를 잠그지 않도록 모아서 반영한다.
+    try {
+      reviewLikeRepository.saveAndFlush(new ReviewLike(review, member));
+    } catch (DataIntegrityViolationException e) {
+      // 삭제된 리뷰 / 회원의 FK 위반 등은 "이미 좋아요" 가 아니므로 그대로 던진다.
+      if (!UniqueViolations.isViolationOf(e, ReviewLike.UNIQUE_MEMBER_REVIEW)) {
+        throw e;
+      }
       throw new AlreadyLikedException("이미 좋아요를 눌렀습니다.");
     }
 
-    ReviewLike reviewLike = new ReviewLike(review, member);
-    reviewLikeRepository.save(reviewLike);
-
-    reviewRepository.increaseLikeCount(reviewId);
+    likeCountBuffer.addReviewLikes(reviewId, 1);
+    memberLikeCache.reviewLikeChanged(member.getId());
+    eventPublisher.publishEvent(ReviewFeedEvent.counters(reviewId, 1, 0));
   }
 
   @Transactional
   public void unlikeReview(Long reviewId, CustomMemberDetails memberDetails) {
     Member member = getMemberOrThrow(memberDetails.getId());
-    ReviewLike reviewLike = reviewLikeRepository.findByReviewIdAndMemberId(reviewId, member.getId())
-        .orElseThrow(() -> new LikeNotFoundException("취소할 좋아요가 없습니다."));
-
-    reviewLikeRepository.delete(reviewLike);
+    if (reviewLikeRepository.deleteByReviewIdAndMemberId(reviewId, member.getId()) == 0) {
+      throw new LikeNotFoundException("취소할 좋아요가 없습니다.");
+    }
 
-    reviewRepository.decreaseLikeCount(reviewId);
+    likeCountBuffer.addReviewLikes(reviewId, -1);
+    memberLikeCache.reviewLikeChanged(member.getId());
+    eventPublisher.publishEvent(ReviewFeedEvent.counters(reviewId, -1, 0));
   }
 
   public Page<ReviewResponseDto> getFriendsReviews(
@@ -230,11 +320,16 @@ public class ReviewService {
     Pageable pageable = createPageable(page, size, sortType);
     Page<Review> reviews = reviewRepository.findByBookIdAndMemberInWithFetchJoin(bookId,
         friendMembers, pageable);
-    return reviews.map(ReviewResponseDto::from);
+    return reviews.map(this::toResponse);
   }
 
   // === 헬퍼 메서드 ===
 
+  // 아직 DB 에 반영되지 않은 좋아요 수 변화량을 더해 응답한다.
+  private ReviewResponseDto toResponse(Review review) {
+    return ReviewResponseDto.from(review, likeCountBuffer.getPendingReviewLikes(review.getId()));
+  }
+
   private Member getMemberOrThrow(Long memberId) {
     return memberRepository.findById(memberId)
         .orElseThrow(() -> new MemberNotFoundException("ID가 " + memberId + "인 회원을 찾을 수 없습니다."));
@@ -253,37 +348,64 @@ public class ReviewService {
   }
 
   /**
-   * 클라이언트의 JWT 토큰을 바탕으로, 로그인한 사용자가 좋아요한 리뷰 목록을 조회하여
+   * 로그인한 사용자가 좋아요한 리뷰 목록을 조회하여
    * 리뷰 ID → 좋아요 여부(Boolean) 형태의 Map으로 반환합니다.
    *
-   * @param token    클라이언트의 Authorization 헤더에서 전달된 JWT 토큰
+   * @param memberId 로그인한 사용자의 ID (비로그인 시 null)
    * @param reviews  좋아요 여부를 판단할 리뷰 목록
    * @return         리뷰 ID를 key로, 좋아요 여부를 value로 가지는 Map
    */
-  private Map<Long, Boolean> getLikedMapFromToken(String token, List<Review> reviews) {
-    Long memberId = null;
-    if (token != null && token.startsWith("Bearer ")) {
-      try {
-        String pureToken = token.substring(7);
-        String memberIdStr = jwtTokenProvider.getMemberIdFromJWT(pureToken);
-        memberId = Long.parseLong(memberIdStr);
-      } catch (Exception e) {
-        return new HashMap<>();
-      }
-    }
-
+  private Map<Long, Boolean> getLikedMap(Long memberId, List<Review> reviews) {
     if (memberId == null) return new HashMap<>();
 
     List<Long> reviewIds = reviews.stream()
         .map(Review::getId)
         .collect(Collectors.toList());
 
-    List<Long> likedReviewIds = reviewLikeRepository.findLikedReviewIdsByMemberId(memberId, reviewIds);
+    // 회원별 좋아요 캐시에서 확인하므로 캐시된 회원은 쿼리가 나가지 않는다.
+    Set<Long> likedReviewIds = memberLikeCache.likedReviewIds(memberId, reviewIds);
 
     return likedReviewIds.stream()
         .collect(Collectors.toMap(id -> id, id -> true));
   }
 
+  // limit + 1 개를 가져와서 다음 페이지 여부를 판단하고, limit 개만 내려준다.
+  private ReviewCursorResponse toCursorResponse(List<Review> reviews, int limit, boolean byLikes,
+      Long memberId) {
+    boolean hasNext = reviews.size() > limit;
+    if (hasNext) {
+      reviews = reviews.subList(0, limit);
+    }
+
+    Map<Long, Boolean> likedMap = getLikedMap(memberId, reviews);
+    List<ReviewResponseDto> dtos = new ArrayList<>(reviews.size());
+    for (Review review : reviews) {
+      ReviewResponseDto dto = toResponse(review);
+      dto.setLiked(likedMap.getOrDefault(review.getId(), false));
+      dtos.add(dto);
+    }
+
+    return ReviewCursorResponse.builder()
+        .reviews(dtos)
+        .nextCursor(hasNext ? ReviewCursor.of(reviews.get(reviews.size() - 1), byLikes).encode() : null)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  private static int cursorPageSize(int size) {
+    return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+  }
+
+  // 메모리에서 가져온 리뷰 목록에 로그인한 사용자의 좋아요 여부를 채운다.
+  private void overlayLiked(Long memberId, List<ReviewResponseDto> reviews) {
+    if (memberId == null || reviews.isEmpty()) {
+      return;
+    }
+    List<Long> reviewIds = reviews.stream().map(ReviewResponseDto::getId).collect(Collectors.toList());
+    Set<Long> likedIds = memberLikeCache.likedReviewIds(memberId, reviewIds);
+    reviews.forEach(dto -> dto.setLiked(likedIds.contains(dto.getId())));
+  }
+
   private Pageable createPageable(int page, int size, String sortType) {
     Sort sort = sortType.equals("likes")
         ? Sort.by(Sort.Direction.DESC, "likeCount").and(Sort.by(Sort.Direction.DESC, "createdAt"))
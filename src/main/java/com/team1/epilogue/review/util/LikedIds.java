@@ -0,0 +1,30 @@
+package com.team1.epilogue.review.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 회원이 좋아요한 리뷰/댓글 ID 집합 (오름차순으로 정렬된 long 배열, 중복 없음)
+ * - Set<Long> 대신 ID 하나에 8바이트만 쓰고, contains() 는 이진 탐색으로 확인한다.
+ * - 바뀌지 않는 객체이므로 여러 스레드가 잠금 없이 읽을 수 있다. (좋아요가 바뀌면 캐시에서 지우고 다시 읽는다)
+ */
+public final class LikedIds {
+
+  private final long[] ids;
+
+  private LikedIds(long[] ids) {
+    this.ids = ids;
+  }
+
+  public static LikedIds of(Collection<Long> ids) {
+    return new LikedIds(ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray());
+  }
+
+  public boolean contains(long id) {
+    return Arrays.binarySearch(ids, id) >= 0;
+  }
+
+  public int size() {
+    return ids.length;
+  }
+}
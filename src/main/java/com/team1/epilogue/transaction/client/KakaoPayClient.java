@@ -9,6 +9,7 @@ import com.team1.epilogue.transaction.dto.KakaoPayResponse;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpHeaders;
@@ -21,6 +22,7 @@ import org.springframework.web.client.RestClient;
 public class KakaoPayClient {
 
   private final StringRedisTemplate redisTemplate;
+  @Qualifier("kakaoPayRestClient")
   private final RestClient restClient;
   @Value("${kakao.pay.cid}")
   private String kakaoPayCid; // 카카오페이 결제를 위한 cid
@@ -4,6 +4,7 @@ import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.exception.MemberNotFoundException;
 import com.team1.epilogue.auth.repository.MemberRepository;
 import com.team1.epilogue.auth.security.CustomMemberDetails;
+import com.team1.epilogue.auth.security.MemberPrincipalCache;
 import com.team1.epilogue.transaction.domain.TransactionDetail;
 import com.team1.epilogue.transaction.dto.BoughtItemDetail;
 import com.team1.epilogue.transaction.dto.BoughtItemList;
@@ -40,6 +41,7 @@ public class TransactionService {
   private final MemberRepository memberRepository;
   private final ItemRepository itemRepository;
   private final ItemBuyHistoryRepository buyHistoryRepository;
+  private final MemberPrincipalCache memberPrincipalCache;
 
   /**
    * 포인트 충전 / 획득 / 사용 을 담당하는 메서드 입니다. 양수 = 충전,획득 / 음수 = 사용
@@ -72,6 +74,7 @@ public class TransactionService {
 
     transactionRepository.save(data); // DB 에 거래내역 저장
     memberRepository.save(member); // 사용자의 포인트 보유량 변경
+    memberPrincipalCache.evict(member.getId()); // 커밋 이후 인증 캐시 무효화
   }
 
   /**
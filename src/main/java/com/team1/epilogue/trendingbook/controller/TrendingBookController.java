@@ -1,9 +1,8 @@
 package com.team1.epilogue.trendingbook.controller;
 
-import com.team1.epilogue.book.entity.Book;
 import com.team1.epilogue.trendingbook.service.TrendingBookService;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,9 +12,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class TrendingBookController {
   private final TrendingBookService trendingBookService;
 
+  /**
+   * 인기 책 목록 조회
+   * 목록이 갱신될 때 미리 직렬화해 둔 JSON 을 그대로 내려준다.
+   */
   @GetMapping("/api/trending-books")
-  public ResponseEntity<List<Book>> getTrendingBookList() {
-    List<Book> bookList = trendingBookService.getTrendingBookList();
-    return ResponseEntity.ok(bookList);
+  public ResponseEntity<byte[]> getTrendingBookList() {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(trendingBookService.getTrendingBookJson());
   }
 }
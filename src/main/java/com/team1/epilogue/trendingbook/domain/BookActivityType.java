@@ -0,0 +1,9 @@
+package com.team1.epilogue.trendingbook.domain;
+
+/**
+ * 인기 책 점수에 반영되는 책 관련 활동 종류
+ * 활동마다 trending.weight.* 설정값 만큼의 가중치로 점수에 더해진다.
+ */
+public enum BookActivityType {
+  VIEW, REVIEW, RATING, COLLECTION
+}
@@ -0,0 +1,15 @@
+package com.team1.epilogue.trendingbook.dto;
+
+import com.team1.epilogue.trendingbook.domain.BookActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 작성, 별점 등록, 컬렉션 추가 등 인기 책 점수에 반영할 활동이 일어났을 때 발행하는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class BookActivityEvent {
+  private String bookId;
+  private BookActivityType type;
+}
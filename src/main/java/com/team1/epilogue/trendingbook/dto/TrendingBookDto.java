@@ -0,0 +1,24 @@
+package com.team1.epilogue.trendingbook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 책 목록 응답용 DTO
+ * Book Entity 를 그대로 내려주면 @Lob 인 description 까지 조회/직렬화되므로 목록에 필요한 필드만 담는다.
+ * 필드 이름은 기존 Book 응답과 동일하게 유지한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingBookDto {
+  private String id;
+  private String title;
+  private String author;
+  private String coverUrl;
+  private String publisher;
+  private double avgRating;
+}
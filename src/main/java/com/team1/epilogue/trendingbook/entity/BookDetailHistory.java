@@ -1,30 +0,0 @@
-package com.team1.epilogue.trendingbook.entity;
-
-import com.team1.epilogue.common.entity.BaseEntity;
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Entity
-@Setter
-@Getter
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class BookDetailHistory extends BaseEntity {
-
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
-
-  // 책 연관관계는 일부러 뺏습니다
-  // 단순 PK 를 String 타입으로만 저장
-  private String bookId;
-
-}
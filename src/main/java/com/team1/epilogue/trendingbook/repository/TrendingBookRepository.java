@@ -1,18 +1,25 @@
 package com.team1.epilogue.trendingbook.repository;
 
-import com.team1.epilogue.trendingbook.entity.BookDetailHistory;
-import java.time.LocalDateTime;
+import com.team1.epilogue.book.entity.Book;
+import com.team1.epilogue.trendingbook.dto.TrendingBookDto;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
-public interface TrendingBookRepository extends JpaRepository<BookDetailHistory,Long> {
+public interface TrendingBookRepository extends Repository<Book, String> {
 
-  // 조회수가 높은 책 ID를 가져오는 메서드
-  @Query("SELECT h.bookId FROM BookDetailHistory h GROUP BY h.bookId ORDER BY COUNT(h.bookId) DESC")
-  List<String> findTopViewedBooks(Pageable pageable);
-
-  void deleteByCreatedAtBefore(LocalDateTime startOfToday);
+  // 인기 책 ID 목록에 해당하는 책들을 한 번의 쿼리로 가져온다. (description 등 큰 컬럼 제외)
+  @Query("SELECT new com.team1.epilogue.trendingbook.dto.TrendingBookDto("
+      + "b.id, b.title, b.author, b.coverUrl, b.publisher, b.avgRating) "
+      + "FROM Book b WHERE b.id IN :ids")
+  List<TrendingBookDto> findTrendingBooksByIdIn(@Param("ids") Collection<String> ids);
 
+  // 인기 책 집계가 없을 때 사용할 최신 등록 책 목록
+  @Query("SELECT new com.team1.epilogue.trendingbook.dto.TrendingBookDto("
+      + "b.id, b.title, b.author, b.coverUrl, b.publisher, b.avgRating) "
+      + "FROM Book b ORDER BY b.createdAt DESC")
+  List<TrendingBookDto> findLatestBooks(Pageable pageable);
 }
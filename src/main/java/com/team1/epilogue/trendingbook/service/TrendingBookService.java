@@ -1,87 +1,152 @@
 package com.team1.epilogue.trendingbook.service;
 
-import com.team1.epilogue.book.entity.Book;
-import com.team1.epilogue.book.repository.BookRepository;
-import com.team1.epilogue.trendingbook.entity.BookDetailHistory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.epilogue.trendingbook.dto.BookActivityEvent;
+import com.team1.epilogue.trendingbook.dto.TrendingBookDto;
 import com.team1.epilogue.trendingbook.repository.TrendingBookRepository;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TrendingBookService {
 
-  private final BookRepository bookRepository;
+  // 마지막으로 만든 인기 책 목록 JSON. 재시작한 서버가 바로 같은 목록을 내려줄 수 있도록 저장해 둔다.
+  static final String SNAPSHOT_KEY = "trending:snapshot";
+  private static final int TRENDING_SIZE = 10;
+
   private final TrendingBookRepository trendingBookRepository;
+  private final TrendingViewCounter trendingViewCounter;
+  private final TrendingScoreBoard trendingScoreBoard;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
 
-  private static List<Book> trendingBookList;
+  private volatile TrendingBookSnapshot snapshot = TrendingBookSnapshot.EMPTY;
 
   /**
-   * project 가 run 될때 한번 실행 최신순 10개의 책 데이터를 list 에 넣어준다.
+   * project 가 run 될때 한번 실행
+   * Redis 에 저장된 마지막 인기 책 목록을 불러오고, 없으면 최신순 10개의 책 데이터를 넣어준다.
    */
   @EventListener(ApplicationReadyEvent.class)
   public void initTrendingBookList() {
-    trendingBookList = bookRepository.findTop10ByOrderByCreatedAtDesc();
+    try {
+      String saved = redisTemplate.opsForValue().get(SNAPSHOT_KEY);
+      if (saved != null) {
+        List<TrendingBookDto> books = objectMapper.readValue(saved, new TypeReference<>() {});
+        snapshot = new TrendingBookSnapshot(books, saved.getBytes(StandardCharsets.UTF_8));
+        return;
+      }
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("저장된 인기 책 목록을 불러오지 못해 최신 책 목록을 사용합니다.", e);
+    }
+    TrendingBookSnapshot latest = render(
+        trendingBookRepository.findLatestBooks(PageRequest.of(0, TRENDING_SIZE)));
+    if (latest != null) {
+      snapshot = latest;
+    }
   }
 
   /**
-   * 책 조회 결과를 DB 에 저장하는 기능
+   * 책 조회 기록을 인기 책 집계에 반영하는 기능
    *
    * @param bookId 상세조회한 책의 PK
    */
-  public void insertTrendingBookHistory(String bookId) {
-    trendingBookRepository.save(
-        BookDetailHistory.builder()
-            .bookId(bookId)
-            .build()
-    );
+  public void recordView(String bookId) {
+    trendingViewCounter.record(bookId);
   }
 
   /**
-   * 1시간 마다 인기 책 업데이트
+   * 리뷰 작성, 별점 등록, 컬렉션 추가 등의 활동을 인기 책 점수에 반영하는 기능
+   * 활동을 일으킨 트랜잭션이 커밋된 뒤에 반영한다.
    */
-  @Scheduled(cron = "0 0 * * * *")
-  private void updateTrendingBookList() {
-    List<Book> newBookList = new ArrayList<>();
-    // trendingBookRepository 에서 가장 조회가 많이된 책의 PK 10개를 가져온다.
-    List<String> topViewedBooks = trendingBookRepository.findTopViewedBooks(PageRequest.of(0, 10));
-    // 위에서 가져온 10개의 PK 로 Book Entity 를 가져온다.
-    topViewedBooks.stream().forEach(
-        data -> newBookList.add(bookRepository.findById(data).get()
-        ));
-
-    // trendingBookList 를 교체해준다.
-    trendingBookList = newBookList;
-    log.info("인기 책 리스트가 업데이트 되었습니다.");
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookActivity(BookActivityEvent event) {
+    try {
+      trendingScoreBoard.record(event.getBookId(), event.getType());
+    } catch (DataAccessException e) {
+      log.warn("인기 책 점수 반영에 실패했습니다. bookId={}, type={}", event.getBookId(), event.getType(), e);
+    }
   }
 
   /**
-   * DB 내부 어제날짜 데이터들을 삭제하는 메서드
+   * 10초 마다 인기 책 업데이트
    */
-  @Scheduled(cron = "0 0 12 * * ?")
-  private void deleteYesterDayData() {
-    // 금일 00:00 시의 LocalDatetime 을 생성한다.
-    LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+  @Scheduled(fixedDelayString = "${trending.refresh-interval-ms:10000}")
+  public void updateTrendingBookList() {
+    // 감쇠 점수가 가장 높은 책의 PK 10개를 가져온다. Redis 장애 시 이 서버의 최근 조회수로 대신한다.
+    List<String> topViewedBooks;
+    try {
+      topViewedBooks = trendingScoreBoard.top(TRENDING_SIZE);
+    } catch (DataAccessException e) {
+      log.warn("인기 책 점수를 가져오지 못해 로컬 조회수 집계를 사용합니다.", e);
+      topViewedBooks = trendingViewCounter.localTop(TRENDING_SIZE);
+    }
+    if (topViewedBooks.isEmpty()) {
+      return; // 집계된 활동이 없으면 기존 목록을 유지한다.
+    }
+
+    // 위에서 가져온 PK 들로 책 정보를 한 번에 가져온 뒤 순위대로 정렬한다. 삭제된 책은 건너뛴다.
+    Map<String, TrendingBookDto> found = trendingBookRepository.findTrendingBooksByIdIn(topViewedBooks)
+        .stream()
+        .collect(Collectors.toMap(TrendingBookDto::getId, Function.identity()));
+    List<TrendingBookDto> newBookList = new ArrayList<>();
+    topViewedBooks.forEach(id -> {
+      TrendingBookDto book = found.get(id);
+      if (book != null) {
+        newBookList.add(book);
+      }
+    });
 
-    // 금일 00:00 시보다 더 빠른 데이터들을 삭제한다.(어제자 데이터들)
-    trendingBookRepository.deleteByCreatedAtBefore(startOfDay);
-    log.info("책 조회 테이블이 초기화 되었습니다.");
+    TrendingBookSnapshot newSnapshot = render(newBookList);
+    if (newSnapshot == null) {
+      return;
+    }
+    snapshot = newSnapshot;
+    try {
+      redisTemplate.opsForValue().set(SNAPSHOT_KEY, new String(newSnapshot.getJson(), StandardCharsets.UTF_8));
+    } catch (DataAccessException e) {
+      log.warn("인기 책 목록을 Redis 에 저장하지 못했습니다.", e);
+    }
+    log.debug("인기 책 리스트가 업데이트 되었습니다.");
   }
 
   /**
-   * 현재 저장되어있는 가장 조회가 많이된 10개의 책 목록을 가져옵니다.
+   * 현재 저장되어있는 인기 책 10개의 목록을 가져옵니다.
    */
-  public List<Book> getTrendingBookList() {
-    return trendingBookList;
+  public List<TrendingBookDto> getTrendingBookList() {
+    return snapshot.getBooks();
+  }
+
+  /**
+   * 현재 인기 책 목록을 미리 직렬화해 둔 JSON 바이트를 가져옵니다.
+   */
+  public byte[] getTrendingBookJson() {
+    return snapshot.getJson();
+  }
+
+  private TrendingBookSnapshot render(List<TrendingBookDto> books) {
+    try {
+      return new TrendingBookSnapshot(List.copyOf(books), objectMapper.writeValueAsBytes(books));
+    } catch (JsonProcessingException e) {
+      log.error("인기 책 목록을 직렬화하지 못했습니다.", e);
+      return null;
+    }
   }
 }
@@ -0,0 +1,21 @@
+package com.team1.epilogue.trendingbook.service;
+
+import com.team1.epilogue.trendingbook.dto.TrendingBookDto;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 특정 시점의 인기 책 목록과, 그 목록을 미리 직렬화해 둔 JSON 바이트
+ * 목록이 바뀔 때 한 번만 직렬화하고 요청마다 같은 바이트를 그대로 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+public class TrendingBookSnapshot {
+
+  public static final TrendingBookSnapshot EMPTY = new TrendingBookSnapshot(List.of(), "[]".getBytes(StandardCharsets.UTF_8));
+
+  private final List<TrendingBookDto> books;
+  private final byte[] json;
+}
@@ -0,0 +1,149 @@
+package com.team1.epilogue.trendingbook.service;
+
+import com.team1.epilogue.trendingbook.domain.BookActivityType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands.Aggregate;
+import org.springframework.data.redis.connection.RedisZSetCommands.Weights;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간이 지날수록 반감기(trending.half-life)에 따라 줄어드는 책별 인기 점수를 Redis ZSET 에 관리합니다.
+ * - forward decay 방식: 활동 시각 t 의 점수를 weight * 2^((t - 기준시각) / 반감기) 로 더하므로
+ *   저장된 값을 주기적으로 줄이지 않아도 ZSET 순위가 곧 현재 시점의 감쇠 점수 순위가 됩니다.
+ * - 점수가 계속 커지는 것을 막기 위해 반감기 16번마다 기준시각을 옮기고, 이전 ZSET 을 2^-16 배 해서 새 ZSET 에 합칩니다.
+ * - 하루 단위 초기화가 없어 초기화 직후 목록이 흔들리는 문제가 없습니다.
+ */
+@Slf4j
+@Component
+public class TrendingScoreBoard {
+
+  static final String KEY_PREFIX = "trending:score:";
+  private static final int EPOCH_HALF_LIVES = 16;
+
+  private final StringRedisTemplate redisTemplate;
+  private final long halfLifeMillis;
+  private final long epochMillis;
+  private final int maxBooks;
+  private final Map<BookActivityType, Double> weights = new EnumMap<>(BookActivityType.class);
+
+  // 이 서버에서 기준시각 이동(이전 ZSET 합치기)을 확인한 마지막 epoch
+  private volatile long migratedEpoch = -1;
+
+  public TrendingScoreBoard(StringRedisTemplate redisTemplate,
+      @Value("${trending.half-life:PT6H}") Duration halfLife,
+      @Value("${trending.max-books:10000}") int maxBooks,
+      @Value("${trending.weight.view:1}") double viewWeight,
+      @Value("${trending.weight.review:5}") double reviewWeight,
+      @Value("${trending.weight.rating:3}") double ratingWeight,
+      @Value("${trending.weight.collection:4}") double collectionWeight) {
+    this.redisTemplate = redisTemplate;
+    this.halfLifeMillis = halfLife.toMillis();
+    this.epochMillis = halfLifeMillis * EPOCH_HALF_LIVES;
+    this.maxBooks = maxBooks;
+    weights.put(BookActivityType.VIEW, viewWeight);
+    weights.put(BookActivityType.REVIEW, reviewWeight);
+    weights.put(BookActivityType.RATING, ratingWeight);
+    weights.put(BookActivityType.COLLECTION, collectionWeight);
+  }
+
+  /**
+   * 활동 1회를 현재 시각 기준으로 점수에 반영합니다.
+   */
+  public void record(String bookId, BookActivityType type) {
+    long now = System.currentTimeMillis();
+    long epoch = migrateIfNeeded(now);
+    redisTemplate.opsForZSet().incrementScore(key(epoch), bookId, increment(type, 1, now, epoch));
+  }
+
+  /**
+   * 여러 책의 활동 횟수를 한 번의 파이프라인으로 반영합니다.
+   *
+   * @param counts   책 ID 별 활동 횟수
+   * @param atMillis 활동이 일어난 시각
+   */
+  public void recordAll(Map<String, Long> counts, BookActivityType type, long atMillis) {
+    if (counts.isEmpty()) {
+      return;
+    }
+    long epoch = migrateIfNeeded(System.currentTimeMillis());
+    String key = key(epoch);
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection conn = (StringRedisConnection) connection;
+      counts.forEach((bookId, count) ->
+          conn.zIncrBy(key, increment(type, count, atMillis, epoch), bookId));
+      return null;
+    });
+  }
+
+  /**
+   * 현재 감쇠 점수가 높은 순서대로 상위 k 개의 책 ID 를 반환합니다.
+   */
+  public List<String> top(int k) {
+    long epoch = migrateIfNeeded(System.currentTimeMillis());
+    Set<String> top = redisTemplate.opsForZSet().reverseRange(key(epoch), 0, k - 1);
+    return top == null ? List.of() : new ArrayList<>(top);
+  }
+
+  /**
+   * 책의 현재 시점 감쇠 점수를 반환합니다. (가중치 1 짜리 활동이 지금 1번 일어났을 때 1)
+   */
+  public double score(String bookId) {
+    long now = System.currentTimeMillis();
+    long epoch = migrateIfNeeded(now);
+    Double raw = redisTemplate.opsForZSet().score(key(epoch), bookId);
+    return raw == null ? 0 : raw * Math.pow(2, -(double) (now - epoch * epochMillis) / halfLifeMillis);
+  }
+
+  /**
+   * 기준시각 이동 여부를 확인하고, 점수가 낮은 책을 잘라 ZSET 크기를 trending.max-books 로 유지합니다.
+   */
+  @Scheduled(fixedDelayString = "${trending.maintenance-interval-ms:60000}")
+  public void maintain() {
+    long epoch = migrateIfNeeded(System.currentTimeMillis());
+    String key = key(epoch);
+    redisTemplate.opsForZSet().removeRange(key, 0, -(maxBooks + 1L));
+    redisTemplate.expire(key, Duration.ofMillis(epochMillis * 2));
+  }
+
+  private double increment(BookActivityType type, long count, long atMillis, long epoch) {
+    long landmark = epoch * epochMillis;
+    return weights.get(type) * count * Math.pow(2, (double) (atMillis - landmark) / halfLifeMillis);
+  }
+
+  private long migrateIfNeeded(long now) {
+    long epoch = now / epochMillis;
+    if (epoch == migratedEpoch) {
+      return epoch;
+    }
+    synchronized (this) {
+      if (epoch != migratedEpoch) {
+        // 여러 서버 중 한 곳에서만 이전 epoch 의 점수를 새 기준시각으로 환산해 합친다.
+        Boolean first = redisTemplate.opsForValue()
+            .setIfAbsent(KEY_PREFIX + "migrated:" + epoch, "1", Duration.ofMillis(epochMillis * 2));
+        if (Boolean.TRUE.equals(first)) {
+          redisTemplate.opsForZSet().unionAndStore(key(epoch), List.of(key(epoch - 1)), key(epoch),
+              Aggregate.SUM, Weights.of(1, Math.pow(2, -EPOCH_HALF_LIVES)));
+          redisTemplate.expire(key(epoch), Duration.ofMillis(epochMillis * 2));
+          log.info("인기 책 점수 기준시각을 이동했습니다. epoch={}", epoch);
+        }
+        migratedEpoch = epoch;
+      }
+    }
+    return epoch;
+  }
+
+  private static String key(long epoch) {
+    return KEY_PREFIX + epoch;
+  }
+}
@@ -0,0 +1,224 @@
+package com.team1.epilogue.trendingbook.service;
+
+import com.team1.epilogue.trendingbook.domain.BookActivityType;
+import com.team1.epilogue.trendingbook.util.CountMinSketch;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 책 상세 조회수를 분 단위 구간으로 모았다가 인기 책 점수에 반영하는 집계기입니다.
+ * - 조회 시에는 현재 분의 Count-Min Sketch 만 증가시키므로 DB/Redis 접근이 없습니다.
+ * - 구간마다 후보 책 ID 를 최대 trending.bucket-candidates 개까지 기억해 두고, top-K 는 후보들의 추정값으로 heap 에서 뽑습니다.
+ *   후보가 가득 차면 추정값이 가장 작은 후보보다 많이 조회된 책이 그 자리를 차지하므로, 늦게 조회되기 시작한 인기 책도 후보가 됩니다.
+ * - 지난 분의 구간은 1분마다 후보별 추정 조회수를 한 번의 파이프라인으로 TrendingScoreBoard 에 반영합니다.
+ */
+@Slf4j
+@Component
+public class TrendingViewCounter {
+
+  private final TrendingScoreBoard trendingScoreBoard;
+  private final int candidateCapacity;
+  private final double epsilon;
+
+  // 최근 로컬 구간들 (분 % 길이 위치에 저장). 아직 Redis 에 반영되지 않은 구간을 잃지 않도록 여유를 둔다.
+  private final AtomicReferenceArray<MinuteBucket> buckets;
+
+  public TrendingViewCounter(TrendingScoreBoard trendingScoreBoard,
+      @Value("${trending.local-buckets:10}") int localBuckets,
+      @Value("${trending.bucket-candidates:1000}") int candidateCapacity,
+      @Value("${trending.sketch-epsilon:0.001}") double epsilon) {
+    this.trendingScoreBoard = trendingScoreBoard;
+    this.candidateCapacity = candidateCapacity;
+    this.epsilon = epsilon;
+    this.buckets = new AtomicReferenceArray<>(Math.max(2, localBuckets));
+  }
+
+  /**
+   * 책 조회 1회를 현재 분 구간에 기록합니다.
+   */
+  public void record(String bookId) {
+    bucketFor(currentMinute()).add(bookId);
+  }
+
+  /**
+   * 이 서버에 남아있는 최근 로컬 구간만으로 조회수 상위 k 개의 책 ID 를 반환합니다. (Redis 장애 시 대체용)
+   */
+  public List<String> localTop(int k) {
+    long currentMinute = currentMinute();
+    List<MinuteBucket> live = new ArrayList<>();
+    Set<String> candidates = new HashSet<>();
+    for (int i = 0; i < buckets.length(); i++) {
+      MinuteBucket bucket = buckets.get(i);
+      if (bucket != null && currentMinute - bucket.minute < buckets.length()) {
+        live.add(bucket);
+        candidates.addAll(bucket.candidates.keySet());
+      }
+    }
+
+    // 크기 k 의 min-heap 으로 상위 k 개만 유지
+    PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+    for (String bookId : candidates) {
+      long count = 0;
+      for (MinuteBucket bucket : live) {
+        count += bucket.sketch.estimate(bookId);
+      }
+      heap.offer(Map.entry(bookId, count));
+      if (heap.size() > k) {
+        heap.poll();
+      }
+    }
+
+    List<Map.Entry<String, Long>> sorted = new ArrayList<>(heap);
+    sorted.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+    return sorted.stream().map(Map.Entry::getKey).toList();
+  }
+
+  /**
+   * 지난 분의 구간들을 인기 책 점수에 반영합니다.
+   */
+  @Scheduled(cron = "5 * * * * *")
+  public void flushClosedBuckets() {
+    flush(currentMinute());
+  }
+
+  /**
+   * 애플리케이션 종료 시 현재 분 구간까지 모두 반영합니다.
+   */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush(currentMinute() + 1);
+  }
+
+  private synchronized void flush(long beforeMinute) {
+    for (int i = 0; i < buckets.length(); i++) {
+      MinuteBucket bucket = buckets.get(i);
+      if (bucket == null || bucket.flushed || bucket.minute >= beforeMinute) {
+        continue;
+      }
+      try {
+        pushToScoreBoard(bucket);
+        bucket.flushed = true;
+      } catch (DataAccessException e) {
+        // 다음 주기에 다시 시도. 로컬 구간 길이만큼 지나면 유실된다.
+        log.warn("{}분 조회수를 인기 책 점수에 반영하지 못했습니다.", bucket.minute, e);
+      }
+    }
+  }
+
+  private void pushToScoreBoard(MinuteBucket bucket) {
+    Map<String, Long> counts = new HashMap<>();
+    for (String bookId : bucket.candidates.keySet()) {
+      counts.put(bookId, bucket.sketch.estimate(bookId));
+    }
+    // 구간의 중간 시각에 조회가 일어난 것으로 본다.
+    trendingScoreBoard.recordAll(counts, BookActivityType.VIEW, bucket.minute * 60_000 + 30_000);
+  }
+
+  private MinuteBucket bucketFor(long minute) {
+    int index = (int) (minute % buckets.length());
+    while (true) {
+      MinuteBucket bucket = buckets.get(index);
+      if (bucket != null && bucket.minute == minute) {
+        return bucket;
+      }
+      if (bucket != null && bucket.minute > minute) {
+        return bucket; // 시계가 뒤로 간 경우 같은 구간에 기록
+      }
+      MinuteBucket fresh = new MinuteBucket(minute, CountMinSketch.create(epsilon, 0.99));
+      if (buckets.compareAndSet(index, bucket, fresh)) {
+        if (bucket != null && !bucket.flushed) {
+          log.warn("{}분 조회수가 인기 책 점수에 반영되기 전에 교체되었습니다.", bucket.minute);
+        }
+        return fresh;
+      }
+    }
+  }
+
+  private static long currentMinute() {
+    return System.currentTimeMillis() / 60_000;
+  }
+
+  private class MinuteBucket {
+
+    private final long minute;
+    private final CountMinSketch sketch;
+    private final Map<String, Boolean> candidates = new ConcurrentHashMap<>();
+    // 후보를 추정값이 작은 순서로 둔 min-heap (this 로 보호). 후보의 추정값은 늘기만 하므로 저장된 값은 실제보다 작을 수 있다.
+    private final PriorityQueue<Candidate> lowest = new PriorityQueue<>(Comparator.comparingLong(candidate -> candidate.estimate));
+    // 후보가 가득 찼을 때 이 값 이하로 조회된 책은 잠금 없이 바로 걸러낸다. (가장 작은 후보의 추정값, 실제 최솟값보다 크지 않다)
+    private volatile long admissionThreshold;
+    private volatile boolean flushed;
+
+    private MinuteBucket(long minute, CountMinSketch sketch) {
+      this.minute = minute;
+      this.sketch = sketch;
+    }
+
+    private void add(String bookId) {
+      long estimate = sketch.add(bookId, 1);
+      if (candidates.containsKey(bookId)) {
+        return;
+      }
+      if (candidates.size() >= candidateCapacity && estimate <= admissionThreshold) {
+        return;
+      }
+      admit(bookId, estimate);
+    }
+
+    // 후보 수를 제한해 메모리를 고정하되, 가득 차면 가장 적게 조회된 후보보다 많이 조회된 책으로 바꾼다.
+    private synchronized void admit(String bookId, long estimate) {
+      if (candidates.containsKey(bookId)) {
+        return;
+      }
+      if (lowest.size() < candidateCapacity) {
+        lowest.offer(new Candidate(bookId, estimate));
+        candidates.put(bookId, Boolean.TRUE);
+        return;
+      }
+
+      // 맨 위 후보의 추정값을 최신으로 고쳐 가며 실제로 가장 적게 조회된 후보를 찾는다.
+      Candidate min = lowest.peek();
+      for (int i = 0; i < lowest.size(); i++) {
+        long current = sketch.estimate(min.bookId);
+        if (current == min.estimate) {
+          break;
+        }
+        lowest.poll();
+        lowest.offer(new Candidate(min.bookId, current));
+        min = lowest.peek();
+      }
+      if (estimate > min.estimate) {
+        lowest.poll();
+        candidates.remove(min.bookId);
+        lowest.offer(new Candidate(bookId, estimate));
+        candidates.put(bookId, Boolean.TRUE);
+      }
+      admissionThreshold = lowest.peek().estimate;
+    }
+  }
+
+  private static class Candidate {
+
+    private final String bookId;
+    private final long estimate;
+
+    private Candidate(String bookId, long estimate) {
+      this.bookId = bookId;
+      this.estimate = estimate;
+    }
+  }
+}
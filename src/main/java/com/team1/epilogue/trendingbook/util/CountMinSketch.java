@@ -0,0 +1,81 @@
+package com.team1.epilogue.trendingbook.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키의 등장 횟수를 고정된 메모리로 근사하는 thread-safe Count-Min Sketch 입니다.
+ * 추정값은 실제 값보다 작아지지 않으며, 전체 증가량 N 에 대해 확률 confidence 로 epsilon * N 이하만큼 크게 나올 수 있습니다.
+ */
+public class CountMinSketch {
+
+  private final int depth;
+  private final int width;
+  private final AtomicLongArray table;
+
+  private CountMinSketch(int depth, int width) {
+    this.depth = depth;
+    this.width = width;
+    this.table = new AtomicLongArray(depth * width);
+  }
+
+  /**
+   * 허용 오차와 신뢰도로 행(depth)과 열(width) 크기를 계산해 생성합니다.
+   *
+   * @param epsilon    전체 증가량 대비 허용 오차 (0 ~ 1)
+   * @param confidence 오차 범위 안에 들어올 확률 (0 ~ 1)
+   */
+  public static CountMinSketch create(double epsilon, double confidence) {
+    if (epsilon <= 0 || epsilon >= 1 || confidence <= 0 || confidence >= 1) {
+      throw new IllegalArgumentException("epsilon, confidence 는 0과 1 사이여야 합니다.");
+    }
+    int width = (int) Math.ceil(Math.E / epsilon);
+    int depth = (int) Math.ceil(Math.log(1 / (1 - confidence)));
+    return new CountMinSketch(Math.max(1, depth), width);
+  }
+
+  /**
+   * 키의 횟수를 count 만큼 증가시키고 증가 후의 추정값을 반환합니다.
+   */
+  public long add(String key, long count) {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32) | 1;
+    long min = Long.MAX_VALUE;
+    for (int i = 0; i < depth; i++) {
+      long value = table.addAndGet(i * width + Math.floorMod(h1 + i * h2, width), count);
+      min = Math.min(min, value);
+    }
+    return min;
+  }
+
+  /**
+   * 키의 추정 횟수를 반환합니다.
+   */
+  public long estimate(String key) {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32) | 1;
+    long min = Long.MAX_VALUE;
+    for (int i = 0; i < depth; i++) {
+      min = Math.min(min, table.get(i * width + Math.floorMod(h1 + i * h2, width)));
+    }
+    return min;
+  }
+
+  /**
+   * 메모리 사용량 (바이트)
+   */
+  public long sizeInBytes() {
+    return (long) table.length() * Long.BYTES;
+  }
+
+  // 64bit FNV-1a. 상위/하위 32bit 를 double hashing 의 두 해시로 사용한다.
+  private static long hash(String key) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < key.length(); i++) {
+      hash ^= key.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+}
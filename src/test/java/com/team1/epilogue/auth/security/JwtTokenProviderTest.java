@@ -0,0 +1,54 @@
+package com.team1.epilogue.auth.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jsonwebtoken.JwtException;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenProviderTest {
+
+  private static final String SECRET =
+      "test-secret-key-for-hs512-test-secret-key-for-hs512-test-secret-key-for-hs512";
+
+  private JwtTokenProvider jwtTokenProvider;
+
+  @BeforeEach
+  void setUp() {
+    jwtTokenProvider = new JwtTokenProvider(SECRET, 100);
+  }
+
+  @Test
+  @DisplayName("발급한 토큰은 검증되고 회원 ID 와 만료 시간을 꺼낼 수 있다")
+  void validateAndExtract() {
+    //given
+    String token = jwtTokenProvider.generateToken("7");
+
+    //when & then
+    assertTrue(jwtTokenProvider.validateToken(token));
+    assertTrue(jwtTokenProvider.validateToken(token)); // 캐시된 클레임으로 재검증
+    assertEquals("7", jwtTokenProvider.getMemberIdFromJWT(token));
+    assertTrue(jwtTokenProvider.extractExpiration(token).after(new Date()));
+  }
+
+  @Test
+  @DisplayName("다른 키로 서명된 토큰은 검증에 실패한다")
+  void rejectForeignSignature() {
+    //given
+    JwtTokenProvider other = new JwtTokenProvider(SECRET.replace('t', 'x'), 100);
+    String token = other.generateToken("7");
+
+    //when & then
+    assertFalse(jwtTokenProvider.validateToken(token));
+    assertFalse(jwtTokenProvider.validateToken(token)); // 실패 결과 캐시
+    assertThrows(JwtException.class, () -> jwtTokenProvider.getMemberIdFromJWT(token));
+  }
+
+  @Test
+  @DisplayName("형식이 잘못된 토큰은 검증에 실패한다")
+  void rejectMalformed() {
+    assertFalse(jwtTokenProvider.validateToken("not-a-jwt"));
+  }
+}
@@ -0,0 +1,127 @@
+package com.team1.epilogue.auth.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.epilogue.auth.entity.Member;
+import com.team1.epilogue.auth.exception.MemberNotFoundException;
+import com.team1.epilogue.auth.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MemberPrincipalCacheTest {
+
+  @Mock
+  private MemberRepository memberRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private MemberPrincipalCache principalCache;
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    principalCache = new MemberPrincipalCache(memberRepository, redisTemplate, listenerContainer,
+        objectMapper, new SimpleMeterRegistry(), 30, 600, 100);
+
+    member = Member.builder()
+        .id(1L)
+        .loginId("tester")
+        .password("encoded")
+        .name("테스터")
+        .profileUrl("http://profile")
+        .build();
+  }
+
+  @Test
+  @DisplayName("첫 조회는 DB 에서 가져오고 이후 조회는 로컬 캐시에서 가져온다")
+  void get_loadsFromDbOnceThenHitsLocalCache() {
+    //given
+    when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+    //when
+    CustomMemberDetails first = principalCache.get(1L);
+    CustomMemberDetails second = principalCache.get(1L);
+
+    //then
+    assertEquals("tester", first.getUsername());
+    assertSame(first, second);
+    verify(memberRepository, times(1)).findById(1L);
+    verify(valueOperations).set(eq("auth:principal:1"), anyString(), any(Duration.class));
+    assertEquals(1, principalCache.getMissCount());
+    assertEquals(1, principalCache.getLocalHitCount());
+  }
+
+  @Test
+  @DisplayName("Redis 에 저장된 principal 이 있으면 DB 를 조회하지 않는다")
+  void get_hitsRedis() throws Exception {
+    //given
+    String json = objectMapper.writeValueAsString(
+        MemberPrincipalCache.CachedPrincipal.from(CustomMemberDetails.fromMember(member)));
+    when(valueOperations.get("auth:principal:1")).thenReturn(json);
+
+    //when
+    CustomMemberDetails details = principalCache.get(1L);
+
+    //then
+    assertEquals(1L, details.getId());
+    assertEquals("테스터", details.getName());
+    assertNull(details.getPassword());
+    verify(memberRepository, never()).findById(any());
+    assertEquals(1, principalCache.getRedisHitCount());
+  }
+
+  @Test
+  @DisplayName("evict 이후에는 다시 DB 에서 조회하고 다른 노드에 무효화 메시지를 보낸다")
+  void evict_reloadsFromDb() {
+    //given
+    when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+    principalCache.get(1L);
+
+    //when
+    principalCache.evict(1L);
+    principalCache.get(1L);
+
+    //then
+    verify(redisTemplate).delete("auth:principal:1");
+    verify(redisTemplate).convertAndSend(MemberPrincipalCache.INVALIDATION_CHANNEL, "1");
+    verify(memberRepository, times(2)).findById(1L);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 회원이면 MemberNotFoundException 이 발생한다")
+  void get_memberNotFound() {
+    when(memberRepository.findById(2L)).thenReturn(Optional.empty());
+
+    assertThrows(MemberNotFoundException.class, () -> principalCache.get(2L));
+  }
+}
@@ -0,0 +1,92 @@
+package com.team1.epilogue.auth.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import com.team1.epilogue.auth.util.RedisUtil;
+import com.team1.epilogue.auth.util.TokenDigest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationRegistryTest {
+
+  @Mock
+  private RedisUtil redisUtil;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private TokenRevocationRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new TokenRevocationRegistry(redisUtil, redisTemplate, listenerContainer, 24, 1000, 0.01);
+  }
+
+  @Test
+  @DisplayName("로그아웃하지 않은 토큰은 Redis 를 조회하지 않는다")
+  void notRevoked_skipsRedis() {
+    assertFalse(registry.isRevoked("active-token"));
+
+    verify(redisUtil, never()).getValues(anyString());
+  }
+
+  @Test
+  @DisplayName("로그아웃한 토큰은 필터에 걸린 뒤 Redis 로 확인된다")
+  void revoked_checkedAgainstRedis() {
+    //given
+    Date expiration = new Date(System.currentTimeMillis() + 60_000);
+    registry.revoke("logout-token", expiration);
+    when(redisUtil.getValues(startsWith(TokenRevocationRegistry.BLACKLIST_PREFIX))).thenReturn(
+        String.valueOf(expiration.getTime()));
+
+    //when & then
+    assertTrue(registry.isRevoked("logout-token"));
+    verify(redisUtil).setBlackList(startsWith(TokenRevocationRegistry.BLACKLIST_PREFIX),
+        eq(String.valueOf(expiration.getTime())), any(Duration.class));
+    verify(redisTemplate).convertAndSend(eq(TokenRevocationRegistry.REVOCATION_CHANNEL), anyString());
+  }
+
+  @Test
+  @DisplayName("이미 만료된 토큰은 블랙리스트에 저장하지 않는다")
+  void expiredToken_notStored() {
+    registry.revoke("expired-token", new Date(System.currentTimeMillis() - 1000));
+
+    verify(redisUtil, never()).setBlackList(anyString(), anyString(), any(Duration.class));
+    assertFalse(registry.mightBeRevoked(TokenDigest.sha256("expired-token")));
+  }
+
+  @Test
+  @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 필터에 반영된다")
+  void onMessage_addsToFilter() {
+    //given
+    long expiresAt = System.currentTimeMillis() + 60_000;
+    String body = TokenDigest.keyOf("other-node-token") + ":" + expiresAt;
+
+    //when
+    registry.onMessage(new DefaultMessage(
+        TokenRevocationRegistry.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8)), null);
+
+    //then
+    assertTrue(registry.mightBeRevoked(TokenDigest.sha256("other-node-token")));
+  }
+}
@@ -7,6 +7,7 @@ import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.exception.*;
 import com.team1.epilogue.auth.repository.CustomMemberRepository;
 import com.team1.epilogue.auth.repository.MemberRepository;
+import com.team1.epilogue.auth.security.MemberPrincipalCache;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Random;
@@ -49,6 +50,9 @@ public class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberPrincipalCache memberPrincipalCache;
+
     @InjectMocks
     private MemberService memberService;
 
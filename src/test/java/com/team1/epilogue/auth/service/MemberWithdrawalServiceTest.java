@@ -3,6 +3,7 @@ package com.team1.epilogue.auth.service;
 import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.exception.MemberNotFoundException;
 import com.team1.epilogue.auth.repository.MemberRepository;
+import com.team1.epilogue.auth.security.MemberPrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,9 @@ public class MemberWithdrawalServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberPrincipalCache memberPrincipalCache;
+
     @InjectMocks
     private MemberWithdrawalService memberWithdrawalService;
 
@@ -53,6 +57,7 @@ public class MemberWithdrawalServiceTest {
         memberWithdrawalService.withdrawMember(memberId);
 
         verify(memberRepository, times(1)).delete(member);
+        verify(memberPrincipalCache, times(1)).evict(memberId);
     }
 
     /**
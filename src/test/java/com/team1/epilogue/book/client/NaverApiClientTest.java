@@ -6,12 +6,12 @@ import com.team1.epilogue.book.dto.BookDetailRequest;
 import com.team1.epilogue.book.dto.BookInfoRequest;
 import com.team1.epilogue.book.dto.NaverBookResponseDto;
 import com.team1.epilogue.book.dto.NaverBookSearchResponse;
-import com.team1.epilogue.book.dto.xml.BookDetailXMLResponse;
 import com.team1.epilogue.book.dto.xml.Item;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterEach;
@@ -109,26 +109,12 @@ class NaverApiClientTest {
   @DisplayName("네이버 책 상세정보 호출 API 테스트")
   void get_book_detail_from_naver() throws Exception {
     //given
-    // 테스트를 위한 응답값 만들기
-    List<Item> items = new ArrayList<>();
-    Item build = Item.builder()
-        .title("데미안")
-        .link("http://naver.com/1113")
-        .author("헤르만 헤세")
-        .price(10000)
-        .publisher("출판사")
-        .pubDate("1999-01-01")
-        .description("헤르만 헤세의 데미안입니다.")
-        .image("http://dddd.ddd.dd")
-        .isbn("11111111 111111").build();
-
-    items.add(build);
-
+    // 네이버 book_adv 응답과 같은 XML. 첫 번째 책만 사용한다.
     mockWebServer.enqueue( // enqueue 메서드로 응답값 설정
-        new MockResponse().setResponseCode(200).addHeader("Content-Type", "application/json")
-            .setBody(objectMapper.writeValueAsString(BookDetailXMLResponse.builder()
-                .items(items) // 위에서 만든 응답값을 넣어준다.
-                .build())));
+        new MockResponse().setResponseCode(200).addHeader("Content-Type", "text/xml;charset=utf-8")
+            .setBody(detailXml(
+                item("데미안", "헤르만 헤세", "10000", "11111111 111111"),
+                item("수레바퀴 아래서", "헤르만 헤세", "", "22222222 222222"))));
 
     // 요청 값 생성
     BookDetailRequest request = BookDetailRequest.builder()
@@ -137,10 +123,52 @@ class NaverApiClientTest {
         .build();
 
     //when
-    BookDetailXMLResponse response = naverApiClient.getBookDetail("", request);
+    Optional<Item> response = naverApiClient.getBookDetail("", request);
 
     //then
-    assertEquals("데미안", response.getItems().get(0).getTitle());
-    assertEquals("헤르만 헤세", response.getItems().get(0).getAuthor());
+    assertTrue(response.isPresent());
+    assertEquals("데미안", response.get().getTitle());
+    assertEquals("헤르만 헤세", response.get().getAuthor());
+    assertEquals(10000, response.get().getPrice());
+    assertEquals("19990101", response.get().getPubDate());
+    assertEquals("헤르만 헤세의 <b>데미안</b>입니다.", response.get().getDescription());
+    assertEquals("11111111 111111", response.get().getIsbn());
+  }
+
+  @Test
+  @DisplayName("네이버 책 상세정보 검색 결과가 없으면 empty 를 반환한다")
+  void get_book_detail_from_naver_empty() throws Exception {
+    //given
+    mockWebServer.enqueue(
+        new MockResponse().setResponseCode(200).addHeader("Content-Type", "text/xml;charset=utf-8")
+            .setBody(detailXml()));
+
+    BookDetailRequest request = BookDetailRequest.builder()
+        .type("d_isbn")
+        .query("0000000000000")
+        .build();
+
+    //when
+    Optional<Item> response = naverApiClient.getBookDetail("", request);
+
+    //then
+    assertTrue(response.isEmpty());
+  }
+
+  private String detailXml(String... items) {
+    return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel>"
+        + "<title>Naver Open API - book_adv ::'데미안'</title><link>https://search.naver.com</link>"
+        + "<description>Naver Search Result</description><total>" + items.length + "</total>"
+        + "<start>1</start><display>" + items.length + "</display>"
+        + String.join("", items)
+        + "</channel></rss>";
+  }
+
+  private String item(String title, String author, String price, String isbn) {
+    return "<item><title>" + title + "</title><link>http://naver.com/1113</link>"
+        + "<image>http://dddd.ddd.dd</image><author>" + author + "</author>"
+        + "<price>" + price + "</price><discount>9000</discount><publisher>출판사</publisher>"
+        + "<pubdate>19990101</pubdate><isbn>" + isbn + "</isbn>"
+        + "<description><![CDATA[헤르만 헤세의 <b>데미안</b>입니다.]]></description></item>";
   }
-}
\ No newline at end of file
+}
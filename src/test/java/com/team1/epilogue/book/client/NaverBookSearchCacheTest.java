@@ -0,0 +1,187 @@
+package com.team1.epilogue.book.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team1.epilogue.book.dto.BookInfoRequest;
+import com.team1.epilogue.book.dto.NaverBookResponseDto;
+import com.team1.epilogue.book.dto.NaverBookSearchResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+@ExtendWith(MockitoExtension.class)
+class NaverBookSearchCacheTest {
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private NaverBookSearchCache naverBookSearchCache;
+  private MockWebServer mockWebServer;
+  private ObjectMapper objectMapper;
+  private String mockWebServerUrl;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+    mockWebServerUrl = String.format("http://localhost:%s", mockWebServer.getPort());
+    objectMapper = new ObjectMapper();
+    objectMapper.registerModule(new JavaTimeModule());
+
+    NaverApiClient naverApiClient = new NaverApiClient(RestClient.builder().baseUrl(mockWebServerUrl).build());
+    ReflectionTestUtils.setField(naverApiClient, "cid", "test-client-id");
+    ReflectionTestUtils.setField(naverApiClient, "apikey", "test-api-key");
+
+    naverBookSearchCache = new NaverBookSearchCache(naverApiClient, redisTemplate, objectMapper,
+        Duration.ofMinutes(1), 100, Duration.ofMinutes(30), Duration.ofHours(24));
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  @DisplayName("대소문자/공백만 다른 같은 검색은 네이버를 한 번만 호출하고 Redis 에도 저장한다")
+  void getBookInfo_cached() throws Exception {
+    //given
+    mockWebServer.enqueue(searchResponse("타이탄의 도구들"));
+
+    //when
+    NaverBookSearchResponse first = naverBookSearchCache.getBookInfo(mockWebServerUrl, request("Titan"));
+    NaverBookSearchResponse second = naverBookSearchCache.getBookInfo(mockWebServerUrl, request("  titan "));
+
+    //then
+    assertEquals("타이탄의 도구들", first.getItems().get(0).getTitle());
+    assertSame(first, second);
+    assertEquals(1, mockWebServer.getRequestCount());
+    verify(valueOperations, times(1))
+        .set(eq("naver:search:titan|sim|10|1"), anyString(), eq(Duration.ofMinutes(30)));
+    verify(valueOperations, times(1))
+        .set(eq("naver:search:stale:titan|sim|10|1"), anyString(), eq(Duration.ofHours(24)));
+  }
+
+  @Test
+  @DisplayName("Redis 에 저장된 검색 결과가 있으면 네이버를 호출하지 않는다")
+  void getBookInfo_fromRedis() throws Exception {
+    //given
+    String saved = objectMapper.writeValueAsString(NaverBookSearchResponse.builder()
+        .total(1)
+        .items(List.of(NaverBookResponseDto.builder().title("데미안").build()))
+        .build());
+    when(valueOperations.get("naver:search:데미안|sim|10|1")).thenReturn(saved);
+
+    //when
+    NaverBookSearchResponse response = naverBookSearchCache.getBookInfo(mockWebServerUrl, request("데미안"));
+
+    //then
+    assertEquals("데미안", response.getItems().get(0).getTitle());
+    assertEquals(0, mockWebServer.getRequestCount());
+    verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("같은 검색이 동시에 들어오면 네이버 호출은 한 번만 일어난다")
+  void getBookInfo_coalesced() throws Exception {
+    //given
+    mockWebServer.enqueue(searchResponse("데미안").setBodyDelay(300, TimeUnit.MILLISECONDS));
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<NaverBookSearchResponse>> results = new ArrayList<>();
+
+    //when
+    for (int i = 0; i < threads; i++) {
+      results.add(executor.submit(() -> {
+        start.await();
+        return naverBookSearchCache.getBookInfo(mockWebServerUrl, request("데미안"));
+      }));
+    }
+    start.countDown();
+
+    //then
+    for (Future<NaverBookSearchResponse> result : results) {
+      assertEquals("데미안", result.get(5, TimeUnit.SECONDS).getItems().get(0).getTitle());
+    }
+    executor.shutdown();
+    assertEquals(1, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  @DisplayName("네이버 호출이 실패하면 캐시하지 않고 다음 요청에서 다시 호출한다")
+  void getBookInfo_failureNotCached() throws Exception {
+    //given
+    mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+    mockWebServer.enqueue(searchResponse("데미안"));
+
+    //when
+    assertThrows(HttpServerErrorException.class,
+        () -> naverBookSearchCache.getBookInfo(mockWebServerUrl, request("데미안")));
+    NaverBookSearchResponse response = naverBookSearchCache.getBookInfo(mockWebServerUrl, request("데미안"));
+
+    //then
+    assertEquals("데미안", response.getItems().get(0).getTitle());
+    assertEquals(2, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  @DisplayName("네이버 호출이 실패하면 저장해 둔 이전 검색 결과로 응답한다")
+  void getBookInfo_staleOnFailure() throws Exception {
+    //given
+    mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+    String stale = objectMapper.writeValueAsString(NaverBookSearchResponse.builder()
+        .total(1)
+        .items(List.of(NaverBookResponseDto.builder().title("데미안").build()))
+        .build());
+    when(valueOperations.get("naver:search:stale:데미안|sim|10|1")).thenReturn(stale);
+
+    //when
+    NaverBookSearchResponse response = naverBookSearchCache.getBookInfo(mockWebServerUrl, request("데미안"));
+
+    //then
+    assertEquals("데미안", response.getItems().get(0).getTitle());
+    assertEquals(1, mockWebServer.getRequestCount());
+  }
+
+  private BookInfoRequest request(String query) {
+    return BookInfoRequest.builder().query(query).sort("sim").display(10).start(1).build();
+  }
+
+  private MockResponse searchResponse(String title) throws Exception {
+    return new MockResponse().setResponseCode(200).addHeader("Content-Type", "application/json")
+        .setBody(objectMapper.writeValueAsString(NaverBookSearchResponse.builder()
+            .total(1)
+            .items(List.of(NaverBookResponseDto.builder().title(title).build()))
+            .build()));
+  }
+}
@@ -0,0 +1,151 @@
+package com.team1.epilogue.book.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.team1.epilogue.book.dto.BookFacetChangedEvent;
+import com.team1.epilogue.book.dto.BookFacetResponse;
+import com.team1.epilogue.book.dto.BookFacetRow;
+import com.team1.epilogue.book.dto.BookSearchFilter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class BookFacetIndexTest {
+
+  @Mock
+  private JPAQueryFactory jpaQueryFactory;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private BookFacetIndex bookFacetIndex;
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    objectMapper.registerModule(new JavaTimeModule());
+    bookFacetIndex = new BookFacetIndex(jpaQueryFactory, redisTemplate, listenerContainer, objectMapper);
+
+    change("1", "ㄷ", 4.5, LocalDate.of(2024, 3, 1));
+    change("2", "ㄷ", 3.2, LocalDate.of(2024, 3, 15));
+    change("3", "ㅅ", 4.0, LocalDate.of(2024, 4, 2));
+    change("4", "ㅌ", 0.0, null);
+  }
+
+  @Test
+  @DisplayName("필터 조합에 맞는 책 수를 센다")
+  void count() {
+    assertEquals(4, bookFacetIndex.count(filter("", 0, "", "")));
+    assertEquals(2, bookFacetIndex.count(filter("ㄷ", 0, "", "")));
+    assertEquals(1, bookFacetIndex.count(filter("ㄷ", 4, "", "")));
+    assertEquals(2, bookFacetIndex.count(filter("", 4, "", "")));
+    assertEquals(2, bookFacetIndex.count(filter("", 0, "2024-03", "2024-03")));
+    // 종료 날짜가 없으면 출간일 필터는 적용하지 않는다.
+    assertEquals(4, bookFacetIndex.count(filter("", 0, "2024-03", "")));
+  }
+
+  @Test
+  @DisplayName("각 항목의 개수는 나머지 항목에서 선택한 필터만 적용해 센다")
+  void facets() {
+    //when
+    BookFacetResponse response = bookFacetIndex.facets(filter("ㄷ", 4, "", ""));
+
+    //then
+    assertEquals(1, response.getTotalCount());
+    assertEquals(Map.of("ㄷ", 1L, "ㅅ", 1L), response.getChosung());
+    assertEquals(Map.of(3, 1L, 4, 1L), response.getRating());
+    assertEquals(Map.of("2024-03", 1L), response.getMonth());
+  }
+
+  @Test
+  @DisplayName("평균 별점이 바뀐 책은 이전 구간에서 빠지고 새 구간으로 옮겨지며, 다른 서버에도 알린다")
+  void onBookFacetChanged_moved() {
+    //when
+    change("2", "ㄷ", 4.1, LocalDate.of(2024, 3, 15));
+
+    //then
+    assertEquals(0, bookFacetIndex.count(filter("", 3, "", "")));
+    assertEquals(3, bookFacetIndex.count(filter("", 4, "", "")));
+    assertEquals(4, bookFacetIndex.count(filter("", 0, "", "")));
+    assertFalse(bookFacetIndex.facets(filter("", 0, "", "")).getRating().containsKey(3));
+    verify(redisTemplate, times(5)).convertAndSend(eq(BookFacetIndex.CHANGED_CHANNEL), anyString());
+  }
+
+  @Test
+  @DisplayName("다른 서버에서 바뀐 책을 메시지로 받아 반영한다")
+  void onMessage() throws Exception {
+    //given
+    String body = objectMapper.writeValueAsString(
+        new BookFacetRow("5", "ㄷ", 5.0, LocalDate.of(2024, 3, 20)));
+
+    //when
+    bookFacetIndex.onMessage(new DefaultMessage(
+        BookFacetIndex.CHANGED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8)), null);
+
+    //then
+    assertEquals(3, bookFacetIndex.count(filter("ㄷ", 0, "2024-03", "2024-03")));
+    assertEquals(1, bookFacetIndex.count(filter("", 5, "", "")));
+  }
+
+  @Test
+  @DisplayName("다시 만드는 동안 바뀐 책도 새 색인에 반영된다")
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void rebuild_replaysChanges() {
+    //given
+    JPAQuery<BookFacetRow> query = mock(JPAQuery.class);
+    when(jpaQueryFactory.select(any(Expression.class))).thenReturn((JPAQuery) query);
+    when(query.from(any(EntityPath.class))).thenReturn(query);
+    when(query.fetch()).thenAnswer(invocation -> {
+      // DB 를 읽은 뒤, 새 색인으로 바꾸기 전에 책이 저장된다.
+      change("5", "ㅅ", 2.0, null);
+      return List.of(new BookFacetRow("1", "ㄷ", 4.5, LocalDate.of(2024, 3, 1)));
+    });
+
+    //when
+    bookFacetIndex.rebuild();
+
+    //then
+    assertEquals(2, bookFacetIndex.count(filter("", 0, "", "")));
+    assertEquals(1, bookFacetIndex.count(filter("ㅅ", 2, "", "")));
+  }
+
+  private void change(String bookId, String chosung, double avgRating, LocalDate pubDate) {
+    bookFacetIndex.onBookFacetChanged(
+        new BookFacetChangedEvent(new BookFacetRow(bookId, chosung, avgRating, pubDate)));
+  }
+
+  private BookSearchFilter filter(String chosung, int rating, String startDate, String endDate) {
+    return BookSearchFilter.builder()
+        .chosung(chosung)
+        .rating(rating)
+        .startDate(startDate)
+        .endDate(endDate)
+        .build();
+  }
+}
@@ -0,0 +1,99 @@
+package com.team1.epilogue.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import com.team1.epilogue.book.dto.BookTitleAuthor;
+import com.team1.epilogue.book.dto.SameAuthorBookTitleIsbn;
+import com.team1.epilogue.book.repository.BookRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class BookAuthorIndexTest {
+
+  @Mock
+  private BookRepository bookRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private BookAuthorIndex bookAuthorIndex;
+
+  @BeforeEach
+  void setUp() {
+    bookAuthorIndex = new BookAuthorIndex(bookRepository, redisTemplate, listenerContainer,
+        new ObjectMapper(), 3);
+    when(bookRepository.findAllTitleAuthorNewestFirst()).thenReturn(List.of(
+        new BookTitleAuthor("1", "데미안", "헤르만 헤세", 0),
+        new BookTitleAuthor("2", "수레바퀴 아래서", "헤르만 헤세^김이섭", 0),
+        new BookTitleAuthor("3", "싯다르타", "헤르만  헤세", 0),
+        new BookTitleAuthor("4", "타이탄의 도구들", "팀 페리스", 0)));
+    bookAuthorIndex.build();
+  }
+
+  @Test
+  @DisplayName("공저한 책과 띄어쓰기만 다른 작가 이름도 같은 작가로 찾고, 현재 책은 제외한다")
+  void findSameAuthorBooks() {
+    //when
+    List<SameAuthorBookTitleIsbn> result = bookAuthorIndex.findSameAuthorBooks("헤르만 헤세", "1");
+
+    //then
+    assertEquals(List.of("2", "3"), result.stream().map(SameAuthorBookTitleIsbn::getIsbn).toList());
+  }
+
+  @Test
+  @DisplayName("여러 작가의 책은 작가별로 최근에 저장된 책부터 중복 없이 최대 limit 권까지만 반환한다")
+  void findSameAuthorBooks_limit() {
+    //given
+    bookAuthorIndex.onBookSaved(new BookSavedEvent("5", "유리알 유희", "헤르만 헤세"));
+
+    //when
+    List<SameAuthorBookTitleIsbn> result = bookAuthorIndex.findSameAuthorBooks("김이섭^헤르만 헤세", "9");
+
+    //then
+    assertEquals(List.of("2", "5", "1"), result.stream().map(SameAuthorBookTitleIsbn::getIsbn).toList());
+  }
+
+  @Test
+  @DisplayName("작가별로 limit + 1 권만 남기고 가장 오래된 책부터 뺀다")
+  void add_keepsNewest() {
+    //given
+    for (int i = 5; i <= 8; i++) {
+      bookAuthorIndex.add(String.valueOf(i), "책" + i, "팀 페리스");
+    }
+
+    //when
+    List<SameAuthorBookTitleIsbn> result = bookAuthorIndex.findSameAuthorBooks("팀 페리스", "8");
+
+    //then
+    assertEquals(List.of("7", "6", "5"), result.stream().map(SameAuthorBookTitleIsbn::getIsbn).toList());
+  }
+
+  @Test
+  @DisplayName("새로 저장된 책은 색인에 추가하고 다른 서버에도 알린다")
+  void onBookSaved() {
+    //when
+    bookAuthorIndex.onBookSaved(new BookSavedEvent("5", "나는 4시간만 일한다", "팀 페리스"));
+
+    //then
+    List<SameAuthorBookTitleIsbn> result = bookAuthorIndex.findSameAuthorBooks("팀 페리스", "4");
+    assertEquals(1, result.size());
+    assertEquals("나는 4시간만 일한다", result.get(0).getTitle());
+    verify(redisTemplate, times(1)).convertAndSend(eq(BookAuthorIndex.BOOK_SAVED_CHANNEL), anyString());
+  }
+}
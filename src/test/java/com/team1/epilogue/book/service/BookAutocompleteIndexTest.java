@@ -0,0 +1,94 @@
+package com.team1.epilogue.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.team1.epilogue.book.dto.AutocompleteSuggestion;
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import com.team1.epilogue.book.dto.BookTitleAuthor;
+import com.team1.epilogue.book.repository.BookRepository;
+import com.team1.epilogue.keyword.service.KeyWordService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BookAutocompleteIndexTest {
+
+  @Mock
+  private BookRepository bookRepository;
+
+  @Mock
+  private KeyWordService keyWordService;
+
+  @InjectMocks
+  private BookAutocompleteIndex bookAutocompleteIndex;
+
+  @BeforeEach
+  void setUp() {
+    when(bookRepository.findAllTitleAuthor()).thenReturn(List.of(
+        new BookTitleAuthor("1", "해리 포터와 마법사의 돌", "J.K. 롤링^강동혁", 100),
+        new BookTitleAuthor("2", "해리 포터와 비밀의 방", "J.K. 롤링", 300),
+        new BookTitleAuthor("3", "데미안", "헤르만 헤세", 50)));
+    when(keyWordService.getPopularKeywords()).thenReturn(List.of("해리포터"));
+    bookAutocompleteIndex.build();
+  }
+
+  @Test
+  @DisplayName("입력으로 시작하는 제목을 조회수 높은 순서로 찾는다")
+  void suggest_prefix() {
+    //when
+    List<AutocompleteSuggestion> result = bookAutocompleteIndex.suggest("해리 포", 10);
+
+    //then
+    assertEquals(2, result.size());
+    assertEquals("해리 포터와 비밀의 방", result.get(0).getText());
+    assertEquals("2", result.get(0).getBookId());
+    assertEquals("해리 포터와 마법사의 돌", result.get(1).getText());
+  }
+
+  @Test
+  @DisplayName("초성으로만 입력해도 제목과 인기 검색어를 찾는다")
+  void suggest_chosung() {
+    //when
+    List<AutocompleteSuggestion> result = bookAutocompleteIndex.suggest("ㅎㄹㅍㅌ", 10);
+
+    //then
+    assertEquals(3, result.size());
+    assertEquals("KEYWORD", result.get(0).getType());
+    assertEquals("해리포터", result.get(0).getText());
+    assertEquals("해리 포터와 비밀의 방", result.get(1).getText());
+  }
+
+  @Test
+  @DisplayName("제목 중간 단어와 작가 이름으로도 찾고, 같은 작가는 한 번만 나온다")
+  void suggest_wordAndAuthor() {
+    //when
+    List<AutocompleteSuggestion> byWord = bookAutocompleteIndex.suggest("비밀", 10);
+    List<AutocompleteSuggestion> byAuthor = bookAutocompleteIndex.suggest("j.k", 10);
+
+    //then
+    assertEquals("해리 포터와 비밀의 방", byWord.get(0).getText());
+    assertEquals(1, byAuthor.size());
+    assertEquals("AUTHOR", byAuthor.get(0).getType());
+    assertEquals("J.K. 롤링", byAuthor.get(0).getText());
+  }
+
+  @Test
+  @DisplayName("새로 저장된 책은 이벤트로 색인에 추가된다")
+  void onBookSaved() {
+    //when
+    bookAutocompleteIndex.onBookSaved(new BookSavedEvent("4", "데카메론", "보카치오"));
+
+    //then
+    List<AutocompleteSuggestion> result = bookAutocompleteIndex.suggest("데", 10);
+    assertEquals(2, result.size());
+    assertEquals("데미안", result.get(0).getText());
+    assertEquals("데카메론", result.get(1).getText());
+  }
+}
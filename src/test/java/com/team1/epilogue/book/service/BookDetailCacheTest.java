@@ -0,0 +1,155 @@
+package com.team1.epilogue.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.team1.epilogue.book.dto.BookDetailAggregate;
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class BookDetailCacheTest {
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private BookDetailCache bookDetailCache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    bookDetailCache = new BookDetailCache(redisTemplate, listenerContainer, Duration.ofMinutes(10), 100);
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("ISBN 과 제목 어느 쪽으로 조회해도 한 번 만든 공통 정보를 재사용한다")
+  void get_cached() {
+    //when
+    BookDetailAggregate first = bookDetailCache.get("데미안", "title", () -> load("1", "헤르만 헤세"));
+    BookDetailAggregate byTitle = bookDetailCache.get("데미안", "title", () -> load("1", "헤르만 헤세"));
+    BookDetailAggregate byIsbn = bookDetailCache.get("1", "d_isbn", () -> load("1", "헤르만 헤세"));
+
+    //then
+    assertSame(first, byTitle);
+    assertSame(first, byIsbn);
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  @DisplayName("별점이 바뀐 책은 캐시에서 지우고 다른 서버에도 알린다")
+  void evict() {
+    //given
+    bookDetailCache.get("1", "d_isbn", () -> load("1", "헤르만 헤세"));
+
+    //when
+    bookDetailCache.evict("1");
+    bookDetailCache.get("1", "d_isbn", () -> load("1", "헤르만 헤세"));
+
+    //then
+    assertEquals(2, loads.get());
+    verify(redisTemplate, times(1)).convertAndSend(BookDetailCache.INVALIDATION_CHANNEL, "1");
+  }
+
+  @Test
+  @DisplayName("새 책이 저장되면 같은 작가의 책만 캐시에서 지운다")
+  void onBookSaved() {
+    //given
+    bookDetailCache.get("1", "d_isbn", () -> load("1", "헤르만 헤세"));
+    bookDetailCache.get("2", "d_isbn", () -> load("2", "팀 페리스"));
+
+    //when
+    bookDetailCache.onBookSaved(new BookSavedEvent("3", "수레바퀴 아래서", "헤르만 헤세"));
+    bookDetailCache.get("1", "d_isbn", () -> load("1", "헤르만 헤세"));
+    bookDetailCache.get("2", "d_isbn", () -> load("2", "팀 페리스"));
+
+    //then
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  @DisplayName("ISBN 으로 로딩하는 중에 별점이 바뀌면 무효화가 로딩을 기다렸다가 지워 이전 값이 캐시에 남지 않는다")
+  void evict_duringIsbnLoad() throws Exception {
+    //given
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Future<BookDetailAggregate> loaded = executor.submit(() -> bookDetailCache.get("1", "d_isbn", () -> {
+      loading.countDown();
+      await(release);
+      return load("1", "헤르만 헤세");
+    }));
+    loading.await();
+
+    //when
+    Future<?> evicted = executor.submit(() -> bookDetailCache.evict("1"));
+    assertThrows(TimeoutException.class, () -> evicted.get(100, TimeUnit.MILLISECONDS));
+    release.countDown();
+    loaded.get(1, TimeUnit.SECONDS);
+    evicted.get(1, TimeUnit.SECONDS);
+    executor.shutdown();
+    bookDetailCache.get("1", "d_isbn", () -> load("1", "헤르만 헤세"));
+
+    //then
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  @DisplayName("처음 보는 제목으로 로딩하는 중에 별점이 바뀌면 로딩한 값을 캐시하지 않는다")
+  void evict_duringTitleLoad() throws Exception {
+    //given
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Future<BookDetailAggregate> loaded = executor.submit(() -> bookDetailCache.get("데미안", "title", () -> {
+      loading.countDown();
+      await(release);
+      return load("1", "헤르만 헤세");
+    }));
+    loading.await();
+
+    //when
+    bookDetailCache.evict("1");
+    release.countDown();
+    loaded.get(1, TimeUnit.SECONDS);
+    executor.shutdown();
+    bookDetailCache.get("데미안", "title", () -> load("1", "헤르만 헤세"));
+    bookDetailCache.get("1", "d_isbn", () -> load("1", "헤르만 헤세"));
+
+    //then
+    assertEquals(2, loads.get());
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private BookDetailAggregate load(String isbn, String author) {
+    loads.incrementAndGet();
+    return BookDetailAggregate.builder().isbn(isbn).author(author).sameAuthor(List.of()).build();
+  }
+}
@@ -0,0 +1,127 @@
+package com.team1.epilogue.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.team1.epilogue.book.entity.Book;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class BookIngestionCoordinatorTest {
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private BookIngestionCoordinator coordinator;
+
+  @BeforeEach
+  void setUp() {
+    coordinator = new BookIngestionCoordinator(redisTemplate, Duration.ofSeconds(10), Duration.ofMillis(500));
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+  }
+
+  @Test
+  @DisplayName("같은 책을 동시에 조회하면 네이버 호출과 저장은 한 번만 일어난다")
+  void ingest_coalesced() throws Exception {
+    //given
+    when(valueOperations.setIfAbsent(eq("book:ingest:lock:d_isbn:1"), anyString(), any(Duration.class)))
+        .thenReturn(true);
+    AtomicInteger loads = new AtomicInteger();
+    Book saved = Book.builder().id("1").title("데미안").build();
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Book>> results = new ArrayList<>();
+
+    //when
+    for (int i = 0; i < threads; i++) {
+      results.add(executor.submit(() -> {
+        start.await();
+        return coordinator.ingest("d_isbn:1", Optional::empty, () -> {
+          loads.incrementAndGet();
+          sleep(200);
+          return saved;
+        });
+      }));
+    }
+    start.countDown();
+
+    //then
+    for (Future<Book> result : results) {
+      assertSame(saved, result.get(5, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+    assertEquals(1, loads.get());
+    // 작업이 끝나면 락을 해제한다.
+    verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyString());
+  }
+
+  @Test
+  @DisplayName("다른 서버가 락을 잡고 있으면 저장될 때까지 기다렸다가 저장된 책을 사용한다")
+  void ingest_waitForOtherInstance() {
+    //given
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+    Book saved = Book.builder().id("1").title("데미안").build();
+    AtomicInteger lookups = new AtomicInteger();
+
+    //when
+    Book book = coordinator.ingest("title:데미안",
+        () -> lookups.incrementAndGet() < 2 ? Optional.empty() : Optional.of(saved),
+        () -> fail("다른 서버가 저장 중이면 네이버를 호출하지 않는다"));
+
+    //then
+    assertSame(saved, book);
+    verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString());
+  }
+
+  @Test
+  @DisplayName("Redis 를 사용할 수 없어도 책을 가져와 저장한다")
+  void ingest_redisFailure() {
+    //given
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenThrow(new RedisConnectionFailureException("down"));
+    when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+        .thenThrow(new RedisConnectionFailureException("down"));
+    Book saved = Book.builder().id("1").build();
+
+    //when
+    Book book = coordinator.ingest("d_isbn:1", Optional::empty, () -> saved);
+
+    //then
+    assertSame(saved, book);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.team1.epilogue.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.team1.epilogue.book.client.NaverApiClient;
+import com.team1.epilogue.book.dto.BookFacetChangedEvent;
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import com.team1.epilogue.book.dto.NaverBookResponseDto;
+import com.team1.epilogue.book.dto.NaverBookSearchResponse;
+import com.team1.epilogue.book.entity.Book;
+import com.team1.epilogue.book.repository.BookBatchRepository;
+import com.team1.epilogue.book.repository.BookRepository;
+import com.team1.epilogue.keyword.service.KeyWordService;
+import com.team1.epilogue.trendingbook.dto.TrendingBookDto;
+import com.team1.epilogue.trendingbook.service.TrendingBookService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+class BookPrefetchJobTest {
+
+  @Mock
+  private NaverApiClient naverApiClient;
+
+  @Mock
+  private KeyWordService keyWordService;
+
+  @Mock
+  private TrendingBookService trendingBookService;
+
+  @Mock
+  private BookRepository bookRepository;
+
+  @Mock
+  private BookBatchRepository bookBatchRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private BookPrefetchJob bookPrefetchJob;
+
+  @BeforeEach
+  void setUp() {
+    bookPrefetchJob = new BookPrefetchJob(naverApiClient, keyWordService, trendingBookService,
+        bookRepository, bookBatchRepository, redisTemplate, eventPublisher, Runnable::run, "http://naver",
+        3, Duration.ZERO, Duration.ofMinutes(10));
+    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+  }
+
+  @Test
+  @DisplayName("인기 검색어와 인기 책 작가로 검색해 없는 책만 저장하고, 끝나면 진행 위치를 지운다")
+  void prefetch() {
+    //given
+    when(hashOperations.entries(BookPrefetchJob.CHECKPOINT_KEY)).thenReturn(Map.of());
+    when(keyWordService.getPopularKeywords()).thenReturn(List.of("데미안"));
+    when(trendingBookService.getTrendingBookList()).thenReturn(List.of(
+        TrendingBookDto.builder().id("1").author("헤르만 헤세^전영애").build()));
+    when(naverApiClient.getBookInfoFromNaver(eq("http://naver"),
+        argThat(request -> request != null && "데미안".equals(request.getQuery()))))
+        .thenReturn(response(item("1", "데미안"), item("2", "데미안 (개정판)")));
+    when(naverApiClient.getBookInfoFromNaver(eq("http://naver"),
+        argThat(request -> request != null && "헤르만 헤세".equals(request.getQuery()))))
+        .thenReturn(response(item("3", "싯다르타")));
+    when(bookRepository.findExistingIds(any())).thenReturn(List.of("1"));
+    when(bookBatchRepository.insertIgnore(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    //when
+    bookPrefetchJob.prefetch(true);
+
+    //then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Book>> captor = ArgumentCaptor.forClass(List.class);
+    verify(bookBatchRepository, times(2)).insertIgnore(captor.capture());
+    assertEquals(List.of("2"), captor.getAllValues().get(0).stream().map(Book::getId).toList());
+    assertEquals("ㄷ", captor.getAllValues().get(0).get(0).getChosung());
+    assertEquals(List.of("3"), captor.getAllValues().get(1).stream().map(Book::getId).toList());
+    verify(eventPublisher, times(2)).publishEvent(any(BookSavedEvent.class));
+    verify(eventPublisher, times(2)).publishEvent(any(BookFacetChangedEvent.class));
+    verify(redisTemplate, times(1)).delete(BookPrefetchJob.CHECKPOINT_KEY);
+  }
+
+  @Test
+  @DisplayName("진행 위치가 저장되어 있으면 그 seed 와 페이지부터 이어서 진행한다")
+  void prefetch_resume() {
+    //given
+    when(hashOperations.entries(BookPrefetchJob.CHECKPOINT_KEY)).thenReturn(Map.of(
+        "seeds", "데미안\n헤르만 헤세", "seed", "1", "page", "2"));
+    when(naverApiClient.getBookInfoFromNaver(eq("http://naver"), any())).thenReturn(response());
+
+    //when
+    bookPrefetchJob.prefetch(false);
+
+    //then
+    verify(naverApiClient, times(1)).getBookInfoFromNaver(eq("http://naver"),
+        argThat(request -> "헤르만 헤세".equals(request.getQuery()) && request.getStart() == 201));
+    verifyNoInteractions(keyWordService, trendingBookService);
+    verify(redisTemplate, times(1)).delete(BookPrefetchJob.CHECKPOINT_KEY);
+  }
+
+  @Test
+  @DisplayName("네이버 호출이 실패하면 진행 위치를 남겨 두고 멈춘다")
+  void prefetch_stopOnFailure() {
+    //given
+    when(hashOperations.entries(BookPrefetchJob.CHECKPOINT_KEY)).thenReturn(Map.of());
+    when(keyWordService.getPopularKeywords()).thenReturn(List.of("데미안"));
+    when(trendingBookService.getTrendingBookList()).thenReturn(List.of());
+    when(naverApiClient.getBookInfoFromNaver(eq("http://naver"), any()))
+        .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+    //when
+    bookPrefetchJob.prefetch(true);
+
+    //then
+    verify(hashOperations, times(1)).putAll(eq(BookPrefetchJob.CHECKPOINT_KEY), anyMap());
+    verify(redisTemplate, never()).delete(anyString());
+    verifyNoInteractions(bookBatchRepository);
+  }
+
+  @Test
+  @DisplayName("멈춘 실행이 없으면 이어서 진행할 것이 없다")
+  void prefetch_nothingToResume() {
+    //given
+    when(hashOperations.entries(BookPrefetchJob.CHECKPOINT_KEY)).thenReturn(Map.of());
+
+    //when
+    bookPrefetchJob.prefetch(false);
+
+    //then
+    verifyNoInteractions(naverApiClient, keyWordService);
+  }
+
+  private NaverBookSearchResponse response(NaverBookResponseDto... items) {
+    return NaverBookSearchResponse.builder().total(items.length).items(List.of(items)).build();
+  }
+
+  private NaverBookResponseDto item(String isbn, String title) {
+    return NaverBookResponseDto.builder()
+        .isbn(isbn)
+        .title(title)
+        .author("헤르만 헤세")
+        .price(12000)
+        .publisher("민음사")
+        .pubDate(LocalDate.of(2000, 12, 20))
+        .build();
+  }
+}
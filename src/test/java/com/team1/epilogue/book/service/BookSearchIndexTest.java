@@ -0,0 +1,152 @@
+package com.team1.epilogue.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.team1.epilogue.book.dto.BookSavedEvent;
+import com.team1.epilogue.book.dto.BookSearchHit;
+import com.team1.epilogue.book.entity.Book;
+import com.team1.epilogue.book.repository.BookRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class BookSearchIndexTest {
+
+  @Mock
+  private BookRepository bookRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private BookSearchIndex bookSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    bookSearchIndex = new BookSearchIndex(bookRepository, redisTemplate, listenerContainer);
+    when(bookRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+        book("1", "데미안", "헤르만 헤세", "민음사", "싱클레어의 성장 이야기", LocalDate.of(2000, 12, 20)),
+        book("2", "수레바퀴 아래서", "헤르만 헤세", "민음사", "데미안 이전에 쓴 소설", LocalDate.of(2001, 4, 1)),
+        book("3", "타이탄의 도구들", "팀 페리스", "토네이도", "세계 최고들의 습관", null))));
+    bookSearchIndex.build();
+  }
+
+  @Test
+  @DisplayName("제목에 검색어가 있는 책이 설명에만 있는 책보다 먼저 나온다")
+  void search_sim() {
+    //when
+    List<BookSearchHit> hits = bookSearchIndex.search("데미안", "sim");
+
+    //then
+    assertEquals(List.of("1", "2"), hits.stream().map(BookSearchHit::getIsbn).toList());
+    assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+  }
+
+  @Test
+  @DisplayName("date 정렬은 출간일이 최근인 책부터 반환한다")
+  void search_date() {
+    //when
+    List<BookSearchHit> hits = bookSearchIndex.search("데미안", "date");
+
+    //then
+    assertEquals(List.of("2", "1"), hits.stream().map(BookSearchHit::getIsbn).toList());
+  }
+
+  @Test
+  @DisplayName("작가, 부분 단어, 초성으로도 찾고, 검색어의 일부만 가진 책은 제외한다")
+  void search_tokens() {
+    assertEquals(List.of("1", "2"), isbns(bookSearchIndex.search("헤세", "sim")));
+    assertEquals(List.of("3"), isbns(bookSearchIndex.search("타이탄", "sim")));
+    assertEquals(List.of("3"), isbns(bookSearchIndex.search("ㅌㅇㅌ", "sim")));
+    assertEquals(List.of("1"), isbns(bookSearchIndex.search("헤르만 헤세 싱클레어", "sim")));
+    assertTrue(bookSearchIndex.search("어린왕자", "sim").isEmpty());
+  }
+
+  @Test
+  @DisplayName("새로 저장된 책을 색인에 추가하고 다른 서버에도 알린다")
+  void onBookSaved() {
+    //given
+    when(bookRepository.findById("4")).thenReturn(Optional.of(
+        book("4", "유리알 유희", "헤르만 헤세", "민음사", "", LocalDate.of(2011, 1, 1))));
+
+    //when
+    bookSearchIndex.onBookSaved(new BookSavedEvent("4", "유리알 유희", "헤르만 헤세"));
+
+    //then
+    assertEquals(List.of("4"), isbns(bookSearchIndex.search("유리알", "sim")));
+    assertEquals(3, bookSearchIndex.search("헤세", "sim").size());
+    verify(redisTemplate, times(1)).convertAndSend(BookSearchIndex.BOOK_SAVED_CHANNEL, "4");
+  }
+
+  @Test
+  @DisplayName("색인만으로 답하는 검색은 ISBN, 초성으로 찾은 책만 찾는다")
+  void searchStrong() {
+    assertEquals(List.of("3"), isbns(bookSearchIndex.searchStrong("3", "sim")));
+    assertEquals(List.of("3"), isbns(bookSearchIndex.searchStrong("ㅌㅇㅌ", "sim")));
+    // 제목이 같은 책이 있어도 다른 판본이나 다른 책이 DB 에 없을 수 있으므로 네이버에 맡긴다.
+    assertTrue(bookSearchIndex.searchStrong("데미안", "sim").isEmpty());
+    assertTrue(bookSearchIndex.searchStrong("헤르만 헤세", "sim").isEmpty());
+  }
+
+  @Test
+  @DisplayName("띄어쓰기를 빼면 제목이 검색어와 같은 책만 찾는다")
+  void searchTitle() {
+    assertEquals(List.of("1"), isbns(bookSearchIndex.searchTitle("데미안", "sim")));
+    assertEquals(List.of("2"), isbns(bookSearchIndex.searchTitle("수레바퀴아래서", "sim")));
+    assertTrue(bookSearchIndex.searchTitle("수레바퀴", "sim").isEmpty());
+    assertTrue(bookSearchIndex.searchTitle("ㅌㅇㅌ", "sim").isEmpty());
+  }
+
+  @Test
+  @DisplayName("색인을 만드는 동안 추가된 책도 새 색인에 남는다")
+  void build_keepsBooksAddedDuringBuild() {
+    //given
+    when(bookRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+      // DB 를 읽은 뒤, 새 색인으로 바꾸기 전에 책이 저장된다.
+      bookSearchIndex.add(book("4", "유리알 유희", "헤르만 헤세", "민음사", "", null));
+      return new PageImpl<>(List.of(book("1", "데미안", "헤르만 헤세", "민음사", "", null)));
+    });
+
+    //when
+    bookSearchIndex.build();
+
+    //then
+    assertEquals(List.of("4"), isbns(bookSearchIndex.search("유리알", "sim")));
+    assertEquals(2, bookSearchIndex.search("헤세", "sim").size());
+    // 페이지 사이에서 책이 빠지지 않도록 ID 순서로 나눠 읽는다.
+    verify(bookRepository, atLeastOnce()).findAll(PageRequest.of(0, 1000, Sort.by("id")));
+  }
+
+  private List<String> isbns(List<BookSearchHit> hits) {
+    return hits.stream().map(BookSearchHit::getIsbn).toList();
+  }
+
+  private Book book(String id, String title, String author, String publisher, String description,
+      LocalDate pubDate) {
+    return Book.builder()
+        .id(id)
+        .title(title)
+        .author(author)
+        .publisher(publisher)
+        .description(description)
+        .pubDate(pubDate)
+        .build();
+  }
+}
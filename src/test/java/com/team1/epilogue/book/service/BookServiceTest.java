@@ -1,14 +1,24 @@
 package com.team1.epilogue.book.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.team1.epilogue.book.client.NaverBookSearchCache;
+import com.team1.epilogue.book.dto.BookCursor;
 import com.team1.epilogue.book.dto.BookDetailResponse;
+import com.team1.epilogue.book.dto.BookInfoRequest;
 import com.team1.epilogue.book.dto.BookMainPageDto;
+import com.team1.epilogue.book.dto.BookSavedEvent;
 import com.team1.epilogue.book.dto.BookSearchFilter;
+import com.team1.epilogue.book.dto.BookSearchHit;
+import com.team1.epilogue.book.dto.NaverBookResponseDto;
+import com.team1.epilogue.book.dto.NaverBookSearchResponse;
 import com.team1.epilogue.book.entity.Book;
 import com.team1.epilogue.book.repository.BookRepository;
 import com.team1.epilogue.book.repository.CustomBookRepository;
+import com.team1.epilogue.keyword.service.KeyWordService;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +28,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -30,6 +41,18 @@ class BookServiceTest {
   @Mock
   private BookRepository bookRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private KeyWordService keyWordService;
+
+  @Mock
+  private BookSearchIndex bookSearchIndex;
+
+  @Mock
+  private NaverBookSearchCache naverBookSearchCache;
+
   @InjectMocks
   private BookService bookService;
 
@@ -63,6 +86,112 @@ class BookServiceTest {
     verify(bookRepository, times(1)).save(captor.capture());
     // ArgumentCaptor 를 이용해 저장된 객체를 검증한다.
     assertEquals("데미안", captor.getValue().getTitle());
+    // 자동완성 색인 반영을 위한 이벤트 발행
+    verify(eventPublisher, times(1)).publishEvent(any(BookSavedEvent.class));
+  }
+
+  @Test
+  @DisplayName("초성 검색은 네이버를 호출하지 않고 검색 색인에서 관련도 점수와 함께 반환한다")
+  void searchBookInfo_local() {
+    //given
+    BookInfoRequest request = BookInfoRequest.builder().query("ㄷㅁㅇ").sort("sim").display(1).start(1).build();
+    when(bookSearchIndex.searchStrong("ㄷㅁㅇ", "sim")).thenReturn(List.of(
+        new BookSearchHit("1", 2.5), new BookSearchHit("2", 1.0)));
+    when(bookRepository.findAllById(List.of("1"))).thenReturn(List.of(
+        Book.builder().id("1").title("데미안").author("헤르만 헤세").price(12000).build()));
+
+    //when
+    NaverBookSearchResponse response = bookService.searchBookInfo(request);
+
+    //then
+    assertEquals(2, response.getTotal());
+    assertEquals(1, response.getItems().size());
+    assertEquals("1", response.getItems().get(0).getIsbn());
+    assertEquals(2.5, response.getItems().get(0).getScore());
+    verify(keyWordService, times(1)).saveKeyWord("ㄷㅁㅇ");
+    verifyNoInteractions(naverBookSearchCache);
+  }
+
+  @Test
+  @DisplayName("색인에서 답한 검색어는 결과가 끝난 뒤의 페이지도 색인에서 같은 total 로 답한다")
+  void searchBookInfo_localLastPage() {
+    //given
+    BookInfoRequest request = BookInfoRequest.builder().query("ㄷㅁㅇ").sort("sim").display(10).start(11).build();
+    when(bookSearchIndex.searchStrong("ㄷㅁㅇ", "sim")).thenReturn(List.of(
+        new BookSearchHit("1", 2.5), new BookSearchHit("2", 1.0)));
+
+    //when
+    NaverBookSearchResponse response = bookService.searchBookInfo(request);
+
+    //then
+    assertEquals(2, response.getTotal());
+    assertTrue(response.getItems().isEmpty());
+    verifyNoInteractions(naverBookSearchCache);
+  }
+
+  @Test
+  @DisplayName("색인만으로 답할 수 없고 제목이 같은 책도 없으면 네이버 응답을 그대로 반환한다")
+  void searchBookInfo_fallback() {
+    //given
+    BookInfoRequest request = BookInfoRequest.builder().query("데미안").sort("sim").display(10).start(1).build();
+    NaverBookSearchResponse naverResponse = NaverBookSearchResponse.builder().total(30).items(List.of()).build();
+    when(bookSearchIndex.searchStrong("데미안", "sim")).thenReturn(List.of());
+    when(naverBookSearchCache.getBookInfo(any(), eq(request))).thenReturn(naverResponse);
+    when(bookSearchIndex.searchTitle("데미안", "sim")).thenReturn(List.of());
+
+    //when
+    NaverBookSearchResponse response = bookService.searchBookInfo(request);
+
+    //then
+    assertSame(naverResponse, response);
+    assertEquals(30, response.getTotal());
+    verify(bookRepository, never()).findAllById(any());
+  }
+
+  @Test
+  @DisplayName("제목이 같은 저장된 책은 네이버 검색 결과 첫 페이지 맨 앞에 두고, total 은 네이버 값을 쓴다")
+  void searchBookInfo_titleHitsFirstPage() {
+    //given
+    BookInfoRequest request = BookInfoRequest.builder().query("데미안").sort("sim").display(2).start(1).build();
+    NaverBookSearchResponse naverResponse = NaverBookSearchResponse.builder().total(30).items(List.of(
+        NaverBookResponseDto.builder().isbn("9").title("데미안 (다른 판본)").build(),
+        NaverBookResponseDto.builder().isbn("1").title("데미안").build())).build();
+    when(bookSearchIndex.searchStrong("데미안", "sim")).thenReturn(List.of());
+    when(naverBookSearchCache.getBookInfo(any(), eq(request))).thenReturn(naverResponse);
+    when(bookSearchIndex.searchTitle("데미안", "sim")).thenReturn(List.of(new BookSearchHit("1", 3.0)));
+    when(bookRepository.findAllById(List.of("1"))).thenReturn(List.of(
+        Book.builder().id("1").title("데미안").author("헤르만 헤세").build()));
+
+    //when
+    NaverBookSearchResponse response = bookService.searchBookInfo(request);
+
+    //then
+    assertEquals(30, response.getTotal());
+    assertEquals(List.of("1", "9"), response.getItems().stream().map(NaverBookResponseDto::getIsbn).toList());
+    assertEquals(3.0, response.getItems().get(0).getScore());
+    // 캐시된 네이버 응답은 바꾸지 않는다.
+    assertEquals(List.of("9", "1"), naverResponse.getItems().stream().map(NaverBookResponseDto::getIsbn).toList());
+  }
+
+  @Test
+  @DisplayName("첫 페이지에 둔 저장된 책은 네이버 검색 결과의 다른 페이지에서 뺀다")
+  void searchBookInfo_titleHitsLaterPage() {
+    //given
+    BookInfoRequest request = BookInfoRequest.builder().query("데미안").sort("sim").display(2).start(3).build();
+    NaverBookSearchResponse naverResponse = NaverBookSearchResponse.builder().total(30).items(List.of(
+        NaverBookResponseDto.builder().isbn("1").title("데미안").build(),
+        NaverBookResponseDto.builder().isbn("8").title("데미안 읽기").build())).build();
+    when(bookSearchIndex.searchStrong("데미안", "sim")).thenReturn(List.of());
+    when(naverBookSearchCache.getBookInfo(any(), eq(request))).thenReturn(naverResponse);
+    when(bookSearchIndex.searchTitle("데미안", "sim")).thenReturn(List.of(new BookSearchHit("1", 3.0)));
+
+    //when
+    NaverBookSearchResponse response = bookService.searchBookInfo(request);
+
+    //then
+    assertEquals(30, response.getTotal());
+    assertEquals(List.of("8"), response.getItems().stream().map(NaverBookResponseDto::getIsbn).toList());
+    verify(bookRepository, never()).findAllById(any());
   }
 
   @Test
@@ -107,4 +236,50 @@ class BookServiceTest {
     assertEquals(1, bookMainPage.getTotalPages());
     assertEquals("테스트3", bookMainPage.getBooks().get(2).getBookTitle());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("커서 페이징은 한 개 더 조회해서 다음 페이지 커서를 만든다")
+  void getBookMainPageByCursor() {
+    //given
+    BookSearchFilter filter = BookSearchFilter.builder()
+        .sort("view")
+        .build();
+
+    List<Book> list = new ArrayList<>();
+    for (int i = 10; i >= 1; i--) { // 페이지 크기(9) + 1
+      list.add(Book.builder().id(String.valueOf(i)).title("테스트" + i).view(i * 10).build());
+    }
+    when(customBookRepository.findBooksAfter(filter, null, 10)).thenReturn(list);
+    when(customBookRepository.countBooksWithFilter(filter)).thenReturn(20L);
+
+    //when
+    BookMainPageDto bookMainPage = bookService.getBookMainPageByCursor(filter, null);
+
+    //then
+    assertEquals(9, bookMainPage.getBooks().size());
+    assertEquals(20L, bookMainPage.getTotalCount());
+    assertEquals(3, bookMainPage.getTotalPages());
+    // 마지막으로 내려준 책(조회수 20, ID 2)의 위치가 다음 커서가 된다.
+    BookCursor next = BookCursor.decode(bookMainPage.getNextCursor());
+    assertEquals("20", next.getSortValue());
+    assertEquals("2", next.getId());
+  }
+
+  @Test
+  @DisplayName("마지막 페이지면 다음 커서가 없다")
+  void getBookMainPageByCursor_lastPage() {
+    //given
+    BookSearchFilter filter = BookSearchFilter.builder().sort("date").build();
+    String cursor = new BookCursor(null, "5").encode();
+    when(customBookRepository.findBooksAfter(eq(filter), any(BookCursor.class), eq(10)))
+        .thenReturn(List.of(Book.builder().id("4").title("테스트4").build()));
+    when(customBookRepository.countBooksWithFilter(filter)).thenReturn(1L);
+
+    //when
+    BookMainPageDto bookMainPage = bookService.getBookMainPageByCursor(filter, cursor);
+
+    //then
+    assertEquals(1, bookMainPage.getBooks().size());
+    assertNull(bookMainPage.getNextCursor());
+  }
+}
@@ -0,0 +1,75 @@
+package com.team1.epilogue.book.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BookViewCounterTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @InjectMocks
+  private BookViewCounter bookViewCounter;
+
+  @Test
+  @DisplayName("조회수는 책별로 모아서 한 번의 batch UPDATE 로 반영된다")
+  void flush_batchUpdate() {
+    //given
+    bookViewCounter.increase("isbn-1");
+    bookViewCounter.increase("isbn-1");
+    bookViewCounter.increase("isbn-1");
+    bookViewCounter.increase("isbn-2");
+
+    //when
+    bookViewCounter.flush();
+
+    //then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+    List<Object[]> args = captor.getValue();
+    assertEquals(2, args.size());
+    assertTrue(args.stream().anyMatch(arg -> arg[0].equals(3L) && arg[1].equals("isbn-1")));
+    assertTrue(args.stream().anyMatch(arg -> arg[0].equals(1L) && arg[1].equals("isbn-2")));
+    assertEquals(0, bookViewCounter.getPendingViews("isbn-1"));
+  }
+
+  @Test
+  @DisplayName("증가분이 없으면 DB 에 접근하지 않는다")
+  void flush_nothingPending() {
+    bookViewCounter.flush();
+
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+  }
+
+  @Test
+  @DisplayName("DB 반영에 실패하면 조회수를 다시 보관한다")
+  void flush_failure_keepsViews() {
+    //given
+    bookViewCounter.increase("isbn-1");
+    bookViewCounter.increase("isbn-1");
+    when(jdbcTemplate.batchUpdate(eq("UPDATE book SET view = view + ? WHERE id = ?"), anyList()))
+        .thenThrow(new QueryTimeoutException("timeout"));
+
+    //when
+    bookViewCounter.flush();
+
+    //then
+    assertEquals(2, bookViewCounter.getPendingViews("isbn-1"));
+  }
+}
@@ -14,9 +14,7 @@ import static org.mockito.Mockito.when;
 
 import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.repository.MemberRepository;
-import com.team1.epilogue.book.dto.BookDetailResponse;
 import com.team1.epilogue.book.entity.Book;
-import com.team1.epilogue.book.repository.BookRepository;
 import com.team1.epilogue.book.service.BookService;
 import com.team1.epilogue.chat.dto.ChatMessageDto;
 import com.team1.epilogue.chat.dto.ChatRoomDto;
@@ -55,9 +53,6 @@ class ChatRoomServiceTest {
   @Mock
   private BookService bookService;
 
-  @Mock
-  private BookRepository bookRepository;
-
   @InjectMocks
   private ChatRoomService chatRoomService;
 
@@ -79,10 +74,8 @@ class ChatRoomServiceTest {
   @Test
   void createRoom_Success() {
     when(memberRepository.findById(1L)).thenReturn(Optional.of(new Member()));
-    when(bookRepository.findByTitle("Book Title")).thenReturn(Optional.empty());
-    when(bookService.getBookDetail(any(), any(), null))
-        .thenReturn(BookDetailResponse.builder().title("Book Title").build());
-    when(bookService.insertBookInfo(any())).thenReturn(new Book());
+    when(bookService.findOrIngestBook("Book Title", "title"))
+        .thenReturn(Book.builder().title("Book Title").build());
     when(chatRoomRepository.findByTitle(any())).thenReturn(Optional.empty());
     when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(new ChatRoom("1", "Book Title", 0, 1L));
 
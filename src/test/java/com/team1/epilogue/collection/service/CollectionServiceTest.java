@@ -11,6 +11,7 @@ import com.team1.epilogue.collection.dto.CollectionResponse;
 import com.team1.epilogue.collection.entity.CollectionEntity;
 import com.team1.epilogue.collection.exception.AlreadyAddedCollectionException;
 import com.team1.epilogue.collection.repository.CollectionRepository;
+import com.team1.epilogue.trendingbook.dto.BookActivityEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -34,6 +36,9 @@ class CollectionServiceTest {
   @Mock
   private CollectionRepository collectionRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private CollectionService collectionService;
 
@@ -112,6 +117,7 @@ class CollectionServiceTest {
     verify(collectionRepository, times(1)).existsByMemberAndBook(any(Member.class),
         any(Book.class));
     verify(collectionRepository, times(1)).save(any(CollectionEntity.class));
+    verify(eventPublisher, times(1)).publishEvent(any(BookActivityEvent.class));
 
   }
 
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.team1.epilogue.auth.entity.Member;
+import com.team1.epilogue.auth.repository.MemberRepository;
 import com.team1.epilogue.auth.security.CustomMemberDetails;
 import com.team1.epilogue.book.entity.Book;
 import com.team1.epilogue.comment.dto.CommentPostRequest;
@@ -19,10 +20,14 @@ import com.team1.epilogue.review.entity.Review;
 import com.team1.epilogue.review.exception.AlreadyLikedException;
 import com.team1.epilogue.review.exception.LikeNotFoundException;
 import com.team1.epilogue.review.repository.ReviewRepository;
+import com.team1.epilogue.review.service.LikeCountBuffer;
+import com.team1.epilogue.review.service.MemberLikeCache;
 import java.util.ArrayList;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Collections;
 import java.util.Optional;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +36,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -48,6 +55,18 @@ class CommentServiceTest {
   @Mock
   private CommentLikeRepository commentLikeRepository;
 
+  @Mock
+  private MemberRepository memberRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private LikeCountBuffer likeCountBuffer;
+
+  @Mock
+  private MemberLikeCache memberLikeCache;
+
   @InjectMocks
   private CommentService commentService;
 
@@ -282,21 +301,18 @@ class CommentServiceTest {
   @DisplayName("댓글 좋아요 기능 테스트 - 성공")
   void likeComment_success() {
     // given
+    when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
     when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
-    when(commentLikeRepository.existsByCommentIdAndMemberId(comment.getId(),
-        member.getId())).thenReturn(false);
 
     ArgumentCaptor<CommentLike> commentLikeCaptor = ArgumentCaptor.forClass(CommentLike.class);
-    ArgumentCaptor<Long> commentIdCaptor = ArgumentCaptor.forClass(Long.class);
 
     // when
     assertDoesNotThrow(() -> commentService.likeComment(memberDetails, comment.getId()));
 
     // then
-    verify(commentLikeRepository, times(1)).save(commentLikeCaptor.capture());
-    verify(commentRepository, times(1)).increaseLikeCount(commentIdCaptor.capture());
+    verify(commentLikeRepository, times(1)).saveAndFlush(commentLikeCaptor.capture());
+    verify(likeCountBuffer, times(1)).addCommentLikes(comment.getId(), 1);
 
-    assertEquals(comment.getId(), commentIdCaptor.getValue());
     assertEquals(member.getId(), commentLikeCaptor.getValue().getMember().getId());
     assertEquals(comment.getId(), commentLikeCaptor.getValue().getComment().getId());
   }
@@ -305,55 +321,65 @@ class CommentServiceTest {
   @DisplayName("댓글 좋아요 취소 기능 테스트 - 성공")
   void unlikeComment_success() {
     // given
-    CommentLike commentLike = new CommentLike(comment, member);
-
-    when(commentLikeRepository.findByCommentIdAndMemberId(comment.getId(), member.getId()))
-        .thenReturn(Optional.of(commentLike));
-
-    ArgumentCaptor<CommentLike> commentLikeCaptor = ArgumentCaptor.forClass(CommentLike.class);
-    ArgumentCaptor<Long> commentIdCaptor = ArgumentCaptor.forClass(Long.class);
+    when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+    when(commentLikeRepository.deleteByCommentIdAndMemberId(comment.getId(), member.getId()))
+        .thenReturn(1);
 
     // when
     assertDoesNotThrow(() -> commentService.unlikeComment(memberDetails, comment.getId()));
 
     // then
-    verify(commentLikeRepository, times(1)).delete(commentLikeCaptor.capture());
-    verify(commentRepository, times(1)).decreaseLikeCount(commentIdCaptor.capture());
-
-    assertEquals(comment.getId(), commentLikeCaptor.getValue().getComment().getId());
-    assertEquals(member.getId(), commentLikeCaptor.getValue().getMember().getId());
+    verify(likeCountBuffer, times(1)).addCommentLikes(comment.getId(), -1);
   }
 
   @Test
   @DisplayName("댓글 좋아요 기능 테스트 - 실패 (이미 좋아요한 경우)")
   void likeComment_fail_alreadyLiked() {
     // given
+    when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
     when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
-    when(commentLikeRepository.existsByCommentIdAndMemberId(comment.getId(), member.getId()))
-        .thenReturn(true);
+    when(commentLikeRepository.saveAndFlush(any(CommentLike.class)))
+        .thenThrow(new DataIntegrityViolationException("duplicate",
+            new ConstraintViolationException("duplicate", new SQLException("duplicate", "23000", 1062),
+                "uk_comment_like_member_comment")));
 
     // when & then
     assertThrows(AlreadyLikedException.class,
         () -> commentService.likeComment(memberDetails, comment.getId()));
 
-    // 좋아요가 추가되지 않아야 함
-    verify(commentLikeRepository, never()).save(any(CommentLike.class));
-    verify(commentRepository, never()).increaseLikeCount(anyLong());
+    // 좋아요 수가 바뀌지 않아야 함
+    verify(likeCountBuffer, never()).addCommentLikes(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("댓글 좋아요 기능 테스트 - 실패 (unique 제약이 아닌 무결성 위반은 그대로 던짐)")
+  void likeComment_fail_otherIntegrityViolation() {
+    // given
+    when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+    when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
+    when(commentLikeRepository.saveAndFlush(any(CommentLike.class)))
+        .thenThrow(new DataIntegrityViolationException("fk",
+            new SQLException("Cannot add or update a child row", "23000", 1452)));
+
+    // when & then
+    assertThrows(DataIntegrityViolationException.class,
+        () -> commentService.likeComment(memberDetails, comment.getId()));
+    verify(likeCountBuffer, never()).addCommentLikes(anyLong(), anyInt());
   }
 
   @Test
   @DisplayName("댓글 좋아요 취소 기능 테스트 - 실패 (좋아요한 적 없는 경우)")
   void unlikeComment_fail_notLiked() {
     // given
-    when(commentLikeRepository.findByCommentIdAndMemberId(comment.getId(), member.getId()))
-        .thenReturn(Optional.empty());
+    when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+    when(commentLikeRepository.deleteByCommentIdAndMemberId(comment.getId(), member.getId()))
+        .thenReturn(0);
 
     // when & then
     assertThrows(LikeNotFoundException.class,
         () -> commentService.unlikeComment(memberDetails, comment.getId()));
 
-    // 좋아요 삭제나 감소가 일어나지 않아야 함
-    verify(commentLikeRepository, never()).delete(any(CommentLike.class));
-    verify(commentRepository, never()).decreaseLikeCount(anyLong());
+    // 좋아요 수가 바뀌지 않아야 함
+    verify(likeCountBuffer, never()).addCommentLikes(anyLong(), anyInt());
   }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.team1.epilogue.common.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    circuitBreaker = new CircuitBreaker(4, 0.5, Duration.ofSeconds(10), now::get);
+  }
+
+  @Test
+  @DisplayName("최근 호출의 실패율이 기준 이상이면 회로를 열고 호출을 막는다")
+  void open() {
+    //given
+    call(true);
+    call(false);
+    call(true);
+
+    //when
+    call(false); // 4건 중 2건 실패 (50%)
+
+    //then
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  @DisplayName("오래된 실패는 창에서 밀려나므로 회로를 열지 않는다")
+  void slidingWindow() {
+    //given
+    call(true);
+    call(false);
+    call(false);
+    call(false);
+
+    //when
+    call(false); // 첫 번째 실패가 밀려난다.
+    call(true);
+
+    //then
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+  }
+
+  @Test
+  @DisplayName("열린 시간이 지나면 시험 호출 한 건만 허용하고, 성공하면 회로를 닫는다")
+  void halfOpen() {
+    //given
+    openCircuit();
+    now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    //when
+    boolean trial = circuitBreaker.tryAcquire();
+    boolean second = circuitBreaker.tryAcquire();
+    circuitBreaker.onSuccess();
+
+    //then
+    assertTrue(trial);
+    assertFalse(second);
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    assertTrue(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  @DisplayName("시험 호출이 실패하면 다시 회로를 연다")
+  void halfOpen_failure() {
+    //given
+    openCircuit();
+    now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    //when
+    assertTrue(circuitBreaker.tryAcquire());
+    circuitBreaker.onFailure();
+
+    //then
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  @DisplayName("회로가 열린 뒤 끝난 호출의 실패는 열린 시간을 늘리지 않는다")
+  void open_lateFailure() {
+    //given
+    assertTrue(circuitBreaker.tryAcquire()); // 회로가 열리기 전에 보낸 호출
+    openCircuit();
+    now.addAndGet(Duration.ofSeconds(9).toNanos());
+
+    //when
+    circuitBreaker.onFailure();
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    //then
+    assertTrue(circuitBreaker.tryAcquire());
+    assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+  }
+
+  private void openCircuit() {
+    for (int i = 0; i < 4; i++) {
+      call(true);
+    }
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+  }
+
+  private void call(boolean failure) {
+    assertTrue(circuitBreaker.tryAcquire());
+    if (failure) {
+      circuitBreaker.onFailure();
+    } else {
+      circuitBreaker.onSuccess();
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.team1.epilogue.common.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.StreamUtils;
+
+class HedgingClientHttpRequestFactoryTest {
+
+  private MockWebServer mockWebServer;
+  private ExecutorService executor;
+  private HedgingClientHttpRequestFactory requestFactory;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+    executor = Executors.newCachedThreadPool();
+    requestFactory = new HedgingClientHttpRequestFactory(new SimpleClientHttpRequestFactory(), executor,
+        Duration.ofMillis(100));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    executor.shutdownNow();
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  @DisplayName("GET 응답이 hedgeDelay 안에 오지 않으면 한 번 더 보내고 먼저 온 응답을 사용한다")
+  void hedged() throws Exception {
+    //given
+    mockWebServer.enqueue(new MockResponse().setBody("slow").setHeadersDelay(2, TimeUnit.SECONDS));
+    mockWebServer.enqueue(new MockResponse().setBody("fast"));
+
+    //when
+    long start = System.nanoTime();
+    try (ClientHttpResponse response = requestFactory.createRequest(uri(), HttpMethod.GET).execute()) {
+      //then
+      assertEquals("fast", StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+    }
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+    assertEquals(2, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  @DisplayName("GET 응답이 hedgeDelay 안에 오면 한 번만 보낸다")
+  void notHedged() throws Exception {
+    //given
+    mockWebServer.enqueue(new MockResponse().setBody("ok"));
+
+    //when
+    try (ClientHttpResponse response = requestFactory.createRequest(uri(), HttpMethod.GET).execute()) {
+      //then
+      assertEquals("ok", StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+    }
+    assertEquals(1, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  @DisplayName("GET 이 아닌 요청은 느려도 다시 보내지 않는다")
+  void postNotHedged() throws Exception {
+    //given
+    mockWebServer.enqueue(new MockResponse().setBody("ok").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+    //when
+    try (ClientHttpResponse response = requestFactory.createRequest(uri(), HttpMethod.POST).execute()) {
+      //then
+      assertEquals(200, response.getStatusCode().value());
+    }
+    assertEquals(1, mockWebServer.getRequestCount());
+  }
+
+  private URI uri() {
+    return mockWebServer.url("/v1/search/book.json").uri();
+  }
+}
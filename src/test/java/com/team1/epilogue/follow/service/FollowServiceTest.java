@@ -9,6 +9,7 @@ import com.team1.epilogue.follow.dto.MemberDto;
 import com.team1.epilogue.follow.dto.PaginationDto;
 import com.team1.epilogue.follow.dto.ReviewDto;
 import com.team1.epilogue.follow.dto.ReviewListResponse;
+import com.team1.epilogue.follow.dto.TimelinePage;
 import com.team1.epilogue.follow.entity.Follow;
 import com.team1.epilogue.follow.repository.FollowRepository;
 import com.team1.epilogue.review.entity.Review;
@@ -31,6 +32,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +52,9 @@ class FollowServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private ReviewTimeline reviewTimeline;
+
     @InjectMocks
     private FollowService followService;
 
@@ -189,4 +195,42 @@ class FollowServiceTest {
         ReviewDto dto = response.getReview().get(0);
         assertEquals("Test review content", dto.getContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("타임라인이 있으면 팔로우 목록을 읽지 않고 타임라인 순서대로 리뷰를 조회하고, 삭제된 리뷰는 타임라인에서 뺀다")
+    void testGetFollowedReviews_timeline() {
+        //given
+        when(memberRepository.findByLoginId("user1")).thenReturn(Optional.of(follower));
+        when(reviewTimeline.page(1L, 10, 10)).thenReturn(new TimelinePage(List.of(12L, 11L, 10L), 23));
+
+        Review newer = Review.builder().id(12L).member(followed).content("newer").build();
+        Review older = Review.builder().id(10L).member(followed).content("older").build();
+        // 11번 리뷰는 그 사이 삭제됨
+        when(reviewRepository.findAllByIdInWithMemberAndBook(List.of(12L, 11L, 10L)))
+                .thenReturn(List.of(older, newer));
+
+        //when
+        ReviewListResponse response = followService.getFollowedReviews("user1", 2, 10, "desc");
+
+        //then
+        assertEquals(23, response.getPagination().getTotal());
+        assertEquals(List.of("12", "10"), response.getReview().stream().map(ReviewDto::getId).toList());
+        verify(followRepository, never()).findByFollower(any());
+        verify(reviewTimeline).removeDeleted(1L, List.of(11L));
+    }
+
+    @Test
+    @DisplayName("팔로우하면 팔로우한 회원의 타임라인을 다시 만들도록 지운다")
+    void testFollowUser_invalidatesTimeline() {
+        //given
+        when(memberRepository.findByLoginId("user1")).thenReturn(Optional.of(follower));
+        when(memberRepository.findByLoginId("user2")).thenReturn(Optional.of(followed));
+        when(followRepository.findByFollowerAndFollowed(follower, followed)).thenReturn(Optional.empty());
+
+        //when
+        followService.followUser("user1", "user2");
+
+        //then
+        verify(reviewTimeline).invalidate(1L);
+    }
+}
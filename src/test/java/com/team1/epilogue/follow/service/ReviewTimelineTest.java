@@ -0,0 +1,262 @@
+package com.team1.epilogue.follow.service;
+
+import com.team1.epilogue.follow.dto.TimelinePage;
+import com.team1.epilogue.follow.repository.FollowRepository;
+import com.team1.epilogue.review.dto.ReviewFeedEvent;
+import com.team1.epilogue.review.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewTimeline 단위 테스트")
+class ReviewTimelineTest {
+
+    private static final List<String> META_FIELDS = List.of("celebrities", "total");
+    private static final List<String> TIMELINE_KEYS = List.of("timeline:1", "timeline:1:meta");
+    private static final String TTL_SECONDS = String.valueOf(Duration.ofDays(7).getSeconds());
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private ReviewTimeline reviewTimeline;
+
+    @BeforeEach
+    void setUp() {
+        reviewTimeline = new ReviewTimeline(redisTemplate, followRepository, reviewRepository,
+                500, 2, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("팔로워가 기준보다 많은 작성자의 리뷰는 팔로워 타임라인에 넣지 않고 작성자의 리뷰 수만 더한다")
+    void fanOut_celebrity() {
+        //given
+        when(followRepository.countByFollowedId(3L)).thenReturn(3L);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.add(ReviewTimeline.CELEBRITIES_KEY, "3")).thenReturn(0L);
+
+        //when
+        reviewTimeline.fanOut(3L, 100L);
+
+        //then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("timeline:celebrity-reviews:3")), eq("1"));
+        verify(followRepository, never()).findFollowerIds(anyLong());
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 작성자로 새로 등록되면 팔로워 타임라인을 지워 다시 만들게 한다")
+    void fanOut_newCelebrity() {
+        //given
+        when(followRepository.countByFollowedId(3L)).thenReturn(3L);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.add(ReviewTimeline.CELEBRITIES_KEY, "3")).thenReturn(1L);
+        when(followRepository.findFollowerIds(3L)).thenReturn(List.of(1L, 4L));
+
+        //when
+        reviewTimeline.fanOut(3L, 100L);
+
+        //then
+        verify(redisTemplate).delete(List.of("timeline:1", "timeline:1:meta", "timeline:4", "timeline:4:meta"));
+    }
+
+    @Test
+    @DisplayName("리뷰가 삭제되면 작성자의 팔로워 타임라인에서 빼고 리뷰 수를 줄인다")
+    void onReviewFeedEvent_deleted() {
+        //given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.isMember(ReviewTimeline.CELEBRITIES_KEY, "2")).thenReturn(false);
+        when(followRepository.findFollowerIds(2L)).thenReturn(List.of(1L));
+
+        //when
+        reviewTimeline.onReviewFeedEvent(ReviewFeedEvent.deleted(100L, 2L));
+
+        //then
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("만들어 둔 타임라인은 팔로우 목록과 리뷰 수를 DB 에서 읽지 않는다")
+    void page_hit() {
+        //given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet("timeline:1:meta", META_FIELDS)).thenReturn(List.of("3", "10"));
+        when(redisTemplate.hasKey("timeline:1")).thenReturn(true);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("timeline:1", 0, 1)).thenReturn(List.of("9", "0"));
+        when(listOperations.index("timeline:1", -1)).thenReturn("0");
+        when(reviewRepository.findIdsByMemberIdIn(List.of(3L), PageRequest.of(0, 2))).thenReturn(List.of(12L));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("timeline:celebrity-reviews:3"))).thenReturn(List.of("4"));
+
+        //when
+        TimelinePage page = reviewTimeline.page(1L, 0, 2);
+
+        //then
+        assertEquals(List.of(12L, 9L), page.getReviewIds());
+        assertEquals(14, page.getTotal());
+        verify(followRepository, never()).findFollowedIds(anyLong());
+        verify(reviewRepository, never()).countByMemberIdInAndIdLessThanEqual(anyList(), anyLong());
+    }
+
+    @Test
+    @DisplayName("타임라인이 없으면 임시 키에 만들어 바꿔 넣고, 팔로워가 많은 작성자의 리뷰를 ID 순서로 합쳐 반환한다")
+    void page_buildAndMerge() {
+        //given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet("timeline:1:meta", META_FIELDS))
+                .thenReturn(Arrays.asList(null, null))
+                .thenReturn(List.of("3", "2"));
+        when(followRepository.findFollowedIds(1L)).thenReturn(List.of(2L, 3L));
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(ReviewTimeline.CELEBRITIES_KEY)).thenReturn(Set.of("3"));
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(reviewRepository.findIdsByMemberIdIn(List.of(2L), PageRequest.of(0, 500))).thenReturn(List.of(9L, 5L));
+        when(reviewRepository.countByMemberIdInAndIdLessThanEqual(List.of(2L), 9L)).thenReturn(2L);
+        when(redisTemplate.execute(any(RedisScript.class), argThat((List<String> keys) -> keys.size() == 4),
+                eq(TTL_SECONDS))).thenReturn(1L);
+        when(reviewRepository.findIdsByMemberIdInAndIdGreaterThan(List.of(2L), 9L, PageRequest.of(0, 500)))
+                .thenReturn(List.of());
+        when(listOperations.range("timeline:1", 0, 1)).thenReturn(List.of("9", "5"));
+        when(listOperations.index("timeline:1", -1)).thenReturn("0");
+        when(reviewRepository.findIdsByMemberIdIn(List.of(3L), PageRequest.of(0, 2))).thenReturn(List.of(12L, 7L));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("timeline:celebrity-reviews:3"))).thenReturn(Arrays.asList((String) null));
+        when(reviewRepository.countByMemberId(3L)).thenReturn(4L);
+
+        //when
+        TimelinePage page = reviewTimeline.page(1L, 0, 2);
+
+        //then
+        verify(listOperations).rightPushAll(argThat((String key) -> key.startsWith("timeline:1:build:")),
+                eq(List.of("9", "5", "0")));
+        verify(valueOperations).setIfAbsent("timeline:celebrity-reviews:3", "4", Duration.ofHours(1));
+        assertEquals(List.of(12L, 9L), page.getReviewIds());
+        assertEquals(6, page.getTotal());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 타임라인을 만들었으면 그 타임라인을 쓴다")
+    void page_buildLost() {
+        //given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet("timeline:1:meta", META_FIELDS))
+                .thenReturn(Arrays.asList(null, null))
+                .thenReturn(List.of("", "1"));
+        when(followRepository.findFollowedIds(1L)).thenReturn(List.of(2L));
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(reviewRepository.findIdsByMemberIdIn(List.of(2L), PageRequest.of(0, 500))).thenReturn(List.of(9L));
+        when(reviewRepository.countByMemberIdInAndIdLessThanEqual(List.of(2L), 9L)).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), argThat((List<String> keys) -> keys.size() == 4),
+                eq(TTL_SECONDS))).thenReturn(0L);
+        when(listOperations.range("timeline:1", 0, 9)).thenReturn(List.of("9", "0"));
+        when(listOperations.index("timeline:1", -1)).thenReturn("0");
+
+        //when
+        TimelinePage page = reviewTimeline.page(1L, 0, 10);
+
+        //then
+        verify(reviewRepository, never()).findIdsByMemberIdInAndIdGreaterThan(any(), anyLong(), any());
+        assertEquals(List.of(9L), page.getReviewIds());
+        assertEquals(1, page.getTotal());
+    }
+
+    @Test
+    @DisplayName("타임라인을 만드는 동안 작성된 리뷰는 바꿔 넣은 뒤 오래된 것부터 다시 확인해 넣는다")
+    void page_buildCatchUp() {
+        //given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet("timeline:1:meta", META_FIELDS))
+                .thenReturn(Arrays.asList(null, null))
+                .thenReturn(List.of("", "3"));
+        when(followRepository.findFollowedIds(1L)).thenReturn(List.of(2L));
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(reviewRepository.findIdsByMemberIdIn(List.of(2L), PageRequest.of(0, 500))).thenReturn(List.of(9L));
+        when(reviewRepository.countByMemberIdInAndIdLessThanEqual(List.of(2L), 9L)).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), argThat((List<String> keys) -> keys.size() == 4),
+                eq(TTL_SECONDS))).thenReturn(1L);
+        when(reviewRepository.findIdsByMemberIdInAndIdGreaterThan(List.of(2L), 9L, PageRequest.of(0, 500)))
+                .thenReturn(List.of(12L, 11L));
+        // 12번은 바꿔 넣은 뒤 fan-out 으로 이미 들어가 있어 스크립트가 건너뛴다.
+        when(redisTemplate.execute(any(RedisScript.class), eq(TIMELINE_KEYS), eq("11"), eq("499"))).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(TIMELINE_KEYS), eq("12"), eq("499"))).thenReturn(0L);
+        when(listOperations.range("timeline:1", 0, 9)).thenReturn(List.of("11", "12", "9", "0"));
+        when(listOperations.index("timeline:1", -1)).thenReturn("0");
+
+        //when
+        TimelinePage page = reviewTimeline.page(1L, 0, 10);
+
+        //then
+        InOrder order = inOrder(redisTemplate);
+        order.verify(redisTemplate).execute(any(RedisScript.class), eq(TIMELINE_KEYS), eq("11"), eq("499"));
+        order.verify(redisTemplate).execute(any(RedisScript.class), eq(TIMELINE_KEYS), eq("12"), eq("499"));
+        assertEquals(List.of(12L, 11L, 9L), page.getReviewIds());
+        assertEquals(3, page.getTotal());
+    }
+
+    @Test
+    @DisplayName("잘린 타임라인보다 깊은 페이지는 null 을 반환해 DB 에서 조회하게 한다")
+    void page_beyondTimeline() {
+        //given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet("timeline:1:meta", META_FIELDS)).thenReturn(List.of("", "600"));
+        when(redisTemplate.hasKey("timeline:1")).thenReturn(true);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("timeline:1", 0, 509)).thenReturn(List.of("9", "5"));
+        when(listOperations.index("timeline:1", -1)).thenReturn("5");
+
+        //when
+        TimelinePage page = reviewTimeline.page(1L, 500, 10);
+
+        //then
+        assertNull(page);
+    }
+}
@@ -0,0 +1,103 @@
+package com.team1.epilogue.keyword.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class KeyWordServiceTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private StringRedisConnection connection;
+
+  private KeyWordService keyWordService;
+
+  @BeforeEach
+  void setUp() {
+    keyWordService = new KeyWordService(stringRedisTemplate, 5, 3, 5000);
+  }
+
+  @Test
+  @DisplayName("검색어 저장 시 Redis 에 바로 쓰지 않고, 정규화한 검색어별로 모아서 한 번의 파이프라인으로 반영한다")
+  void saveKeyWord_and_flush() {
+    //given
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      RedisCallback<?> callback = invocation.getArgument(0);
+      callback.doInRedis(connection);
+      return List.of();
+    });
+
+    //when
+    keyWordService.saveKeyWord("Harry  Potter");
+    keyWordService.saveKeyWord(" harry potter ");
+    keyWordService.saveKeyWord("   ");
+    verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    keyWordService.flushKeyWords();
+
+    //then
+    verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    verify(connection).zIncrBy(anyString(), eq(2.0), eq("harry potter"));
+    verify(connection).expire(anyString(), anyLong());
+  }
+
+  @Test
+  @DisplayName("추적 후보 수를 넘는 검색어가 들어와도 자주 검색된 검색어는 유지된다")
+  void saveKeyWord_boundedCandidates() {
+    //given
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      RedisCallback<?> callback = invocation.getArgument(0);
+      callback.doInRedis(connection);
+      return List.of();
+    });
+    for (int i = 0; i < 50; i++) {
+      keyWordService.saveKeyWord("데미안");
+    }
+
+    //when
+    // 후보는 3개까지만 추적한다.
+    for (int i = 0; i < 40; i++) {
+      keyWordService.saveKeyWord("한번만 검색 " + i);
+    }
+    keyWordService.flushKeyWords();
+
+    //then
+    verify(connection).zIncrBy(anyString(), eq(50.0), eq("데미안"));
+    verify(connection, atMost(3)).zIncrBy(anyString(), anyDouble(), anyString());
+  }
+
+  @Test
+  @DisplayName("인기 검색어는 잠시 동안 로컬 캐시에서 반환된다")
+  void getPopularKeywords_cached() {
+    //given
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(List.of(3L, new LinkedHashSet<>(List.of("데미안", "어린왕자", "자바"))));
+
+    //when
+    List<String> first = keyWordService.getPopularKeywords();
+    List<String> second = keyWordService.getPopularKeywords();
+
+    //then
+    assertEquals(List.of("데미안", "어린왕자", "자바"), first);
+    assertEquals(first, second);
+    verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+  }
+}
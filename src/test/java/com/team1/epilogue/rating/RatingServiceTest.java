@@ -4,6 +4,7 @@ import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.security.CustomMemberDetails;
 import com.team1.epilogue.book.entity.Book;
 import com.team1.epilogue.book.repository.BookRepository;
+import com.team1.epilogue.book.service.BookDetailCache;
 import com.team1.epilogue.rating.dto.RatingRequestDto;
 import com.team1.epilogue.rating.dto.RatingResponseDto;
 import com.team1.epilogue.rating.entity.Rating;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -35,6 +37,12 @@ public class RatingServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookDetailCache bookDetailCache;
+
     private Member member;
     private CustomMemberDetails memberDetails;
     private Book book;
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyIterable;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doNothing;
@@ -20,6 +21,9 @@ import com.team1.epilogue.book.entity.Book;
 import com.team1.epilogue.book.repository.BookRepository;
 import com.team1.epilogue.follow.entity.Follow;
 import com.team1.epilogue.follow.repository.FollowRepository;
+import com.team1.epilogue.book.exception.InvalidCursorException;
+import com.team1.epilogue.review.dto.ReviewCursor;
+import com.team1.epilogue.review.dto.ReviewCursorResponse;
 import com.team1.epilogue.review.dto.ReviewRequestDto;
 import com.team1.epilogue.review.dto.ReviewResponseDto;
 import com.team1.epilogue.review.entity.Review;
@@ -28,14 +32,21 @@ import com.team1.epilogue.review.exception.AlreadyLikedException;
 import com.team1.epilogue.review.exception.LikeNotFoundException;
 import com.team1.epilogue.review.exception.ReviewNotFoundException;
 import com.team1.epilogue.review.exception.UnauthorizedReviewAccessException;
+import com.team1.epilogue.review.repository.CustomReviewRepository;
 import com.team1.epilogue.review.repository.ReviewLikeRepository;
 import com.team1.epilogue.review.repository.ReviewRepository;
+import com.team1.epilogue.review.service.LatestReviewFeed;
+import com.team1.epilogue.review.service.LikeCountBuffer;
+import com.team1.epilogue.review.service.MemberLikeCache;
 import com.team1.epilogue.review.service.ReviewService;
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,12 +55,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +72,9 @@ public class ReviewServiceTest {
   @Mock
   private ReviewRepository reviewRepository;
 
+  @Mock
+  private CustomReviewRepository customReviewRepository;
+
   @Mock
   private ReviewLikeRepository reviewLikeRepository;
 
@@ -73,6 +90,18 @@ public class ReviewServiceTest {
   @Mock
   private S3Service s3Service;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private LatestReviewFeed latestReviewFeed;
+
+  @Mock
+  private LikeCountBuffer likeCountBuffer;
+
+  @Mock
+  private MemberLikeCache memberLikeCache;
+
   @InjectMocks
   private ReviewService reviewService;
 
@@ -154,6 +183,57 @@ public class ReviewServiceTest {
     assertThat(response.getContent().get(0).getContent()).isEqualTo("테스트책 리뷰입니다.");
   }
 
+  @Test
+  @DisplayName("특정 책의 리뷰 목록 커서 조회 - 한 개 더 가져와 다음 페이지 여부를 판단하고 COUNT 는 하지 않는다")
+  void getReviewsByCursor_hasNext() {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+    Review first = reviewAt(3L, 5, now);
+    Review second = reviewAt(2L, 5, now.minusMinutes(1));
+    Review third = reviewAt(1L, 0, now.minusMinutes(2));
+    when(customReviewRepository.findBookReviewsAfter(testBook.getId(), true, null, 3))
+        .thenReturn(new ArrayList<>(List.of(first, second, third)));
+
+    // when
+    ReviewCursorResponse response = reviewService.getReviewsByCursor(testBook.getId(), null, 2,
+        "likes", false, null);
+
+    // then
+    assertThat(response.getReviews()).extracting(ReviewResponseDto::getId).containsExactly(3L, 2L);
+    assertThat(response.isHasNext()).isTrue();
+    assertThat(response.getTotalCount()).isNull();
+    ReviewCursor next = ReviewCursor.decode(response.getNextCursor());
+    assertThat(next.getLikeCount()).isEqualTo(5);
+    assertThat(next.getCreatedAt()).isEqualTo(now.minusMinutes(1));
+    assertThat(next.getId()).isEqualTo(2L);
+    verify(reviewRepository, never()).countByBookId(any());
+  }
+
+  @Test
+  @DisplayName("최신 리뷰 커서 조회 - 마지막 페이지면 nextCursor 가 없다")
+  void getLatestReviewsByCursor_lastPage() {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+    ReviewCursor cursor = new ReviewCursor(null, now, 10L);
+    when(customReviewRepository.findLatestReviewsAfter(any(ReviewCursor.class), eq(11)))
+        .thenReturn(new ArrayList<>(List.of(reviewAt(9L, 0, now.minusSeconds(1)))));
+
+    // when
+    ReviewCursorResponse response = reviewService.getLatestReviewsByCursor(cursor.encode(), 10, null);
+
+    // then
+    assertThat(response.getReviews()).hasSize(1);
+    assertThat(response.isHasNext()).isFalse();
+    assertThat(response.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("리뷰 커서 조회 - 잘못된 커서는 예외 발생")
+  void getLatestReviewsByCursor_invalidCursor() {
+    assertThrows(InvalidCursorException.class,
+        () -> reviewService.getLatestReviewsByCursor("not-a-cursor", 10, null));
+  }
+
   @Test
   @DisplayName("특정 리뷰 상세 조회")
   void getReviewDetail_Success() {
@@ -279,22 +359,19 @@ public class ReviewServiceTest {
         .thenReturn(Optional.of(testMember));
     when(reviewRepository.findById(testReview.getId()))
         .thenReturn(Optional.of(testReview));
-    when(reviewLikeRepository.existsByReviewIdAndMemberId(testReview.getId(),
-        testMember.getId())).thenReturn(false);
 
     ArgumentCaptor<ReviewLike> reviewLikeCaptor = ArgumentCaptor.forClass(ReviewLike.class);
-    ArgumentCaptor<Long> reviewIdCaptor = ArgumentCaptor.forClass(Long.class);
 
     // when
     assertDoesNotThrow(() -> reviewService.likeReview(testReview.getId(), testMemberDetails));
 
     // then
-    verify(reviewLikeRepository).save(reviewLikeCaptor.capture());
-    verify(reviewRepository).increaseLikeCount(reviewIdCaptor.capture());
+    verify(reviewLikeRepository).saveAndFlush(reviewLikeCaptor.capture());
+    verify(likeCountBuffer).addReviewLikes(testReview.getId(), 1);
+    verify(memberLikeCache).reviewLikeChanged(testMember.getId());
 
     assertThat(reviewLikeCaptor.getValue().getMember().getId()).isEqualTo(testMember.getId());
     assertThat(reviewLikeCaptor.getValue().getReview().getId()).isEqualTo(testReview.getId());
-    assertThat(reviewIdCaptor.getValue()).isEqualTo(testReview.getId());
   }
 
   @Test
@@ -305,43 +382,51 @@ public class ReviewServiceTest {
         .thenReturn(Optional.of(testMember));
     when(reviewRepository.findById(testReview.getId()))
         .thenReturn(Optional.of(testReview));
-    when(reviewLikeRepository.existsByReviewIdAndMemberId(testReview.getId(), testMember.getId()))
-        .thenReturn(true); // 이미 좋아요를 누른 경우
+    when(reviewLikeRepository.saveAndFlush(any(ReviewLike.class)))
+        .thenThrow(new DataIntegrityViolationException("duplicate",
+            new ConstraintViolationException("duplicate", new SQLException("duplicate", "23000", 1062),
+                "uk_review_like_member_review"))); // 이미 좋아요를 누른 경우
 
     // when & then
     assertThrows(AlreadyLikedException.class,
         () -> reviewService.likeReview(testReview.getId(), testMemberDetails));
 
-    // 좋아요가 추가되지 않아야 함
-    verify(reviewLikeRepository, never()).save(any(ReviewLike.class));
-    verify(reviewRepository, never()).increaseLikeCount(anyLong());
+    // 좋아요 수가 바뀌지 않아야 함
+    verify(likeCountBuffer, never()).addReviewLikes(anyLong(), anyInt());
   }
 
   @Test
-  @DisplayName("리뷰 좋아요 취소")
-  void unlikeReview_success() {
+  @DisplayName("리뷰 좋아요 - unique 제약이 아닌 무결성 위반은 그대로 던짐")
+  void likeReview_fail_otherIntegrityViolation() {
     // given
     when(memberRepository.findById(testMember.getId()))
         .thenReturn(Optional.of(testMember));
+    when(reviewRepository.findById(testReview.getId()))
+        .thenReturn(Optional.of(testReview));
+    when(reviewLikeRepository.saveAndFlush(any(ReviewLike.class)))
+        .thenThrow(new DataIntegrityViolationException("fk",
+            new SQLException("Cannot add or update a child row", "23000", 1452))); // 리뷰가 삭제된 경우
 
-    ReviewLike reviewLike = new ReviewLike(testReview, testMember);
-
-    when(reviewLikeRepository.findByReviewIdAndMemberId(testReview.getId(), testMember.getId()))
-        .thenReturn(Optional.of(reviewLike));
+    // when & then
+    assertThrows(DataIntegrityViolationException.class,
+        () -> reviewService.likeReview(testReview.getId(), testMemberDetails));
+    verify(likeCountBuffer, never()).addReviewLikes(anyLong(), anyInt());
+  }
 
-    ArgumentCaptor<ReviewLike> reviewLikeCaptor = ArgumentCaptor.forClass(ReviewLike.class);
-    ArgumentCaptor<Long> reviewIdCaptor = ArgumentCaptor.forClass(Long.class);
+  @Test
+  @DisplayName("리뷰 좋아요 취소")
+  void unlikeReview_success() {
+    // given
+    when(memberRepository.findById(testMember.getId()))
+        .thenReturn(Optional.of(testMember));
+    when(reviewLikeRepository.deleteByReviewIdAndMemberId(testReview.getId(), testMember.getId()))
+        .thenReturn(1);
 
     // when
     assertDoesNotThrow(() -> reviewService.unlikeReview(testReview.getId(), testMemberDetails));
 
     // then
-    verify(reviewLikeRepository).delete(reviewLikeCaptor.capture());
-    verify(reviewRepository).decreaseLikeCount(reviewIdCaptor.capture());
-
-    assertThat(reviewLikeCaptor.getValue().getReview().getId()).isEqualTo(testReview.getId());
-    assertThat(reviewLikeCaptor.getValue().getMember().getId()).isEqualTo(testMember.getId());
-    assertThat(reviewIdCaptor.getValue()).isEqualTo(testReview.getId());
+    verify(likeCountBuffer).addReviewLikes(testReview.getId(), -1);
   }
 
   @Test
@@ -350,16 +435,31 @@ public class ReviewServiceTest {
     // given
     when(memberRepository.findById(testMember.getId()))
         .thenReturn(Optional.of(testMember));
-    when(reviewLikeRepository.findByReviewIdAndMemberId(testReview.getId(), testMember.getId()))
-        .thenReturn(Optional.empty()); // 좋아요한 적 없음
+    when(reviewLikeRepository.deleteByReviewIdAndMemberId(testReview.getId(), testMember.getId()))
+        .thenReturn(0); // 좋아요한 적 없음
 
     // when & then
     assertThrows(LikeNotFoundException.class,
         () -> reviewService.unlikeReview(testReview.getId(), testMemberDetails));
 
-    // 좋아요 삭제나 감소가 일어나지 않아야 함
-    verify(reviewLikeRepository, never()).delete(any(ReviewLike.class));
-    verify(reviewRepository, never()).decreaseLikeCount(anyLong());
+    // 좋아요 수가 바뀌지 않아야 함
+    verify(likeCountBuffer, never()).addReviewLikes(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("리뷰 상세 조회 시 아직 DB 에 반영되지 않은 좋아요 수를 더한다")
+  void getReviewDetail_pendingLikes() {
+    // given
+    ReflectionTestUtils.setField(testReview, "likeCount", 3);
+    when(reviewRepository.findByIdWithBookAndMember(testReview.getId()))
+        .thenReturn(Optional.of(testReview));
+    when(likeCountBuffer.getPendingReviewLikes(testReview.getId())).thenReturn(2);
+
+    // when
+    ReviewResponseDto dto = reviewService.getReviewDetail(testReview.getId(), null);
+
+    // then
+    assertThat(dto.getLikeCount()).isEqualTo(5);
   }
 
   @Test
@@ -425,4 +525,16 @@ public class ReviewServiceTest {
     ReviewResponseDto dto = result.getContent().get(0);
     assertThat(dto.getContent()).isEqualTo("친구가 작성한 리뷰입니다.");
   }
-}
\ No newline at end of file
+
+  private Review reviewAt(Long id, int likeCount, LocalDateTime createdAt) {
+    Review review = Review.builder()
+        .id(id)
+        .content("리뷰 " + id)
+        .book(testBook)
+        .member(testMember)
+        .likeCount(likeCount)
+        .build();
+    ReflectionTestUtils.setField(review, "createdAt", createdAt);
+    return review;
+  }
+}
@@ -0,0 +1,174 @@
+package com.team1.epilogue.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.epilogue.auth.entity.Member;
+import com.team1.epilogue.book.entity.Book;
+import com.team1.epilogue.review.dto.ReviewCursor;
+import com.team1.epilogue.review.dto.ReviewFeedEvent;
+import com.team1.epilogue.review.dto.ReviewResponseDto;
+import com.team1.epilogue.review.entity.Review;
+import com.team1.epilogue.review.repository.CustomReviewRepository;
+import com.team1.epilogue.review.repository.ReviewRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class LatestReviewFeedTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+  @Mock
+  private ReviewRepository reviewRepository;
+
+  @Mock
+  private CustomReviewRepository customReviewRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  @Mock
+  private LikeCountBuffer likeCountBuffer;
+
+  private Member member;
+  private Book book;
+
+  @BeforeEach
+  void setUp() {
+    member = Member.builder().id(1L).nickname("tester").build();
+    book = Book.builder().id("1111111111111").title("테스트 책").build();
+  }
+
+  @Test
+  @DisplayName("DB 에서 채운 최신 리뷰 범위 안의 페이지는 메모리에서 반환하고, 범위 밖이면 null 을 반환한다")
+  void page() {
+    //given
+    LatestReviewFeed feed = feed(3, 10, review(5L, 0), review(4L, 1), review(3L, 2));
+
+    //when
+    List<ReviewResponseDto> first = feed.page(1, 2);
+    List<ReviewResponseDto> second = feed.page(2, 2);
+
+    //then
+    assertThat(first).extracting(ReviewResponseDto::getId).containsExactly(5L, 4L);
+    assertThat(second).isNull(); // 4번째 리뷰는 메모리에 없다.
+    assertThat(feed.totalCount()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("새 리뷰는 맨 앞에 들어가고 가장 오래된 리뷰를 밀어낸다")
+  void created() {
+    //given
+    LatestReviewFeed feed = feed(3, 3, review(3L, 1), review(2L, 2), review(1L, 3));
+
+    //when
+    feed.apply(ReviewFeedEvent.created(ReviewResponseDto.from(review(4L, 0))));
+
+    //then
+    assertThat(feed.page(1, 3)).extracting(ReviewResponseDto::getId).containsExactly(4L, 3L, 2L);
+    assertThat(feed.totalCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("늦게 도착한 리뷰는 작성 시간 순서에 맞는 자리에 들어간다")
+  void created_outOfOrder() {
+    //given
+    LatestReviewFeed feed = feed(5, 2, review(3L, 0), review(1L, 4));
+
+    //when
+    feed.apply(ReviewFeedEvent.created(ReviewResponseDto.from(review(2L, 2))));
+
+    //then
+    assertThat(feed.page(1, 5)).extracting(ReviewResponseDto::getId).containsExactly(3L, 2L, 1L);
+  }
+
+  @Test
+  @DisplayName("삭제, 수정, 좋아요/댓글 수 변화를 제자리에서 반영한다")
+  void updatedInPlace() {
+    //given
+    LatestReviewFeed feed = feed(5, 3, review(3L, 0), review(2L, 1), review(1L, 2));
+
+    //when
+    feed.apply(ReviewFeedEvent.deleted(2L, 1L));
+    feed.apply(ReviewFeedEvent.counters(3L, 1, 2));
+    feed.apply(ReviewFeedEvent.updated(ReviewResponseDto.from(review(1L, 2)).toBuilder().content("수정").build()));
+
+    //then
+    List<ReviewResponseDto> page = feed.page(1, 5);
+    assertThat(page).extracting(ReviewResponseDto::getId).containsExactly(3L, 1L);
+    assertThat(page.get(0).getLikeCount()).isEqualTo(1);
+    assertThat(page.get(0).getCommentsCount()).isEqualTo(2);
+    assertThat(page.get(1).getContent()).isEqualTo("수정");
+    assertThat(feed.totalCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("커서 다음의 리뷰를 메모리에서 반환한다")
+  void after() {
+    //given
+    LatestReviewFeed feed = feed(5, 3, review(3L, 0), review(2L, 1), review(1L, 2));
+
+    //when
+    List<ReviewResponseDto> result = feed.after(new ReviewCursor(null, NOW.minusMinutes(1), 2L), 5);
+
+    //then
+    assertThat(result).extracting(ReviewResponseDto::getId).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("다시 채우는 동안 작성/삭제된 리뷰도 새 버퍼에 반영된다")
+  void reload_replaysChanges() {
+    //given
+    LatestReviewFeed feed = feed(5, 3, review(3L, 1), review(2L, 2), review(1L, 3));
+    when(customReviewRepository.findLatestReviewsAfter(null, 5)).thenAnswer(invocation -> {
+      // DB 를 읽은 뒤, 새 버퍼로 바꾸기 전에 리뷰가 작성/삭제된다.
+      feed.apply(ReviewFeedEvent.created(ReviewResponseDto.from(review(4L, 0))));
+      feed.apply(ReviewFeedEvent.deleted(2L, 1L));
+      return new ArrayList<>(List.of(review(3L, 1), review(2L, 2), review(1L, 3)));
+    });
+
+    //when
+    feed.reload();
+
+    //then
+    assertThat(feed.page(1, 5)).extracting(ReviewResponseDto::getId).containsExactly(4L, 3L, 1L);
+    assertThat(feed.totalCount()).isEqualTo(3);
+  }
+
+  private LatestReviewFeed feed(int capacity, long total, Review... reviews) {
+    LatestReviewFeed feed = new LatestReviewFeed(reviewRepository, customReviewRepository, redisTemplate,
+        listenerContainer, new ObjectMapper(), likeCountBuffer, capacity);
+    when(reviewRepository.count()).thenReturn(total);
+    when(customReviewRepository.findLatestReviewsAfter(null, capacity))
+        .thenReturn(new ArrayList<>(List.of(reviews)));
+    feed.reload();
+    return feed;
+  }
+
+  // minutesAgo 분 전에 작성된 리뷰
+  private Review review(Long id, int minutesAgo) {
+    Review review = Review.builder()
+        .id(id)
+        .content("리뷰 " + id)
+        .book(book)
+        .member(member)
+        .build();
+    ReflectionTestUtils.setField(review, "createdAt", NOW.minusMinutes(minutesAgo));
+    return review;
+  }
+}
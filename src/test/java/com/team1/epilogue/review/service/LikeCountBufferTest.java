@@ -0,0 +1,87 @@
+package com.team1.epilogue.review.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountBufferTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @InjectMocks
+  private LikeCountBuffer likeCountBuffer;
+
+  @Test
+  @DisplayName("좋아요 수 변화량은 리뷰별로 합쳐서 한 번의 batch UPDATE 로 반영된다")
+  void flush_batchUpdate() {
+    //given
+    likeCountBuffer.addReviewLikes(1L, 1);
+    likeCountBuffer.addReviewLikes(1L, 1);
+    likeCountBuffer.addReviewLikes(1L, 1);
+    likeCountBuffer.addReviewLikes(2L, 1);
+    likeCountBuffer.addReviewLikes(2L, -1);
+
+    //when
+    likeCountBuffer.flush();
+
+    //then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate, times(1)).batchUpdate(startsWith("UPDATE review"), captor.capture());
+    List<Object[]> args = captor.getValue();
+    assertEquals(1, args.size()); // 변화량이 0 인 리뷰는 UPDATE 하지 않는다
+    assertEquals(3, args.get(0)[0]);
+    assertEquals(1L, args.get(0)[1]);
+    assertEquals(0, likeCountBuffer.getPendingReviewLikes(1L));
+    verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE comment"), anyList());
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 바뀐 좋아요 수는 커밋 이후에 더해진다")
+  void addCommentLikes_afterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      //when
+      likeCountBuffer.addCommentLikes(10L, 1);
+
+      //then
+      assertEquals(0, likeCountBuffer.getPendingCommentLikes(10L));
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+      assertEquals(1, likeCountBuffer.getPendingCommentLikes(10L));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("DB 반영에 실패하면 변화량을 다시 보관한다")
+  void flush_failure_keepsDeltas() {
+    //given
+    likeCountBuffer.addCommentLikes(10L, 1);
+    likeCountBuffer.addCommentLikes(10L, 1);
+    when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+    //when
+    likeCountBuffer.flush();
+
+    //then
+    assertEquals(2, likeCountBuffer.getPendingCommentLikes(10L));
+  }
+}
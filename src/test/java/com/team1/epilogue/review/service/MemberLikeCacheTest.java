@@ -0,0 +1,113 @@
+package com.team1.epilogue.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.team1.epilogue.comment.repository.CommentLikeRepository;
+import com.team1.epilogue.review.repository.ReviewLikeRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class MemberLikeCacheTest {
+
+  @Mock
+  private ReviewLikeRepository reviewLikeRepository;
+
+  @Mock
+  private CommentLikeRepository commentLikeRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private MemberLikeCache memberLikeCache;
+
+  @BeforeEach
+  void setUp() {
+    memberLikeCache = new MemberLikeCache(reviewLikeRepository, commentLikeRepository, redisTemplate,
+        listenerContainer, 10_000, 3, Duration.ofMinutes(30));
+  }
+
+  @Test
+  @DisplayName("좋아요한 리뷰 ID 는 회원별로 한 번만 읽고, 이후 페이지는 쿼리 없이 확인한다")
+  void likedReviewIds_loadedOnce() {
+    //given
+    when(reviewLikeRepository.findReviewIdsByMemberId(1L, PageRequest.of(0, 4))).thenReturn(List.of(30L, 10L));
+
+    //when
+    Set<Long> first = memberLikeCache.likedReviewIds(1L, List.of(10L, 20L, 30L));
+    Set<Long> second = memberLikeCache.likedReviewIds(1L, List.of(40L, 30L));
+
+    //then
+    assertThat(first).containsExactlyInAnyOrder(10L, 30L);
+    assertThat(second).containsExactly(30L);
+    verify(reviewLikeRepository, times(1)).findReviewIdsByMemberId(anyLong(), any(Pageable.class));
+    verify(reviewLikeRepository, never()).findLikedReviewIdsByMemberId(anyLong(), anyList());
+  }
+
+  @Test
+  @DisplayName("좋아요/취소하면 회원의 캐시를 비우고 다음 조회 때 DB 에서 다시 읽는다")
+  void reviewLikeChanged() {
+    //given
+    when(reviewLikeRepository.findReviewIdsByMemberId(1L, PageRequest.of(0, 4)))
+        .thenReturn(List.of(10L))
+        .thenReturn(List.of(20L));
+    memberLikeCache.likedReviewIds(1L, List.of(10L));
+
+    //when
+    memberLikeCache.reviewLikeChanged(1L);
+    memberLikeCache.reviewLikeChanged(1L);
+
+    //then
+    assertThat(memberLikeCache.likedReviewIds(1L, List.of(10L, 20L))).containsExactly(20L);
+    verify(reviewLikeRepository, times(2)).findReviewIdsByMemberId(anyLong(), any(Pageable.class));
+    verify(redisTemplate, times(2)).convertAndSend(eq(MemberLikeCache.CHANGED_CHANNEL), anyString());
+  }
+
+  @Test
+  @DisplayName("좋아요한 댓글이 너무 많은 회원은 캐시하지 않고 페이지의 댓글만 DB 에서 확인한다")
+  void likedCommentIds_tooMany() {
+    //given
+    when(commentLikeRepository.findCommentIdsByMemberId(1L, PageRequest.of(0, 4)))
+        .thenReturn(List.of(1L, 2L, 3L, 4L));
+    when(commentLikeRepository.findLikedCommentIdsByMemberId(1L, List.of(2L, 9L))).thenReturn(List.of(2L));
+
+    //when
+    memberLikeCache.likedCommentIds(1L, List.of(2L, 9L));
+    Set<Long> liked = memberLikeCache.likedCommentIds(1L, List.of(2L, 9L));
+
+    //then
+    assertThat(liked).containsExactly(2L);
+    verify(commentLikeRepository, times(1)).findCommentIdsByMemberId(anyLong(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("비로그인 사용자는 DB 를 조회하지 않는다")
+  void likedReviewIds_anonymous() {
+    assertThat(memberLikeCache.likedReviewIds(null, List.of(1L))).isEmpty();
+
+    verify(reviewLikeRepository, never()).findReviewIdsByMemberId(anyLong(), any(Pageable.class));
+  }
+}
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 import com.team1.epilogue.auth.entity.Member;
 import com.team1.epilogue.auth.repository.MemberRepository;
 import com.team1.epilogue.auth.security.CustomMemberDetails;
+import com.team1.epilogue.auth.security.MemberPrincipalCache;
 import com.team1.epilogue.transaction.domain.TransactionDetail;
 import com.team1.epilogue.transaction.dto.BoughtItemList;
 import com.team1.epilogue.transaction.dto.ItemList;
@@ -46,6 +47,8 @@ class TransactionServiceTest {
   private ItemRepository itemRepository;
   @Mock
   private ItemBuyHistoryRepository buyHistoryRepository;
+  @Mock
+  private MemberPrincipalCache memberPrincipalCache;
 
   @InjectMocks
   private TransactionService transactionService;
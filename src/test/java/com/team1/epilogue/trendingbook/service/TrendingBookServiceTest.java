@@ -1,88 +1,168 @@
 package com.team1.epilogue.trendingbook.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import com.team1.epilogue.book.entity.Book;
-import com.team1.epilogue.book.repository.BookRepository;
-import com.team1.epilogue.trendingbook.entity.BookDetailHistory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.epilogue.trendingbook.domain.BookActivityType;
+import com.team1.epilogue.trendingbook.dto.BookActivityEvent;
+import com.team1.epilogue.trendingbook.dto.TrendingBookDto;
 import com.team1.epilogue.trendingbook.repository.TrendingBookRepository;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 
 @ExtendWith(MockitoExtension.class)
 class TrendingBookServiceTest {
 
   @Mock
-  private BookRepository bookRepository;
+  private TrendingBookRepository trendingBookRepository;
 
   @Mock
-  private TrendingBookRepository trendingBookRepository;
+  private TrendingViewCounter trendingViewCounter;
+
+  @Mock
+  private TrendingScoreBoard trendingScoreBoard;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
 
   @InjectMocks
   private TrendingBookService trendingBookService;
 
-  private List<Book> bookList;
+  private List<TrendingBookDto> bookList;
 
   @BeforeEach
   void setUp() {
     // 초기의 조회수 Top 책 리스트 생성
-    bookList = Arrays.asList(
-        Book.builder().id("1").title("book1").build(),
-        Book.builder().id("2").title("book2").build(),
-        Book.builder().id("3").title("book3").build(),
-        Book.builder().id("4").title("book4").build(),
-        Book.builder().id("5").title("book5").build(),
-        Book.builder().id("6").title("book6").build(),
-        Book.builder().id("7").title("book7").build(),
-        Book.builder().id("8").title("book8").build(),
-        Book.builder().id("9").title("book9").build(),
-        Book.builder().id("10").title("book10").build()
-    );
+    bookList = new ArrayList<>();
+    for (int i = 1; i <= 10; i++) {
+      bookList.add(TrendingBookDto.builder().id(String.valueOf(i)).title("book" + i).build());
+    }
   }
 
   @Test
-  @DisplayName("초기 책 목록 설정 기능 테스트")
+  @DisplayName("저장된 인기 책 목록이 없으면 최신 책 목록으로 초기화한다")
   void initTrendingBookList() {
     //given
-    // 초기 책 목록 설정
-    when(bookRepository.findTop10ByOrderByCreatedAtDesc()).thenReturn(bookList);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get(TrendingBookService.SNAPSHOT_KEY)).thenReturn(null);
+    when(trendingBookRepository.findLatestBooks(any(Pageable.class))).thenReturn(bookList);
 
     //when
-    // initTrendingBookList() 이 호출될때 책이 초기화 되는지 검증
     trendingBookService.initTrendingBookList();
-    List<Book> list = trendingBookService.getTrendingBookList();
+    List<TrendingBookDto> list = trendingBookService.getTrendingBookList();
 
     //then
     assertEquals(10, list.size());
-    assertEquals(bookList, list);
-    verify(bookRepository,times(1)).findTop10ByOrderByCreatedAtDesc();
+    assertEquals("1", list.get(0).getId());
+    verify(trendingBookRepository, times(1)).findLatestBooks(any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("저장된 인기 책 목록이 있으면 DB 조회 없이 그대로 사용한다")
+  void initTrendingBookList_fromSnapshot() {
+    //given
+    String saved = "[{\"id\":\"7\",\"title\":\"book7\",\"author\":null,\"coverUrl\":null,"
+        + "\"publisher\":null,\"avgRating\":0.0}]";
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get(TrendingBookService.SNAPSHOT_KEY)).thenReturn(saved);
+
+    //when
+    trendingBookService.initTrendingBookList();
+
+    //then
+    assertEquals("7", trendingBookService.getTrendingBookList().get(0).getId());
+    assertEquals(saved, new String(trendingBookService.getTrendingBookJson(), StandardCharsets.UTF_8));
+    verify(trendingBookRepository, never()).findLatestBooks(any(Pageable.class));
   }
 
   @Test
-  @DisplayName("DB 에 책 조회 기록 삽입 테스트")
-  void insertTrendingBookHistory() {
+  @DisplayName("책 조회 기록 집계 테스트")
+  void recordView() {
     //given
     String bookId = "11";
-    BookDetailHistory newBook = BookDetailHistory.builder().bookId(bookId).build();
 
     //when
-    trendingBookService.insertTrendingBookHistory(bookId);
+    trendingBookService.recordView(bookId);
+
+    //then
+    verify(trendingViewCounter, times(1)).record(bookId);
+  }
+
+  @Test
+  @DisplayName("인기 점수 순서대로 한 번의 조회로 목록을 만들고, 삭제된 책은 건너뛴다")
+  void updateTrendingBookList() throws Exception {
+    //given
+    when(trendingScoreBoard.top(10)).thenReturn(List.of("3", "99", "1"));
+    // IN 쿼리 결과는 순서가 보장되지 않는다.
+    when(trendingBookRepository.findTrendingBooksByIdIn(List.of("3", "99", "1")))
+        .thenReturn(List.of(bookList.get(0), bookList.get(2)));
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+    //when
+    trendingBookService.updateTrendingBookList();
+
+    //then
+    List<TrendingBookDto> list = trendingBookService.getTrendingBookList();
+    assertEquals(2, list.size());
+    assertEquals("3", list.get(0).getId());
+    assertEquals("1", list.get(1).getId());
+
+    // 미리 만든 JSON 이 목록과 같고, 재시작 대비로 Redis 에 저장된다.
+    String json = new String(trendingBookService.getTrendingBookJson(), StandardCharsets.UTF_8);
+    assertEquals(objectMapper.writeValueAsString(list), json);
+    verify(valueOperations, times(1)).set(eq(TrendingBookService.SNAPSHOT_KEY), anyString());
+  }
+
+  @Test
+  @DisplayName("Redis 를 사용할 수 없으면 로컬 조회수 집계로 인기 책 목록을 만든다")
+  void updateTrendingBookList_redisFailure() {
+    //given
+    when(trendingScoreBoard.top(10)).thenThrow(new RedisConnectionFailureException("down"));
+    when(trendingViewCounter.localTop(10)).thenReturn(List.of("2"));
+    when(trendingBookRepository.findTrendingBooksByIdIn(List.of("2"))).thenReturn(List.of(bookList.get(1)));
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    doThrow(new RedisConnectionFailureException("down"))
+        .when(valueOperations).set(anyString(), anyString());
+
+    //when
+    trendingBookService.updateTrendingBookList();
 
     //then
-    // ArgumentCaptor 를 이용해서 trendingBookRepository 에 save 된 객체를 가져온다.
-    ArgumentCaptor<BookDetailHistory> captor = ArgumentCaptor.forClass(BookDetailHistory.class);
-    verify(trendingBookRepository).save(captor.capture());
+    List<TrendingBookDto> list = trendingBookService.getTrendingBookList();
+    assertEquals(1, list.size());
+    assertEquals("2", list.get(0).getId());
+  }
 
-    BookDetailHistory saved = captor.getValue();
-    assertEquals(saved.getBookId(),bookId);
+  @Test
+  @DisplayName("리뷰 작성 등 책 활동 이벤트를 인기 점수에 반영한다")
+  void onBookActivity() {
+    //when
+    trendingBookService.onBookActivity(new BookActivityEvent("1", BookActivityType.REVIEW));
+
+    //then
+    verify(trendingScoreBoard, times(1)).record("1", BookActivityType.REVIEW);
   }
-}
\ No newline at end of file
+}
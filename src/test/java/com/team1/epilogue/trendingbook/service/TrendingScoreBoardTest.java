@@ -0,0 +1,126 @@
+package com.team1.epilogue.trendingbook.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.team1.epilogue.trendingbook.domain.BookActivityType;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TrendingScoreBoardTest {
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+
+  private TrendingScoreBoard trendingScoreBoard;
+
+  @BeforeEach
+  void setUp() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+    trendingScoreBoard = new TrendingScoreBoard(redisTemplate, Duration.ofHours(6), 10000, 1, 5, 3, 4);
+  }
+
+  @Test
+  @DisplayName("활동 종류별 가중치만큼 점수가 더해진다")
+  void record_weighted() {
+    //when
+    trendingScoreBoard.record("A", BookActivityType.VIEW);
+    trendingScoreBoard.record("A", BookActivityType.REVIEW);
+
+    //then
+    ArgumentCaptor<Double> captor = ArgumentCaptor.forClass(Double.class);
+    verify(zSetOperations, times(2)).incrementScore(anyString(), eq("A"), captor.capture());
+    List<Double> increments = captor.getAllValues();
+    assertEquals(5.0, increments.get(1) / increments.get(0), 0.001);
+  }
+
+  @Test
+  @DisplayName("같은 활동이라도 늦게 일어날수록 더 큰 값이 더해져 과거 점수가 상대적으로 감쇠된다")
+  void recordAll_laterEventWeighsMore() {
+    //given
+    long now = System.currentTimeMillis();
+    double older = captureIncrement(now - Duration.ofHours(6).toMillis());
+    double newer = captureIncrement(now);
+
+    //then
+    // 반감기(6시간) 만큼 차이나는 활동은 2배 차이
+    assertEquals(2.0, newer / older, 0.001);
+  }
+
+  @Test
+  @DisplayName("점수가 높은 순서대로 상위 책을 반환한다")
+  void top() {
+    //given
+    Set<String> ranked = new LinkedHashSet<>(List.of("B", "A"));
+    when(zSetOperations.reverseRange(anyString(), eq(0L), eq(9L))).thenReturn(ranked);
+
+    //when
+    List<String> top = trendingScoreBoard.top(10);
+
+    //then
+    assertEquals(List.of("B", "A"), top);
+  }
+
+  @Test
+  @DisplayName("처음 기준시각을 옮기는 서버만 이전 점수를 합친다")
+  void migrate_onlyOnce() {
+    //given
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+    //when
+    trendingScoreBoard.record("A", BookActivityType.VIEW);
+    trendingScoreBoard.record("A", BookActivityType.VIEW);
+
+    //then
+    verify(zSetOperations, times(1)).unionAndStore(anyString(), anyList(), anyString(), any(), any());
+    verify(zSetOperations, times(2)).incrementScore(anyString(), eq("A"), anyDouble());
+  }
+
+  // 파이프라인 콜백을 mock 커넥션으로 실행해 ZINCRBY 에 전달된 값을 가져온다.
+  private double captureIncrement(long atMillis) {
+    StringRedisConnection connection = mock(StringRedisConnection.class);
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      RedisCallback<?> callback = invocation.getArgument(0);
+      callback.doInRedis(connection);
+      return List.of();
+    });
+
+    trendingScoreBoard.recordAll(Map.of("A", 1L), BookActivityType.VIEW, atMillis);
+
+    ArgumentCaptor<Double> captor = ArgumentCaptor.forClass(Double.class);
+    verify(connection).zIncrBy(anyString(), captor.capture(), eq("A"));
+    return captor.getValue();
+  }
+}
@@ -0,0 +1,92 @@
+package com.team1.epilogue.trendingbook.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.team1.epilogue.trendingbook.domain.BookActivityType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingViewCounterTest {
+
+  @Mock
+  private TrendingScoreBoard trendingScoreBoard;
+
+  private TrendingViewCounter trendingViewCounter;
+
+  @BeforeEach
+  void setUp() {
+    trendingViewCounter = new TrendingViewCounter(trendingScoreBoard, 10, 1000, 0.001);
+  }
+
+  @Test
+  @DisplayName("로컬 집계는 조회수가 많은 순서대로 상위 k 개를 반환한다")
+  void localTop() {
+    //given
+    for (int i = 0; i < 5; i++) {
+      trendingViewCounter.record("A");
+    }
+    for (int i = 0; i < 3; i++) {
+      trendingViewCounter.record("B");
+    }
+    trendingViewCounter.record("C");
+
+    //when
+    List<String> top = trendingViewCounter.localTop(2);
+
+    //then
+    assertEquals(List.of("A", "B"), top);
+  }
+
+  @Test
+  @DisplayName("종료 시 현재 분 구간의 조회수를 한 번에 인기 책 점수에 반영한다")
+  void flushOnShutdown() {
+    //given
+    trendingViewCounter.record("A");
+    trendingViewCounter.record("A");
+    trendingViewCounter.record("B");
+
+    //when
+    trendingViewCounter.flushOnShutdown();
+
+    //then
+    verify(trendingScoreBoard, times(1))
+        .recordAll(eq(Map.of("A", 2L, "B", 1L)), eq(BookActivityType.VIEW), anyLong());
+  }
+
+  @Test
+  @DisplayName("후보가 가득 찬 뒤 늦게 많이 조회된 책은 가장 적게 조회된 후보를 밀어내고 반영된다")
+  void lateHotBookReplacesLowestCandidate() {
+    //given
+    TrendingViewCounter counter = new TrendingViewCounter(trendingScoreBoard, 10, 3, 0.001);
+    for (String bookId : List.of("A", "B", "C", "D", "E")) {
+      counter.record(bookId);
+    }
+    counter.record("B");
+    for (int i = 0; i < 5; i++) {
+      counter.record("HOT");
+    }
+
+    //when
+    List<String> top = counter.localTop(2);
+    counter.flushOnShutdown();
+
+    //then
+    assertEquals(List.of("HOT", "B"), top);
+    ArgumentCaptor<Map<String, Long>> captor = ArgumentCaptor.forClass(Map.class);
+    verify(trendingScoreBoard).recordAll(captor.capture(), eq(BookActivityType.VIEW), anyLong());
+    assertEquals(3, captor.getValue().size());
+    assertEquals(5L, captor.getValue().get("HOT"));
+    assertEquals(2L, captor.getValue().get("B"));
+  }
+}